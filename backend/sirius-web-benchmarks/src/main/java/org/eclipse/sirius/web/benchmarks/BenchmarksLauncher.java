@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks.
+ *
+ * <p>
+ * It accepts the regular JMH command line options but it writes the results in JSON by default, in the file
+ * <code>benchmarks-results.json</code>, in order to compare them between releases. For example, the diagram benchmarks
+ * can be run with <code>java -jar target/benchmarks.jar DiagramBenchmarks -p nodes=1000</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class BenchmarksLauncher {
+
+    private static final String DEFAULT_RESULT_FILE = "benchmarks-results.json"; //$NON-NLS-1$
+
+    private BenchmarksLauncher() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        // @formatter:off
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+        // @formatter:on
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.diagrams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.web.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.layout.ELKDiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.ELKLayoutedDiagramProvider;
+import org.eclipse.sirius.web.diagrams.layout.LayoutConfiguratorRegistry;
+import org.eclipse.sirius.web.diagrams.layout.LayoutService;
+import org.eclipse.sirius.web.diagrams.layout.TextBoundsService;
+import org.eclipse.sirius.web.diagrams.layout.incremental.IncrementalLayoutDiagramConverter;
+import org.eclipse.sirius.web.diagrams.layout.incremental.IncrementalLayoutEngine;
+import org.eclipse.sirius.web.diagrams.layout.incremental.IncrementalLayoutedDiagramProvider;
+import org.eclipse.sirius.web.diagrams.layout.incremental.provider.ImageSizeProvider;
+import org.eclipse.sirius.web.diagrams.layout.incremental.provider.NodeSizeProvider;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The synthetic model, diagram description and services shared by the iterations of the diagram benchmarks.
+ *
+ * <p>
+ * The size of the diagrams can be configured using the JMH parameters <code>nodes</code> (number of nodes at the root
+ * of the diagram), <code>depth</code> (levels of nesting), <code>childrenPerNode</code> and
+ * <code>edgesPerNode</code>, for example with <code>-p nodes=5000</code>.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+public class DiagramBenchmarkState {
+
+    @Param({ "100", "1000" })
+    int nodes;
+
+    @Param({ "1", "3" })
+    int depth;
+
+    @Param({ "2" })
+    int childrenPerNode;
+
+    @Param({ "1" })
+    int edgesPerNode;
+
+    private final Logger logger = LoggerFactory.getLogger(DiagramBenchmarkState.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Element diagramElement;
+
+    private LayoutService layoutService;
+
+    private Diagram diagram;
+
+    private Diagram layoutedDiagram;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EPackage root = new SyntheticModelBuilder(this.nodes, this.depth, this.childrenPerNode, this.edgesPerNode).build();
+        DiagramDescription diagramDescription = new SyntheticDiagramDescriptionBuilder(this.depth).build();
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, root);
+
+        // @formatter:off
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(diagramDescription)
+                .viewCreationRequests(List.of())
+                .previousDiagram(Optional.empty())
+                .build();
+        // @formatter:on
+        this.diagramElement = new Element(DiagramComponent.class, props);
+
+        ImageSizeProvider imageSizeProvider = new ImageSizeProvider();
+        ELKDiagramConverter elkDiagramConverter = new ELKDiagramConverter(new TextBoundsService(), imageSizeProvider);
+        IncrementalLayoutEngine incrementalLayoutEngine = new IncrementalLayoutEngine(new NodeSizeProvider(imageSizeProvider));
+        this.layoutService = new LayoutService(elkDiagramConverter, new IncrementalLayoutDiagramConverter(), new LayoutConfiguratorRegistry(List.of()), new ELKLayoutedDiagramProvider(),
+                new IncrementalLayoutedDiagramProvider(), id -> Optional.of(diagramDescription), incrementalLayoutEngine);
+
+        this.diagram = this.render();
+        this.layoutedDiagram = this.layoutService.layout(this.diagram);
+    }
+
+    public Diagram render() {
+        return new DiagramRenderer(this.logger).render(this.diagramElement);
+    }
+
+    public Diagram renderInParallel() {
+        return new DiagramRenderer(this.logger, ForkJoinPool.commonPool()).render(this.diagramElement);
+    }
+
+    public LayoutService getLayoutService() {
+        return this.layoutService;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    public Diagram getDiagram() {
+        return this.diagram;
+    }
+
+    public Diagram getLayoutedDiagram() {
+        return this.layoutedDiagram;
+    }
+}
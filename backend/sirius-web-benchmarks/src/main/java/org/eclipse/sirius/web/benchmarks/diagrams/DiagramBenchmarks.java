@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.diagrams;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the rendering, layout and serialization of diagrams.
+ *
+ * @author sbegaudeau
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true" })
+public class DiagramBenchmarks {
+
+    @Benchmark
+    public Diagram render(DiagramBenchmarkState state) {
+        return state.render();
+    }
+
+    @Benchmark
+    public Diagram renderInParallel(DiagramBenchmarkState state) {
+        return state.renderInParallel();
+    }
+
+    @Benchmark
+    public Diagram incrementalLayout(DiagramBenchmarkState state) {
+        return state.getLayoutService().incrementalLayout(state.getDiagram(), Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram layout(DiagramBenchmarkState state) {
+        return state.getLayoutService().layout(state.getDiagram());
+    }
+
+    @Benchmark
+    public String serialize(DiagramBenchmarkState state) throws JsonProcessingException {
+        return state.getObjectMapper().writeValueAsString(state.getLayoutedDiagram());
+    }
+}
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.diagrams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.web.components.Element;
+import org.eclipse.sirius.web.diagrams.ArrowStyle;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.LineStyle;
+import org.eclipse.sirius.web.diagrams.NodeType;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelDescription;
+import org.eclipse.sirius.web.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.web.diagrams.description.NodeDescription;
+import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.web.representations.Status;
+import org.eclipse.sirius.web.representations.VariableManager;
+
+/**
+ * Builds the diagram description used to render the synthetic models created by {@link SyntheticModelBuilder}.
+ *
+ * <p>
+ * One node description is created for each level of nesting, they all represent the sub-packages of their parent. A
+ * single edge description represents all the EReferences of the model.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SyntheticDiagramDescriptionBuilder {
+
+    private final int depth;
+
+    public SyntheticDiagramDescriptionBuilder(int depth) {
+        this.depth = depth;
+    }
+
+    public DiagramDescription build() {
+        List<NodeDescription> allNodeDescriptions = new ArrayList<>();
+        NodeDescription nodeDescription = null;
+        for (int i = 0; i < this.depth; i++) {
+            List<NodeDescription> childNodeDescriptions = Optional.ofNullable(nodeDescription).map(List::of).orElse(List.of());
+            nodeDescription = this.getNodeDescription(childNodeDescriptions);
+            allNodeDescriptions.add(nodeDescription);
+        }
+
+        // @formatter:off
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID())
+                .label("Benchmark") //$NON-NLS-1$
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(this::getTargetObjectId)
+                .labelProvider(variableManager -> "Benchmark") //$NON-NLS-1$
+                .nodeDescriptions(Optional.ofNullable(nodeDescription).map(List::of).orElse(List.of()))
+                .edgeDescriptions(List.of(this.getEdgeDescription(allNodeDescriptions)))
+                .toolSections(List.of())
+                .build();
+        // @formatter:on
+    }
+
+    private NodeDescription getNodeDescription(List<NodeDescription> childNodeDescriptions) {
+        // @formatter:off
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000") //$NON-NLS-1$
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> "") //$NON-NLS-1$
+                .build();
+
+        LabelDescription labelDescription = LabelDescription.newLabelDescription(UUID.randomUUID().toString())
+                .idProvider(variableManager -> this.getTargetObjectId(variableManager) + "_label") //$NON-NLS-1$
+                .textProvider(this::getName)
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .build();
+
+        return NodeDescription.newNodeDescription(UUID.randomUUID())
+                .typeProvider(variableManager -> NodeType.NODE_RECTANGLE)
+                .semanticElementsProvider(this::getSubpackages)
+                .targetObjectIdProvider(this::getTargetObjectId)
+                .targetObjectKindProvider(variableManager -> EPackage.class.getSimpleName())
+                .targetObjectLabelProvider(this::getName)
+                .labelDescription(labelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .color("#ffffff") //$NON-NLS-1$
+                        .borderColor("#000000") //$NON-NLS-1$
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .build())
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> Status.OK)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    private EdgeDescription getEdgeDescription(List<NodeDescription> nodeDescriptions) {
+        Function<VariableManager, EdgeStyle> styleProvider = variableManager -> {
+            // @formatter:off
+            return EdgeStyle.newEdgeStyle()
+                    .size(1)
+                    .lineStyle(LineStyle.Solid)
+                    .sourceArrow(ArrowStyle.None)
+                    .targetArrow(ArrowStyle.InputArrow)
+                    .color("#000000") //$NON-NLS-1$
+                    .build();
+            // @formatter:on
+        };
+
+        // @formatter:off
+        return EdgeDescription.newEdgeDescription(UUID.randomUUID())
+                .semanticElementsProvider(this::getEReferences)
+                .sourceNodesProvider(variableManager -> this.getNodes(variableManager, eReference -> eReference.getEContainingClass().getEPackage()))
+                .targetNodesProvider(variableManager -> this.getNodes(variableManager, eReference -> eReference.getEReferenceType().getEPackage()))
+                .sourceNodeDescriptions(nodeDescriptions)
+                .targetNodeDescriptions(nodeDescriptions)
+                .targetObjectIdProvider(this::getTargetObjectId)
+                .targetObjectKindProvider(variableManager -> EReference.class.getSimpleName())
+                .targetObjectLabelProvider(this::getName)
+                .styleProvider(styleProvider)
+                .deleteHandler(variableManager -> Status.OK)
+                .build();
+        // @formatter:on
+    }
+
+    private List<Object> getSubpackages(VariableManager variableManager) {
+        // @formatter:off
+        return variableManager.get(VariableManager.SELF, EPackage.class)
+                .map(EPackage::getESubpackages)
+                .map(List::<Object>copyOf)
+                .orElse(List.of());
+        // @formatter:on
+    }
+
+    private List<Object> getEReferences(VariableManager variableManager) {
+        List<Object> eReferences = new ArrayList<>();
+        var optionalEPackage = variableManager.get(VariableManager.SELF, EPackage.class);
+        if (optionalEPackage.isPresent()) {
+            optionalEPackage.get().eAllContents().forEachRemaining(eObject -> {
+                if (eObject instanceof EReference) {
+                    eReferences.add(eObject);
+                }
+            });
+        }
+        return eReferences;
+    }
+
+    private List<Element> getNodes(VariableManager variableManager, Function<EReference, EPackage> ePackageProvider) {
+        var optionalCache = variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class);
+        var optionalEReference = variableManager.get(VariableManager.SELF, EReference.class);
+        if (optionalCache.isPresent() && optionalEReference.isPresent()) {
+            return optionalCache.get().getElementsRepresenting(ePackageProvider.apply(optionalEReference.get()));
+        }
+        return List.of();
+    }
+
+    private String getTargetObjectId(VariableManager variableManager) {
+        // @formatter:off
+        return variableManager.get(VariableManager.SELF, EObject.class)
+                .map(EcoreUtil::getURI)
+                .map(Object::toString)
+                .orElse(""); //$NON-NLS-1$
+        // @formatter:on
+    }
+
+    private String getName(VariableManager variableManager) {
+        // @formatter:off
+        return variableManager.get(VariableManager.SELF, ENamedElement.class)
+                .map(ENamedElement::getName)
+                .orElse(""); //$NON-NLS-1$
+        // @formatter:on
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.diagrams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+
+/**
+ * Builds synthetic EMF models used as the semantic elements of the benchmarked diagrams.
+ *
+ * <p>
+ * Each node of the diagram represents an EPackage. The EPackages at the root of the model contain
+ * <code>childrenPerNode</code> sub-packages, recursively, until the given depth is reached. Each EPackage contains an
+ * EClass named <code>Anchor</code> and <code>edgesPerNode</code> EClasses with an EReference to the anchor of another
+ * EPackage. Each of those EReferences is represented by an edge.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SyntheticModelBuilder {
+
+    public static final String ANCHOR = "Anchor"; //$NON-NLS-1$
+
+    private final int nodes;
+
+    private final int depth;
+
+    private final int childrenPerNode;
+
+    private final int edgesPerNode;
+
+    public SyntheticModelBuilder(int nodes, int depth, int childrenPerNode, int edgesPerNode) {
+        this.nodes = nodes;
+        this.depth = depth;
+        this.childrenPerNode = childrenPerNode;
+        this.edgesPerNode = edgesPerNode;
+    }
+
+    public EPackage build() {
+        EPackage root = this.createEPackage("root"); //$NON-NLS-1$
+
+        List<EPackage> allEPackages = new ArrayList<>();
+        for (int i = 0; i < this.nodes; i++) {
+            EPackage ePackage = this.createEPackage("p" + i); //$NON-NLS-1$
+            root.getESubpackages().add(ePackage);
+            allEPackages.add(ePackage);
+            this.createSubpackages(ePackage, 1, allEPackages);
+        }
+
+        for (int i = 0; i < allEPackages.size(); i++) {
+            EPackage ePackage = allEPackages.get(i);
+            for (int j = 0; j < this.edgesPerNode; j++) {
+                EPackage targetEPackage = allEPackages.get((i + j + 1) % allEPackages.size());
+
+                EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+                eReference.setName("target"); //$NON-NLS-1$
+                eReference.setEType(targetEPackage.getEClassifier(ANCHOR));
+
+                EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+                eClass.setName("Link" + j); //$NON-NLS-1$
+                eClass.getEStructuralFeatures().add(eReference);
+                ePackage.getEClassifiers().add(eClass);
+            }
+        }
+        return root;
+    }
+
+    private void createSubpackages(EPackage parent, int level, List<EPackage> allEPackages) {
+        if (level < this.depth) {
+            for (int i = 0; i < this.childrenPerNode; i++) {
+                EPackage ePackage = this.createEPackage(parent.getName() + "_" + i); //$NON-NLS-1$
+                parent.getESubpackages().add(ePackage);
+                allEPackages.add(ePackage);
+                this.createSubpackages(ePackage, level + 1, allEPackages);
+            }
+        }
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        ePackage.setNsURI("benchmark://" + name); //$NON-NLS-1$
+
+        EClass anchor = EcoreFactory.eINSTANCE.createEClass();
+        anchor.setName(ANCHOR);
+        ePackage.getEClassifiers().add(anchor);
+        return ePackage;
+    }
+}
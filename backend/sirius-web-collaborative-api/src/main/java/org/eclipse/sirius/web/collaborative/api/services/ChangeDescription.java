@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.collaborative.api.services;
 
 import java.text.MessageFormat;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -29,9 +30,18 @@ public class ChangeDescription {
 
     private final UUID sourceId;
 
+    private final SemanticChanges semanticChanges;
+
     public ChangeDescription(String kind, UUID sourceId) {
         this.kind = Objects.requireNonNull(kind);
         this.sourceId = Objects.requireNonNull(sourceId);
+        this.semanticChanges = null;
+    }
+
+    public ChangeDescription(String kind, UUID sourceId, SemanticChanges semanticChanges) {
+        this.kind = Objects.requireNonNull(kind);
+        this.sourceId = Objects.requireNonNull(sourceId);
+        this.semanticChanges = Objects.requireNonNull(semanticChanges);
     }
 
     public String getKind() {
@@ -42,6 +52,15 @@ public class ChangeDescription {
         return this.sourceId;
     }
 
+    /**
+     * Returns the semantic changes which have been recorded while the input was handled, if any.
+     *
+     * @return The semantic changes or an empty optional if the changes performed are unknown
+     */
+    public Optional<SemanticChanges> getSemanticChanges() {
+        return Optional.ofNullable(this.semanticChanges);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'kind: {1}, sourceId: {2}'}'"; //$NON-NLS-1$
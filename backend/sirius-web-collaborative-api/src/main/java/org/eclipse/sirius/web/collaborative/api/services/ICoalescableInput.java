@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
+
+/**
+ * Interface implemented by the inputs which can be skipped when another input received after them makes them useless.
+ *
+ * <p>
+ * The inputs received by an editing context event processor while it is busy are handled together. When an input of
+ * such a batch is superseded by a later one, for example when a node is moved several times in a row, only the last
+ * one is handled and the payload of each superseded input is computed from the payload of the input which has
+ * superseded it, with the identifier of the superseded input.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface ICoalescableInput extends IInput {
+
+    /**
+     * Indicates if the given input, received after this one, makes this input useless.
+     *
+     * @param input
+     *            An input received after this one
+     * @return <code>true</code> if this input does not need to be handled anymore, <code>false</code> otherwise
+     */
+    boolean isSupersededBy(IInput input);
+
+    /**
+     * Returns the payload of this input once it has been superseded, it should have the identifier of this input.
+     *
+     * @param supersedingPayload
+     *            The payload of the input which has superseded this one
+     * @return The payload of this input
+     */
+    IPayload createSupersededPayload(IPayload supersedingPayload);
+
+}
@@ -20,6 +20,7 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Handles all of the input events and emit output events of a specific project.
@@ -35,6 +36,36 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     Optional<IPayload> handle(IInput input);
 
+    /**
+     * Handles the given input without blocking the caller.
+     *
+     * <p>
+     * The input is queued as soon as this method is called, even if the result is never subscribed, in order to
+     * preserve the order of arrival of the inputs. The result emits the payload once the input has been handled or
+     * completes empty if the input could not be handled.
+     * </p>
+     *
+     * @param input
+     *            The input to handle
+     * @return The payload of the input
+     */
+    Mono<IPayload> handleAsync(IInput input);
+
+    /**
+     * Handles the given inputs one after the other, as a single unit of work.
+     *
+     * <p>
+     * The consequences of the changes performed, such as the refresh of the representations or the persistence of the
+     * editing context, are only applied once all the inputs have been handled. This is meant for inputs concerning the
+     * editing context which are performed in bulk, like the creation of the representations of an imported project.
+     * </p>
+     *
+     * @param inputs
+     *            The inputs to handle
+     * @return The payload of each input, in the same order as the inputs
+     */
+    List<Optional<IPayload>> handleAll(List<? extends IInput> inputs);
+
     Flux<IPayload> getOutputEvents();
 
 }
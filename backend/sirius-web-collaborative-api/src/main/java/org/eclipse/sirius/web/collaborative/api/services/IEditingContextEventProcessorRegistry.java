@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,8 @@ import java.util.UUID;
 import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Registry of all the editing context event handlers.
  *
@@ -29,6 +31,18 @@ public interface IEditingContextEventProcessorRegistry {
 
     Optional<IPayload> dispatchEvent(UUID editingContextId, IInput input);
 
+    /**
+     * Dispatches the given input to the editing context event processor of the given editing context without waiting
+     * for the input to be handled.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @param input
+     *            The input to dispatch
+     * @return The payload of the input, or an empty result if the input could not be handled
+     */
+    Mono<IPayload> dispatchEventAsync(UUID editingContextId, IInput input);
+
     Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId);
 
     void disposeEditingContextEventProcessor(UUID editingContextId);
@@ -12,8 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.collaborative.api.services;
 
+import java.util.Collection;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.core.api.IEditingContext;
+
 /**
  * Used to delete representations.
  *
@@ -22,5 +25,19 @@ import java.util.UUID;
 public interface IRepresentationDeletionService {
     void delete(UUID representationId);
 
-    void deleteDanglingRepresentations(UUID editingContextId);
+    /**
+     * Deletes the representations targeting one of the given objects which have been removed from the editing context,
+     * as long as they cannot be found anymore in the given editing context.
+     *
+     * <p>
+     * Only the objects whose removal has been recorded are considered, since an object may also be missing from the
+     * editing context because its document could not be loaded.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param removedObjectIds
+     *            The identifiers of the objects which have been removed
+     */
+    void deleteDanglingRepresentations(IEditingContext editingContext, Collection<String> removedObjectIds);
 }
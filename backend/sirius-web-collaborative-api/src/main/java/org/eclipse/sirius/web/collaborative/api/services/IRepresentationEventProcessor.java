@@ -37,4 +37,38 @@ public interface IRepresentationEventProcessor extends IDisposablePublisher {
 
     Flux<IPayload> getOutputEvents(IInput input);
 
+    /**
+     * Indicates if the representation can be refreshed concurrently with the other representations of the editing
+     * context. It should not be the case if its description evaluates expressions with an interpreter which may be
+     * shared with the descriptions of other representations, since interpreters are not thread safe, or if it uses the
+     * item providers of the semantic elements, which install adapters on these elements when they are first used.
+     *
+     * @return <code>true</code> if the representation can be refreshed concurrently, <code>false</code> otherwise
+     */
+    default boolean canBeRefreshedConcurrently() {
+        return false;
+    }
+
+    /**
+     * Used to be notified that the representation has to be refreshed on the thread of the editing context, for example
+     * once someone has subscribed to a representation which has ignored some changes.
+     *
+     * @return A flux emitting the inputs which require the representation to be refreshed
+     */
+    default Flux<IInput> getRefreshRequests() {
+        return Flux.empty();
+    }
+
+    /**
+     * Refreshes the representation if it has ignored some changes. It is called on the thread of the editing context
+     * after a refresh request.
+     *
+     * @param input
+     *            The input which has requested the refresh
+     * @return <code>true</code> if the representation has been refreshed, <code>false</code> otherwise
+     */
+    default boolean refreshIfStale(IInput input) {
+        return false;
+    }
+
 }
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+
+/**
+ * Used to record the semantic changes performed in an editing context while an input is being handled.
+ *
+ * @author sbegaudeau
+ */
+public interface ISemanticChangesRecorder {
+
+    void startRecording(IEditingContext editingContext);
+
+    /**
+     * Stops the recording of the changes of the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return The changes performed since the recording has started or an empty optional if they could not be recorded
+     */
+    Optional<SemanticChanges> stopRecording(IEditingContext editingContext);
+
+}
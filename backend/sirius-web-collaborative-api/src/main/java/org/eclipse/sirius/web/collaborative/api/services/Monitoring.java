@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,14 @@ public final class Monitoring {
 
     public static final String REPRESENTATION_EVENT_PROCESSOR_REFRESH = "siriusweb_representationeventprocessor_refresh"; //$NON-NLS-1$
 
+    public static final String REPRESENTATION_EVENT_PROCESSOR_CONFLATION = "siriusweb_representationeventprocessor_conflation"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_EVENT_PROCESSORS = "siriusweb_editingcontexteventprocessors"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_EVENT_PROCESSOR_QUEUE = "siriusweb_editingcontexteventprocessor_queue"; //$NON-NLS-1$
+
+    public static final String EDITING_CONTEXT_EVENT_PROCESSOR_WAIT = "siriusweb_editingcontexteventprocessor_wait"; //$NON-NLS-1$
+
     public static final String NAME = "name"; //$NON-NLS-1$
 
     private Monitoring() {
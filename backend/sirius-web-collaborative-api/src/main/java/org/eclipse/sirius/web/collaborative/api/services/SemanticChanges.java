@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.api.services;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The semantic changes recorded while an input was being handled.
+ *
+ * <p>
+ * It contains the identifiers of the semantic elements which have been modified along with the name of their modified
+ * features. Structural changes, such as the creation or deletion of an element or of a document, cannot be reduced to
+ * a set of modified elements since they may change the result of any query evaluated on the model.
+ * </p>
+ *
+ * <p>
+ * The semantic changes also contain the identifiers of the semantic elements which have been removed from the editing
+ * context, since the representations targeting them have lost their target object.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChanges {
+
+    private final Map<String, Set<String>> changedFeatures;
+
+    private final boolean structuralChange;
+
+    private final Set<String> removedObjectIds;
+
+    public SemanticChanges(Map<String, Set<String>> changedFeatures, boolean structuralChange, Set<String> removedObjectIds) {
+        this.changedFeatures = Map.copyOf(Objects.requireNonNull(changedFeatures));
+        this.structuralChange = structuralChange;
+        this.removedObjectIds = Set.copyOf(Objects.requireNonNull(removedObjectIds));
+    }
+
+    public Set<String> getObjectIds() {
+        return this.changedFeatures.keySet();
+    }
+
+    public Set<String> getChangedFeatures(String objectId) {
+        return this.changedFeatures.getOrDefault(objectId, Set.of());
+    }
+
+    public boolean isStructuralChange() {
+        return this.structuralChange;
+    }
+
+    public boolean hasRemovedObjects() {
+        return !this.removedObjectIds.isEmpty();
+    }
+
+    public Set<String> getRemovedObjectIds() {
+        return this.removedObjectIds;
+    }
+
+    /**
+     * Indicates if the changes may have an impact on something computed from the given semantic elements.
+     *
+     * @param objectIds
+     *            The identifiers of the semantic elements used by a representation
+     * @return <code>true</code> if the changes are structural or if they concern one of the given semantic elements,
+     *         <code>false</code> otherwise
+     */
+    public boolean mayAffect(Collection<String> objectIds) {
+        return this.structuralChange || objectIds.stream().anyMatch(this.changedFeatures::containsKey);
+    }
+
+    /**
+     * Returns the semantic changes containing both these changes and the given ones.
+     *
+     * @param semanticChanges
+     *            Some other semantic changes
+     * @return The union of these semantic changes and of the given ones
+     */
+    public SemanticChanges merge(SemanticChanges semanticChanges) {
+        Map<String, Set<String>> mergedChangedFeatures = new HashMap<>();
+        this.changedFeatures.forEach((objectId, features) -> mergedChangedFeatures.computeIfAbsent(objectId, id -> new HashSet<>()).addAll(features));
+        semanticChanges.changedFeatures.forEach((objectId, features) -> mergedChangedFeatures.computeIfAbsent(objectId, id -> new HashSet<>()).addAll(features));
+
+        boolean mergedStructuralChange = this.structuralChange || semanticChanges.structuralChange;
+        Set<String> mergedRemovedObjectIds = new HashSet<>(this.removedObjectIds);
+        mergedRemovedObjectIds.addAll(semanticChanges.removedObjectIds);
+        return new SemanticChanges(mergedChangedFeatures, mergedStructuralChange, mergedRemovedObjectIds);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'objectIds: {1}, structuralChange: {2}, removedObjectIds: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.changedFeatures.keySet(), this.structuralChange, this.removedObjectIds);
+    }
+}
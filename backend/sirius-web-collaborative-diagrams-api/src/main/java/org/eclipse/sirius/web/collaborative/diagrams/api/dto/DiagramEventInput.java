@@ -35,6 +35,8 @@ public final class DiagramEventInput implements IInput {
 
     private UUID diagramId;
 
+    private boolean incremental;
+
     public DiagramEventInput() {
         // Used by Jackson
     }
@@ -45,6 +47,11 @@ public final class DiagramEventInput implements IInput {
         this.diagramId = Objects.requireNonNull(diagramId);
     }
 
+    public DiagramEventInput(UUID id, UUID editingContextId, UUID diagramId, boolean incremental) {
+        this(id, editingContextId, diagramId);
+        this.incremental = incremental;
+    }
+
     @Override
     @GraphQLID
     @GraphQLField
@@ -67,9 +74,19 @@ public final class DiagramEventInput implements IInput {
         return this.diagramId;
     }
 
+    /**
+     * Indicates if the subscriber wants to receive patches instead of the whole diagram after each refresh.
+     *
+     * @return <code>true</code> if patches should be sent, <code>false</code> by default
+     */
+    @GraphQLField
+    public boolean isIncremental() {
+        return this.incremental;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, editingContextId: {2}, diagramId: {3}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.editingContextId, this.diagramId);
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, diagramId: {3}, incremental: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.diagramId, this.incremental);
     }
 }
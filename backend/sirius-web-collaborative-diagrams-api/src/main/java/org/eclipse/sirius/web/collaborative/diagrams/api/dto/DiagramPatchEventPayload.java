@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.diagrams.Edge;
+
+/**
+ * Payload used to send only the differences between two revisions of a diagram.
+ *
+ * <p>
+ * A patch can only be applied on top of the revision just before its own. Clients which have skipped a revision thus
+ * receive a complete snapshot of the diagram instead of a patch. Labels are sent as part of the node or edge which
+ * contains them.
+ * </p>
+ *
+ * <p>
+ * Clients apply a patch by removing the removed elements, replacing the updated ones, and appending the added ones at
+ * the end of their parent. The reordered nodes and edges are then used to restore the order of the siblings which did
+ * not end up in the same order as in the new revision.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+@GraphQLObjectType
+public final class DiagramPatchEventPayload implements IPayload {
+    private UUID id;
+
+    private UUID diagramId;
+
+    private int revision;
+
+    private List<PatchedNode> addedNodes;
+
+    private List<PatchedNode> updatedNodes;
+
+    private List<UUID> removedNodeIds;
+
+    private List<Edge> addedEdges;
+
+    private List<Edge> updatedEdges;
+
+    private List<UUID> removedEdgeIds;
+
+    private List<ReorderedNodes> reorderedNodes;
+
+    private List<UUID> reorderedEdgeIds;
+
+    private DiagramPatchEventPayload() {
+        // Prevent instantiation
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getDiagramId() {
+        return this.diagramId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public int getRevision() {
+        return this.revision;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull PatchedNode> getAddedNodes() {
+        return this.addedNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull PatchedNode> getUpdatedNodes() {
+        return this.updatedNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull @GraphQLID UUID> getRemovedNodeIds() {
+        return this.removedNodeIds;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getAddedEdges() {
+        return this.addedEdges;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull Edge> getUpdatedEdges() {
+        return this.updatedEdges;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull @GraphQLID UUID> getRemovedEdgeIds() {
+        return this.removedEdgeIds;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull ReorderedNodes> getReorderedNodes() {
+        return this.reorderedNodes;
+    }
+
+    /**
+     * Returns the identifiers of all the edges of the new revision in their order, or an empty list if the patched
+     * edges are already in this order.
+     */
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull @GraphQLID UUID> getReorderedEdgeIds() {
+        return this.reorderedEdgeIds;
+    }
+
+    public static Builder newDiagramPatchEventPayload(UUID id) {
+        return new Builder(id);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, diagramId: {2}, revision: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.diagramId, this.revision);
+    }
+
+    /**
+     * The builder used to create the diagram patch payload.
+     *
+     * @author sbegaudeau
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private UUID id;
+
+        private UUID diagramId;
+
+        private int revision;
+
+        private List<PatchedNode> addedNodes;
+
+        private List<PatchedNode> updatedNodes;
+
+        private List<UUID> removedNodeIds;
+
+        private List<Edge> addedEdges;
+
+        private List<Edge> updatedEdges;
+
+        private List<UUID> removedEdgeIds;
+
+    private List<ReorderedNodes> reorderedNodes;
+
+    private List<UUID> reorderedEdgeIds;
+
+        private Builder(UUID id) {
+            this.id = Objects.requireNonNull(id);
+        }
+
+        public Builder diagramId(UUID diagramId) {
+            this.diagramId = Objects.requireNonNull(diagramId);
+            return this;
+        }
+
+        public Builder revision(int revision) {
+            this.revision = revision;
+            return this;
+        }
+
+        public Builder addedNodes(List<PatchedNode> addedNodes) {
+            this.addedNodes = Objects.requireNonNull(addedNodes);
+            return this;
+        }
+
+        public Builder updatedNodes(List<PatchedNode> updatedNodes) {
+            this.updatedNodes = Objects.requireNonNull(updatedNodes);
+            return this;
+        }
+
+        public Builder removedNodeIds(List<UUID> removedNodeIds) {
+            this.removedNodeIds = Objects.requireNonNull(removedNodeIds);
+            return this;
+        }
+
+        public Builder addedEdges(List<Edge> addedEdges) {
+            this.addedEdges = Objects.requireNonNull(addedEdges);
+            return this;
+        }
+
+        public Builder updatedEdges(List<Edge> updatedEdges) {
+            this.updatedEdges = Objects.requireNonNull(updatedEdges);
+            return this;
+        }
+
+        public Builder removedEdgeIds(List<UUID> removedEdgeIds) {
+            this.removedEdgeIds = Objects.requireNonNull(removedEdgeIds);
+            return this;
+        }
+
+        public Builder reorderedNodes(List<ReorderedNodes> reorderedNodes) {
+            this.reorderedNodes = Objects.requireNonNull(reorderedNodes);
+            return this;
+        }
+
+        public Builder reorderedEdgeIds(List<UUID> reorderedEdgeIds) {
+            this.reorderedEdgeIds = Objects.requireNonNull(reorderedEdgeIds);
+            return this;
+        }
+
+        public DiagramPatchEventPayload build() {
+            DiagramPatchEventPayload payload = new DiagramPatchEventPayload();
+            payload.id = Objects.requireNonNull(this.id);
+            payload.diagramId = Objects.requireNonNull(this.diagramId);
+            payload.revision = this.revision;
+            payload.addedNodes = Objects.requireNonNull(this.addedNodes);
+            payload.updatedNodes = Objects.requireNonNull(this.updatedNodes);
+            payload.removedNodeIds = Objects.requireNonNull(this.removedNodeIds);
+            payload.addedEdges = Objects.requireNonNull(this.addedEdges);
+            payload.updatedEdges = Objects.requireNonNull(this.updatedEdges);
+            payload.removedEdgeIds = Objects.requireNonNull(this.removedEdgeIds);
+            payload.reorderedNodes = Objects.requireNonNull(this.reorderedNodes);
+            payload.reorderedEdgeIds = Objects.requireNonNull(this.reorderedEdgeIds);
+            return payload;
+        }
+    }
+}
@@ -34,9 +34,12 @@ public final class DiagramRefreshedEventPayload implements IPayload {
 
     private final Diagram diagram;
 
-    public DiagramRefreshedEventPayload(UUID id, Diagram diagram) {
+    private final int revision;
+
+    public DiagramRefreshedEventPayload(UUID id, Diagram diagram, int revision) {
         this.id = Objects.requireNonNull(id);
         this.diagram = Objects.requireNonNull(diagram);
+        this.revision = revision;
     }
 
     @Override
@@ -53,9 +56,15 @@ public final class DiagramRefreshedEventPayload implements IPayload {
         return this.diagram;
     }
 
+    @GraphQLField
+    @GraphQLNonNull
+    public int getRevision() {
+        return this.revision;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, diagram: '{'id: {2}, label: {3}'}''}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.diagram.getId(), this.diagram.getLabel());
+        String pattern = "{0} '{'id: {1}, diagram: '{'id: {2}, label: {3}'}', revision: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.diagram.getId(), this.diagram.getLabel(), this.revision);
     }
 }
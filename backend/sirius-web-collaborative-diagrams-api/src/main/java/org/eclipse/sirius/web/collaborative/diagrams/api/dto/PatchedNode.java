@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * A node of a diagram patch along with the identifier of its parent.
+ *
+ * <p>
+ * The parent identifier is null for the nodes directly contained in the diagram. The node will be an added node with
+ * its whole subtree or an updated node without its children since those are patched separately.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class PatchedNode {
+    private final UUID parentId;
+
+    private final Node node;
+
+    public PatchedNode(UUID parentId, Node node) {
+        this.parentId = parentId;
+        this.node = Objects.requireNonNull(node);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    public UUID getParentId() {
+        return this.parentId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public Node getNode() {
+        return this.node;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'parentId: {1}, node: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.parentId, this.node.getId());
+    }
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+
+/**
+ * The new order of the border nodes or of the child nodes of a parent in a diagram patch.
+ *
+ * <p>
+ * The parent identifier is null for the nodes directly contained in the diagram. The list of nodes of the parent must
+ * be replaced by the nodes with the given identifiers, in this order, once the other operations of the patch have been
+ * applied. A node kept under the same parent can thus also move between its border nodes and its child nodes.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class ReorderedNodes {
+    private final UUID parentId;
+
+    private final boolean borderNodes;
+
+    private final List<UUID> nodeIds;
+
+    public ReorderedNodes(UUID parentId, boolean borderNodes, List<UUID> nodeIds) {
+        this.parentId = parentId;
+        this.borderNodes = borderNodes;
+        this.nodeIds = Objects.requireNonNull(nodeIds);
+    }
+
+    @GraphQLID
+    @GraphQLField
+    public UUID getParentId() {
+        return this.parentId;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public boolean isBorderNodes() {
+        return this.borderNodes;
+    }
+
+    @GraphQLField
+    @GraphQLNonNull
+    public List<@GraphQLNonNull @GraphQLID UUID> getNodeIds() {
+        return this.nodeIds;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'parentId: {1}, borderNodes: {2}, nodeIds: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.parentId, this.borderNodes, this.nodeIds);
+    }
+}
@@ -13,13 +13,20 @@
 package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
 
 import java.text.MessageFormat;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.collaborative.api.services.ICoalescableInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.web.core.api.ErrorPayload;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
 
 /**
  * The input for the "Update Node Bounds" mutation.
@@ -27,7 +34,7 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
  * @author fbarbin
  */
 @GraphQLInputObjectType
-public final class UpdateNodeBoundsInput implements IDiagramInput {
+public final class UpdateNodeBoundsInput implements IDiagramInput, ICoalescableInput {
 
     private UUID id;
 
@@ -45,6 +52,21 @@ public final class UpdateNodeBoundsInput implements IDiagramInput {
 
     private double newHeight;
 
+    public UpdateNodeBoundsInput() {
+        // Used by Jackson
+    }
+
+    public UpdateNodeBoundsInput(UUID id, UUID editingContextId, UUID representationId, UUID diagramElementId, Position newPosition, Size newSize) {
+        this.id = Objects.requireNonNull(id);
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.representationId = Objects.requireNonNull(representationId);
+        this.diagramElementId = Objects.requireNonNull(diagramElementId);
+        this.newPositionX = newPosition.getX();
+        this.newPositionY = newPosition.getY();
+        this.newWidth = newSize.getWidth();
+        this.newHeight = newSize.getHeight();
+    }
+
     @Override
     @GraphQLID
     @GraphQLField
@@ -99,6 +121,31 @@ public final class UpdateNodeBoundsInput implements IDiagramInput {
         return this.newHeight;
     }
 
+    /**
+     * The new bounds of a node are superseded by any later new bounds of the same node since they are absolute and do
+     * not depend on the previous ones.
+     */
+    @Override
+    public boolean isSupersededBy(IInput input) {
+        if (input instanceof UpdateNodeBoundsInput) {
+            UpdateNodeBoundsInput updateNodeBoundsInput = (UpdateNodeBoundsInput) input;
+            return Objects.equals(this.representationId, updateNodeBoundsInput.getRepresentationId()) && Objects.equals(this.diagramElementId, updateNodeBoundsInput.getDiagramElementId());
+        }
+        return false;
+    }
+
+    @Override
+    public IPayload createSupersededPayload(IPayload supersedingPayload) {
+        IPayload payload = new ErrorPayload(this.id, "The input has been superseded by another one"); //$NON-NLS-1$
+        if (supersedingPayload instanceof UpdateNodeBoundsSuccessPayload) {
+            payload = new UpdateNodeBoundsSuccessPayload(this.id, ((UpdateNodeBoundsSuccessPayload) supersedingPayload).getDiagram());
+        } else if (supersedingPayload instanceof ErrorPayload) {
+            ErrorPayload errorPayload = (ErrorPayload) supersedingPayload;
+            payload = new ErrorPayload(this.id, errorPayload.getMessage(), errorPayload.getAdditionalMessages());
+        }
+        return payload;
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, editingContextId: {2}, representationId: {3}, diagramElementId: {4}, newPositionX: {5}, newPositionY: {6}, newWidth: {7}, newHeight: {8}'}'"; //$NON-NLS-1$
@@ -13,13 +13,18 @@
 package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
 
 import java.text.MessageFormat;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLInputObjectType;
 import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.collaborative.api.services.ICoalescableInput;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.web.core.api.ErrorPayload;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
 
 /**
  * The input for the "Update Node Position" mutation.
@@ -27,7 +32,7 @@ import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramInput;
  * @author fbarbin
  */
 @GraphQLInputObjectType
-public final class UpdateNodePositionInput implements IDiagramInput {
+public final class UpdateNodePositionInput implements IDiagramInput, ICoalescableInput {
     private UUID id;
 
     private UUID editingContextId;
@@ -40,6 +45,19 @@ public final class UpdateNodePositionInput implements IDiagramInput {
 
     private double newPositionY;
 
+    public UpdateNodePositionInput() {
+        // Used by Jackson
+    }
+
+    public UpdateNodePositionInput(UUID id, UUID editingContextId, UUID representationId, UUID diagramElementId, double newPositionX, double newPositionY) {
+        this.id = Objects.requireNonNull(id);
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.representationId = Objects.requireNonNull(representationId);
+        this.diagramElementId = Objects.requireNonNull(diagramElementId);
+        this.newPositionX = newPositionX;
+        this.newPositionY = newPositionY;
+    }
+
     @Override
     @GraphQLID
     @GraphQLField
@@ -82,6 +100,31 @@ public final class UpdateNodePositionInput implements IDiagramInput {
         return this.newPositionY;
     }
 
+    /**
+     * The new position of a node is superseded by any later new position of the same node since it is absolute and does
+     * not depend on the previous ones.
+     */
+    @Override
+    public boolean isSupersededBy(IInput input) {
+        if (input instanceof UpdateNodePositionInput) {
+            UpdateNodePositionInput updateNodePositionInput = (UpdateNodePositionInput) input;
+            return Objects.equals(this.representationId, updateNodePositionInput.getRepresentationId()) && Objects.equals(this.diagramElementId, updateNodePositionInput.getDiagramElementId());
+        }
+        return false;
+    }
+
+    @Override
+    public IPayload createSupersededPayload(IPayload supersedingPayload) {
+        IPayload payload = new ErrorPayload(this.id, "The input has been superseded by another one"); //$NON-NLS-1$
+        if (supersedingPayload instanceof UpdateNodePositionSuccessPayload) {
+            payload = new UpdateNodePositionSuccessPayload(this.id, ((UpdateNodePositionSuccessPayload) supersedingPayload).getDiagram());
+        } else if (supersedingPayload instanceof ErrorPayload) {
+            ErrorPayload errorPayload = (ErrorPayload) supersedingPayload;
+            payload = new ErrorPayload(this.id, errorPayload.getMessage(), errorPayload.getAdditionalMessages());
+        }
+        return payload;
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, editingContextId: {2}, representationId: {3}, diagramElementId: {4}, newPositionX: {5}, newPositionY: {6}'}'"; //$NON-NLS-1$
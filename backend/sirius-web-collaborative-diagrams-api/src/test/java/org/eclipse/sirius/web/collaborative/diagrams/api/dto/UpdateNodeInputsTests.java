@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.collaborative.diagrams.api.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.Size;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the supersession of the inputs updating the nodes of a diagram.
+ *
+ * @author sbegaudeau
+ */
+public class UpdateNodeInputsTests {
+
+    private final UUID editingContextId = UUID.randomUUID();
+
+    private final UUID representationId = UUID.randomUUID();
+
+    private final UUID nodeId = UUID.randomUUID();
+
+    @Test
+    public void testPositionSupersededByLaterPositionOfTheSameNode() {
+        UpdateNodePositionInput input = this.createPositionInput(this.representationId, this.nodeId, 10);
+
+        assertThat(input.isSupersededBy(this.createPositionInput(this.representationId, this.nodeId, 20))).isTrue();
+        assertThat(input.isSupersededBy(this.createPositionInput(this.representationId, UUID.randomUUID(), 20))).isFalse();
+        assertThat(input.isSupersededBy(this.createPositionInput(UUID.randomUUID(), this.nodeId, 20))).isFalse();
+        assertThat(input.isSupersededBy(this.createBoundsInput(this.representationId, this.nodeId, 20))).isFalse();
+    }
+
+    @Test
+    public void testBoundsSupersededByLaterBoundsOfTheSameNode() {
+        UpdateNodeBoundsInput input = this.createBoundsInput(this.representationId, this.nodeId, 10);
+
+        assertThat(input.isSupersededBy(this.createBoundsInput(this.representationId, this.nodeId, 20))).isTrue();
+        assertThat(input.isSupersededBy(this.createBoundsInput(this.representationId, UUID.randomUUID(), 20))).isFalse();
+        assertThat(input.isSupersededBy(this.createBoundsInput(UUID.randomUUID(), this.nodeId, 20))).isFalse();
+        assertThat(input.isSupersededBy(this.createPositionInput(this.representationId, this.nodeId, 20))).isFalse();
+    }
+
+    private UpdateNodePositionInput createPositionInput(UUID diagramId, UUID diagramElementId, double coordinate) {
+        return new UpdateNodePositionInput(UUID.randomUUID(), this.editingContextId, diagramId, diagramElementId, coordinate, coordinate);
+    }
+
+    private UpdateNodeBoundsInput createBoundsInput(UUID diagramId, UUID diagramElementId, double coordinate) {
+        return new UpdateNodeBoundsInput(UUID.randomUUID(), this.editingContextId, diagramId, diagramElementId, Position.at(coordinate, coordinate), Size.of(coordinate, coordinate));
+    }
+}
@@ -90,7 +90,7 @@ public class AbstractNodeMappingConverter {
         };
 
         Function<VariableManager, String> labelIdProvider = variableManager -> {
-            Object parentId = variableManager.getVariables().get(LabelDescription.OWNER_ID);
+            Object parentId = variableManager.getReadOnlyVariables().get(LabelDescription.OWNER_ID);
             return String.valueOf(parentId) + LabelDescription.LABEL_SUFFIX;
         };
 
@@ -57,7 +57,7 @@ public class AbstractNodeMappingSizeProvider implements Function<VariableManager
             // If the initial width and/or height have not been set by the specifier, we interpret the size computation
             // expression to set the width and/or height
             if (width == 0 || height == 0) {
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), squareDescription.getSizeComputationExpression());
+                Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), squareDescription.getSizeComputationExpression());
                 int computedSize = result.asInt().getAsInt() * SIZE_FACTOR;
                 if (computedSize > 0) {
                     if (width == 0) {
@@ -73,12 +73,12 @@ public class AbstractNodeMappingSizeProvider implements Function<VariableManager
             int width = -1;
             int height = -1;
             FlatContainerStyleDescription flatContainerStyleDescription = (FlatContainerStyleDescription) labelStyleDescription;
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getWidthComputationExpression());
+            Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), flatContainerStyleDescription.getWidthComputationExpression());
             int computedWidth = result.asInt().getAsInt();
             if (computedWidth > 0) {
                 width = computedWidth * SIZE_FACTOR;
             }
-            result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getHeightComputationExpression());
+            result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), flatContainerStyleDescription.getHeightComputationExpression());
             int computedHeight = result.asInt().getAsInt();
             if (computedHeight > 0) {
                 height = computedHeight * SIZE_FACTOR;
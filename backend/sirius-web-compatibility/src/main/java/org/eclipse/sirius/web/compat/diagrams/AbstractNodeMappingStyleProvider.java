@@ -117,7 +117,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
     }
 
     private INodeStyle createListNodeStyle(VariableManager variableManager, FlatContainerStyleDescription flatContainerStyleDescription) {
-        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, variableManager.getVariables());
+        ColorDescriptionConverter colorDescriptionConverter = new ColorDescriptionConverter(this.interpreter, variableManager.getReadOnlyVariables());
 
         String color = colorDescriptionConverter.convert(flatContainerStyleDescription.getBackgroundColor());
         String borderColor = colorDescriptionConverter.convert(flatContainerStyleDescription.getBorderColor());
@@ -126,7 +126,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
 
         int borderRadius = this.getBorderRadius(flatContainerStyleDescription);
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), flatContainerStyleDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         // @formatter:off
@@ -154,14 +154,14 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
     }
 
     private RectangularNodeStyle createRectangularNodeStyle(VariableManager variableManager, SquareDescription squareDescription) {
-        ColorDescriptionConverter colorProvider = new ColorDescriptionConverter(this.interpreter, variableManager.getVariables());
+        ColorDescriptionConverter colorProvider = new ColorDescriptionConverter(this.interpreter, variableManager.getReadOnlyVariables());
 
         String color = colorProvider.convert(squareDescription.getColor());
         String borderColor = colorProvider.convert(squareDescription.getBorderColor());
 
         LineStyle borderStyle = new LineStyleConverter().getStyle(squareDescription.getBorderLineStyle());
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), squareDescription.getBorderSizeComputationExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), squareDescription.getBorderSizeComputationExpression());
         int borderSize = result.asInt().getAsInt();
 
         // @formatter:off
@@ -175,7 +175,7 @@ public class AbstractNodeMappingStyleProvider implements Function<VariableManage
     }
 
     private RectangularNodeStyle createRectangularNodeStyle(VariableManager variableManager, FlatContainerStyleDescription flatContainerStyleDescription) {
-        Map<String, Object> variables = variableManager.getVariables();
+        Map<String, Object> variables = variableManager.getReadOnlyVariables();
         ColorDescriptionConverter colorProvider = new ColorDescriptionConverter(this.interpreter, variables);
 
         String color = colorProvider.convert(flatContainerStyleDescription.getBackgroundColor());
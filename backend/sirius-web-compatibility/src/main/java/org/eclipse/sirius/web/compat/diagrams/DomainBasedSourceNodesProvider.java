@@ -58,7 +58,7 @@ public class DomainBasedSourceNodesProvider implements Function<VariableManager,
         DiagramRenderingCache cache = optionalCache.get();
         String sourceFinderExpression = this.edgeMapping.getSourceFinderExpression();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+        Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), sourceFinderExpression);
         List<Object> semanticCandidates = result.asObjects().orElse(List.of());
 
         // @formatter:off
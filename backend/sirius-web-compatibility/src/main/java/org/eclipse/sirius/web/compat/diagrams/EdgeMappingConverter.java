@@ -142,7 +142,7 @@ public class EdgeMappingConverter {
         };
 
         Function<VariableManager, String> labelIdProvider = variableManager -> {
-            Object parentId = variableManager.getVariables().get(LabelDescription.OWNER_ID);
+            Object parentId = variableManager.getReadOnlyVariables().get(LabelDescription.OWNER_ID);
             return String.valueOf(parentId) + idSuffix;
         };
 
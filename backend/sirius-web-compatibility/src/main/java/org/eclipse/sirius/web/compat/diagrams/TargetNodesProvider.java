@@ -59,7 +59,7 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         DiagramRenderingCache cache = optionalCache.get();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeMapping.getTargetFinderExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), this.edgeMapping.getTargetFinderExpression());
         return result.asObjects().orElse(List.of()).stream()
                 .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
                 .filter(this.isFromCompatibleTargetMapping())
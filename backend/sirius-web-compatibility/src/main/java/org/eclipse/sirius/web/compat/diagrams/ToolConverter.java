@@ -81,7 +81,7 @@ public class ToolConverter {
         } else {
             // If no delete tool is defined, execute the default behavior: delete the underlying semantic element.
             return variableManager -> {
-                Optional.of(variableManager.getVariables().get(VariableManager.SELF)).ifPresent(this.editService::delete);
+                Optional.of(variableManager.getReadOnlyVariables().get(VariableManager.SELF)).ifPresent(this.editService::delete);
                 return Status.OK;
             };
         }
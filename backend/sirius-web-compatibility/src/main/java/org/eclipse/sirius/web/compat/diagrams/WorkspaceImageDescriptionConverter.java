@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -54,7 +54,7 @@ public class WorkspaceImageDescriptionConverter {
                 .orElse(this.workspaceImageDescription.getWorkspacePath());
         // @formatter:on
 
-        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.getVariables(), this.workspaceImageDescription.getSizeComputationExpression());
+        Result scalingFactorResult = this.interpreter.evaluateExpression(this.variableManager.getReadOnlyVariables(), this.workspaceImageDescription.getSizeComputationExpression());
         int scalingFactor = scalingFactorResult.asInt().orElse(DEFAULT_SCALING_FACTOR);
 
         // @formatter:off
@@ -53,7 +53,7 @@ public class ForDescriptionConverter {
     public ForDescription convert(org.eclipse.sirius.properties.DynamicMappingForDescription siriusForDescription) {
         // @formatter:off
         Function<VariableManager, List<Object>> iterableProvider = (variableManager) -> {
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), siriusForDescription.getIterableExpression()).asObjects()
+            return this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), siriusForDescription.getIterableExpression()).asObjects()
                     .orElse(Collections.emptyList());
         };
         IfDescriptionConverter converter = new IfDescriptionConverter(this.interpreter, this.objectService, this.identifierProvider, this.modelOperationHandlerSwitchProvider);
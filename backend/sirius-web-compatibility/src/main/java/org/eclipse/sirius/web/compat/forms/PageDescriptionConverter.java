@@ -56,7 +56,7 @@ public class PageDescriptionConverter {
         var semanticCandidatesProvider = this.semanticCandidatesProviderFactory.getSemanticCandidatesProvider(this.interpreter, domainClass, semanticCandidatesExpression, preconditionExpression);
 
         Predicate<VariableManager> canCreatePredicate = (variableManager) -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
+            Object object = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
             if (object != null) {
                 return !semanticCandidatesProvider.apply(variableManager).isEmpty();
             }
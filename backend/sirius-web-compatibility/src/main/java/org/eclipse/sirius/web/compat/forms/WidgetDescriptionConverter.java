@@ -151,19 +151,19 @@ public class WidgetDescriptionConverter {
         StringValueProvider labelProvider = new StringValueProvider(this.interpreter, labelExpression);
 
         Function<VariableManager, String> optionIdProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.getReadOnlyVariables().get(RadioComponent.CANDIDATE_VARIABLE);
             return this.objectService.getId(candidate);
         };
 
         Function<VariableManager, Boolean> optionSelectedProvider = variableManager -> {
-            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getValueExpression()).asObject();
-            Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+            Optional<Object> optionalResult = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), radioDescription.getValueExpression()).asObject();
+            Object candidate = variableManager.getReadOnlyVariables().get(RadioComponent.CANDIDATE_VARIABLE);
 
             return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
         };
 
         Function<VariableManager, List<Object>> optionsProvider = variableManager -> {
-            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getVariables(), radioDescription.getCandidatesExpression()).asObjects();
+            Optional<List<Object>> optional = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), radioDescription.getCandidatesExpression()).asObjects();
             return optional.orElse(Collections.emptyList());
         };
 
@@ -210,20 +210,20 @@ public class WidgetDescriptionConverter {
         StringValueProvider labelProvider = new StringValueProvider(this.interpreter, selectDescription.getLabelExpression());
         Function<VariableManager, String> valueProvider = variableManager -> {
             String valueExpression = selectDescription.getValueExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
+            return this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), valueExpression).asObject().map(this.objectService::getId).orElse(null);
         };
         // @formatter:on
 
         Function<VariableManager, List<Object>> optionsProvider = (variableManager) -> {
             String candidateExpression = selectDescription.getCandidatesExpression();
-            return this.interpreter.evaluateExpression(variableManager.getVariables(), candidateExpression).asObjects().orElse(new ArrayList<>());
+            return this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), candidateExpression).asObjects().orElse(new ArrayList<>());
         };
 
         String candidateDisplayExpression = Optional.ofNullable(selectDescription.getCandidateDisplayExpression()).orElse(""); //$NON-NLS-1$
         StringValueProvider optionLabelProvider = new StringValueProvider(this.interpreter, candidateDisplayExpression);
 
         Function<VariableManager, String> optionIdProvider = variableManager -> {
-            Object candidate = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.getReadOnlyVariables().get(SelectComponent.CANDIDATE_VARIABLE);
             return this.objectService.getId(candidate);
         };
 
@@ -39,7 +39,7 @@ public class DiagramDescriptionTargetObjectIdProviderPopulator implements IDiagr
     @Override
     public Builder populate(Builder builder, org.eclipse.sirius.diagram.description.DiagramDescription siriusDiagramDescription, AQLInterpreter interpreter) {
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
+            Object object = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
             return Optional.ofNullable(object).map(this.objectService::getId).orElse(null);
         };
         return builder.targetObjectIdProvider(targetObjectIdProvider);
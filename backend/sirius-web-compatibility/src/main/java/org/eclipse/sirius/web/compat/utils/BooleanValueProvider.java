@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -37,7 +37,7 @@ public class BooleanValueProvider implements Function<VariableManager, Boolean>
     @Override
     public Boolean apply(VariableManager variableManager) {
         if (!this.expression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), this.expression);
             return result.asBoolean().orElse(Boolean.FALSE);
         }
         return Boolean.FALSE;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,11 +16,21 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 
 /**
  * Rendering service used to navigate recursively of on the elements to render.
+ * <p>
+ * By default, all the elements are rendered on the calling thread. A fork join pool and a predicate can be given in
+ * order to render consecutive sibling elements matching this predicate in parallel. The subtrees of those elements must
+ * be independent and the state used to render them must be safe to read concurrently. The rendered instances are
+ * always collected in the order of their elements.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -34,11 +44,22 @@ public class BaseRenderer {
 
     private final Logger logger;
 
+    private final ForkJoinPool forkJoinPool;
+
+    private final Predicate<Element> canRenderInParallel;
+
     public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, Logger logger) {
+        this(instancePropsValidator, componentPropsValidator, elementFactory, logger, ForkJoinPool.commonPool(), element -> false);
+    }
+
+    public BaseRenderer(IInstancePropsValidator instancePropsValidator, IComponentPropsValidator componentPropsValidator, IElementFactory elementFactory, Logger logger,
+            ForkJoinPool forkJoinPool, Predicate<Element> canRenderInParallel) {
         this.instancePropsValidator = Objects.requireNonNull(instancePropsValidator);
         this.componentPropsValidator = Objects.requireNonNull(componentPropsValidator);
         this.elementFactory = Objects.requireNonNull(elementFactory);
         this.logger = Objects.requireNonNull(logger);
+        this.forkJoinPool = Objects.requireNonNull(forkJoinPool);
+        this.canRenderInParallel = Objects.requireNonNull(canRenderInParallel);
     }
 
     /**
@@ -166,15 +187,61 @@ public class BaseRenderer {
     }
 
     private void renderChildren(IProps props, List<Object> instances) {
+        List<Element> parallelChildElements = new ArrayList<>();
         for (Element childElement : props.getChildren()) {
-            Object renderedChildren = this.renderElement(childElement);
-            if (renderedChildren instanceof List<?>) {
-                // In case a fragment contains another fragment
-                instances.addAll((List<?>) renderedChildren);
-            } else if (renderedChildren != null) {
-                // In case a fragment contains a regular element
-                instances.add(renderedChildren);
+            if (this.canRenderInParallel.test(childElement)) {
+                parallelChildElements.add(childElement);
+            } else {
+                this.renderInParallel(parallelChildElements, instances);
+                parallelChildElements.clear();
+
+                this.addRenderedChildren(this.renderElement(childElement), instances);
+            }
+        }
+        this.renderInParallel(parallelChildElements, instances);
+    }
+
+    /**
+     * Renders the given sibling elements in parallel and adds the rendered instances in the order of the elements.
+     * <p>
+     * When called from a thread of the fork join pool, the tasks are forked in the current pool in order to let nested
+     * siblings be rendered in parallel too without blocking a worker.
+     * </p>
+     *
+     * @param elements
+     *            The elements to render
+     * @param instances
+     *            The rendered instances
+     */
+    private void renderInParallel(List<Element> elements, List<Object> instances) {
+        if (elements.size() == 1) {
+            this.addRenderedChildren(this.renderElement(elements.get(0)), instances);
+        } else if (elements.size() > 1) {
+            // @formatter:off
+            List<ForkJoinTask<Object>> tasks = elements.stream()
+                    .map(element -> ForkJoinTask.adapt(() -> this.renderElement(element)))
+                    .collect(Collectors.toList());
+            // @formatter:on
+
+            if (ForkJoinTask.getPool() == this.forkJoinPool) {
+                ForkJoinTask.invokeAll(tasks);
+            } else {
+                tasks.forEach(this.forkJoinPool::execute);
             }
+
+            for (ForkJoinTask<Object> task : tasks) {
+                this.addRenderedChildren(task.join(), instances);
+            }
+        }
+    }
+
+    private void addRenderedChildren(Object renderedChildren, List<Object> instances) {
+        if (renderedChildren instanceof List<?>) {
+            // In case a fragment contains another fragment
+            instances.addAll((List<?>) renderedChildren);
+        } else if (renderedChildren != null) {
+            // In case a fragment contains a regular element
+            instances.add(renderedChildren);
         }
     }
 
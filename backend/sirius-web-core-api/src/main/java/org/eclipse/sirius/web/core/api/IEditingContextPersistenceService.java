@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.core.api;
 
+import java.util.UUID;
+
 /**
  * Interface used to save the editing context when a change has been performed.
  *
@@ -19,4 +21,12 @@ package org.eclipse.sirius.web.core.api;
  */
 public interface IEditingContextPersistenceService {
     void persist(IEditingContext editingContext);
+
+    /**
+     * Writes the changes of the given editing context which may not have been written yet.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     */
+    void flush(UUID editingContextId);
 }
@@ -115,7 +115,7 @@ public class TestDiagramDescriptionBuilder {
         };
 
         Function<VariableManager, String> idProvider = variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
+            Object object = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
             if (object instanceof String) {
                 return this.getNodeId(nodeDescriptionId, (String) object);
             }
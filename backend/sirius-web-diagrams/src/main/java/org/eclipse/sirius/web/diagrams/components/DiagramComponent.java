@@ -65,7 +65,7 @@ public class DiagramComponent implements IComponent {
                             .nodeDescription(nodeDescription)
                             .nodesRequestor(nodesRequestor)
                             .containmentKind(NodeContainmentKind.CHILD_NODE)
-                            .cache(cache)
+                            .cache(cache.createSubtreeCache())
                             .viewCreationRequests(this.props.getViewCreationRequests())
                             .parentElementId(diagramId)
                             .build();
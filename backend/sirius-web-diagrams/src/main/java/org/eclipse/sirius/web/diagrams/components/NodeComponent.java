@@ -214,7 +214,7 @@ public class NodeComponent implements IComponent {
                     .nodeDescription(borderNodeDescription)
                     .nodesRequestor(borderNodesRequestor)
                     .containmentKind(NodeContainmentKind.BORDER_NODE)
-                    .cache(cache)
+                    .cache(cache.createSubtreeCache())
                     .viewCreationRequests(this.props.getViewCreationRequests())
                     .parentElementId(nodeId)
                     .build();
@@ -236,7 +236,7 @@ public class NodeComponent implements IComponent {
                     .nodeDescription(childNodeDescription)
                     .nodesRequestor(childNodesRequestor)
                     .containmentKind(NodeContainmentKind.CHILD_NODE)
-                    .cache(cache)
+                    .cache(cache.createSubtreeCache())
                     .viewCreationRequests(this.props.getViewCreationRequests())
                     .parentElementId(nodeId)
                     .build();
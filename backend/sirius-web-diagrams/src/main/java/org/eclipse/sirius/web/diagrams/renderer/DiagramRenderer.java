@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,10 +13,12 @@
 package org.eclipse.sirius.web.diagrams.renderer;
 
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.sirius.web.components.BaseRenderer;
 import org.eclipse.sirius.web.components.Element;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.components.NodeComponent;
 import org.slf4j.Logger;
 
 /**
@@ -27,6 +29,12 @@ import org.slf4j.Logger;
  * such as the instantiation of the diagram concrete types and the validation of the properties of both the diagram
  * elements and the diagram components.
  * </p>
+ * <p>
+ * The diagram renderer can also render the sibling node components in parallel using a fork join pool. The edges are
+ * still rendered once all the nodes have been rendered. In this mode, the semantic elements and the providers of the
+ * diagram description will be used concurrently, they should thus not be modified during the rendering and the
+ * providers should be thread safe. This mode should thus not be used with descriptions relying on an interpreter.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -38,6 +46,11 @@ public class DiagramRenderer {
         this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(logger), logger);
     }
 
+    public DiagramRenderer(Logger logger, ForkJoinPool forkJoinPool) {
+        this.baseRenderer = new BaseRenderer(new DiagramInstancePropsValidator(), new DiagramComponentPropsValidator(), new DiagramElementFactory(logger), logger, forkJoinPool,
+                element -> NodeComponent.class.equals(element.getType()));
+    }
+
     public Diagram render(Element element) {
         // @formatter:off
         return Optional.of(this.baseRenderer.renderElement(element))
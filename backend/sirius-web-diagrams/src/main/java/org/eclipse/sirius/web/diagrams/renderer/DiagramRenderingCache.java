@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.diagrams.renderer;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +25,13 @@ import org.eclipse.sirius.web.components.Element;
 
 /**
  * Cache used during the rendering of a diagram.
+ * <p>
+ * Each node component writes in its own subtree cache so that sibling subtrees can be rendered concurrently. The
+ * subtree caches are merged in the cache of the diagram, the first time it is read, in the order in which they have
+ * been created. This order matches the order of a sequential rendering, which keeps the result of the rendering stable
+ * whatever the number of threads used. As a result, the cache should only be read once all the nodes have been
+ * rendered.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -34,6 +43,22 @@ public class DiagramRenderingCache {
 
     private final Map<Object, List<Element>> objectToNodes = new HashMap<>();
 
+    private final List<DiagramRenderingCache> subtreeCaches = new ArrayList<>();
+
+    /**
+     * Creates the cache used to render a new subtree.
+     * <p>
+     * The subtree cache and its own subtree caches should only be written by the thread rendering this subtree.
+     * </p>
+     *
+     * @return The cache of the subtree
+     */
+    public DiagramRenderingCache createSubtreeCache() {
+        DiagramRenderingCache subtreeCache = new DiagramRenderingCache();
+        this.subtreeCaches.add(subtreeCache);
+        return subtreeCache;
+    }
+
     public void put(UUID nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -43,19 +68,50 @@ public class DiagramRenderingCache {
         this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).add(nodeElement);
     }
 
-    public Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
+    public synchronized Map<UUID, List<Element>> getNodeDescriptionIdToNodes() {
+        this.mergeSubtreeCaches();
         return this.nodeDescriptionIdToNodes;
     }
 
-    public Map<Element, Object> getNodeToObject() {
+    public synchronized Map<Element, Object> getNodeToObject() {
+        this.mergeSubtreeCaches();
         return this.nodeToObject;
     }
 
-    public List<Element> getElementsRepresenting(Object semanticObject) {
+    public synchronized List<Element> getElementsRepresenting(Object semanticObject) {
+        this.mergeSubtreeCaches();
         return this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
     }
 
-    public Map<Object, List<Element>> getObjectToNodes() {
+    public synchronized Map<Object, List<Element>> getObjectToNodes() {
+        this.mergeSubtreeCaches();
         return this.objectToNodes;
     }
+
+    /**
+     * Merges the content of all the subtree caches, using a depth first traversal, in this cache.
+     */
+    private void mergeSubtreeCaches() {
+        Deque<DiagramRenderingCache> caches = new ArrayDeque<>();
+        this.pushSubtreeCaches(this, caches);
+        this.subtreeCaches.clear();
+
+        while (!caches.isEmpty()) {
+            DiagramRenderingCache subtreeCache = caches.pop();
+            subtreeCache.nodeDescriptionIdToNodes.forEach((nodeDescriptionId, nodeElements) -> {
+                this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).addAll(nodeElements);
+            });
+            this.nodeToObject.putAll(subtreeCache.nodeToObject);
+            subtreeCache.objectToNodes.forEach((object, nodeElements) -> {
+                this.objectToNodes.computeIfAbsent(object, obj -> new ArrayList<>()).addAll(nodeElements);
+            });
+            this.pushSubtreeCaches(subtreeCache, caches);
+        }
+    }
+
+    private void pushSubtreeCaches(DiagramRenderingCache cache, Deque<DiagramRenderingCache> caches) {
+        for (int i = cache.subtreeCaches.size() - 1; i >= 0; i--) {
+            caches.push(cache.subtreeCaches.get(i));
+        }
+    }
 }
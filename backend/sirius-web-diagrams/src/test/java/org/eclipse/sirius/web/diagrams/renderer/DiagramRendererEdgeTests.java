@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -137,7 +138,38 @@ public class DiagramRendererEdgeTests {
         assertThat(diagram.getEdges().get(0).getId()).isNotEqualTo(diagram.getEdges().get(1).getId());
     }
 
+    /**
+     * Check that the parallel rendering of the nodes creates the same nodes and edges as the sequential rendering.
+     */
+    @Test
+    public void testParallelRendering() {
+        NodeDescription nodeDescription1 = this.getNodeDescription(NODE_DESCRIPTION_ID1);
+        NodeDescription nodeDescription2 = this.getNodeDescription(NODE_DESCRIPTION_ID2);
+        EdgeDescription edgeDescription1 = this.getEdgeDescription(nodeDescription1, EDGE_DESCRIPTION_ID);
+        EdgeDescription edgeDescription2 = this.getEdgeDescription(nodeDescription2, UUID.randomUUID());
+
+        List<NodeDescription> nodeDescriptions = List.of(nodeDescription1, nodeDescription2);
+        List<EdgeDescription> edgeDescriptions = List.of(edgeDescription1, edgeDescription2);
+
+        Diagram diagram = this.renderDiagram(nodeDescriptions, edgeDescriptions);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Diagram parallelDiagram = this.renderDiagram(nodeDescriptions, edgeDescriptions, new DiagramRenderer(this.logger, forkJoinPool));
+
+            assertThat(parallelDiagram.getNodes()).extracting(Node::getId).containsExactlyElementsOf(diagram.getNodes().stream().map(Node::getId).collect(Collectors.toList()));
+            assertThat(parallelDiagram.getEdges()).extracting(Edge::getId).containsExactlyElementsOf(diagram.getEdges().stream().map(Edge::getId).collect(Collectors.toList()));
+            assertThat(parallelDiagram.getEdges()).extracting(Edge::getSourceId).containsExactly(diagram.getNodes().get(0).getId(), diagram.getNodes().get(2).getId());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
     private Diagram renderDiagram(List<NodeDescription> nodeDescriptions, List<EdgeDescription> edgeDescriptions) {
+        return this.renderDiagram(nodeDescriptions, edgeDescriptions, new DiagramRenderer(this.logger));
+    }
+
+    private Diagram renderDiagram(List<NodeDescription> nodeDescriptions, List<EdgeDescription> edgeDescriptions, DiagramRenderer diagramRenderer) {
         // @formatter:off
         DiagramDescription diagramDescription = DiagramDescription.newDiagramDescription(DIAGRAM_DESCRIPTION_ID)
                 .label("") //$NON-NLS-1$
@@ -160,7 +192,7 @@ public class DiagramRendererEdgeTests {
                 .build();
         // @formatter:on
         Element element = new Element(DiagramComponent.class, props);
-        Diagram diagram = new DiagramRenderer(this.logger).render(element);
+        Diagram diagram = diagramRenderer.render(element);
         return diagram;
     }
 
@@ -12,9 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.compatibility;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -35,48 +33,69 @@ public class DomainClassPredicate implements Predicate<EObject> {
      */
     private static final Pattern SEPARATOR = Pattern.compile("(::?|\\.)"); //$NON-NLS-1$
 
-    private String domainClass;
+    private final String packageName;
 
-    public DomainClassPredicate(String domainClass) {
-        this.domainClass = Objects.requireNonNull(domainClass);
-    }
+    private final String className;
 
-    @Override
-    public boolean test(EObject eObject) {
-        String packageName = null;
-        String className = null;
+    public DomainClassPredicate(String domainClass) {
+        Objects.requireNonNull(domainClass);
 
-        if (!this.domainClass.isBlank()) {
-            Matcher matcher = SEPARATOR.matcher(this.domainClass);
+        String domainPackageName = null;
+        String domainClassName = null;
+        if (!domainClass.isBlank()) {
+            Matcher matcher = SEPARATOR.matcher(domainClass);
             if (matcher.find()) {
-                packageName = this.domainClass.substring(0, matcher.start());
-                className = this.domainClass.substring(matcher.end());
+                domainPackageName = domainClass.substring(0, matcher.start());
+                domainClassName = domainClass.substring(matcher.end());
             } else {
-                className = this.domainClass;
+                domainClassName = domainClass;
             }
+        }
+        this.packageName = domainPackageName;
+        this.className = domainClassName;
+    }
 
-            if (!("EObject".equals(className) && packageName == null) && !("EObject".equals(className) && "ecore".equals(packageName))) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-                boolean result = false;
-
-                List<EClass> eAllTypes = new ArrayList<>();
-                eAllTypes.add(eObject.eClass());
-                eAllTypes.addAll(eObject.eClass().getEAllSuperTypes());
+    @Override
+    public boolean test(EObject eObject) {
+        boolean result = true;
+        if (!this.isMatchingAllEObjects()) {
+            EClass eClass = eObject.eClass();
+            result = this.isMatching(eClass);
 
-                Iterator<EClass> iterator = eAllTypes.iterator();
-                while (iterator.hasNext() && !result) {
-                    EClass eClass = iterator.next();
-                    if (packageName == null && className != null) {
-                        // Only consider the class name
-                        result = className.equals(eClass.getName());
-                    } else if (packageName != null && className != null) {
-                        result = packageName.equals(eClass.getEPackage().getName()) && className.equals(eClass.getName());
-                    }
-                }
-                return result;
+            Iterator<EClass> iterator = eClass.getEAllSuperTypes().iterator();
+            while (iterator.hasNext() && !result) {
+                result = this.isMatching(iterator.next());
             }
         }
+        return result;
+    }
 
-        return true;
+    /**
+     * Indicates if all the objects are matching the domain class, for example if it is blank or if it is EObject.
+     *
+     * @return <code>true</code> if all the objects are matching the domain class, <code>false</code> otherwise
+     */
+    public boolean isMatchingAllEObjects() {
+        boolean isEObject = "EObject".equals(this.className) && (this.packageName == null || "ecore".equals(this.packageName)); //$NON-NLS-1$ //$NON-NLS-2$
+        return this.className == null || isEObject;
+    }
+
+    /**
+     * Indicates if the given EClass itself, regardless of its super types, is matching the domain class.
+     *
+     * @param eClass
+     *            An EClass
+     * @return <code>true</code> if the EClass is matching the domain class, <code>false</code> otherwise
+     */
+    public boolean isMatching(EClass eClass) {
+        boolean result = false;
+        if (this.packageName == null && this.className != null) {
+            // Only consider the class name
+            result = this.className.equals(eClass.getName());
+        } else if (this.packageName != null && this.className != null) {
+            result = this.packageName.equals(eClass.getEPackage().getName()) && this.className.equals(eClass.getName());
+        }
+        return result;
     }
 
 }
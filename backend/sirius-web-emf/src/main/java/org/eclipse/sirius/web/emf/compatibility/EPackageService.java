@@ -12,11 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.compatibility;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EPackage.Descriptor;
 import org.eclipse.emf.ecore.EPackage.Registry;
+import org.eclipse.sirius.web.emf.services.LayeredEPackageRegistry;
 
 /**
  * Services related to EPackages.
@@ -25,7 +27,12 @@ import org.eclipse.emf.ecore.EPackage.Registry;
  */
 public class EPackageService {
     public Optional<EPackage> findEPackage(Registry ePackageRegistry, String packageName) {
-        return ePackageRegistry.values().stream().map(value -> {
+        Collection<Object> values = ePackageRegistry.values();
+        if (ePackageRegistry instanceof LayeredEPackageRegistry) {
+            values = ((LayeredEPackageRegistry) ePackageRegistry).getAllValues();
+        }
+
+        return values.stream().map(value -> {
             EPackage ePackage = null;
             if (value instanceof EPackage.Descriptor) {
                 EPackage.Descriptor descriptor = (Descriptor) value;
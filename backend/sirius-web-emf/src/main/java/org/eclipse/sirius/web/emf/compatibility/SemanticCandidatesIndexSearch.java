@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.compatibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.web.emf.services.EClassInstancesIndex;
+import org.eclipse.sirius.web.representations.VariableManager;
+
+/**
+ * Used to find the semantic candidates of some well known expressions thanks to the {@link EClassInstancesIndex} of
+ * the resource set instead of evaluating them.
+ *
+ * <p>
+ * The following expressions are supported, with or without a type given to <code>eAllContents</code>:
+ * </p>
+ * <ul>
+ * <li><code>aql:self.eResource().getContents().eAllContents()</code></li>
+ * <li><code>aql:self.eAllContents()</code> if <code>self</code> is a root of its resource</li>
+ * </ul>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticCandidatesIndexSearch {
+
+    /**
+     * The pattern used to recognize the supported expressions, the first group matches the navigation to the content
+     * of the resource and the second one the type given to <code>eAllContents</code>.
+     */
+    private static final Pattern ALL_CONTENTS_PATTERN = Pattern.compile("aql:self(\\.eResource\\(\\)\\.getContents\\(\\))?\\.eAllContents\\(\\s*(\\w+(?:::\\w+)?)?\\s*\\)"); //$NON-NLS-1$
+
+    private final boolean isSupported;
+
+    private final boolean isResourceContents;
+
+    private final Optional<DomainClassPredicate> optionalTypePredicate;
+
+    public SemanticCandidatesIndexSearch(String semanticCandidatesExpression) {
+        Matcher matcher = ALL_CONTENTS_PATTERN.matcher(Objects.requireNonNull(semanticCandidatesExpression).trim());
+
+        boolean matches = matcher.matches();
+        boolean resourceContents = false;
+        String typeName = null;
+        if (matches) {
+            resourceContents = matcher.group(1) != null;
+            typeName = matcher.group(2);
+        }
+        this.isSupported = matches;
+        this.isResourceContents = resourceContents;
+        this.optionalTypePredicate = Optional.ofNullable(typeName).map(DomainClassPredicate::new);
+    }
+
+    /**
+     * Finds the semantic candidates matching the given domain class using the index of the resource set.
+     *
+     * @param variableManager
+     *            The variable manager used to evaluate the expression
+     * @param domainClassPredicate
+     *            The predicate of the domain class of the candidates
+     * @return The semantic candidates or an empty optional if the expression has to be evaluated
+     */
+    public Optional<List<EObject>> findCandidates(VariableManager variableManager, DomainClassPredicate domainClassPredicate) {
+        Optional<List<EObject>> optionalCandidates = Optional.empty();
+
+        var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
+        var optionalIndex = optionalSelf.map(EObject::eResource).map(Resource::getResourceSet).flatMap(this::getIndex);
+        if (this.isSupported && optionalSelf.isPresent() && optionalIndex.isPresent()) {
+            EObject self = optionalSelf.get();
+            EClassInstancesIndex index = optionalIndex.get();
+
+            if (this.isResourceContents) {
+                List<EObject> candidates = new ArrayList<>();
+                for (EObject root : self.eResource().getContents()) {
+                    candidates.addAll(this.getAllContents(index, root, domainClassPredicate));
+                }
+                optionalCandidates = Optional.of(candidates);
+            } else if (self.eContainer() == null) {
+                optionalCandidates = Optional.of(this.getAllContents(index, self, domainClassPredicate));
+            }
+        }
+        return optionalCandidates;
+    }
+
+    private List<EObject> getAllContents(EClassInstancesIndex index, EObject root, DomainClassPredicate domainClassPredicate) {
+        List<EObject> allContents = index.getAllContents(root, this.optionalTypePredicate.orElse(domainClassPredicate));
+        if (this.optionalTypePredicate.isPresent() && !domainClassPredicate.isMatchingAllEObjects()) {
+            allContents = allContents.stream().filter(domainClassPredicate).collect(Collectors.toList());
+        }
+        return allContents;
+    }
+
+    private Optional<EClassInstancesIndex> getIndex(ResourceSet resourceSet) {
+        // @formatter:off
+        return resourceSet.eAdapters().stream()
+                .filter(EClassInstancesIndex.class::isInstance)
+                .map(EClassInstancesIndex.class::cast)
+                .findFirst();
+        // @formatter:on
+    }
+}
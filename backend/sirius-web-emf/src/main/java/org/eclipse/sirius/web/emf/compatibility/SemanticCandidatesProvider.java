@@ -13,9 +13,7 @@
 package org.eclipse.sirius.web.emf.compatibility;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -50,6 +48,8 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
 
     private String preconditionExpression;
 
+    private SemanticCandidatesIndexSearch semanticCandidatesIndexSearch;
+
     public SemanticCandidatesProvider(AQLInterpreter interpreter, String domainClass, String semanticCandidatesExpression, String preconditionExpression) {
         this.interpreter = Objects.requireNonNull(interpreter);
         this.domainClass = Objects.requireNonNull(domainClass);
@@ -59,32 +59,34 @@ public class SemanticCandidatesProvider implements Function<VariableManager, Lis
             this.semanticCandidatesExpression = Objects.requireNonNull(semanticCandidatesExpression);
         }
         this.preconditionExpression = Objects.requireNonNull(preconditionExpression);
+        this.semanticCandidatesIndexSearch = new SemanticCandidatesIndexSearch(this.semanticCandidatesExpression);
     }
 
     @Override
     public List<Object> apply(VariableManager variableManager) {
         List<Object> semanticCandidates = new ArrayList<>();
 
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.semanticCandidatesExpression);
-
         DomainClassPredicate domainClassPredicate = new DomainClassPredicate(this.domainClass);
 
-        // @formatter:off
-        List<EObject> eObjects = result.asObjects().orElse(List.of()).stream()
-                .filter(EObject.class::isInstance)
-                .map(EObject.class::cast)
-                .filter(domainClassPredicate::test)
-                .collect(Collectors.toList());
-        // @formatter:on
+        List<EObject> eObjects = this.semanticCandidatesIndexSearch.findCandidates(variableManager, domainClassPredicate).orElseGet(() -> {
+            Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), this.semanticCandidatesExpression);
 
-        for (EObject eObject : eObjects) {
-            // Retrieve all the variables and overwrite the variable self
-            Map<String, Object> variables = new HashMap<>();
-            variables.putAll(variableManager.getVariables());
-            variables.put(VariableManager.SELF, eObject);
+            // @formatter:off
+            return result.asObjects().orElse(List.of()).stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .filter(domainClassPredicate::test)
+                    .collect(Collectors.toList());
+            // @formatter:on
+        });
 
+        for (EObject eObject : eObjects) {
             if (!this.preconditionExpression.isBlank()) {
-                Result preconditionResult = this.interpreter.evaluateExpression(variables, this.preconditionExpression);
+                // Overwrite the variable self without copying the other variables
+                VariableManager childVariableManager = variableManager.createChild();
+                childVariableManager.put(VariableManager.SELF, eObject);
+
+                Result preconditionResult = this.interpreter.evaluateExpression(childVariableManager.getReadOnlyVariables(), this.preconditionExpression);
                 preconditionResult.asBoolean().ifPresent(isValid -> {
                     if (isValid) {
                         semanticCandidates.add(eObject);
@@ -97,7 +97,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, List<Object>> getOptionsProvider() {
         return variableManager -> {
-            Object feature = variableManager.getVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object feature = variableManager.getReadOnlyVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
             if (feature instanceof EAttribute) {
                 EDataType eEnum = ((EAttribute) feature).getEAttributeType();
                 if (eEnum instanceof EEnum) {
@@ -114,7 +114,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object litteral = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object litteral = variableManager.getReadOnlyVariables().get(SelectComponent.CANDIDATE_VARIABLE);
             if (litteral instanceof Enumerator) {
                 return Integer.valueOf(((Enumerator) litteral).getValue()).toString();
             }
@@ -124,7 +124,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionLabelProvider() {
         return variableManager -> {
-            Object litteral = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object litteral = variableManager.getReadOnlyVariables().get(SelectComponent.CANDIDATE_VARIABLE);
             if (litteral instanceof Enumerator) {
                 return ((Enumerator) litteral).getName();
             }
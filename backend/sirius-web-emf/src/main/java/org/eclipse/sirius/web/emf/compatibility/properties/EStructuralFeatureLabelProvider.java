@@ -41,8 +41,8 @@ public class EStructuralFeatureLabelProvider implements Function<VariableManager
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object object = variableManager.getVariables().get(VariableManager.SELF);
-        Object feature = variableManager.getVariables().get(this.featureVariableName);
+        Object object = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
+        Object feature = variableManager.getReadOnlyVariables().get(this.featureVariableName);
 
         if (object instanceof EObject && feature instanceof EStructuralFeature) {
             EObject eObject = (EObject) object;
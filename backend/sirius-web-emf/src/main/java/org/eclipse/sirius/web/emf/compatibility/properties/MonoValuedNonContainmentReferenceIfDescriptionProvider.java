@@ -127,8 +127,8 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getValueProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(VariableManager.SELF);
-            Object eStructuralFeature = variableManager.getVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object object = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
+            Object eStructuralFeature = variableManager.getReadOnlyVariables().get(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE);
 
             if (object instanceof EObject && eStructuralFeature instanceof EReference) {
                 EObject eObject = (EObject) object;
@@ -149,7 +149,7 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getReadOnlyVariables().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectId = this.objectService.getId(object);
             return objectId;
         };
@@ -157,7 +157,7 @@ public class MonoValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionLabelProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getReadOnlyVariables().get(SelectComponent.CANDIDATE_VARIABLE);
             String objectLabel = this.objectService.getFullLabel(object);
             return objectLabel;
         };
@@ -116,7 +116,7 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getItemIdProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getReadOnlyVariables().get(ListComponent.CANDIDATE_VARIABLE);
             String objectId = this.objectService.getId(object);
             return objectId;
         };
@@ -124,7 +124,7 @@ public class MultiValuedNonContainmentReferenceIfDescriptionProvider {
 
     private Function<VariableManager, String> getItemLabelProvider() {
         return variableManager -> {
-            Object object = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+            Object object = variableManager.getReadOnlyVariables().get(ListComponent.CANDIDATE_VARIABLE);
             String objectLabel = this.objectService.getFullLabel(object);
             return objectLabel;
         };
@@ -70,7 +70,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
 
         // @formatter:off
         Function<VariableManager, String> labelProvider = variableManager -> {
-            return Optional.ofNullable(variableManager.getVariables().get(VariableManager.SELF))
+            return Optional.ofNullable(variableManager.getReadOnlyVariables().get(VariableManager.SELF))
                     .map(this.objectService::getFullLabel)
                     .orElse("Properties"); //$NON-NLS-1$
         };
@@ -96,7 +96,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         return PageDescription.newPageDescription("firstPageId") //$NON-NLS-1$
                 .idProvider(variableManager -> "Main") //$NON-NLS-1$
                 .labelProvider(variableManager -> "Main") //$NON-NLS-1$
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getReadOnlyVariables().get(VariableManager.SELF)))
                 .groupDescriptions(groupDescriptions)
                 .canCreatePredicate(variableManager -> true)
                 .build();
@@ -109,7 +109,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         Function<VariableManager, List<Object>> iterableProvider = variableManager -> {
             List<Object> objects = new ArrayList<>();
 
-            Object self = variableManager.getVariables().get(VariableManager.SELF);
+            Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
             if (self instanceof EObject) {
                 EObject eObject = (EObject) self;
 
@@ -163,7 +163,7 @@ public class PropertiesDefaultDescriptionProvider implements IPropertiesDefaultD
         return GroupDescription.newGroupDescription("groupId") //$NON-NLS-1$
                 .idProvider(variableManager -> "Core Properties") //$NON-NLS-1$
                 .labelProvider(variableManager -> "Core Properties") //$NON-NLS-1$
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getReadOnlyVariables().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
         // @formatter:on
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.emf.services;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.eclipse.emf.ecore.EClass;
@@ -46,8 +47,13 @@ public class ClassIdService {
     }
 
     public Optional<EPackage> findEPackage(EPackage.Registry ePackageRegistry, String ePackageName) {
+        Collection<Object> values = ePackageRegistry.values();
+        if (ePackageRegistry instanceof LayeredEPackageRegistry) {
+            values = ((LayeredEPackageRegistry) ePackageRegistry).getAllValues();
+        }
+
         // @formatter:off
-        return ePackageRegistry.values().stream()
+        return values.stream()
                 .map(object -> {
                     if (object instanceof EPackage.Descriptor) {
                         return ((EPackage.Descriptor) object).getEPackage();
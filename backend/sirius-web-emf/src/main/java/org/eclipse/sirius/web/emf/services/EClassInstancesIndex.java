@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.web.emf.compatibility.DomainClassPredicate;
+
+/**
+ * Adapter installed on the resource set of an editing context to find the instances of an EClass without walking the
+ * whole content of the resources.
+ *
+ * <p>
+ * The instances are indexed by root object, using their EClass and all its super types, in the order of
+ * <code>eAllContents()</code> in order to return the same elements in the same order as a regular traversal. The index
+ * of a root is computed the first time it is used and it is discarded as soon as an object is added to or removed from
+ * one of its containment references.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstancesIndex extends EContentAdapter {
+
+    private final Map<EObject, RootIndex> rootIndexes = new HashMap<>();
+
+    /**
+     * Returns the content of the given root object matching the given domain class.
+     *
+     * @param root
+     *            The root object
+     * @param domainClassPredicate
+     *            The predicate used to match the domain class of the objects
+     * @return The objects of <code>root.eAllContents()</code> matching the domain class, in the same order
+     */
+    public synchronized List<EObject> getAllContents(EObject root, DomainClassPredicate domainClassPredicate) {
+        return this.rootIndexes.computeIfAbsent(root, RootIndex::new).getInstances(domainClassPredicate);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            Object feature = notification.getFeature();
+            if (notifier instanceof EObject && feature instanceof EReference && ((EReference) feature).isContainment()) {
+                this.invalidate(EcoreUtil.getRootContainer((EObject) notifier));
+            } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                this.invalidate(notification.getOldValue());
+            } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.invalidate(notification.getOldValue());
+            }
+        }
+    }
+
+    private synchronized void invalidate(Object oldValue) {
+        if (oldValue instanceof EObject) {
+            this.rootIndexes.remove(oldValue);
+        } else if (oldValue instanceof Resource) {
+            ((Resource) oldValue).getContents().forEach(this.rootIndexes::remove);
+        } else if (oldValue instanceof Collection<?>) {
+            ((Collection<?>) oldValue).forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * The instances contained in a root object.
+     *
+     * @author sbegaudeau
+     */
+    private static final class RootIndex {
+
+        private final List<EObject> allContents = new ArrayList<>();
+
+        private final Map<EClass, List<EObject>> eClassToInstances = new LinkedHashMap<>();
+
+        RootIndex(EObject root) {
+            root.eAllContents().forEachRemaining(eObject -> {
+                this.allContents.add(eObject);
+
+                EClass eClass = eObject.eClass();
+                this.eClassToInstances.computeIfAbsent(eClass, key -> new ArrayList<>()).add(eObject);
+                for (EClass superType : eClass.getEAllSuperTypes()) {
+                    this.eClassToInstances.computeIfAbsent(superType, key -> new ArrayList<>()).add(eObject);
+                }
+            });
+        }
+
+        public List<EObject> getInstances(DomainClassPredicate domainClassPredicate) {
+            List<EObject> instances = this.allContents;
+            if (!domainClassPredicate.isMatchingAllEObjects()) {
+                // @formatter:off
+                List<EClass> eClasses = this.eClassToInstances.keySet().stream()
+                        .filter(domainClassPredicate::isMatching)
+                        .collect(Collectors.toList());
+                // @formatter:on
+
+                if (eClasses.isEmpty()) {
+                    instances = List.of();
+                } else if (eClasses.size() == 1) {
+                    instances = this.eClassToInstances.get(eClasses.get(0));
+                } else {
+                    // Several EClasses with the same name, the content is filtered to keep the order of the traversal
+                    instances = this.allContents.stream().filter(domainClassPredicate).collect(Collectors.toList());
+                }
+            }
+            return Collections.unmodifiableList(instances);
+        }
+    }
+}
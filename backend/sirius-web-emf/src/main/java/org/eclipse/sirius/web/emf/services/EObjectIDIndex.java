@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Adapter installed on the resource set of an editing context to find its objects by id without looking into every
+ * resource.
+ *
+ * <p>
+ * The objects are indexed using the id of their {@link IDAdapter} when they are added in the resource set and they are
+ * removed from the index when they leave it. Since the id of an object can be changed without any notification, the id
+ * of an object found in the index is always checked and the objects found by other means can be registered again.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIDIndex extends EContentAdapter {
+
+    private final Map<String, EObject> idToEObject = new ConcurrentHashMap<>();
+
+    private final EObjectIDManager idManager = new EObjectIDManager();
+
+    /**
+     * Returns the object with the given id.
+     *
+     * @param id
+     *            The id of the object
+     * @return The object or an empty optional if the index does not contain an object with this id
+     */
+    public Optional<EObject> getEObject(String id) {
+        Optional<EObject> optionalEObject = Optional.ofNullable(this.idToEObject.get(id));
+        if (optionalEObject.isPresent() && !optionalEObject.flatMap(this.idManager::findId).filter(id::equals).isPresent()) {
+            this.idToEObject.remove(id, optionalEObject.get());
+            optionalEObject = Optional.empty();
+        }
+        return optionalEObject;
+    }
+
+    /**
+     * Registers the given object, contained in the resource set, with its current id.
+     *
+     * @param eObject
+     *            The object
+     */
+    public void register(EObject eObject) {
+        this.idManager.findId(eObject).ifPresent(id -> this.idToEObject.put(id, eObject));
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.register(target);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.idManager.findId(target).ifPresent(id -> this.idToEObject.remove(id, target));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.emf.services;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.emfjson.resource.IDManager;
 
@@ -104,12 +105,13 @@ public class EObjectIDManager implements IDManager {
      * @return The attached {@link IDAdapter} or {@link Optional#empty()} otherwise
      */
     private Optional<IDAdapter> findAdapter(EObject eObject) {
-        // @formatter:off
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst();
-        // @formatter:on
+        // This method is called for every object whose id is needed, a simple loop avoids the creation of a stream
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter) {
+                return Optional.of((IDAdapter) adapter);
+            }
+        }
+        return Optional.empty();
     }
 
 }
@@ -32,7 +32,6 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
-import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
@@ -96,8 +95,7 @@ public class EditService implements IEditService {
     }
 
     private EPackage.Registry getPackageRegistry(UUID editingContextId) {
-        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
-        this.globalEPackageRegistry.forEach(ePackageRegistry::put);
+        EPackage.Registry ePackageRegistry = new LayeredEPackageRegistry(this.globalEPackageRegistry);
         List<EPackage> additionalEPackages = this.editingContextEPackageService.getEPackages(editingContextId);
         additionalEPackages.forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
         return ePackageRegistry;
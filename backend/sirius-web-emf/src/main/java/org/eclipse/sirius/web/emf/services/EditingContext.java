@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.emf.services;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
@@ -29,9 +30,18 @@ public class EditingContext implements IEditingContext {
 
     private final AdapterFactoryEditingDomain editingDomain;
 
+    private final EObjectIDIndex idIndex;
+
     public EditingContext(UUID projectId, AdapterFactoryEditingDomain editingDomain) {
         this.projectId = Objects.requireNonNull(projectId);
         this.editingDomain = Objects.requireNonNull(editingDomain);
+        // @formatter:off
+        this.idIndex = editingDomain.getResourceSet().eAdapters().stream()
+                .filter(EObjectIDIndex.class::isInstance)
+                .map(EObjectIDIndex.class::cast)
+                .findFirst()
+                .orElse(null);
+        // @formatter:on
     }
 
     @Override
@@ -43,4 +53,14 @@ public class EditingContext implements IEditingContext {
         return this.editingDomain;
     }
 
+    /**
+     * Returns the id index installed on the resource set of the editing domain. It is looked up once, when the editing
+     * context is created, since it is needed each time an object is retrieved.
+     *
+     * @return The id index or an empty optional if the resource set did not have one
+     */
+    public Optional<EObjectIDIndex> getIDIndex() {
+        return Optional.ofNullable(this.idIndex);
+    }
+
 }
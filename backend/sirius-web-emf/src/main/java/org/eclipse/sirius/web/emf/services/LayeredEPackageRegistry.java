@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+
+/**
+ * Package registry containing the packages of an editing context and delegating to a shared registry for the others.
+ *
+ * <p>
+ * Unlike a copy of the shared registry, this registry can be created for each editing context without duplicating the
+ * entries of the shared registry. Since {@link #values()} only returns the local entries, the lookups by name should
+ * rely on {@link #getAllValues()}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LayeredEPackageRegistry extends EPackageRegistryImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    public LayeredEPackageRegistry(EPackage.Registry delegateRegistry) {
+        super(Objects.requireNonNull(delegateRegistry));
+    }
+
+    public EPackage.Registry getDelegateRegistry() {
+        return this.delegateRegistry;
+    }
+
+    /**
+     * Returns the values of this registry followed by the values of the delegate registry which are not overridden
+     * locally.
+     *
+     * @return The values of this registry and of its delegate
+     */
+    public Collection<Object> getAllValues() {
+        // @formatter:off
+        Stream<Object> delegateValues = this.delegateRegistry.entrySet().stream()
+                .filter(entry -> !this.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue);
+        // @formatter:on
+        return Stream.concat(this.values().stream(), delegateValues).collect(Collectors.toList());
+    }
+}
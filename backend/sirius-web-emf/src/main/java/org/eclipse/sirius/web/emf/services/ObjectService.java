@@ -28,7 +28,6 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.ComposedImage;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
@@ -86,15 +85,13 @@ public class ObjectService implements IObjectService {
     }
 
     private String getIdFromIDAdapter(EObject eObject) {
-        // @formatter:off
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst()
-                .map(IDAdapter::getId)
-                .map(Object::toString)
-                .orElse(null);
-        // @formatter:on
+        // This method is called for every rendered object, a simple loop avoids the creation of a stream
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter) {
+                return ((IDAdapter) adapter).getId().toString();
+            }
+        }
+        return null;
     }
 
     private String getIdFromURIFragment(EObject eObject) {
@@ -188,35 +185,51 @@ public class ObjectService implements IObjectService {
         return Optional.of(editingContext)
                 .filter(EditingContext.class::isInstance)
                 .map(EditingContext.class::cast)
-                .map(EditingContext::getDomain)
-                .map(EditingDomain::getResourceSet)
-                .flatMap(resourceSet -> {
-                    Optional<EObject> optionalEObject = Optional.empty();
-
-                    int index = objectId.indexOf(ID_SEPARATOR);
-                    if (index != -1) {
-                        String resourceLastSegment = objectId.substring(0, index);
-                        String eObjectURIFragment = objectId.substring(index + ID_SEPARATOR.length());
-                        optionalEObject = resourceSet.getResources().stream()
-                                .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
-                                .map(resource -> resource.getEObject(eObjectURIFragment));
-                    } else {
-                        optionalEObject = resourceSet.getResources().stream()
-                                .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
-                                .findFirst();
-                    }
-
-                    // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
-                    if (!optionalEObject.isPresent()) {
-                        URI uri = URI.createURI(objectId);
-                        EObject eObject = resourceSet.getEObject(uri, false);
-                        optionalEObject = Optional.ofNullable(eObject);
+                .flatMap(emfEditingContext -> {
+                    ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+                    var optionalIndex = emfEditingContext.getIDIndex();
+                    Optional<EObject> optionalEObject = optionalIndex.flatMap(index -> index.getEObject(objectId));
+                    if (optionalEObject.isEmpty()) {
+                        optionalEObject = this.findObject(resourceSet, objectId);
+
+                        // Objects whose id has changed since they have been added in the resource set are registered again
+                        optionalEObject.filter(eObject -> objectId.equals(this.getIdFromIDAdapter(eObject)))
+                                .ifPresent(eObject -> optionalIndex.ifPresent(index -> index.register(eObject)));
                     }
                     return optionalEObject;
                 });
         // @formatter:on
     }
 
+    private Optional<EObject> findObject(ResourceSet resourceSet, String objectId) {
+        Optional<EObject> optionalEObject = Optional.empty();
+
+        int index = objectId.indexOf(ID_SEPARATOR);
+        if (index != -1) {
+            String resourceLastSegment = objectId.substring(0, index);
+            String eObjectURIFragment = objectId.substring(index + ID_SEPARATOR.length());
+            // @formatter:off
+            optionalEObject = resourceSet.getResources().stream()
+                    .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
+                    .map(resource -> resource.getEObject(eObjectURIFragment));
+            // @formatter:on
+        } else {
+            // @formatter:off
+            optionalEObject = resourceSet.getResources().stream()
+                    .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
+                    .findFirst();
+            // @formatter:on
+        }
+
+        // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
+        if (!optionalEObject.isPresent()) {
+            URI uri = URI.createURI(objectId);
+            EObject eObject = resourceSet.getEObject(uri, false);
+            optionalEObject = Optional.ofNullable(eObject);
+        }
+        return optionalEObject;
+    }
+
     @Override
     public List<Object> getContents(IEditingContext editingContext, String objectId) {
         List<Object> contents = new ArrayList<>();
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Adapter installed on the resource set of an editing context to record the semantic elements modified while an input
+ * is being handled.
+ *
+ * <p>
+ * The objects and resources removed from their container are recorded too. Since they may have been added somewhere
+ * else afterwards, for example if they have been moved, one should check if they are still in the resource set before
+ * considering that they have been deleted.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangesAdapter extends EContentAdapter {
+
+    private final Map<EObject, Set<String>> changedFeatures = new LinkedHashMap<>();
+
+    private final Set<Notifier> removedNotifiers = new LinkedHashSet<>();
+
+    private boolean structuralChange;
+
+    private boolean recording;
+
+    public void startRecording() {
+        this.changedFeatures.clear();
+        this.removedNotifiers.clear();
+        this.structuralChange = false;
+        this.recording = true;
+    }
+
+    public void stopRecording() {
+        this.recording = false;
+    }
+
+    public Map<EObject, Set<String>> getChangedFeatures() {
+        return Collections.unmodifiableMap(this.changedFeatures);
+    }
+
+    public boolean isStructuralChange() {
+        return this.structuralChange;
+    }
+
+    public Set<Notifier> getRemovedNotifiers() {
+        return Collections.unmodifiableSet(this.removedNotifiers);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (this.recording && !notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            Object feature = notification.getFeature();
+            if (notifier instanceof EObject && feature instanceof EStructuralFeature) {
+                EStructuralFeature eStructuralFeature = (EStructuralFeature) feature;
+                this.changedFeatures.computeIfAbsent((EObject) notifier, eObject -> new LinkedHashSet<>()).add(eStructuralFeature.getName());
+                if (eStructuralFeature instanceof EReference && ((EReference) eStructuralFeature).isContainment()) {
+                    this.structuralChange = true;
+                    this.recordRemovedNotifiers(notification);
+                }
+            } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                this.structuralChange = true;
+                this.recordRemovedNotifiers(notification);
+            } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.structuralChange = true;
+                this.recordRemovedNotifiers(notification);
+            }
+        }
+    }
+
+    private void recordRemovedNotifiers(Notification notification) {
+        Object oldValue = notification.getOldValue();
+        if (oldValue instanceof Notifier) {
+            this.removedNotifiers.add((Notifier) oldValue);
+        } else if (oldValue instanceof Collection<?>) {
+            for (Object value : (Collection<?>) oldValue) {
+                if (value instanceof Notifier) {
+                    this.removedNotifiers.add((Notifier) value);
+                }
+            }
+        }
+    }
+}
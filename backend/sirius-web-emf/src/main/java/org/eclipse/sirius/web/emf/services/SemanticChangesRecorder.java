@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.web.collaborative.api.services.ISemanticChangesRecorder;
+import org.eclipse.sirius.web.collaborative.api.services.SemanticChanges;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records the semantic changes performed in an EMF based editing context thanks to a {@link SemanticChangesAdapter}
+ * installed on its resource set the first time a recording is started.
+ *
+ * <p>
+ * The modified semantic elements are only reported if the selective refresh of the representations has been enabled
+ * with the property <code>org.eclipse.sirius.web.features.selectiveRefresh</code>. In this case, the representations
+ * will only be refreshed if the changes performed may have an impact on the semantic elements that they are
+ * displaying. Otherwise, all the changes are reported as structural changes in order to refresh every representation.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticChangesRecorder implements ISemanticChangesRecorder {
+
+    private final IObjectService objectService;
+
+    private final boolean isSelectiveRefreshEnabled;
+
+    public SemanticChangesRecorder(IObjectService objectService, @Value("${org.eclipse.sirius.web.features.selectiveRefresh:false}") boolean isSelectiveRefreshEnabled) {
+        this.objectService = Objects.requireNonNull(objectService);
+        this.isSelectiveRefreshEnabled = isSelectiveRefreshEnabled;
+    }
+
+    @Override
+    public void startRecording(IEditingContext editingContext) {
+        this.getResourceSet(editingContext).ifPresent(resourceSet -> {
+            SemanticChangesAdapter adapter = this.getAdapter(resourceSet).orElse(null);
+            if (adapter == null) {
+                adapter = new SemanticChangesAdapter();
+                resourceSet.eAdapters().add(adapter);
+            }
+            adapter.startRecording();
+        });
+    }
+
+    @Override
+    public Optional<SemanticChanges> stopRecording(IEditingContext editingContext) {
+        return this.getResourceSet(editingContext).flatMap(resourceSet -> this.getAdapter(resourceSet).map(adapter -> {
+            adapter.stopRecording();
+
+            Map<String, Set<String>> changedFeatures = new LinkedHashMap<>();
+            if (this.isSelectiveRefreshEnabled) {
+                adapter.getChangedFeatures().forEach((eObject, featureNames) -> {
+                    String id = this.objectService.getId(eObject);
+                    if (id != null) {
+                        changedFeatures.put(id, Set.copyOf(featureNames));
+                    }
+                });
+            }
+            boolean structuralChange = adapter.isStructuralChange() || !this.isSelectiveRefreshEnabled;
+            Set<String> removedObjectIds = new LinkedHashSet<>();
+            // @formatter:off
+            adapter.getRemovedNotifiers().stream()
+                    .filter(notifier -> this.isRemoved(notifier, resourceSet))
+                    .forEach(notifier -> this.collectRemovedObjectIds(notifier, removedObjectIds));
+            // @formatter:on
+            return new SemanticChanges(changedFeatures, structuralChange, removedObjectIds);
+        }));
+    }
+
+    /**
+     * Indicates if an object or a resource which has been removed from its container has not been added back in the
+     * resource set afterwards.
+     */
+    private boolean isRemoved(Notifier notifier, ResourceSet resourceSet) {
+        Resource resource = null;
+        if (notifier instanceof EObject) {
+            resource = ((EObject) notifier).eResource();
+        } else if (notifier instanceof Resource) {
+            resource = (Resource) notifier;
+        }
+        return resource == null || resource.getResourceSet() != resourceSet;
+    }
+
+    /**
+     * Collects the identifiers of a removed object and of all its content, or of all the content of a removed resource.
+     */
+    private void collectRemovedObjectIds(Notifier notifier, Set<String> removedObjectIds) {
+        Iterator<EObject> iterator = null;
+        if (notifier instanceof EObject) {
+            this.addId((EObject) notifier, removedObjectIds);
+            iterator = ((EObject) notifier).eAllContents();
+        } else if (notifier instanceof Resource) {
+            iterator = ((Resource) notifier).getAllContents();
+        }
+        while (iterator != null && iterator.hasNext()) {
+            this.addId(iterator.next(), removedObjectIds);
+        }
+    }
+
+    private void addId(EObject eObject, Set<String> removedObjectIds) {
+        String id = this.objectService.getId(eObject);
+        if (id != null) {
+            removedObjectIds.add(id);
+        }
+    }
+
+    private Optional<ResourceSet> getResourceSet(IEditingContext editingContext) {
+        // @formatter:off
+        return Optional.of(editingContext)
+                .filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast)
+                .map(EditingContext::getDomain)
+                .map(EditingDomain::getResourceSet);
+        // @formatter:on
+    }
+
+    private Optional<SemanticChangesAdapter> getAdapter(ResourceSet resourceSet) {
+        // @formatter:off
+        return resourceSet.eAdapters().stream()
+                .filter(SemanticChangesAdapter.class::isInstance)
+                .map(SemanticChangesAdapter.class::cast)
+                .findFirst();
+        // @formatter:on
+    }
+}
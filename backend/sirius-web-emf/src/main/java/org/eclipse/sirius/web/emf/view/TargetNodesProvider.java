@@ -58,7 +58,7 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
         DiagramRenderingCache cache = optionalCache.get();
 
         // @formatter:off
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.edgeDescription.getTargetNodesExpression());
+        Result result = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), this.edgeDescription.getTargetNodesExpression());
         return result.asObjects().orElse(List.of()).stream()
                 .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
                 .filter(this.isFromCompatibleTargetMapping())
@@ -111,7 +111,7 @@ public class ToolInterpreter {
     }
 
     private Optional<VariableManager> executeChangeContext(VariableManager variableManager, ChangeContext changeContextOperation) {
-        Optional<Object> newContext = this.interpreter.evaluateExpression(variableManager.getVariables(), changeContextOperation.getExpression()).asObject();
+        Optional<Object> newContext = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), changeContextOperation.getExpression()).asObject();
         if (newContext.isPresent()) {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VariableManager.SELF, newContext.get());
@@ -124,7 +124,7 @@ public class ToolInterpreter {
     private Optional<VariableManager> executeSetValue(VariableManager variableManager, SetValue setValueOperation) {
         var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
         if (optionalSelf.isPresent()) {
-            Result newValue = this.interpreter.evaluateExpression(variableManager.getVariables(), setValueOperation.getValueExpression());
+            Result newValue = this.interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), setValueOperation.getValueExpression());
             if (newValue.asObject().isPresent()) {
                 Object instance = this.ecore.eAdd(optionalSelf.get(), setValueOperation.getFeatureName(), newValue.asObject().get());
                 if (instance != null) {
@@ -141,7 +141,7 @@ public class ToolInterpreter {
             var self = optionalSelf.get();
             EStructuralFeature feature = self.eClass().getEStructuralFeature(unsetValueOperation.getFeatureName());
             if (feature != null) {
-                List<EObject> elementsToUnset = this.computeElementsToUnset(variableManager.getVariables(), unsetValueOperation.getElementExpression());
+                List<EObject> elementsToUnset = this.computeElementsToUnset(variableManager.getReadOnlyVariables(), unsetValueOperation.getElementExpression());
                 this.unset(self, feature, elementsToUnset);
                 return this.executeOperations(unsetValueOperation.getChildren(), variableManager);
             }
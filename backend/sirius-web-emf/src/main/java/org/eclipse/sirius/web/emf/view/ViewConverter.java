@@ -47,6 +47,7 @@ import org.eclipse.sirius.web.diagrams.tools.EdgeCandidate;
 import org.eclipse.sirius.web.diagrams.tools.ITool;
 import org.eclipse.sirius.web.diagrams.tools.ToolSection;
 import org.eclipse.sirius.web.emf.compatibility.DomainClassPredicate;
+import org.eclipse.sirius.web.emf.compatibility.SemanticCandidatesIndexSearch;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
 import org.eclipse.sirius.web.representations.IRepresentationDescription;
@@ -237,7 +238,7 @@ public class ViewConverter {
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private List<ToolSection> createToolSections(AQLInterpreter interpreter) {
@@ -339,16 +340,21 @@ public class ViewConverter {
     }
 
     private Function<VariableManager, List<Object>> getSemanticElementsProvider(org.eclipse.sirius.web.view.DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
+        String semanticCandidatesExpression = Optional.ofNullable(elementDescription.getSemanticCandidatesExpression()).orElse(""); //$NON-NLS-1$
+        SemanticCandidatesIndexSearch semanticCandidatesIndexSearch = new SemanticCandidatesIndexSearch(semanticCandidatesExpression);
+        DomainClassPredicate domainClassPredicate = new DomainClassPredicate(Optional.ofNullable(elementDescription.getDomainType()).orElse("")); //$NON-NLS-1$
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
-            List<Object> candidates = result.asObjects().orElse(List.of());
-            // @formatter:off
-            return candidates.stream()
-                    .filter(EObject.class::isInstance)
-                    .map(EObject.class::cast)
-                    .filter(candidate -> new DomainClassPredicate(Optional.ofNullable(elementDescription.getDomainType()).orElse("")).test(candidate)) //$NON-NLS-1$
-                    .collect(Collectors.toList());
-            // @formatter:on
+            List<EObject> candidates = semanticCandidatesIndexSearch.findCandidates(variableManager, domainClassPredicate).orElseGet(() -> {
+                Result result = interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), elementDescription.getSemanticCandidatesExpression());
+                // @formatter:off
+                return result.asObjects().orElse(List.of()).stream()
+                        .filter(EObject.class::isInstance)
+                        .map(EObject.class::cast)
+                        .filter(domainClassPredicate)
+                        .collect(Collectors.toList());
+                // @formatter:on
+            });
+            return new ArrayList<>(candidates);
         };
     }
 
@@ -373,7 +379,7 @@ public class ViewConverter {
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceNodesExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
                 var nodeCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
 
@@ -476,7 +482,7 @@ public class ViewConverter {
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse(""); //$NON-NLS-1$
+        return interpreter.evaluateExpression(variableManager.getReadOnlyVariables(), expression).asString().orElse(""); //$NON-NLS-1$
     }
 
 }
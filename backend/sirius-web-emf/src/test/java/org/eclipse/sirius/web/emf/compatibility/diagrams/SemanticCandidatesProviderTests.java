@@ -18,11 +18,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.ENamedElement;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.sirius.web.emf.compatibility.SemanticCandidatesProvider;
+import org.eclipse.sirius.web.emf.services.EClassInstancesIndex;
 import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.junit.jupiter.api.Test;
@@ -100,4 +107,35 @@ public class SemanticCandidatesProviderTests {
         assertThat(semanticCandidates).hasSize(2);
         assertThat(eClasses).extracting(ENamedElement::getName).containsExactly("EEnum", "EEnumLiteral"); //$NON-NLS-1$//$NON-NLS-2$
     }
+
+    /**
+     * Test that the semantic candidates found with the default semantic candidates expression are the same, and in the
+     * same order, with and without the index of the instances of the resource set.
+     */
+    @Test
+    public void testDefaultSemanticCandidatesExpressionWithIndex() {
+        EPackage root = EcoreFactory.eINSTANCE.createEPackage();
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        root.getESubpackages().add(subPackage);
+        for (int i = 0; i < 3; i++) {
+            subPackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+            root.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        }
+
+        Resource resource = new ResourceImpl(URI.createURI("test")); //$NON-NLS-1$
+        resource.getContents().add(root);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        SemanticCandidatesProvider semanticCandidatesProvider = new SemanticCandidatesProvider(this.interpreter, "ecore::EClass", "", ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, subPackage);
+
+        List<Object> semanticCandidates = semanticCandidatesProvider.apply(variableManager);
+        assertThat(semanticCandidates).hasSize(6);
+
+        resourceSet.eAdapters().add(new EClassInstancesIndex());
+        assertThat(semanticCandidatesProvider.apply(variableManager)).containsExactlyElementsOf(semanticCandidates);
+    }
 }
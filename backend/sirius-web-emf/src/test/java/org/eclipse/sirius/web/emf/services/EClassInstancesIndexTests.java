@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.web.emf.compatibility.DomainClassPredicate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the index of the instances of the EClasses.
+ *
+ * @author sbegaudeau
+ */
+public class EClassInstancesIndexTests {
+
+    private static final String ECLASS = "ecore::EClass"; //$NON-NLS-1$
+
+    @Test
+    public void testInstancesInTraversalOrder() {
+        EPackage root = this.createEPackage("root"); //$NON-NLS-1$
+        EClass eClass = this.createEClass(root, "Root"); //$NON-NLS-1$
+        EPackage subPackage = this.createEPackage("sub"); //$NON-NLS-1$
+        root.getESubpackages().add(subPackage);
+        EClass subEClass = this.createEClass(subPackage, "Sub"); //$NON-NLS-1$
+
+        EClassInstancesIndex index = this.createIndex(root);
+
+        assertThat(index.getAllContents(root, new DomainClassPredicate(ECLASS))).containsExactly(eClass, subEClass);
+        assertThat(index.getAllContents(root, new DomainClassPredicate("ENamedElement"))).containsExactly(eClass, subPackage, subEClass); //$NON-NLS-1$
+        assertThat(index.getAllContents(root, new DomainClassPredicate("ecore::EObject"))).containsExactlyElementsOf(this.getAllContents(root)); //$NON-NLS-1$
+        assertThat(index.getAllContents(root, new DomainClassPredicate("ecore::EEnum"))).isEmpty(); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testInstancesAfterContainmentChanges() {
+        EPackage root = this.createEPackage("root"); //$NON-NLS-1$
+        EPackage subPackage = this.createEPackage("sub"); //$NON-NLS-1$
+        root.getESubpackages().add(subPackage);
+        EClass subEClass = this.createEClass(subPackage, "Sub"); //$NON-NLS-1$
+
+        EClassInstancesIndex index = this.createIndex(root);
+        assertThat(index.getAllContents(root, new DomainClassPredicate(ECLASS))).containsExactly(subEClass);
+
+        EClass eClass = this.createEClass(root, "Root"); //$NON-NLS-1$
+        assertThat(index.getAllContents(root, new DomainClassPredicate(ECLASS))).containsExactly(eClass, subEClass);
+
+        EClass otherSubEClass = this.createEClass(subPackage, "OtherSub"); //$NON-NLS-1$
+        assertThat(index.getAllContents(root, new DomainClassPredicate(ECLASS))).containsExactly(eClass, subEClass, otherSubEClass);
+
+        root.getESubpackages().remove(subPackage);
+        assertThat(index.getAllContents(root, new DomainClassPredicate(ECLASS))).containsExactly(eClass);
+    }
+
+    private EClassInstancesIndex createIndex(EPackage root) {
+        Resource resource = new ResourceImpl(URI.createURI("test")); //$NON-NLS-1$
+        resource.getContents().add(root);
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        EClassInstancesIndex index = new EClassInstancesIndex();
+        resourceSet.eAdapters().add(index);
+        return index;
+    }
+
+    private EPackage createEPackage(String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        return ePackage;
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+
+    private List<EObject> getAllContents(EObject root) {
+        List<EObject> allContents = new ArrayList<>();
+        root.eAllContents().forEachRemaining(allContents::add);
+        return allContents;
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the layered package registry.
+ *
+ * @author sbegaudeau
+ */
+public class LayeredEPackageRegistryTests {
+
+    @Test
+    public void testFindEPackageFromDelegate() {
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample"); //$NON-NLS-1$
+        ePackage.setNsURI("domain://sample"); //$NON-NLS-1$
+
+        LayeredEPackageRegistry ePackageRegistry = new LayeredEPackageRegistry(globalEPackageRegistry);
+        ePackageRegistry.put(ePackage.getNsURI(), ePackage);
+
+        assertThat(ePackageRegistry.getEPackage(EcorePackage.eNS_URI)).isEqualTo(EcorePackage.eINSTANCE);
+        assertThat(ePackageRegistry.getAllValues()).containsExactly(ePackage, EcorePackage.eINSTANCE);
+        assertThat(globalEPackageRegistry).doesNotContainKey(ePackage.getNsURI());
+
+        ClassIdService classIdService = new ClassIdService();
+        assertThat(classIdService.findEPackage(ePackageRegistry, EcorePackage.eNAME)).contains(EcorePackage.eINSTANCE);
+        assertThat(classIdService.findEPackage(ePackageRegistry, "sample")).contains(ePackage); //$NON-NLS-1$
+    }
+}
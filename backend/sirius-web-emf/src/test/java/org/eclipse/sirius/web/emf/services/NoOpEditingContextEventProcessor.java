@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
@@ -24,6 +25,7 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Implementation of the editing context event processor which does nothing.
@@ -53,6 +55,16 @@ public class NoOpEditingContextEventProcessor implements IEditingContextEventPro
         return Optional.empty();
     }
 
+    @Override
+    public Mono<IPayload> handleAsync(IInput input) {
+        return Mono.empty();
+    }
+
+    @Override
+    public List<Optional<IPayload>> handleAll(List<? extends IInput> inputs) {
+        return inputs.stream().map(this::handle).collect(Collectors.toList());
+    }
+
     @Override
     public Flux<Boolean> canBeDisposed() {
         return Flux.empty();
@@ -22,6 +22,8 @@ import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventPro
 import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Implementation of the editing context event processor registry which does nothing.
  *
@@ -39,6 +41,11 @@ public class NoOpEditingContextEventProcessorRegistry implements IEditingContext
         return Optional.empty();
     }
 
+    @Override
+    public Mono<IPayload> dispatchEventAsync(UUID editingContextId, IInput input) {
+        return Mono.empty();
+    }
+
     @Override
     public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
         return Optional.empty();
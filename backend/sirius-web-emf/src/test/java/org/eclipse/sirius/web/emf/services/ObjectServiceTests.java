@@ -15,15 +15,22 @@ package org.eclipse.sirius.web.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.UUID;
 
+import org.eclipse.emf.common.command.BasicCommandStack;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.provider.EcoreItemProviderAdapterFactory;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreAdapterFactory;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.ReflectiveItemProviderAdapterFactory;
 import org.eclipse.sirius.web.core.api.IObjectService;
@@ -65,4 +72,39 @@ public class ObjectServiceTests {
         assertThat(objectService.getId(eObject)).isNotNull();
     }
 
+    @Test
+    public void testGetObjectWithIDIndex() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+
+        EObjectIDManager idManager = new EObjectIDManager();
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        idManager.setId(ePackage, UUID.randomUUID().toString());
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        idManager.setId(subPackage, UUID.randomUUID().toString());
+        ePackage.getESubpackages().add(subPackage);
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        idManager.setId(eClass, UUID.randomUUID().toString());
+        subPackage.getEClassifiers().add(eClass);
+
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+        resourceSet.eAdapters().add(new EObjectIDIndex());
+
+        EditingContext editingContext = new EditingContext(UUID.randomUUID(), new AdapterFactoryEditingDomain(composedAdapterFactory, new BasicCommandStack(), resourceSet));
+
+        String eClassId = objectService.getId(eClass);
+        assertThat(objectService.getObject(editingContext, eClassId)).contains(eClass);
+
+        ePackage.getEClassifiers().add(eClass);
+        assertThat(objectService.getObject(editingContext, eClassId)).contains(eClass);
+
+        ePackage.getESubpackages().remove(subPackage);
+        assertThat(objectService.getObject(editingContext, objectService.getId(subPackage))).isEmpty();
+
+        idManager.setId(eClass, UUID.randomUUID().toString());
+        assertThat(objectService.getObject(editingContext, eClassId)).isEmpty();
+    }
 }
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.provider.EcoreItemProviderAdapterFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.web.collaborative.api.services.SemanticChanges;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the semantic changes recorder.
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangesRecorderTests {
+
+    private static final String CLASS_NAME = "Class"; //$NON-NLS-1$
+
+    @Test
+    public void testFeatureChangeRecorded() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EditingContext editingContext = this.createEditingContext(composedAdapterFactory, eClass);
+
+        SemanticChangesRecorder recorder = new SemanticChangesRecorder(objectService, true);
+        recorder.startRecording(editingContext);
+        eClass.setName("Renamed"); //$NON-NLS-1$
+        Optional<SemanticChanges> optionalSemanticChanges = recorder.stopRecording(editingContext);
+
+        assertThat(optionalSemanticChanges).isPresent();
+        SemanticChanges semanticChanges = optionalSemanticChanges.get();
+        String eClassId = objectService.getId(eClass);
+        assertThat(semanticChanges.isStructuralChange()).isFalse();
+        assertThat(semanticChanges.getObjectIds()).containsExactly(eClassId);
+        assertThat(semanticChanges.getChangedFeatures(eClassId)).containsExactly("name"); //$NON-NLS-1$
+        assertThat(semanticChanges.mayAffect(List.of(eClassId))).isTrue();
+        assertThat(semanticChanges.mayAffect(List.of(UUID.randomUUID().toString()))).isFalse();
+    }
+
+    @Test
+    public void testContainmentChangeRecordedAsStructural() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EditingContext editingContext = this.createEditingContext(composedAdapterFactory, eClass);
+
+        SemanticChangesRecorder recorder = new SemanticChangesRecorder(objectService, true);
+        recorder.startRecording(editingContext);
+        ((EPackage) eClass.eContainer()).getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        Optional<SemanticChanges> optionalSemanticChanges = recorder.stopRecording(editingContext);
+
+        assertThat(optionalSemanticChanges).isPresent();
+        assertThat(optionalSemanticChanges.get().isStructuralChange()).isTrue();
+        assertThat(optionalSemanticChanges.get().mayAffect(List.of())).isTrue();
+    }
+
+    @Test
+    public void testChangesReportedAsStructuralWhenSelectiveRefreshDisabled() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EditingContext editingContext = this.createEditingContext(composedAdapterFactory, eClass);
+
+        SemanticChangesRecorder recorder = new SemanticChangesRecorder(objectService, false);
+        recorder.startRecording(editingContext);
+        eClass.setName(CLASS_NAME);
+        Optional<SemanticChanges> optionalSemanticChanges = recorder.stopRecording(editingContext);
+
+        assertThat(optionalSemanticChanges).isPresent();
+        assertThat(optionalSemanticChanges.get().getObjectIds()).isEmpty();
+        assertThat(optionalSemanticChanges.get().isStructuralChange()).isTrue();
+        assertThat(optionalSemanticChanges.get().hasRemovedObjects()).isFalse();
+    }
+
+    @Test
+    public void testRemovedObjectRecorded() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EditingContext editingContext = this.createEditingContext(composedAdapterFactory, eClass);
+
+        EAttribute eAttribute = EcoreFactory.eINSTANCE.createEAttribute();
+        eClass.getEStructuralFeatures().add(eAttribute);
+        UUID eClassId = UUID.randomUUID();
+        UUID eAttributeId = UUID.randomUUID();
+        eClass.eAdapters().add(new IDAdapter(eClassId));
+        eAttribute.eAdapters().add(new IDAdapter(eAttributeId));
+
+        SemanticChangesRecorder recorder = new SemanticChangesRecorder(objectService, true);
+        recorder.startRecording(editingContext);
+        ((EPackage) eClass.eContainer()).getEClassifiers().remove(eClass);
+        Optional<SemanticChanges> optionalSemanticChanges = recorder.stopRecording(editingContext);
+
+        assertThat(optionalSemanticChanges).isPresent();
+        assertThat(optionalSemanticChanges.get().hasRemovedObjects()).isTrue();
+        assertThat(optionalSemanticChanges.get().getRemovedObjectIds()).containsExactlyInAnyOrder(eClassId.toString(), eAttributeId.toString());
+    }
+
+    @Test
+    public void testMovedObjectNotRecordedAsRemoved() {
+        ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory(List.of(new EcoreItemProviderAdapterFactory()));
+        ObjectService objectService = new ObjectService(composedAdapterFactory, new LabelFeatureProviderRegistry());
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EditingContext editingContext = this.createEditingContext(composedAdapterFactory, eClass);
+
+        EPackage ePackage = (EPackage) eClass.eContainer();
+        EPackage subPackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getESubpackages().add(subPackage);
+
+        SemanticChangesRecorder recorder = new SemanticChangesRecorder(objectService, true);
+        recorder.startRecording(editingContext);
+        ePackage.getEClassifiers().remove(eClass);
+        subPackage.getEClassifiers().add(eClass);
+        Optional<SemanticChanges> optionalSemanticChanges = recorder.stopRecording(editingContext);
+
+        assertThat(optionalSemanticChanges).isPresent();
+        assertThat(optionalSemanticChanges.get().isStructuralChange()).isTrue();
+        assertThat(optionalSemanticChanges.get().hasRemovedObjects()).isFalse();
+        assertThat(optionalSemanticChanges.get().getRemovedObjectIds()).isEmpty();
+    }
+
+    private EditingContext createEditingContext(ComposedAdapterFactory composedAdapterFactory, EClass eClass) {
+        eClass.setName(CLASS_NAME);
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getEClassifiers().add(eClass);
+
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi")); //$NON-NLS-1$
+        resource.getContents().add(ePackage);
+
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(composedAdapterFactory, new BasicCommandStack(), resourceSet);
+        return new EditingContext(UUID.randomUUID(), editingDomain);
+    }
+}
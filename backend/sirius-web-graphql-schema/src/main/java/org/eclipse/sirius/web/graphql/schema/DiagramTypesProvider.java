@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.PatchedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.ReorderedNodes;
 import org.eclipse.sirius.web.diagrams.ArrowStyle;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.eclipse.sirius.web.diagrams.Edge;
@@ -98,7 +100,9 @@ public class DiagramTypesProvider implements ITypeProvider {
             ToolSection.class,
             CreateEdgeTool.class,
             CreateNodeTool.class,
-            EdgeCandidate.class
+            EdgeCandidate.class,
+            PatchedNode.class,
+            ReorderedNodes.class
         );
         var graphQLObjectTypes = objectClasses.stream()
                 .map(this.graphQLObjectTypeProvider::getType)
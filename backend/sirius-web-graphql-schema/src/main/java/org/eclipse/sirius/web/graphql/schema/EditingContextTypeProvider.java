@@ -50,7 +50,7 @@ import graphql.schema.GraphQLTypeReference;
  *   namespaces: [Namespace!]!
  *   representationDescriptions(classId: ID): EditingContextRepresentationDescriptionConnection!
  *   representation(representationId: ID!): Representation
- *   representations: [Representation!]!
+ *   representations: [RepresentationMetadata!]!
  * }
  * </pre>
  *
@@ -194,7 +194,7 @@ public class EditingContextTypeProvider implements ITypeProvider {
         // @formatter:off
         return GraphQLFieldDefinition.newFieldDefinition()
                 .name(REPRESENTATIONS_FIELD)
-                .type(new GraphQLNonNull(new GraphQLList(new GraphQLNonNull(new GraphQLTypeReference(RepresentationTypeProvider.TYPE)))))
+                .type(new GraphQLNonNull(new GraphQLList(new GraphQLNonNull(new GraphQLTypeReference(RepresentationTypeProvider.METADATA_TYPE)))))
                 .build();
         // @formatter:on
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,12 +22,14 @@ import graphql.Scalars;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLInterfaceType;
 import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeReference;
 
 /**
- * This class is used to create the definition of the Representation interface.
+ * This class is used to create the definition of the Representation interface and of the RepresentationMetadata type.
  * <p>
- * The type created will match the following GraphQL textual definition:
+ * The types created will match the following GraphQL textual definition:
  * </p>
  *
  * <pre>
@@ -36,6 +38,14 @@ import graphql.schema.GraphQLType;
  *   kind: String!
  *   label: String!
  * }
+ *
+ * type RepresentationMetadata implements Representation {
+ *   id: ID!
+ *   kind: String!
+ *   label: String!
+ *   descriptionId: ID!
+ *   targetObjectId: String!
+ * }
  * </pre>
  *
  * @author sbegaudeau
@@ -44,8 +54,14 @@ import graphql.schema.GraphQLType;
 public class RepresentationTypeProvider implements ITypeProvider {
     public static final String TYPE = "Representation"; //$NON-NLS-1$
 
+    public static final String METADATA_TYPE = "RepresentationMetadata"; //$NON-NLS-1$
+
     private static final String LABEL = "label"; //$NON-NLS-1$
 
+    private static final String DESCRIPTION_ID = "descriptionId"; //$NON-NLS-1$
+
+    private static final String TARGET_OBJECT_ID = "targetObjectId"; //$NON-NLS-1$
+
     @Override
     public Set<GraphQLType> getTypes() {
         LinkedHashSet<GraphQLType> types = new LinkedHashSet<>();
@@ -58,7 +74,20 @@ public class RepresentationTypeProvider implements ITypeProvider {
                 .build();
         // @formatter:on
 
+        // @formatter:off
+        var representationMetadataType = GraphQLObjectType.newObject()
+                .name(METADATA_TYPE)
+                .withInterface(new GraphQLTypeReference(TYPE))
+                .field(new IdFieldProvider().getField())
+                .field(new KindFieldProvider().getField())
+                .field(this.getLabelField())
+                .field(this.getDescriptionIdField())
+                .field(this.getTargetObjectIdField())
+                .build();
+        // @formatter:on
+
         types.add(representationType);
+        types.add(representationMetadataType);
         return types;
     }
 
@@ -70,4 +99,22 @@ public class RepresentationTypeProvider implements ITypeProvider {
                 .build();
         // @formatter:on
     }
+
+    private GraphQLFieldDefinition getDescriptionIdField() {
+        // @formatter:off
+        return GraphQLFieldDefinition.newFieldDefinition()
+                .name(DESCRIPTION_ID)
+                .type(new GraphQLNonNull(Scalars.GraphQLID))
+                .build();
+        // @formatter:on
+    }
+
+    private GraphQLFieldDefinition getTargetObjectIdField() {
+        // @formatter:off
+        return GraphQLFieldDefinition.newFieldDefinition()
+                .name(TARGET_OBJECT_ID)
+                .type(new GraphQLNonNull(Scalars.GraphQLString))
+                .build();
+        // @formatter:on
+    }
 }
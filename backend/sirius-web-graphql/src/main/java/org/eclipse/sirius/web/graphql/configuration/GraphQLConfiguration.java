@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.graphql.datafetchers.GraphQLDataFetcherExceptionHandler;
+import org.eclipse.sirius.web.graphql.datafetchers.subscriptions.SubscriptionEventInstrumentation;
 import org.eclipse.sirius.web.graphql.utils.schema.IMutationTypeProvider;
 import org.eclipse.sirius.web.graphql.utils.schema.IQueryTypeProvider;
 import org.eclipse.sirius.web.graphql.utils.schema.ISubscriptionTypeProvider;
@@ -73,6 +74,7 @@ public class GraphQLConfiguration {
         return GraphQL.newGraphQL(graphQLSchema)
                 .queryExecutionStrategy(queryExecutionStrategy)
                 .mutationExecutionStrategy(mutationExecutionStrategy)
+                .instrumentation(new SubscriptionEventInstrumentation())
                 .build();
         // @formatter:on
     }
@@ -15,13 +15,11 @@ package org.eclipse.sirius.web.graphql.datafetchers.editingcontext;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.annotations.spring.graphql.QueryDataFetcher;
 import org.eclipse.sirius.web.graphql.schema.EditingContextTypeProvider;
-import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
-import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -34,14 +32,14 @@ import graphql.schema.DataFetchingEnvironment;
  *
  * <pre>
  * type EditingContext {
- *   representations: [Representation!]!
+ *   representations: [RepresentationMetadata!]!
  * }
  * </pre>
  *
  * @author wpiers
  */
 @QueryDataFetcher(type = EditingContextTypeProvider.TYPE, field = EditingContextTypeProvider.REPRESENTATIONS_FIELD)
-public class EditingContextRepresentationsDataFetcher implements IDataFetcherWithFieldCoordinates<List<IRepresentation>> {
+public class EditingContextRepresentationsDataFetcher implements IDataFetcherWithFieldCoordinates<List<RepresentationMetadata>> {
 
     private final IRepresentationService representationService;
 
@@ -50,12 +48,9 @@ public class EditingContextRepresentationsDataFetcher implements IDataFetcherWit
     }
 
     @Override
-    public List<IRepresentation> get(DataFetchingEnvironment environment) throws Exception {
+    public List<RepresentationMetadata> get(DataFetchingEnvironment environment) throws Exception {
         UUID editingContextId = environment.getSource();
-        // @formatter:off
-        return this.representationService.getRepresentationDescriptorsForProjectId(editingContextId).stream()
-                .map(RepresentationDescriptor::getRepresentation).collect(Collectors.toList());
-        // @formatter:on
+        return this.representationService.getRepresentationMetadataForProjectId(editingContextId);
     }
 
 }
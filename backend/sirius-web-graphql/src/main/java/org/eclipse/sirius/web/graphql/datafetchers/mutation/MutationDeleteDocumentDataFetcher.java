@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -54,7 +55,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationDeleteDocumentDataFetcher.DELETE_DOCUMENT_FIELD)
 // @formatter:on
-public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String DELETE_DOCUMENT_FIELD = "deleteDocument"; //$NON-NLS-1$
 
@@ -75,19 +76,20 @@ public class MutationDeleteDocumentDataFetcher implements IDataFetcherWithFieldC
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         Object argument = environment.getArgument(MutationTypeProvider.INPUT_ARGUMENT);
         var input = this.objectMapper.convertValue(argument, DeleteDocumentInput.class);
 
-        IPayload payload = new ErrorPayload(input.getId(), this.messageService.unexpectedError());
+        CompletableFuture<IPayload> payload = CompletableFuture.completedFuture(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
 
         var optionalDocument = this.documentService.getDocument(input.getDocumentId());
         if (optionalDocument.isPresent()) {
             Document document = optionalDocument.get();
 
             // @formatter:off
-            payload = this.editingContextEventProcessorRegistry.dispatchEvent(document.getProject().getId(), input)
-                    .orElse(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
+            payload = this.editingContextEventProcessorRegistry.dispatchEventAsync(document.getProject().getId(), input)
+                    .defaultIfEmpty(new ErrorPayload(input.getId(), this.messageService.unexpectedError()))
+                    .toFuture();
             // @formatter:on
         }
 
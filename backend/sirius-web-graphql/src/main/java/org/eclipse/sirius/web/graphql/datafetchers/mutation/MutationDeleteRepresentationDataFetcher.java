@@ -15,6 +15,7 @@ package org.eclipse.sirius.web.graphql.datafetchers.mutation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -55,7 +56,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationDeleteRepresentationDataFetcher.DELETE_REPRESENTATION_FIELD)
 // @formatter:on
-public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String DELETE_REPRESENTATION_FIELD = "deleteRepresentation"; //$NON-NLS-1$
 
@@ -76,19 +77,20 @@ public class MutationDeleteRepresentationDataFetcher implements IDataFetcherWith
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         Object argument = environment.getArgument(MutationTypeProvider.INPUT_ARGUMENT);
         var input = this.objectMapper.convertValue(argument, DeleteRepresentationInput.class);
 
-        IPayload payload = new ErrorPayload(input.getId(), this.messageService.unexpectedError());
+        CompletableFuture<IPayload> payload = CompletableFuture.completedFuture(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
 
         var optionalRepresentation = this.representationService.getRepresentation(input.getRepresentationId());
         if (optionalRepresentation.isPresent()) {
             RepresentationDescriptor representation = optionalRepresentation.get();
 
             // @formatter:off
-            payload = this.editingContextEventProcessorRegistry.dispatchEvent(representation.getProjectId(), input)
-                    .orElse(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
+            payload = this.editingContextEventProcessorRegistry.dispatchEventAsync(representation.getProjectId(), input)
+                    .defaultIfEmpty(new ErrorPayload(input.getId(), this.messageService.unexpectedError()))
+                    .toFuture();
             // @formatter:on
         }
 
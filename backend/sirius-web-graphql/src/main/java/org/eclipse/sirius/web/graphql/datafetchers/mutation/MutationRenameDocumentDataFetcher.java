@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.web.annotations.graphql.GraphQLMutationTypes;
 import org.eclipse.sirius.web.annotations.spring.graphql.MutationDataFetcher;
@@ -55,7 +56,7 @@ import graphql.schema.DataFetchingEnvironment;
 )
 @MutationDataFetcher(type = MutationTypeProvider.TYPE, field = MutationRenameDocumentDataFetcher.RENAME_DOCUMENT_FIELD)
 // @formatter:on
-public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<IPayload> {
+public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
 
     public static final String RENAME_DOCUMENT_FIELD = "renameDocument"; //$NON-NLS-1$
 
@@ -76,19 +77,20 @@ public class MutationRenameDocumentDataFetcher implements IDataFetcherWithFieldC
     }
 
     @Override
-    public IPayload get(DataFetchingEnvironment environment) throws Exception {
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
         Object argument = environment.getArgument(MutationTypeProvider.INPUT_ARGUMENT);
         var input = this.objectMapper.convertValue(argument, RenameDocumentInput.class);
 
-        IPayload payload = new ErrorPayload(input.getId(), this.messageService.unexpectedError());
+        CompletableFuture<IPayload> payload = CompletableFuture.completedFuture(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
 
         Optional<Document> optionalDocument = this.documentService.getDocument(input.getDocumentId());
         if (optionalDocument.isPresent()) {
             Document document = optionalDocument.get();
 
             // @formatter:off
-            payload = this.editingContextEventProcessorRegistry.dispatchEvent(document.getProject().getId(), input)
-                    .orElse(new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
+            payload = this.editingContextEventProcessorRegistry.dispatchEventAsync(document.getProject().getId(), input)
+                    .defaultIfEmpty(new ErrorPayload(input.getId(), this.messageService.unexpectedError()))
+                    .toFuture();
             // @formatter:on
 
         }
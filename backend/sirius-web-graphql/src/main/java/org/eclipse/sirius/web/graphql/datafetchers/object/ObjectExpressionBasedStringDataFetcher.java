@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,14 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.graphql.datafetchers.object;
 
-import java.util.ArrayList;
-import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.sirius.web.annotations.spring.graphql.QueryDataFetcher;
 import org.eclipse.sirius.web.graphql.schema.ObjectTypeProvider;
-import org.eclipse.sirius.web.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.interpreter.Result;
-import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.spring.graphql.api.IDataFetcherWithFieldCoordinates;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -41,13 +38,18 @@ import graphql.schema.DataFetchingEnvironment;
 @QueryDataFetcher(type = ObjectTypeProvider.TYPE, field = ObjectTypeProvider.EXPRESSION_BASED_STRING_FIELD)
 public class ObjectExpressionBasedStringDataFetcher implements IDataFetcherWithFieldCoordinates<String> {
 
+    private final ObjectExpressionInterpreter objectExpressionInterpreter;
+
+    public ObjectExpressionBasedStringDataFetcher(ObjectExpressionInterpreter objectExpressionInterpreter) {
+        this.objectExpressionInterpreter = Objects.requireNonNull(objectExpressionInterpreter);
+    }
+
     @Override
     public String get(DataFetchingEnvironment environment) throws Exception {
         Object object = environment.getSource();
         String expression = environment.getArgument(ObjectTypeProvider.EXPRESSION_ARGUMENT);
 
-        AQLInterpreter interpreter = new AQLInterpreter(new ArrayList<>(), new ArrayList<>());
-        Result result = interpreter.evaluateExpression(Map.of(VariableManager.SELF, object), expression);
+        Result result = this.objectExpressionInterpreter.evaluateExpression(object, expression, ObjectTypeProvider.EXPRESSION_BASED_STRING_FIELD);
         return result.asString().orElse(null);
     }
 
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.object;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.web.interpreter.AQLInterpreter;
+import org.eclipse.sirius.web.interpreter.Result;
+import org.eclipse.sirius.web.representations.VariableManager;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Evaluates the expressions of the expression-based fields of the GraphQL type Object.
+ *
+ * <p>
+ * A single interpreter is shared by all the fields resolved, instead of being created for each field. Its bounded
+ * cache of parsed expressions is thus shared between all the threads, the interpreter evaluating its expressions one at
+ * a time since the lookup caches of AQL are not synchronized.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ObjectExpressionInterpreter {
+
+    private static final String TIMER_NAME = "siriusweb_graphql_expressions"; //$NON-NLS-1$
+
+    private static final String FIELD = "field"; //$NON-NLS-1$
+
+    private final AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of());
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public ObjectExpressionInterpreter(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Evaluates the given expression with the given object as self.
+     *
+     * @param self
+     *            The object on which the expression is evaluated
+     * @param expression
+     *            The expression to evaluate
+     * @param field
+     *            The name of the GraphQL field resolved, used to record the duration of the evaluation
+     * @return The result of the evaluation
+     */
+    public Result evaluateExpression(Object self, String expression, String field) {
+        Timer timer = this.timers.computeIfAbsent(field, key -> Timer.builder(TIMER_NAME).tag(FIELD, key).register(this.meterRegistry));
+        return timer.record(() -> this.interpreter.evaluateExpression(Map.of(VariableManager.SELF, self), expression));
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventPro
 import org.eclipse.sirius.web.collaborative.diagrams.api.DiagramConfiguration;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramEventInput;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.graphql.schema.SubscriptionTypeProvider;
@@ -52,6 +53,7 @@ import reactor.core.publisher.Flux;
     input = DiagramEventInput.class,
     payloads = {
         DiagramRefreshedEventPayload.class,
+        DiagramPatchEventPayload.class,
         SubscribersUpdatedEventPayload.class,
     }
 )
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.graphql.datafetchers.subscriptions;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.sirius.web.spring.graphql.api.SubscriptionEventExecutionResult;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+/**
+ * Instrumentation used to tell the caller of a subscription which event is the source of each of its results.
+ *
+ * <p>
+ * While an event published by the data fetcher of a subscription field is turned into a result, this event is kept as
+ * the current event of the thread. The result is then returned as a {@link SubscriptionEventExecutionResult} carrying
+ * its event. If the result is completed on another thread, it is returned without its event and it will thus not be
+ * shared with the other subscribers.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionEventInstrumentation extends SimpleInstrumentation {
+
+    private final ThreadLocal<Object> currentSubscriptionEvent = new ThreadLocal<>();
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+        DataFetcher<?> instrumentedDataFetcher = dataFetcher;
+
+        DataFetchingEnvironment environment = parameters.getEnvironment();
+        boolean isSubscriptionField = environment.getParentType().equals(environment.getGraphQLSchema().getSubscriptionType());
+        if (isSubscriptionField) {
+            instrumentedDataFetcher = instrumentedEnvironment -> {
+                Object value = dataFetcher.get(instrumentedEnvironment);
+                if (value instanceof Publisher<?>) {
+                    // @formatter:off
+                    value = Flux.from((Publisher<?>) value)
+                            .cast(Object.class)
+                            .transform(Operators.<Object, Object>lift((scannable, subscriber) -> new SubscriptionEventSubscriber(subscriber)));
+                    // @formatter:on
+                }
+                return value;
+            };
+        }
+        return instrumentedDataFetcher;
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters) {
+        ExecutionResult instrumentedExecutionResult = executionResult;
+
+        Object subscriptionEvent = this.currentSubscriptionEvent.get();
+        if (subscriptionEvent != null) {
+            instrumentedExecutionResult = new SubscriptionEventExecutionResult(executionResult, subscriptionEvent);
+        }
+        return CompletableFuture.completedFuture(instrumentedExecutionResult);
+    }
+
+    /**
+     * Keeps each event as the current event of the thread while it is turned into a result downstream.
+     *
+     * @author sbegaudeau
+     */
+    private final class SubscriptionEventSubscriber implements CoreSubscriber<Object> {
+
+        private final CoreSubscriber<? super Object> delegate;
+
+        SubscriptionEventSubscriber(CoreSubscriber<? super Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Context currentContext() {
+            return this.delegate.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.delegate.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(Object event) {
+            Object previousSubscriptionEvent = SubscriptionEventInstrumentation.this.currentSubscriptionEvent.get();
+            SubscriptionEventInstrumentation.this.currentSubscriptionEvent.set(event);
+            try {
+                this.delegate.onNext(event);
+            } finally {
+                if (previousSubscriptionEvent != null) {
+                    SubscriptionEventInstrumentation.this.currentSubscriptionEvent.set(previousSubscriptionEvent);
+                } else {
+                    SubscriptionEventInstrumentation.this.currentSubscriptionEvent.remove();
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.delegate.onComplete();
+        }
+    }
+}
@@ -43,6 +43,12 @@ import org.slf4j.LoggerFactory;
 /**
  * An AQL interpreter used for tests.
  *
+ * <p>
+ * The lookup caches of the AQL query environment are not thread-safe while the interpreters of the representation
+ * descriptions are shared between the editing contexts and their threads. The expressions of an interpreter are thus
+ * parsed and evaluated one at a time.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class AQLInterpreter {
@@ -54,6 +60,11 @@ public class AQLInterpreter {
 
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreter.class);
 
+    /**
+     * The lock guarding the query environment.
+     */
+    private final Object lock = new Object();
+
     /**
      * The cache of the expressions parsed.
      */
@@ -115,9 +126,13 @@ public class AQLInterpreter {
         }
 
         try {
-            AstResult build = this.parsedExpressions.get(expression);
-            IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
-            EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+            AstResult build;
+            EvaluationResult evalResult;
+            synchronized (this.lock) {
+                build = this.parsedExpressions.get(expression);
+                IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
+                evalResult = evaluationEngine.eval(build, variables);
+            }
 
             BasicDiagnostic diagnostic = new BasicDiagnostic();
             if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
@@ -14,9 +14,14 @@ package org.eclipse.sirius.web.interpreter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
@@ -85,6 +90,26 @@ public class AQLInterpreterTests {
         assertThat(asObjects.get()).contains(EcorePackage.Literals.EENUM_LITERAL__EENUM);
     }
 
+    @Test
+    public void testConcurrentEvaluations() throws InterruptedException, ExecutionException {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                var eClassifier = EcorePackage.eINSTANCE.getEClassifiers().get(i % EcorePackage.eINSTANCE.getEClassifiers().size());
+                futures.add(executorService.submit(() -> interpreter.evaluateExpression(Map.of(SELF, eClassifier), "aql:self.name + self.ePackage.name").asString())); //$NON-NLS-1$
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                var eClassifier = EcorePackage.eINSTANCE.getEClassifiers().get(i % EcorePackage.eINSTANCE.getEClassifiers().size());
+                assertThat(futures.get(i).get()).hasValue(eClassifier.getName() + EcorePackage.eINSTANCE.getName());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void testBrokenEPackage() {
         EPackage broken = EcoreFactory.eINSTANCE.createEPackage();
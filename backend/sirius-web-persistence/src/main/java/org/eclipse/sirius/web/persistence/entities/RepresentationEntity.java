@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -36,14 +36,22 @@ public class RepresentationEntity {
     @JoinColumn(name = "project_id")
     private ProjectEntity project;
 
+    private UUID descriptionId;
+
     private String targetObjectId;
 
     private String label;
 
+    private String kind;
+
     private String contentType;
 
+    private String contentFormat;
+
     private String content;
 
+    private byte[] binaryContent;
+
     public UUID getId() {
         return this.id;
     }
@@ -60,6 +68,14 @@ public class RepresentationEntity {
         this.project = project;
     }
 
+    public UUID getDescriptionId() {
+        return this.descriptionId;
+    }
+
+    public void setDescriptionId(UUID descriptionId) {
+        this.descriptionId = descriptionId;
+    }
+
     public String getTargetObjectId() {
         return this.targetObjectId;
     }
@@ -76,6 +92,14 @@ public class RepresentationEntity {
         this.label = label;
     }
 
+    public String getKind() {
+        return this.kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
     public String getContentType() {
         return this.contentType;
     }
@@ -84,6 +108,14 @@ public class RepresentationEntity {
         this.contentType = contentType;
     }
 
+    public String getContentFormat() {
+        return this.contentFormat;
+    }
+
+    public void setContentFormat(String contentFormat) {
+        this.contentFormat = contentFormat;
+    }
+
     public String getContent() {
         return this.content;
     }
@@ -92,9 +124,17 @@ public class RepresentationEntity {
         this.content = content;
     }
 
+    public byte[] getBinaryContent() {
+        return this.binaryContent;
+    }
+
+    public void setBinaryContent(byte[] binaryContent) {
+        this.binaryContent = binaryContent;
+    }
+
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, targetObjectId: {2}, label: {3}, contentType: {4}'}'"; //$NON-NLS-1$
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.targetObjectId, this.label, this.contentType);
+        String pattern = "{0} '{'id: {1}, descriptionId: {2}, targetObjectId: {3}, label: {4}, kind: {5}, contentType: {6}, contentFormat: {7}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.descriptionId, this.targetObjectId, this.label, this.kind, this.contentType, this.contentFormat);
     }
 }
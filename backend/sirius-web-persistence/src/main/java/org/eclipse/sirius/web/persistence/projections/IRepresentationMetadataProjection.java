@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.persistence.projections;
+
+import java.util.UUID;
+
+/**
+ * Projection of a representation entity on its metadata, used to retrieve representations without loading their
+ * content.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationMetadataProjection {
+
+    UUID getId();
+
+    UUID getProjectId();
+
+    UUID getDescriptionId();
+
+    String getTargetObjectId();
+
+    String getLabel();
+
+    String getKind();
+
+}
@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.Audited;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
@@ -38,6 +39,10 @@ public interface IDocumentRepository extends PagingAndSortingRepository<Document
     @Override
     Iterable<DocumentEntity> findAll();
 
+    @Audited
+    @Override
+    Iterable<DocumentEntity> findAllById(Iterable<UUID> ids);
+
     @Audited
     @Query(name = "Document.findAllByType", nativeQuery = true)
     Iterable<DocumentEntity> findAllByType(String name, String uri);
@@ -45,6 +50,9 @@ public interface IDocumentRepository extends PagingAndSortingRepository<Document
     @Audited
     List<DocumentEntity> findAllByProjectId(UUID projectId);
 
+    @Audited
+    List<DocumentEntity> findAllByProjectIdOrderById(UUID projectId, Pageable pageable);
+
     @Audited
     @Query("SELECT document FROM DocumentEntity document WHERE document.project.id=?1 AND document.id=?2")
     Optional<DocumentEntity> findByProjectIdAndId(UUID projectId, UUID documentId);
@@ -56,4 +64,8 @@ public interface IDocumentRepository extends PagingAndSortingRepository<Document
     @Audited
     @Override
     <S extends DocumentEntity> S save(S entity);
+
+    @Audited
+    @Override
+    <S extends DocumentEntity> Iterable<S> saveAll(Iterable<S> entities);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.persistence.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.annotations.Audited;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadataProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -44,6 +47,21 @@ public interface IRepresentationRepository extends PagingAndSortingRepository<Re
     @Audited
     List<RepresentationEntity> findAllByProjectId(UUID projectId);
 
+    @Audited
+    List<RepresentationEntity> findAllByProjectIdOrderById(UUID projectId, Pageable pageable);
+
+    @Audited
+    @Query("SELECT representation.id AS id, representation.project.id AS projectId, representation.descriptionId AS descriptionId, representation.targetObjectId AS targetObjectId, representation.label AS label, representation.kind AS kind FROM RepresentationEntity representation WHERE representation.project.id=?1")
+    List<IRepresentationMetadataProjection> findAllMetadataByProjectId(UUID projectId);
+
+    @Audited
+    @Query("SELECT representation.id AS id, representation.project.id AS projectId, representation.descriptionId AS descriptionId, representation.targetObjectId AS targetObjectId, representation.label AS label, representation.kind AS kind FROM RepresentationEntity representation WHERE representation.project.id=?1 AND representation.targetObjectId IN ?2")
+    List<IRepresentationMetadataProjection> findAllMetadataByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds);
+
+    @Audited
+    @Query("SELECT representation FROM RepresentationEntity representation WHERE representation.contentFormat<>?1 AND representation.id>?2 ORDER BY representation.id")
+    List<RepresentationEntity> findAllWithOtherContentFormat(String contentFormat, UUID lastId, Pageable pageable);
+
     @Audited
     @Query("SELECT CASE WHEN COUNT(representation)> 0 THEN true ELSE false END FROM RepresentationEntity representation WHERE representation.targetObjectId=?1")
     boolean hasRepresentations(String objectId);
@@ -52,11 +70,19 @@ public interface IRepresentationRepository extends PagingAndSortingRepository<Re
     @Override
     <S extends RepresentationEntity> S save(S representationEntity);
 
+    @Audited
+    @Query("SELECT DISTINCT representation.targetObjectId FROM RepresentationEntity representation WHERE representation.project.id=?1")
+    List<String> findAllTargetObjectIdsByProjectId(UUID projectId);
+
+    @Audited
+    @Query("SELECT representation FROM RepresentationEntity representation WHERE representation.project.id=?1 AND representation.targetObjectId IN ?2")
+    List<RepresentationEntity> findAllByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds);
+
     @Audited
     @Transactional
     @Modifying
-    @Query(name = "Representation.deleteDanglingRepresentations", nativeQuery = true)
-    int deleteDanglingRepresentations(UUID projectId);
+    @Query("DELETE FROM RepresentationEntity representation WHERE representation.project.id=?1 AND representation.targetObjectId IN ?2")
+    int deleteAllByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds);
 
     @Audited
     @Override
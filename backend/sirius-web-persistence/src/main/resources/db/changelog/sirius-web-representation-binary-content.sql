@@ -0,0 +1,4 @@
+ALTER TABLE representation ADD COLUMN contentformat text DEFAULT 'json' NOT NULL;
+ALTER TABLE representation ADD COLUMN binarycontent bytea;
+ALTER TABLE representation ALTER COLUMN content DROP NOT NULL;
+ALTER TABLE representation ADD CONSTRAINT representation_content_not_null CHECK ((content IS NOT NULL) OR (binarycontent IS NOT NULL));
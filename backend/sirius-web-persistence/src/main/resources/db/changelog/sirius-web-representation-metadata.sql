@@ -0,0 +1,7 @@
+ALTER TABLE representation ADD COLUMN descriptionid uuid;
+ALTER TABLE representation ADD COLUMN kind text;
+
+UPDATE representation SET descriptionid = (content::jsonb ->> 'descriptionId')::uuid, kind = content::jsonb ->> 'kind';
+
+ALTER TABLE representation ALTER COLUMN descriptionid SET NOT NULL;
+ALTER TABLE representation ALTER COLUMN kind SET NOT NULL;
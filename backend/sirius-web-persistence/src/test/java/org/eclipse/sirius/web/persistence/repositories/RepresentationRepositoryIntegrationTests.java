@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,12 +22,13 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
 import org.eclipse.sirius.web.persistence.entities.AccountEntity;
-import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadataProjection;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -44,8 +45,6 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @ContextConfiguration(classes = PersistenceTestConfiguration.class)
 public class RepresentationRepositoryIntegrationTests extends AbstractIntegrationTests {
 
-    private static final String DOCUMENT_NAME = "Obsydians"; //$NON-NLS-1$
-
     private static final String OWNER_NAME = "Jyn Erso"; //$NON-NLS-1$
 
     private static final String ROLE_USER = "user"; //$NON-NLS-1$
@@ -66,17 +65,11 @@ public class RepresentationRepositoryIntegrationTests extends AbstractIntegratio
 
     private static final String SECOND_TARGET_OBJECT_ID = "secondTargetObjectId"; //$NON-NLS-1$
 
-    private static final String DOCUMENT_CONTENT_PATTERN = "{ \"id\": \"%1$s\" }"; //$NON-NLS-1$
+    private static final UUID DESCRIPTION_ID = UUID.randomUUID();
+
+    private static final String JSON_CONTENT_FORMAT = "json"; //$NON-NLS-1$
 
-    // @formatter:off
-    private static final String DOCUMENT_CONTENT = "{" + System.lineSeparator() //$NON-NLS-1$
-    + "    \"json\": {" + System.lineSeparator() //$NON-NLS-1$
-    + "      \"version\": \"1.0\"," + System.lineSeparator() //$NON-NLS-1$
-    + "    \"encoding\": \"utf-8\"" + System.lineSeparator() //$NON-NLS-1$
-    + "  }," + System.lineSeparator() //$NON-NLS-1$
-    + "  \"content\": [%1$s]" + System.lineSeparator() //$NON-NLS-1$
-    + "}" + System.lineSeparator(); //$NON-NLS-1$
-    // @formatter:on
+    private static final String BINARY_CONTENT_FORMAT = "smile"; //$NON-NLS-1$
 
     @Autowired
     private IAccountRepository accountRepository;
@@ -120,6 +113,31 @@ public class RepresentationRepositoryIntegrationTests extends AbstractIntegratio
         });
     }
 
+    @Test
+    @Transactional
+    public void testInsertAndRetrieveABinaryRepresentation() {
+        ProjectEntity savedProject = this.createAndSaveProjectEntity();
+
+        RepresentationEntity representationEntity = this.createRepresentationEntity(savedProject, FIRST_DIAGRAM_LABEL, FIRST_TARGET_OBJECT_ID);
+        representationEntity.setContentFormat(BINARY_CONTENT_FORMAT);
+        representationEntity.setContent(null);
+        representationEntity.setBinaryContent(new byte[] { 0x3A, 0x29, 0x0A, 0x01 });
+        RepresentationEntity savedRepresentation = this.representationRepository.save(representationEntity);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        var optionalRepresentationFound = this.representationRepository.findById(savedRepresentation.getId());
+        assertThat(optionalRepresentationFound).isPresent();
+        optionalRepresentationFound.ifPresent(representationFound -> {
+            assertThat(representationFound.getContent()).isNull();
+            assertThat(representationFound.getContentFormat()).isEqualTo(BINARY_CONTENT_FORMAT);
+            assertThat(representationFound.getBinaryContent()).isEqualTo(representationEntity.getBinaryContent());
+        });
+
+        List<RepresentationEntity> representationEntitiesToMigrate = this.representationRepository.findAllWithOtherContentFormat(JSON_CONTENT_FORMAT, new UUID(0, 0), PageRequest.of(0, 10));
+        assertThat(representationEntitiesToMigrate).extracting(RepresentationEntity::getId).containsExactly(savedRepresentation.getId());
+    }
+
     @Test
     @Transactional
     public void testFindByIdAndProjectId() {
@@ -248,33 +266,16 @@ public class RepresentationRepositoryIntegrationTests extends AbstractIntegratio
         return savedProject;
     }
 
-    private DocumentEntity createAndSaveDocumentEntity(ProjectEntity projectEntity, String documentContent) {
-
-        DocumentEntity documentEntity = new DocumentEntity();
-        documentEntity.setName(DOCUMENT_NAME);
-        documentEntity.setProject(projectEntity);
-        documentEntity.setContent(documentContent);
-
-        return this.documentRepository.save(documentEntity);
-    }
-
-    private String createDocumentContent(String... targetObjectIds) {
-        //@formatter:off
-        String documentContentContent = List.of(targetObjectIds).stream()
-                .map(targetObjectId -> String.format(DOCUMENT_CONTENT_PATTERN, targetObjectId))
-                .collect(Collectors.joining(",")); //$NON-NLS-1$
-        //@formatter:on
-
-        return String.format(DOCUMENT_CONTENT, documentContentContent);
-    }
-
     private RepresentationEntity createRepresentationEntity(ProjectEntity projectEntity, String label, String targetObjectId) {
         RepresentationEntity representationEntity = new RepresentationEntity();
         representationEntity.setId(UUID.randomUUID());
         representationEntity.setLabel(label);
         representationEntity.setProject(projectEntity);
+        representationEntity.setDescriptionId(DESCRIPTION_ID);
         representationEntity.setTargetObjectId(targetObjectId);
+        representationEntity.setKind("Diagram"); //$NON-NLS-1$
         representationEntity.setContentType("Diagram"); //$NON-NLS-1$
+        representationEntity.setContentFormat(JSON_CONTENT_FORMAT);
         representationEntity.setContent("{ \"nodes\": [], \"edges\": []}"); //$NON-NLS-1$
         return representationEntity;
     }
@@ -293,11 +294,9 @@ public class RepresentationRepositoryIntegrationTests extends AbstractIntegratio
 
     @Test
     @Transactional
-    public void testDeleteDanglingRepresentations() {
+    public void testDeleteRepresentationsByTargetObjectIds() {
         ProjectEntity projectEntity = this.createAndSaveProjectEntity();
         UUID projectId = projectEntity.getId();
-        String documentContent = this.createDocumentContent(FIRST_TARGET_OBJECT_ID, SECOND_TARGET_OBJECT_ID);
-        DocumentEntity documentEntity = this.createAndSaveDocumentEntity(projectEntity, documentContent);
 
         RepresentationEntity firstRepresentationEntity = this.createRepresentationEntity(projectEntity, FIRST_DIAGRAM_LABEL, FIRST_TARGET_OBJECT_ID);
         RepresentationEntity secondRepresentationEntity = this.createRepresentationEntity(projectEntity, SECOND_DIAGRAM_LABEL, SECOND_TARGET_OBJECT_ID);
@@ -306,20 +305,59 @@ public class RepresentationRepositoryIntegrationTests extends AbstractIntegratio
         this.representationRepository.save(secondRepresentationEntity);
         this.representationRepository.save(thirdRepresentationEntity);
 
-        assertThat(this.findRepresentationUUIDsByProject(projectId)).contains(firstRepresentationEntity.getId(), secondRepresentationEntity.getId(), thirdRepresentationEntity.getId());
-
-        this.representationRepository.deleteDanglingRepresentations(projectId);
-        assertThat(this.findRepresentationUUIDsByProject(projectId)).contains(firstRepresentationEntity.getId(), secondRepresentationEntity.getId(), thirdRepresentationEntity.getId());
+        List<String> targetObjectIds = this.representationRepository.findAllTargetObjectIdsByProjectId(projectId);
+        assertThat(targetObjectIds).containsExactlyInAnyOrder(FIRST_TARGET_OBJECT_ID, SECOND_TARGET_OBJECT_ID);
 
-        documentEntity.setContent(this.createDocumentContent(FIRST_TARGET_OBJECT_ID));
-        this.documentRepository.save(documentEntity);
-        this.representationRepository.deleteDanglingRepresentations(projectEntity.getId());
+        this.representationRepository.deleteAllByProjectIdAndTargetObjectIds(projectId, List.of(SECOND_TARGET_OBJECT_ID));
+        this.entityManager.clear();
 
         List<UUID> representationUUIDs = this.findRepresentationUUIDsByProject(projectId);
         assertThat(representationUUIDs).hasSizeLessThanOrEqualTo(1);
         assertThat(representationUUIDs).contains(firstRepresentationEntity.getId());
         assertThat(representationUUIDs).doesNotContain(secondRepresentationEntity.getId(), thirdRepresentationEntity.getId());
+    }
+
+    @Test
+    @Transactional
+    public void testFindAllByProjectIdAndTargetObjectIds() {
+        ProjectEntity projectEntity = this.createAndSaveProjectEntity();
+        UUID projectId = projectEntity.getId();
+
+        RepresentationEntity firstRepresentationEntity = this.createRepresentationEntity(projectEntity, FIRST_DIAGRAM_LABEL, FIRST_TARGET_OBJECT_ID);
+        RepresentationEntity secondRepresentationEntity = this.createRepresentationEntity(projectEntity, SECOND_DIAGRAM_LABEL, SECOND_TARGET_OBJECT_ID);
+        RepresentationEntity thirdRepresentationEntity = this.createRepresentationEntity(projectEntity, THIRD_DIAGRAM_LABEL, SECOND_TARGET_OBJECT_ID);
+        this.representationRepository.save(firstRepresentationEntity);
+        this.representationRepository.save(secondRepresentationEntity);
+        this.representationRepository.save(thirdRepresentationEntity);
+
+        List<RepresentationEntity> representationEntities = this.representationRepository.findAllByProjectIdAndTargetObjectIds(projectId, List.of(SECOND_TARGET_OBJECT_ID));
+        assertThat(representationEntities).extracting(RepresentationEntity::getId).containsExactlyInAnyOrder(secondRepresentationEntity.getId(), thirdRepresentationEntity.getId());
+    }
+
+    @Test
+    @Transactional
+    public void testFindAllMetadataByProjectIdAndTargetObjectIds() {
+        ProjectEntity projectEntity = this.createAndSaveProjectEntity();
+        UUID projectId = projectEntity.getId();
+
+        RepresentationEntity firstRepresentationEntity = this.createRepresentationEntity(projectEntity, FIRST_DIAGRAM_LABEL, FIRST_TARGET_OBJECT_ID);
+        RepresentationEntity secondRepresentationEntity = this.createRepresentationEntity(projectEntity, SECOND_DIAGRAM_LABEL, SECOND_TARGET_OBJECT_ID);
+        this.representationRepository.save(firstRepresentationEntity);
+        this.representationRepository.save(secondRepresentationEntity);
 
+        List<IRepresentationMetadataProjection> allRepresentationMetadata = this.representationRepository.findAllMetadataByProjectId(projectId);
+        assertThat(allRepresentationMetadata).extracting(IRepresentationMetadataProjection::getId).containsExactlyInAnyOrder(firstRepresentationEntity.getId(),
+                secondRepresentationEntity.getId());
+
+        List<IRepresentationMetadataProjection> representationMetadata = this.representationRepository.findAllMetadataByProjectIdAndTargetObjectIds(projectId, List.of(SECOND_TARGET_OBJECT_ID));
+        assertThat(representationMetadata).hasSize(1);
+        IRepresentationMetadataProjection secondRepresentationMetadata = representationMetadata.get(0);
+        assertThat(secondRepresentationMetadata.getId()).isEqualTo(secondRepresentationEntity.getId());
+        assertThat(secondRepresentationMetadata.getProjectId()).isEqualTo(projectId);
+        assertThat(secondRepresentationMetadata.getDescriptionId()).isEqualTo(DESCRIPTION_ID);
+        assertThat(secondRepresentationMetadata.getTargetObjectId()).isEqualTo(SECOND_TARGET_OBJECT_ID);
+        assertThat(secondRepresentationMetadata.getLabel()).isEqualTo(SECOND_DIAGRAM_LABEL);
+        assertThat(secondRepresentationMetadata.getKind()).isEqualTo("Diagram"); //$NON-NLS-1$
     }
 
     private List<UUID> findRepresentationUUIDsByProject(UUID projectId) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -29,7 +29,7 @@ public class GetOrCreateRandomIdProvider implements Function<VariableManager, UU
     @Override
     public UUID apply(VariableManager variableManager) {
         // @formatter:off
-        return Optional.ofNullable(variableManager.getVariables().get(PREVIOUS_REPRESENTATION_ID))
+        return Optional.ofNullable(variableManager.getReadOnlyVariables().get(PREVIOUS_REPRESENTATION_ID))
                 .filter(UUID.class::isInstance)
                 .map(UUID.class::cast)
                 .orElseGet(UUID::randomUUID);
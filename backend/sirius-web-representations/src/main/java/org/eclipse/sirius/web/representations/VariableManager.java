@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.representations;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used to manage the variables.
@@ -35,6 +40,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables of this variable manager and of its parents.
+     */
+    private final Map<String, Object> readOnlyVariables = new ReadOnlyVariables(this);
+
     /**
      * The constructor.
      */
@@ -57,13 +67,43 @@ public class VariableManager {
         return previous;
     }
 
+    /**
+     * Returns a new map containing the variables of this variable manager and of its parents.
+     *
+     * <p>
+     * The map returned can be modified by the caller without any impact on this variable manager. Callers which only
+     * need to read the variables should use {@link #getReadOnlyVariables()} instead.
+     * </p>
+     *
+     * @return A copy of the variables
+     */
     public Map<String, Object> getVariables() {
-        if (this.parent != null) {
-            Map<String, Object> parentVariables = this.parent.getVariables();
-            parentVariables.putAll(this.variables);
-            return parentVariables;
+        List<VariableManager> variableManagers = new ArrayList<>();
+        VariableManager variableManager = this;
+        while (variableManager != null) {
+            variableManagers.add(variableManager);
+            variableManager = variableManager.parent;
+        }
+
+        Map<String, Object> allVariables = new HashMap<>();
+        for (int i = variableManagers.size() - 1; i >= 0; i--) {
+            allVariables.putAll(variableManagers.get(i).variables);
         }
-        return new HashMap<>(this.variables);
+        return allVariables;
+    }
+
+    /**
+     * Returns a read-only view of the variables of this variable manager and of its parents.
+     *
+     * <p>
+     * The lookup of a variable in this view does not copy anything, it walks up the variable managers until one of them
+     * defines the variable. The view reflects the changes performed on the variable managers afterwards.
+     * </p>
+     *
+     * @return A read-only view of the variables
+     */
+    public Map<String, Object> getReadOnlyVariables() {
+        return this.readOnlyVariables;
     }
 
     public <T> Optional<T> get(String name, Class<T> expectedType) {
@@ -82,6 +122,14 @@ public class VariableManager {
         return value;
     }
 
+    private VariableManager findDefiningVariableManager(Object name) {
+        VariableManager variableManager = this;
+        while (variableManager != null && !variableManager.variables.containsKey(name)) {
+            variableManager = variableManager.parent;
+        }
+        return variableManager;
+    }
+
     public VariableManager createChild() {
         return new VariableManager(this);
     }
@@ -101,4 +149,38 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables of a variable manager and of its parents.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ReadOnlyVariables extends AbstractMap<String, Object> {
+
+        private final VariableManager variableManager;
+
+        ReadOnlyVariables(VariableManager variableManager) {
+            this.variableManager = variableManager;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = null;
+            VariableManager definingVariableManager = this.variableManager.findDefiningVariableManager(key);
+            if (definingVariableManager != null) {
+                value = definingVariableManager.variables.get(key);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.variableManager.findDefiningVariableManager(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(this.variableManager.getVariables()).entrySet();
+        }
+    }
 }
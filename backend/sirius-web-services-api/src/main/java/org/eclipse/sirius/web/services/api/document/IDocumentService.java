@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.services.api.document;
 
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,12 +30,37 @@ public interface IDocumentService {
 
     Optional<Document> createDocument(UUID projectId, String name, String content);
 
+    /**
+     * Creates several documents in the given project in a single transaction.
+     *
+     * @param projectId
+     *            The identifier of the project
+     * @param namesAndContents
+     *            The name and the content of each document to create
+     * @return The documents created, in the same order as their names and contents, or an empty list if the project
+     *         does not exist
+     */
+    List<Document> createDocuments(UUID projectId, List<Entry<String, String>> namesAndContents);
+
     Optional<Document> getDocument(UUID documentId);
 
     Optional<Document> getDocument(UUID projectId, UUID documentId);
 
     List<Document> getDocuments(UUID projectId);
 
+    /**
+     * Returns one page of the documents of the given project, ordered by their ids.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param page
+     *            The index of the page, starting at 0
+     * @param size
+     *            The size of the pages
+     * @return The documents of the page or an empty list if there are no more documents
+     */
+    List<Document> getDocuments(UUID projectId, int page, int size);
+
     void delete(UUID documentId);
 
     Optional<byte[]> getBytes(Document document, String resourceKind);
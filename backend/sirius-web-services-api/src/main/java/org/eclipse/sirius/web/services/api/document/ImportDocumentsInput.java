@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.api.document;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.spring.graphql.api.UploadFile;
+
+/**
+ * The input used to create several documents from file uploads at once, for example during the import of a project.
+ *
+ * <p>
+ * The files are identified by a key chosen by the caller, like the identifier of the document in the project imported,
+ * which is used to retrieve the documents created in the payload.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class ImportDocumentsInput implements IInput {
+
+    private final UUID id;
+
+    private final UUID editingContextId;
+
+    private final Map<String, UploadFile> files;
+
+    public ImportDocumentsInput(UUID id, UUID editingContextId, Map<String, UploadFile> files) {
+        this.id = Objects.requireNonNull(id);
+        this.editingContextId = Objects.requireNonNull(editingContextId);
+        this.files = Objects.requireNonNull(files);
+    }
+
+    @Override
+    public UUID getId() {
+        return this.id;
+    }
+
+    public UUID getEditingContextId() {
+        return this.editingContextId;
+    }
+
+    public Map<String, UploadFile> getFiles() {
+        return this.files;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, editingContextId: {2}, files: {3}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.editingContextId, this.files.size());
+    }
+
+}
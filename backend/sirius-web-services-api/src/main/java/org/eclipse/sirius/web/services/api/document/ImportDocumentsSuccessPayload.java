@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.api.document;
+
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.graphql.GraphQLField;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLID;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLNonNull;
+import org.eclipse.sirius.web.annotations.graphql.GraphQLObjectType;
+import org.eclipse.sirius.web.core.api.IPayload;
+
+/**
+ * The payload returned once several documents have been created from file uploads at once.
+ *
+ * <p>
+ * The documents created are available with the key of their file in the {@link ImportDocumentsInput}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@GraphQLObjectType
+public final class ImportDocumentsSuccessPayload implements IPayload {
+
+    private final UUID id;
+
+    private final Map<String, Document> documents;
+
+    public ImportDocumentsSuccessPayload(UUID id, Map<String, Document> documents) {
+        this.id = Objects.requireNonNull(id);
+        this.documents = Objects.requireNonNull(documents);
+    }
+
+    @Override
+    @GraphQLID
+    @GraphQLField
+    @GraphQLNonNull
+    public UUID getId() {
+        return this.id;
+    }
+
+    public Map<String, Document> getDocuments() {
+        return this.documents;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, documents: {2}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.documents.size());
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.services.api.events;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.document.Document;
@@ -28,17 +29,34 @@ public class DocumentsModifiedEvent {
 
     private final List<Document> documents;
 
-    public DocumentsModifiedEvent(UUID projectId, List<Document> documents) {
+    private final Set<UUID> documentIds;
+
+    public DocumentsModifiedEvent(UUID projectId, List<Document> documents, Set<UUID> documentIds) {
         this.projectId = Objects.requireNonNull(projectId);
         this.documents = List.copyOf(Objects.requireNonNull(documents));
+        this.documentIds = Set.copyOf(Objects.requireNonNull(documentIds));
     }
 
     public UUID getProjectId() {
         return this.projectId;
     }
 
+    /**
+     * Returns the documents which have been modified.
+     *
+     * @return The documents which have been modified
+     */
     public List<Document> getDocuments() {
         return this.documents;
     }
 
+    /**
+     * Returns the identifiers of all the documents of the project, modified or not.
+     *
+     * @return The identifiers of all the documents of the project
+     */
+    public Set<UUID> getDocumentIds() {
+        return this.documentIds;
+    }
+
 }
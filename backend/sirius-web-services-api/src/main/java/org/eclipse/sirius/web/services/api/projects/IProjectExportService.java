@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.api.projects;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 /**
@@ -23,4 +25,20 @@ public interface IProjectExportService {
 
     byte[] exportProjectAsZip(UUID projectId);
 
+    /**
+     * Writes the zip of the project with the given id in the given output stream.
+     *
+     * <p>
+     * The output stream is not closed by this method.
+     * </p>
+     *
+     * @param projectId
+     *            The id of the project to export
+     * @param outputStream
+     *            The output stream in which the zip will be written
+     * @throws IOException
+     *             if an I/O error occurred
+     */
+    void exportProjectAsZip(UUID projectId, OutputStream outputStream) throws IOException;
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.api.representations;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -29,8 +31,27 @@ public interface IRepresentationService {
 
     List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId);
 
+    /**
+     * Returns one page of the representation descriptors of the given project, ordered by their ids.
+     *
+     * @param projectId
+     *            The id of the project
+     * @param page
+     *            The index of the page, starting at 0
+     * @param size
+     *            The size of the pages
+     * @return The representation descriptors of the page or an empty list if there are no more representations
+     */
+    List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId, int page, int size);
+
     List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId);
 
+    Set<String> getTargetObjectIdsWithRepresentations(UUID projectId);
+
+    List<RepresentationMetadata> getRepresentationMetadataForProjectId(UUID projectId);
+
+    List<RepresentationMetadata> getRepresentationMetadataForObjectIds(UUID projectId, Collection<String> objectIds);
+
     Optional<RepresentationDescriptor> getRepresentation(UUID representationId);
 
 }
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.api.representations;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+
+/**
+ * The metadata of a representation.
+ *
+ * <p>
+ * Contrary to the {@link RepresentationDescriptor}, it does not contain the representation itself and can thus be
+ * retrieved without deserializing its content. It should be used by the list views which only display representations.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+public final class RepresentationMetadata {
+    private UUID id;
+
+    private UUID projectId;
+
+    private UUID descriptionId;
+
+    private String targetObjectId;
+
+    private String label;
+
+    private String kind;
+
+    public UUID getId() {
+        return this.id;
+    }
+
+    public UUID getProjectId() {
+        return this.projectId;
+    }
+
+    public UUID getDescriptionId() {
+        return this.descriptionId;
+    }
+
+    public String getTargetObjectId() {
+        return this.targetObjectId;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public String getKind() {
+        return this.kind;
+    }
+
+    public static Builder newRepresentationMetadata(UUID id) {
+        return new Builder(id);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, kind: {2}, label: {3}, targetObjectId: {4}'}'"; //$NON-NLS-1$
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.kind, this.label, this.targetObjectId);
+    }
+
+    /**
+     * The builder used to create the representation metadata.
+     *
+     * @author sbegaudeau
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private UUID id;
+
+        private UUID projectId;
+
+        private UUID descriptionId;
+
+        private String targetObjectId;
+
+        private String label;
+
+        private String kind;
+
+        private Builder(UUID id) {
+            this.id = Objects.requireNonNull(id);
+        }
+
+        public Builder projectId(UUID projectId) {
+            this.projectId = Objects.requireNonNull(projectId);
+            return this;
+        }
+
+        public Builder descriptionId(UUID descriptionId) {
+            this.descriptionId = Objects.requireNonNull(descriptionId);
+            return this;
+        }
+
+        public Builder targetObjectId(String targetObjectId) {
+            this.targetObjectId = Objects.requireNonNull(targetObjectId);
+            return this;
+        }
+
+        public Builder label(String label) {
+            this.label = Objects.requireNonNull(label);
+            return this;
+        }
+
+        public Builder kind(String kind) {
+            this.kind = Objects.requireNonNull(kind);
+            return this;
+        }
+
+        public RepresentationMetadata build() {
+            RepresentationMetadata representationMetadata = new RepresentationMetadata();
+            representationMetadata.id = Objects.requireNonNull(this.id);
+            representationMetadata.projectId = Objects.requireNonNull(this.projectId);
+            representationMetadata.descriptionId = Objects.requireNonNull(this.descriptionId);
+            representationMetadata.targetObjectId = Objects.requireNonNull(this.targetObjectId);
+            representationMetadata.label = Objects.requireNonNull(this.label);
+            representationMetadata.kind = Objects.requireNonNull(this.kind);
+            return representationMetadata;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The configuration used to let Hibernate send the insertions and updates of several entities in JDBC batches.
+ *
+ * <p>
+ * The documents of an imported project or the documents written behind by the persistence of an editing context are
+ * saved together, they are thus sent in a few statements instead of one per document. The Hibernate properties
+ * configured explicitly by the application are kept.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class JdbcBatchingConfiguration {
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${org.eclipse.sirius.web.persistence.jdbcBatchSize:50}") int jdbcBatchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", jdbcBatchSize); //$NON-NLS-1$
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", Boolean.TRUE); //$NON-NLS-1$
+            hibernateProperties.putIfAbsent("hibernate.order_updates", Boolean.TRUE); //$NON-NLS-1$
+        };
+    }
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.documents;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
+import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.eclipse.sirius.web.services.api.events.ProjectDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches, by document id, the elements converted from the documents whose roots belong to a given EPackage.
+ *
+ * <p>
+ * The cache is loaded lazily from the database the first time it is needed and it is then only updated when a matching
+ * document is created, modified or deleted, as reported by the {@link DocumentsModifiedEvent} and
+ * {@link ProjectDeletedEvent} events. A document is only converted again if its content has changed.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the elements converted from the documents
+ * @author sbegaudeau
+ */
+public class DocumentConversionCache<T> {
+
+    private final Logger logger = LoggerFactory.getLogger(DocumentConversionCache.class);
+
+    private final IDocumentRepository documentRepository;
+
+    private final EPackage.Registry ePackageRegistry;
+
+    private final EPackage rootEPackage;
+
+    private final Function<Resource, List<T>> converter;
+
+    private final Map<UUID, ConvertedDocument<T>> cache = new ConcurrentHashMap<>();
+
+    private volatile List<T> values;
+
+    /**
+     * The constructor.
+     *
+     * @param documentRepository
+     *            The repository used to find the matching documents the first time the cache is needed
+     * @param ePackageRegistry
+     *            The package registry used to load the documents
+     * @param rootEPackage
+     *            The EPackage of the roots of the documents to convert
+     * @param converter
+     *            Converts the resource of a matching document
+     */
+    public DocumentConversionCache(IDocumentRepository documentRepository, EPackage.Registry ePackageRegistry, EPackage rootEPackage, Function<Resource, List<T>> converter) {
+        this.documentRepository = Objects.requireNonNull(documentRepository);
+        this.ePackageRegistry = Objects.requireNonNull(ePackageRegistry);
+        this.rootEPackage = Objects.requireNonNull(rootEPackage);
+        this.converter = Objects.requireNonNull(converter);
+    }
+
+    /**
+     * Returns the elements converted from all the matching documents.
+     *
+     * @return The elements converted from all the matching documents
+     */
+    public List<T> getValues() {
+        List<T> currentValues = this.values;
+        if (currentValues == null) {
+            currentValues = this.initialize();
+        }
+        return currentValues;
+    }
+
+    /**
+     * Indicates if the cache has already been loaded.
+     *
+     * @return <code>true</code> if the cache has already been loaded, <code>false</code> otherwise
+     */
+    public boolean isInitialized() {
+        return this.values != null;
+    }
+
+    private synchronized List<T> initialize() {
+        if (this.values == null) {
+            this.documentRepository.findAllByType(this.rootEPackage.getName(), this.rootEPackage.getNsURI()).forEach(documentEntity -> {
+                UUID projectId = documentEntity.getProject().getId();
+                this.convert(projectId, documentEntity.getId(), documentEntity.getContent()).ifPresent(convertedDocument -> this.cache.put(documentEntity.getId(), convertedDocument));
+            });
+            this.refreshValues();
+        }
+        return this.values;
+    }
+
+    /**
+     * Updates the cached elements of the documents of the project which has been persisted.
+     *
+     * <p>
+     * The event contains the identifiers of all the documents of the project, the cached documents which are not part
+     * of them anymore have thus been deleted.
+     * </p>
+     *
+     * @param event
+     *            The event indicating that the documents of a project have been persisted
+     */
+    public synchronized void documentsModified(DocumentsModifiedEvent event) {
+        if (this.values != null) {
+            boolean hasChanged = this.removeDeletedDocuments(event.getProjectId(), event.getDocumentIds());
+            for (Document document : event.getDocuments()) {
+                var cachedDocument = this.cache.get(document.getId());
+                if (cachedDocument == null || !cachedDocument.getContent().equals(document.getContent())) {
+                    var optionalConvertedDocument = this.convert(event.getProjectId(), document.getId(), document.getContent());
+                    if (optionalConvertedDocument.isPresent()) {
+                        this.cache.put(document.getId(), optionalConvertedDocument.get());
+                        hasChanged = true;
+                    } else if (cachedDocument != null) {
+                        this.cache.remove(document.getId());
+                        hasChanged = true;
+                    }
+                }
+            }
+            if (hasChanged) {
+                this.refreshValues();
+            }
+        }
+    }
+
+    /**
+     * Removes the cached elements of the documents of the project which has been deleted.
+     *
+     * @param event
+     *            The event indicating that a project has been deleted
+     */
+    public synchronized void projectDeleted(ProjectDeletedEvent event) {
+        if (this.values != null && this.removeDeletedDocuments(event.getProjectId(), Set.of())) {
+            this.refreshValues();
+        }
+    }
+
+    private boolean removeDeletedDocuments(UUID projectId, Set<UUID> documentIds) {
+        return this.cache.entrySet().removeIf(entry -> entry.getValue().getProjectId().equals(projectId) && !documentIds.contains(entry.getKey()));
+    }
+
+    private void refreshValues() {
+        List<T> allValues = new ArrayList<>();
+        this.cache.values().forEach(convertedDocument -> allValues.addAll(convertedDocument.getValues()));
+        this.values = List.copyOf(allValues);
+    }
+
+    /**
+     * Converts the given document if its roots belong to the expected EPackage.
+     *
+     * <p>
+     * Looking for the namespace URI in the content only avoids loading the documents which cannot match, a document may
+     * also merely reference the EPackage so its roots are checked once loaded.
+     * </p>
+     */
+    private Optional<ConvertedDocument<T>> convert(UUID projectId, UUID documentId, String content) {
+        Optional<ConvertedDocument<T>> optionalConvertedDocument = Optional.empty();
+        if (content.contains(this.rootEPackage.getNsURI())) {
+            Resource resource = this.load(documentId, content);
+            boolean hasMatchingRoot = resource.getContents().stream().map(EObject::eClass).anyMatch(eClass -> this.rootEPackage.getNsURI().equals(eClass.getEPackage().getNsURI()));
+            if (hasMatchingRoot) {
+                optionalConvertedDocument = Optional.of(new ConvertedDocument<>(projectId, content, this.converter.apply(resource)));
+            }
+        }
+        return optionalConvertedDocument;
+    }
+
+    private Resource load(UUID documentId, String content) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.setPackageRegistry(this.ePackageRegistry);
+        URI uri = URI.createURI(documentId.toString());
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
+        resourceSet.getResources().add(resource);
+        try (var inputStream = new ByteArrayInputStream(content.getBytes())) {
+            resource.load(inputStream, null);
+        } catch (IOException | IllegalArgumentException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return resource;
+    }
+
+    /**
+     * The elements converted from a document along with the content they have been computed from.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ConvertedDocument<T> {
+
+        private final UUID projectId;
+
+        private final String content;
+
+        private final List<T> values;
+
+        ConvertedDocument(UUID projectId, String content, List<T> values) {
+            this.projectId = Objects.requireNonNull(projectId);
+            this.content = Objects.requireNonNull(content);
+            this.values = List.copyOf(Objects.requireNonNull(values));
+        }
+
+        UUID getProjectId() {
+            return this.projectId;
+        }
+
+        String getContent() {
+            return this.content;
+        }
+
+        List<T> getValues() {
+            return this.values;
+        }
+    }
+}
@@ -15,9 +15,11 @@ package org.eclipse.sirius.web.services.documents;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +43,7 @@ import org.eclipse.sirius.web.services.api.document.Document;
 import org.eclipse.sirius.web.services.api.document.IDocumentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 /**
@@ -82,6 +85,28 @@ public class DocumentService implements IDocumentService {
 
     }
 
+    @Override
+    public List<Document> createDocuments(UUID projectId, List<Entry<String, String>> namesAndContents) {
+        List<Document> documents = new ArrayList<>();
+
+        var optionalProjectEntity = this.projectRepository.findById(projectId);
+        if (optionalProjectEntity.isPresent()) {
+            List<DocumentEntity> documentEntities = new ArrayList<>();
+            for (Entry<String, String> nameAndContent : namesAndContents) {
+                DocumentEntity documentEntity = new DocumentEntity();
+                documentEntity.setProject(optionalProjectEntity.get());
+                documentEntity.setName(nameAndContent.getKey());
+                documentEntity.setContent(nameAndContent.getValue());
+                documentEntities.add(documentEntity);
+            }
+
+            DocumentMapper documentMapper = new DocumentMapper();
+            this.documentRepository.saveAll(documentEntities).forEach(documentEntity -> documents.add(documentMapper.toDTO(documentEntity)));
+        }
+
+        return documents;
+    }
+
     @Override
     public Optional<Document> getDocument(UUID documentId) {
         return this.documentRepository.findById(documentId).map(new DocumentMapper()::toDTO);
@@ -101,6 +126,15 @@ public class DocumentService implements IDocumentService {
         // @formatter:on
     }
 
+    @Override
+    public List<Document> getDocuments(UUID projectId, int page, int size) {
+        // @formatter:off
+        return this.documentRepository.findAllByProjectIdOrderById(projectId, PageRequest.of(page, size)).stream()
+                .map(new DocumentMapper()::toDTO)
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
+
     @Override
     public void delete(UUID documentId) {
         this.documentRepository.deleteById(documentId);
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.documents;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.web.collaborative.api.services.ChangeDescription;
+import org.eclipse.sirius.web.collaborative.api.services.ChangeKind;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.core.api.ErrorPayload;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.emf.services.EditingContext;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.services.api.document.IDocumentService;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsInput;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsSuccessPayload;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.eclipse.sirius.web.services.messages.IServicesMessageService;
+import org.eclipse.sirius.web.spring.graphql.api.UploadFile;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Event handler used to create several documents at once from uploaded files, during the import of a project.
+ *
+ * <p>
+ * The documents are created in a single transaction and loaded in the editing context before a single change is
+ * reported for all of them. The resources loaded are tracking their modifications since their content has just been
+ * saved, they will thus not be serialized again when the editing context is persisted. Since the persistence of the
+ * editing context will not report them either, the new documents are published directly to the listeners of the
+ * {@link DocumentsModifiedEvent}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ImportDocumentsEventHandler implements IEditingContextEventHandler {
+
+    private final IDocumentService documentService;
+
+    private final IServicesMessageService messageService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Counter counter;
+
+    public ImportDocumentsEventHandler(IDocumentService documentService, IServicesMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
+            MeterRegistry meterRegistry) {
+        this.documentService = Objects.requireNonNull(documentService);
+        this.messageService = Objects.requireNonNull(messageService);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+
+        // @formatter:off
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public boolean canHandle(IInput input) {
+        return input instanceof ImportDocumentsInput;
+    }
+
+    @Override
+    public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        EventHandlerResponse response = new EventHandlerResponse(new ChangeDescription(ChangeKind.NOTHING, editingContext.getId()),
+                new ErrorPayload(input.getId(), this.messageService.unexpectedError()));
+
+        // @formatter:off
+        Optional<ResourceSet> optionalResourceSet = Optional.of(editingContext)
+                .filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast)
+                .map(EditingContext::getDomain)
+                .map(AdapterFactoryEditingDomain::getResourceSet);
+        // @formatter:on
+
+        if (input instanceof ImportDocumentsInput && optionalResourceSet.isPresent()) {
+            ImportDocumentsInput importDocumentsInput = (ImportDocumentsInput) input;
+            ResourceSet resourceSet = optionalResourceSet.get();
+            UploadedDocumentLoader uploadedDocumentLoader = new UploadedDocumentLoader();
+
+            List<String> keys = new ArrayList<>();
+            List<Entry<String, String>> namesAndContents = new ArrayList<>();
+            for (Entry<String, UploadFile> entry : importDocumentsInput.getFiles().entrySet()) {
+                String name = entry.getValue().getName().trim();
+                String content = uploadedDocumentLoader.getContent(resourceSet.getPackageRegistry(), entry.getValue());
+                keys.add(entry.getKey());
+                namesAndContents.add(Map.entry(name, content));
+            }
+
+            List<Document> documents = this.documentService.createDocuments(importDocumentsInput.getEditingContextId(), namesAndContents);
+            if (documents.size() == keys.size()) {
+                Map<String, Document> keyToDocument = new LinkedHashMap<>();
+                for (int i = 0; i < documents.size(); i++) {
+                    Document document = documents.get(i);
+                    uploadedDocumentLoader.loadDocument(resourceSet, document).setTrackingModification(true);
+                    keyToDocument.put(keys.get(i), document);
+                }
+                this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(editingContext.getId(), documents, this.getDocumentIds(resourceSet)));
+
+                IPayload payload = new ImportDocumentsSuccessPayload(input.getId(), keyToDocument);
+                response = new EventHandlerResponse(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId()), payload);
+            }
+        }
+        return response;
+    }
+
+    private Set<UUID> getDocumentIds(ResourceSet resourceSet) {
+        Set<UUID> documentIds = new LinkedHashSet<>();
+        for (Resource resource : resourceSet.getResources()) {
+            try {
+                documentIds.add(UUID.fromString(resource.getURI().toString()));
+            } catch (IllegalArgumentException exception) {
+                // Only the resources of the documents have an identifier as URI
+            }
+        }
+        return documentIds;
+    }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.documents;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.emfjson.resource.JsonResourceImpl;
+import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
+import org.eclipse.sirius.web.emf.utils.EMFResourceUtils;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.spring.graphql.api.UploadFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Used to convert the uploaded files to the content of new documents and to load those documents in an editing
+ * context.
+ *
+ * @author sbegaudeau
+ */
+public class UploadedDocumentLoader {
+
+    private final Logger logger = LoggerFactory.getLogger(UploadedDocumentLoader.class);
+
+    /**
+     * Converts the given JSON or XMI file to the JSON content of a document, with new ids for all its objects.
+     *
+     * @param registry
+     *            The package registry of the editing context
+     * @param file
+     *            The uploaded file
+     * @return The content of the document, empty if the file could not be read
+     */
+    public String getContent(EPackage.Registry registry, UploadFile file) {
+        String uri = file.getName();
+        String content = ""; //$NON-NLS-1$
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.setPackageRegistry(registry);
+        try (var inputStream = file.getInputStream()) {
+            URI resourceURI = URI.createURI(uri);
+            Optional<Resource> optionalInputResource = this.getResource(inputStream, resourceURI, resourceSet);
+            if (optionalInputResource.isPresent()) {
+                Resource inputResource = optionalInputResource.get();
+                JsonResource ouputResource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(uri));
+                resourceSet.getResources().add(ouputResource);
+                ouputResource.getContents().addAll(inputResource.getContents());
+
+                try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                    Map<String, Object> saveOptions = new HashMap<>();
+                    saveOptions.put(JsonResource.OPTION_ENCODING, JsonResource.ENCODING_UTF_8);
+                    saveOptions.put(JsonResource.OPTION_SCHEMA_LOCATION, Boolean.TRUE);
+                    saveOptions.put(JsonResource.OPTION_ID_MANAGER, new EObjectRandomIDManager());
+
+                    ouputResource.save(outputStream, saveOptions);
+
+                    content = outputStream.toString();
+                }
+            }
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        return content;
+    }
+
+    /**
+     * Loads the given document in the given resource set.
+     *
+     * @param resourceSet
+     *            The resource set of the editing context
+     * @param document
+     *            The document
+     * @return The resource of the document
+     */
+    public Resource loadDocument(ResourceSet resourceSet, Document document) {
+        URI uri = URI.createURI(document.getId().toString());
+
+        ResourceSet loadingResourceSet = new ResourceSetImpl();
+        loadingResourceSet.setPackageRegistry(resourceSet.getPackageRegistry());
+
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
+        loadingResourceSet.getResources().add(resource);
+        try (var inputStream = new ByteArrayInputStream(document.getContent().getBytes())) {
+            resource.load(inputStream, null);
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+
+        resource.eAdapters().add(new DocumentMetadataAdapter(document.getName()));
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    /**
+     * Returns the {@link Resource} with the given {@link URI} or {@link Optional#empty()} regarding to the content of
+     * the first line of the given {@link InputStream}.
+     *
+     * <p>
+     * Returns a {@link JsonResourceImpl} if the first line contains a '{', a {@link XMIResourceImpl} if the first line
+     * contains '<', {@link Optional#empty()} otherwise.
+     * </p>
+     *
+     * @param inputStream
+     *            The {@link InputStream} used to determine which {@link Resource} to create
+     * @param resourceURI
+     *            The {@link URI} to use to create the {@link Resource}
+     * @param resourceSet
+     *            The {@link ResourceSet} used to store the loaded resource
+     * @return a {@link JsonResourceImpl}, a {@link XMIResourceImpl} or {@link Optional#empty()}
+     */
+    private Optional<Resource> getResource(InputStream inputStream, URI resourceURI, ResourceSet resourceSet) {
+        Resource resource = null;
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+        bufferedInputStream.mark(Integer.MAX_VALUE);
+        try (var reader = new BufferedReader(new InputStreamReader(bufferedInputStream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            Map<String, Object> options = new HashMap<>();
+            if (line != null) {
+                if (line.contains("{")) { //$NON-NLS-1$
+                    resource = new SiriusWebJSONResourceFactoryImpl().createResource(resourceURI);
+                } else if (line.contains("<")) { //$NON-NLS-1$
+                    resource = new XMIResourceImpl(resourceURI);
+                    options = new EMFResourceUtils().getXMILoadOptions();
+                }
+            }
+            bufferedInputStream.reset();
+            if (resource != null) {
+                resourceSet.getResources().add(resource);
+                resource.load(bufferedInputStream, options);
+            }
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        return Optional.ofNullable(resource);
+    }
+
+}
@@ -12,56 +12,87 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.editingcontext;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
-import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.domain.Domain;
 import org.eclipse.sirius.web.domain.DomainPackage;
 import org.eclipse.sirius.web.emf.domain.DomainConverter;
 import org.eclipse.sirius.web.emf.services.IEditingContextEPackageService;
-import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
-import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.eclipse.sirius.web.services.api.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.services.documents.DocumentConversionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * A service used to retrieve all the EPackages accessible for given editing context.
  *
+ * <p>
+ * The EPackages converted from each Domain document are cached by document id, see {@link DocumentConversionCache}.
+ * </p>
+ *
+ * <p>
+ * The siriusweb_domain_epackages counter, tagged with result=hit|miss, counts the lookups of the dynamic EPackages
+ * which have been served by the cache and those which had to load it. The conversions of the Domain documents are
+ * counted separately by the siriusweb_domain_epackages_conversions counter.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class EditingContextEPackageService implements IEditingContextEPackageService {
 
+    private static final String METRIC_NAME = "siriusweb_domain_epackages"; //$NON-NLS-1$
+
+    private static final String CONVERSIONS_METRIC_NAME = "siriusweb_domain_epackages_conversions"; //$NON-NLS-1$
+
+    private static final String RESULT = "result"; //$NON-NLS-1$
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEPackageService.class);
 
     private final EPackage.Registry globalEPackageRegistry;
 
-    private final IDocumentRepository documentRepository;
-
     private final boolean isStudioDefinitionEnabled;
 
-    public EditingContextEPackageService(EPackage.Registry globalEPackageRegistry, IDocumentRepository documentRepository,
+    private final DocumentConversionCache<EPackage> cache;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter conversionCounter;
+
+    public EditingContextEPackageService(EPackage.Registry globalEPackageRegistry, IDocumentRepository documentRepository, MeterRegistry meterRegistry,
             @Value("${org.eclipse.sirius.web.features.studioDefinition:false}") boolean isStudioDefinitionEnabled) {
         this.globalEPackageRegistry = Objects.requireNonNull(globalEPackageRegistry);
-        this.documentRepository = Objects.requireNonNull(documentRepository);
         this.isStudioDefinitionEnabled = isStudioDefinitionEnabled;
+        this.cache = new DocumentConversionCache<>(documentRepository, globalEPackageRegistry, DomainPackage.eINSTANCE, this::convert);
+
+        // @formatter:off
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag(RESULT, "hit") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag(RESULT, "miss") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.conversionCounter = Counter.builder(CONVERSIONS_METRIC_NAME)
+                .register(meterRegistry);
+        // @formatter:on
     }
 
     @Override
@@ -76,7 +107,7 @@ public class EditingContextEPackageService implements IEditingContextEPackageSer
             }
         });
         if (this.isStudioDefinitionEnabled) {
-            this.findDynamicEPackages(new DomainConverter()::convert).forEach(ePackage -> {
+            this.findDynamicEPackages().forEach(ePackage -> {
                 EPackage previous = allEPackages.put(ePackage.getNsURI(), ePackage);
                 if (previous != null) {
                     this.logger.warn("Duplicate EPackages with nsURI {} found.", ePackage.getNsURI()); //$NON-NLS-1$
@@ -96,39 +127,36 @@ public class EditingContextEPackageService implements IEditingContextEPackageSer
     /**
      * Returns all the EPackages defined by a Domain definition.
      */
-    private Stream<EPackage> findDynamicEPackages(Function<Domain, Optional<EPackage>> domainConverter) {
-        ResourceSet resourceSet = new ResourceSetImpl();
-
-        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
-        this.globalEPackageRegistry.forEach(ePackageRegistry::put);
-        resourceSet.setPackageRegistry(ePackageRegistry);
-
-        var domainDocumentEntities = this.documentRepository.findAllByType(DomainPackage.eNAME, DomainPackage.eNS_URI);
-        for (DocumentEntity domainDocumentEntity : domainDocumentEntities) {
-            this.loadDomainDefinitions(resourceSet, domainDocumentEntity);
+    private List<EPackage> findDynamicEPackages() {
+        if (this.cache.isInitialized()) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
         }
+        return this.cache.getValues();
+    }
 
-        return resourceSet.getResources().stream().flatMap(res -> this.convertDomains(res, domainConverter));
+    @EventListener
+    public void onDocumentsModified(DocumentsModifiedEvent event) {
+        this.cache.documentsModified(event);
     }
 
-    private void loadDomainDefinitions(ResourceSet resourceSet, DocumentEntity domainDocument) {
-        URI uri = URI.createURI(domainDocument.getId().toString());
-        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
-        try (var inputStream = new ByteArrayInputStream(domainDocument.getContent().getBytes())) {
-            resourceSet.getResources().add(resource);
-            resource.load(inputStream, null);
-        } catch (IOException | IllegalArgumentException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-        }
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        this.cache.projectDeleted(event);
     }
 
-    private Stream<EPackage> convertDomains(Resource resource, Function<Domain, Optional<EPackage>> domainConverter) {
+    private List<EPackage> convert(Resource resource) {
+        this.conversionCounter.increment();
+
+        DomainConverter domainConverter = new DomainConverter();
         // @formatter:off
         return resource.getContents().stream()
-                       .filter(Domain.class::isInstance)
-                       .map(Domain.class::cast)
-                       .map(domainConverter)
-                       .flatMap(Optional::stream);
+                .filter(Domain.class::isInstance)
+                .map(Domain.class::cast)
+                .map(domainConverter::convert)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,17 +14,24 @@ package org.eclipse.sirius.web.services.editingcontext;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
 
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
@@ -37,15 +44,37 @@ import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
 import org.eclipse.sirius.web.services.documents.DocumentMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
 
 /**
  * Service used to persist the editing context when a change has been performed.
  *
+ * <p>
+ * Only the resources which have been modified since they have been saved are serialized. Modifications are tracked by
+ * the resources themselves and resources which are not tracking their modifications yet are considered as modified.
+ * </p>
+ *
+ * <p>
+ * If a write-behind delay is configured, the content of the modified documents is kept in memory and all the changes
+ * performed on an editing context during this delay are written in a single batch. The pending changes of an editing
+ * context are written at the latest when it is disposed, and kept in memory to be written again if the write fails.
+ * Until then, the database lags behind the editing context: the {@link DocumentsModifiedEvent} is only published once
+ * the documents have been written, so the caches fed by this event never see content which is not in the database yet
+ * but may lag behind by this delay too, and the features reading the documents from the database, such as the export
+ * of a project or the download of a document, must {@link #flush(UUID)} the editing context first.
+ * </p>
+ *
+ * <p>
+ * The writes of an editing context are performed one at a time, the writes of different editing contexts are performed
+ * concurrently.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -61,9 +90,28 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final Timer timer;
 
-    public EditingContextPersistenceService(IDocumentRepository documentRepository, ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry) {
+    private final Duration writeBehindDelay;
+
+    /**
+     * The content of the modified documents which have not been written yet, by editing context id and document id.
+     */
+    private final Map<UUID, Map<UUID, String>> pendingContents = new HashMap<>();
+
+    /**
+     * The identifiers of all the documents of the editing contexts with pending changes.
+     */
+    private final Map<UUID, Set<UUID>> pendingDocumentIds = new HashMap<>();
+
+    /**
+     * The locks used to write the documents of each editing context one batch at a time, by editing context id.
+     */
+    private final Map<UUID, Object> writeLocks = new ConcurrentHashMap<>();
+
+    public EditingContextPersistenceService(IDocumentRepository documentRepository, ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry,
+            @Value("${org.eclipse.sirius.web.editingContextPersistence.writeBehindDelay:0s}") Duration writeBehindDelay) {
         this.documentRepository = Objects.requireNonNull(documentRepository);
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+        this.writeBehindDelay = Objects.requireNonNull(writeBehindDelay);
 
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
     }
@@ -73,27 +121,88 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
         long start = System.currentTimeMillis();
 
         if (editingContext instanceof EditingContext) {
-            EditingDomain editingDomain = ((EditingContext) editingContext).getDomain();
-            List<DocumentEntity> documentEntities = this.persist(editingDomain);
-            List<Document> documents = documentEntities.stream().map(new DocumentMapper()::toDTO).collect(Collectors.toList());
-            this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(editingContext.getId(), documents));
+            ResourceSet resourceSet = ((EditingContext) editingContext).getDomain().getResourceSet();
+            List<Resource> serializedResources = new ArrayList<>();
+            Map<UUID, String> contents = this.serializeModifiedResources(resourceSet, serializedResources);
+            Set<UUID> documentIds = this.getDocumentIds(resourceSet);
+
+            if (this.writeBehindDelay.isZero() || this.writeBehindDelay.isNegative()) {
+                synchronized (this.getWriteLock(editingContext.getId())) {
+                    this.write(editingContext.getId(), contents, documentIds);
+                }
+            } else {
+                this.writeBehind(editingContext.getId(), contents, documentIds);
+            }
+            serializedResources.forEach(this::markAsSaved);
         }
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
     }
 
-    private List<DocumentEntity> persist(EditingDomain editingDomain) {
-        List<DocumentEntity> result = new ArrayList<>();
-        List<Resource> resources = editingDomain.getResourceSet().getResources();
-        for (Resource resource : resources) {
-            this.save(resource).ifPresent(result::add);
+    @Override
+    public void flush(UUID editingContextId) {
+        synchronized (this.getWriteLock(editingContextId)) {
+            Map<UUID, String> contents;
+            Set<UUID> documentIds;
+            synchronized (this.pendingContents) {
+                contents = this.pendingContents.remove(editingContextId);
+                documentIds = this.pendingDocumentIds.remove(editingContextId);
+            }
+
+            if (contents != null && documentIds != null) {
+                boolean isWritten = false;
+                try {
+                    this.write(editingContextId, contents, documentIds);
+                    isWritten = true;
+                } finally {
+                    if (!isWritten) {
+                        this.writeAgainLater(editingContextId, contents, documentIds);
+                    }
+                }
+            }
+        }
+    }
+
+    private Object getWriteLock(UUID editingContextId) {
+        return this.writeLocks.computeIfAbsent(editingContextId, id -> new Object());
+    }
+
+    @PreDestroy
+    public void dispose() {
+        Set<UUID> editingContextIds;
+        synchronized (this.pendingContents) {
+            editingContextIds = Set.copyOf(this.pendingContents.keySet());
         }
-        return result;
+        editingContextIds.forEach(this::flush);
+    }
+
+    /**
+     * Serializes the modified resources. They are only marked as saved once their content has been written, or kept to
+     * be written later, so that a failure leaves them modified and they will be serialized again by the next change.
+     */
+    private Map<UUID, String> serializeModifiedResources(ResourceSet resourceSet, List<Resource> serializedResources) {
+        Map<UUID, String> contents = new LinkedHashMap<>();
+        for (Resource resource : resourceSet.getResources()) {
+            if (!resource.isTrackingModification() || resource.isModified()) {
+                Optional<String> optionalContent = this.serialize(resource);
+                Optional<UUID> optionalDocumentId = this.getDocumentId(resource);
+                if (optionalContent.isPresent() && optionalDocumentId.isPresent()) {
+                    contents.put(optionalDocumentId.get(), optionalContent.get());
+                    serializedResources.add(resource);
+                }
+            }
+        }
+        return contents;
+    }
+
+    private void markAsSaved(Resource resource) {
+        resource.setTrackingModification(true);
+        resource.setModified(false);
     }
 
-    private Optional<DocumentEntity> save(Resource resource) {
-        Optional<DocumentEntity> result = Optional.empty();
+    private Optional<String> serialize(Resource resource) {
+        Optional<String> result = Optional.empty();
         HashMap<Object, Object> options = new HashMap<>();
         options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
 
@@ -108,16 +217,86 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
             }
 
             byte[] bytes = outputStream.toByteArray();
-            String content = new String(bytes);
-
-            UUID id = UUID.fromString(resource.getURI().toString());
-            result = this.documentRepository.findById(id).map(entity -> {
-                entity.setContent(content);
-                return this.documentRepository.save(entity);
-            });
+            result = Optional.of(new String(bytes));
         } catch (IllegalArgumentException | IOException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
         return result;
     }
+
+    private Set<UUID> getDocumentIds(ResourceSet resourceSet) {
+        Set<UUID> documentIds = new LinkedHashSet<>();
+        resourceSet.getResources().forEach(resource -> this.getDocumentId(resource).ifPresent(documentIds::add));
+        return documentIds;
+    }
+
+    private Optional<UUID> getDocumentId(Resource resource) {
+        Optional<UUID> result = Optional.empty();
+        try {
+            result = Optional.of(UUID.fromString(resource.getURI().toString()));
+        } catch (IllegalArgumentException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the content of the documents which could not be written in order to write them again after the delay. The
+     * content of the documents modified in the meantime is more recent and is thus kept instead.
+     */
+    private void writeAgainLater(UUID editingContextId, Map<UUID, String> contents, Set<UUID> documentIds) {
+        boolean isFirstPendingChange;
+        synchronized (this.pendingContents) {
+            isFirstPendingChange = !this.pendingContents.containsKey(editingContextId);
+            Map<UUID, String> editingContextPendingContents = this.pendingContents.computeIfAbsent(editingContextId, id -> new LinkedHashMap<>());
+            contents.forEach(editingContextPendingContents::putIfAbsent);
+            this.pendingDocumentIds.putIfAbsent(editingContextId, documentIds);
+        }
+
+        if (isFirstPendingChange && !this.writeBehindDelay.isZero() && !this.writeBehindDelay.isNegative()) {
+            this.scheduleFlush(editingContextId);
+        }
+    }
+
+    private void writeBehind(UUID editingContextId, Map<UUID, String> contents, Set<UUID> documentIds) {
+        boolean isFirstPendingChange;
+        synchronized (this.pendingContents) {
+            isFirstPendingChange = !this.pendingContents.containsKey(editingContextId);
+            this.pendingContents.computeIfAbsent(editingContextId, id -> new LinkedHashMap<>()).putAll(contents);
+            this.pendingDocumentIds.put(editingContextId, documentIds);
+        }
+
+        if (isFirstPendingChange) {
+            this.scheduleFlush(editingContextId);
+        }
+    }
+
+    private void scheduleFlush(UUID editingContextId) {
+        // @formatter:off
+        Mono.delay(this.writeBehindDelay).subscribe(
+                tick -> this.flush(editingContextId),
+                throwable -> this.logger.error(throwable.getMessage(), throwable)
+        );
+        // @formatter:on
+    }
+
+    /**
+     * Writes the given content of the modified documents in a single batch and then publishes the documents which have
+     * been saved.
+     */
+    private void write(UUID editingContextId, Map<UUID, String> contents, Set<UUID> documentIds) {
+        List<DocumentEntity> documentEntities = new ArrayList<>();
+        if (!contents.isEmpty()) {
+            for (DocumentEntity documentEntity : this.documentRepository.findAllById(contents.keySet())) {
+                documentEntity.setContent(contents.get(documentEntity.getId()));
+                documentEntities.add(documentEntity);
+            }
+        }
+
+        List<Document> documents = new ArrayList<>();
+        if (!documentEntities.isEmpty()) {
+            this.documentRepository.saveAll(documentEntities).forEach(documentEntity -> documents.add(new DocumentMapper().toDTO(documentEntity)));
+        }
+        this.applicationEventPublisher.publishEvent(new DocumentsModifiedEvent(editingContextId, documents, documentIds));
+    }
 }
@@ -19,11 +19,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.command.BasicCommandStack;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
@@ -31,8 +31,11 @@ import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.web.emf.services.EClassInstancesIndex;
+import org.eclipse.sirius.web.emf.services.EObjectIDIndex;
 import org.eclipse.sirius.web.emf.services.EditingContext;
 import org.eclipse.sirius.web.emf.services.IEditingContextEPackageService;
+import org.eclipse.sirius.web.emf.services.LayeredEPackageRegistry;
 import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
 import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
@@ -94,26 +97,22 @@ public class EditingContextSearchService implements IEditingContextSearchService
         this.logger.debug("Loading the editing context {}", editingContextId); //$NON-NLS-1$
         ResourceSet resourceSet = new ResourceSetImpl();
 
-        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
-        this.globalEPackageRegistry.forEach(ePackageRegistry::put);
+        // The global registry only contains packages so it can be shared while documents are being loaded
+        EPackage.Registry ePackageRegistry = new LayeredEPackageRegistry(this.globalEPackageRegistry);
         List<EPackage> additionalEPackages = this.editingContextEPackageService.getEPackages(editingContextId);
         additionalEPackages.forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
         resourceSet.setPackageRegistry(ePackageRegistry);
 
         List<DocumentEntity> documentEntities = this.documentRepository.findAllByProjectId(editingContextId);
-        for (DocumentEntity documentEntity : documentEntities) {
-            URI uri = URI.createURI(documentEntity.getId().toString());
-            JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
-            try (var inputStream = new ByteArrayInputStream(documentEntity.getContent().getBytes())) {
-                resourceSet.getResources().add(resource);
-                resource.load(inputStream, null);
-
-                resource.eAdapters().add(new DocumentMetadataAdapter(documentEntity.getName()));
-            } catch (IOException | IllegalArgumentException exception) {
-                this.logger.warn("An error occured while loading document {}: {}.", documentEntity.getId(), exception.getMessage()); //$NON-NLS-1$
-                resourceSet.getResources().remove(resource);
-            }
-        }
+
+        // @formatter:off
+        List<Optional<JsonResource>> resources = documentEntities.parallelStream()
+                .map(documentEntity -> this.load(documentEntity, ePackageRegistry))
+                .collect(Collectors.toList());
+        // @formatter:on
+        resources.forEach(optionalResource -> optionalResource.ifPresent(resourceSet.getResources()::add));
+        resourceSet.eAdapters().add(new EClassInstancesIndex());
+        resourceSet.eAdapters().add(new EObjectIDIndex());
 
         AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(this.composedAdapterFactory, new BasicCommandStack(), resourceSet);
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContextId); //$NON-NLS-1$
@@ -124,4 +123,29 @@ public class EditingContextSearchService implements IEditingContextSearchService
         return Optional.of(new EditingContext(editingContextId, editingDomain));
     }
 
+    /**
+     * Loads the given document in its own resource set, sharing the given package registry, so that documents can be
+     * loaded concurrently before being moved in the resource set of the editing context.
+     */
+    private Optional<JsonResource> load(DocumentEntity documentEntity, EPackage.Registry ePackageRegistry) {
+        Optional<JsonResource> result = Optional.empty();
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.setPackageRegistry(ePackageRegistry);
+
+        URI uri = URI.createURI(documentEntity.getId().toString());
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
+        try (var inputStream = new ByteArrayInputStream(documentEntity.getContent().getBytes())) {
+            resourceSet.getResources().add(resource);
+            resource.load(inputStream, null);
+
+            resource.eAdapters().add(new DocumentMetadataAdapter(documentEntity.getName()));
+            resource.setTrackingModification(true);
+            result = Optional.of(resource);
+        } catch (IOException | IllegalArgumentException exception) {
+            this.logger.warn("An error occured while loading document {}: {}.", documentEntity.getId(), exception.getMessage()); //$NON-NLS-1$
+        }
+        return result;
+    }
+
 }
@@ -30,10 +30,9 @@ import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IObjectService;
 import org.eclipse.sirius.web.emf.services.EditingContext;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
-import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
-import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
 import org.eclipse.sirius.web.services.documents.DocumentMetadataAdapter;
 import org.eclipse.sirius.web.trees.description.TreeDescription;
 import org.eclipse.sirius.web.trees.renderer.TreeRenderer;
@@ -49,6 +48,8 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
 
     private static final String DOCUMENT_KIND = "Document"; //$NON-NLS-1$
 
+    private static final String REPRESENTATION_METADATA = "explorerRepresentationMetadata"; //$NON-NLS-1$
+
     private final IObjectService objectService;
 
     private final IRepresentationService representationService;
@@ -85,11 +86,11 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
         String id = null;
-        if (self instanceof RepresentationDescriptor) {
-            id = ((RepresentationDescriptor) self).getId().toString();
+        if (self instanceof RepresentationMetadata) {
+            id = ((RepresentationMetadata) self).getId().toString();
         } else if (self instanceof Resource) {
             Resource resource = (Resource) self;
             id = resource.getURI().toString();
@@ -101,10 +102,9 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
 
     private String getKind(VariableManager variableManager) {
         String kind = ""; //$NON-NLS-1$
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
-        if (self instanceof RepresentationDescriptor) {
-            IRepresentation representation = ((RepresentationDescriptor) self).getRepresentation();
-            kind = representation.getKind();
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
+        if (self instanceof RepresentationMetadata) {
+            kind = ((RepresentationMetadata) self).getKind();
         } else if (self instanceof Resource) {
             kind = DOCUMENT_KIND;
         } else {
@@ -114,11 +114,11 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     }
 
     private String getLabel(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
         String label = ""; //$NON-NLS-1$
-        if (self instanceof RepresentationDescriptor) {
-            label = ((RepresentationDescriptor) self).getLabel();
+        if (self instanceof RepresentationMetadata) {
+            label = ((RepresentationMetadata) self).getLabel();
         } else if (self instanceof Resource) {
             Resource resource = (Resource) self;
             // @formatter:off
@@ -136,10 +136,10 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     }
 
     private boolean isEditable(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
         boolean editable = false;
-        if (self instanceof RepresentationDescriptor) {
+        if (self instanceof RepresentationMetadata) {
             editable = true;
         } else if (self instanceof Resource) {
             editable = true;
@@ -151,17 +151,17 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     }
 
     private String getImageURL(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
         String imageURL = null;
         if (self instanceof EObject) {
             imageURL = this.objectService.getImagePath(self);
-        } else if (self instanceof RepresentationDescriptor) {
-            RepresentationDescriptor representationDescriptor = (RepresentationDescriptor) self;
+        } else if (self instanceof RepresentationMetadata) {
+            RepresentationMetadata representationMetadata = (RepresentationMetadata) self;
 
             // @formatter:off
             imageURL = this.representationImageProviders.stream()
-                    .map(representationImageProvider -> representationImageProvider.getImageURL(representationDescriptor.getRepresentation()))
+                    .map(representationImageProvider -> representationImageProvider.getImageURL(representationMetadata.getKind()))
                     .flatMap(Optional::stream)
                     .findFirst()
                     .orElse(ImageConstants.RESOURCE_SVG);
@@ -173,7 +173,15 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     }
 
     private List<Object> getElements(VariableManager variableManager) {
-        var optionalEditingContext = Optional.of(variableManager.getVariables().get(IEditingContext.EDITING_CONTEXT));
+        var optionalEditingContext = Optional.of(variableManager.getReadOnlyVariables().get(IEditingContext.EDITING_CONTEXT));
+
+        // The elements are computed once per rendering with the root variable manager, which is thus used to share the
+        // representations of the project with all the tree items
+        optionalEditingContext.filter(IEditingContext.class::isInstance).map(IEditingContext.class::cast).ifPresent(editingContext -> {
+            var representationMetadata = new ExplorerRepresentationMetadata(this.representationService, editingContext.getId(), this.getExpandedIds(variableManager));
+            variableManager.put(REPRESENTATION_METADATA, representationMetadata);
+        });
+
         // @formatter:off
         var optionalResourceSet = optionalEditingContext.filter(IEditingContext.class::isInstance)
                 .filter(EditingContext.class::isInstance)
@@ -189,8 +197,18 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
         return new ArrayList<>();
     }
 
+    private List<String> getExpandedIds(VariableManager variableManager) {
+        List<String> expandedIds = new ArrayList<>();
+        Object objects = variableManager.getReadOnlyVariables().get(TreeRenderer.EXPANDED);
+        if (objects instanceof List<?>) {
+            List<?> list = (List<?>) objects;
+            expandedIds = list.stream().filter(String.class::isInstance).map(String.class::cast).collect(Collectors.toUnmodifiableList());
+        }
+        return expandedIds;
+    }
+
     private boolean hasChildren(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
         boolean hasChildren = false;
         if (self instanceof Resource) {
@@ -202,7 +220,11 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
 
             if (!hasChildren) {
                 String id = this.objectService.getId(eObject);
-                hasChildren = this.representationService.hasRepresentations(id);
+                // @formatter:off
+                hasChildren = variableManager.get(REPRESENTATION_METADATA, ExplorerRepresentationMetadata.class)
+                        .map(representationMetadata -> representationMetadata.hasRepresentations(id))
+                        .orElseGet(() -> this.representationService.hasRepresentations(id));
+                // @formatter:on
             }
         }
         return hasChildren;
@@ -211,29 +233,28 @@ public class ExplorerDescriptionProvider implements IExplorerDescriptionProvider
     private List<Object> getChildren(VariableManager variableManager) {
         List<Object> result = new ArrayList<>();
 
-        List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
-        if (objects instanceof List<?>) {
-            List<?> list = (List<?>) objects;
-            expandedIds = list.stream().filter(String.class::isInstance).map(String.class::cast).collect(Collectors.toUnmodifiableList());
-        }
+        List<String> expandedIds = this.getExpandedIds(variableManager);
 
-        Object editingContext = variableManager.getVariables().get(IEditingContext.EDITING_CONTEXT);
+        Object editingContext = variableManager.getReadOnlyVariables().get(IEditingContext.EDITING_CONTEXT);
 
         if (editingContext instanceof IEditingContext) {
             IEditingContext context = (IEditingContext) editingContext;
 
             String id = this.getTreeItemId(variableManager);
             if (expandedIds.contains(id)) {
-                Object self = variableManager.getVariables().get(VariableManager.SELF);
+                Object self = variableManager.getReadOnlyVariables().get(VariableManager.SELF);
 
                 if (self instanceof Resource) {
                     Resource resource = (Resource) self;
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    var representationDescriptors = new ArrayList<>(this.representationService.getRepresentationDescriptorsForObjectId(id));
-                    representationDescriptors.sort((descriptor1, descriptor2) -> descriptor1.getLabel().compareTo(descriptor2.getLabel()));
-                    result.addAll(representationDescriptors);
+                    // @formatter:off
+                    var representationMetadata = new ArrayList<>(variableManager.get(REPRESENTATION_METADATA, ExplorerRepresentationMetadata.class)
+                            .map(explorerRepresentationMetadata -> explorerRepresentationMetadata.getRepresentationMetadata(id))
+                            .orElseGet(() -> this.representationService.getRepresentationMetadataForObjectIds(context.getId(), List.of(id))));
+                    // @formatter:on
+                    representationMetadata.sort((metadata1, metadata2) -> metadata1.getLabel().compareTo(metadata2.getLabel()));
+                    result.addAll(representationMetadata);
                     List<Object> contents = this.objectService.getContents(context, id);
                     result.addAll(contents);
                 }
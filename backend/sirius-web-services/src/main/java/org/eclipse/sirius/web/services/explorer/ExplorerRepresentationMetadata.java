@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.explorer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
+
+/**
+ * The representations of the objects of a project, shared by all the tree items of one rendering of the explorer.
+ *
+ * <p>
+ * The ids of the objects with representations and the representations of the expanded objects are each retrieved with
+ * one query, the first time they are needed, instead of one query per tree item. Only the metadata of the
+ * representations are retrieved since their content is not needed to display them in the explorer.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ExplorerRepresentationMetadata {
+
+    private final IRepresentationService representationService;
+
+    private final UUID projectId;
+
+    private final List<String> expandedIds;
+
+    private Set<String> targetObjectIds;
+
+    private Map<String, List<RepresentationMetadata>> targetObjectIdToRepresentationMetadata;
+
+    public ExplorerRepresentationMetadata(IRepresentationService representationService, UUID projectId, List<String> expandedIds) {
+        this.representationService = Objects.requireNonNull(representationService);
+        this.projectId = Objects.requireNonNull(projectId);
+        this.expandedIds = Objects.requireNonNull(expandedIds);
+    }
+
+    public boolean hasRepresentations(String objectId) {
+        if (this.targetObjectIds == null) {
+            this.targetObjectIds = this.representationService.getTargetObjectIdsWithRepresentations(this.projectId);
+        }
+        return this.targetObjectIds.contains(objectId);
+    }
+
+    public List<RepresentationMetadata> getRepresentationMetadata(String objectId) {
+        if (this.targetObjectIdToRepresentationMetadata == null) {
+            // @formatter:off
+            this.targetObjectIdToRepresentationMetadata = this.representationService.getRepresentationMetadataForObjectIds(this.projectId, this.expandedIds).stream()
+                    .collect(Collectors.groupingBy(RepresentationMetadata::getTargetObjectId));
+            // @formatter:on
+        }
+        return this.targetObjectIdToRepresentationMetadata.getOrDefault(objectId, List.of());
+    }
+}
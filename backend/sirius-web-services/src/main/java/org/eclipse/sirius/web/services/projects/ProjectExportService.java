@@ -12,17 +12,26 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.projects;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -31,12 +40,12 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.web.emf.services.IEditingContextEPackageService;
 import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
 import org.eclipse.sirius.web.persistence.entities.IdMappingEntity;
@@ -79,6 +88,12 @@ public class ProjectExportService implements IProjectExportService {
 
     private static final String CURRENT_MANIFEST_VERSION = "1.0"; //$NON-NLS-1$
 
+    private static final int DOCUMENTS_WINDOW_SIZE = Math.max(2, ForkJoinPool.getCommonPoolParallelism());
+
+    private static final int DOCUMENTS_PAGE_SIZE = 20;
+
+    private static final int REPRESENTATIONS_PAGE_SIZE = 20;
+
     private final Logger logger = LoggerFactory.getLogger(ProjectExportService.class);
 
     private final ObjectMapper objectMapper;
@@ -95,8 +110,11 @@ public class ProjectExportService implements IProjectExportService {
 
     private IEditingContextEPackageService editingContextEPackageService;
 
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
     public ProjectExportService(IProjectService projectService, IDocumentService documentService, IRepresentationService representationService,
-            IEditingContextEPackageService editingContextEPackageService, IIdMappingRepository idMappingRepository, ObjectMapper objectMapper, BuildProperties buildProperties) {
+            IEditingContextEPackageService editingContextEPackageService, IIdMappingRepository idMappingRepository, ObjectMapper objectMapper, BuildProperties buildProperties,
+            IEditingContextPersistenceService editingContextPersistenceService) {
         this.projectService = Objects.requireNonNull(projectService);
         this.documentService = Objects.requireNonNull(documentService);
         this.representationService = Objects.requireNonNull(representationService);
@@ -104,36 +122,53 @@ public class ProjectExportService implements IProjectExportService {
         this.idMappingRepository = Objects.requireNonNull(idMappingRepository);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.buildProperties = Objects.requireNonNull(buildProperties);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
     }
 
     @Override
     public byte[] exportProjectAsZip(UUID projectId) {
-        return this.projectService.getProject(projectId).map(this::toZip).orElse(new byte[0]);
-    }
-
-    private byte[] toZip(Project project) {
         byte[] zip = new byte[0];
-        UUID projectId = project.getId();
-        String projectName = project.getName();
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (var zippedOut = new ZipOutputStream(outputStream)) {
+        try {
+            this.exportProjectAsZip(projectId, outputStream);
+            zip = outputStream.toByteArray();
+        } catch (IOException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
 
-            Map<String, String> id2DocumentName = this.addDocuments(projectId, projectName, zippedOut);
+        return zip;
+    }
 
-            Map<String, RepresentationManifest> representationsManifests = this.addRepresentation(projectId, projectName, zippedOut);
+    /**
+     * Writes the zip of the project in the given output stream.
+     *
+     * <p>
+     * The entries of the zip are written as soon as they are produced, the documents are serialized in parallel ahead
+     * of the writer and the representations are retrieved page by page. The changes of the editing context of the
+     * project which have not been written yet are written first. The given output stream is not closed.
+     * </p>
+     */
+    @Override
+    public void exportProjectAsZip(UUID projectId, OutputStream outputStream) throws IOException {
+        Optional<Project> optionalProject = this.projectService.getProject(projectId);
+        if (optionalProject.isPresent()) {
+            this.editingContextPersistenceService.flush(projectId);
+
+            String projectName = optionalProject.get().getName();
+
+            ZipOutputStream zippedOut = new ZipOutputStream(outputStream);
+
+            Set<String> targetObjectIds = this.representationService.getTargetObjectIdsWithRepresentations(projectId);
+            Map<String, String> targetObjectIdToURI = new HashMap<>();
+            Map<String, String> id2DocumentName = this.addDocuments(projectId, projectName, targetObjectIds, targetObjectIdToURI, zippedOut);
+
+            Map<String, RepresentationManifest> representationsManifests = this.addRepresentations(projectId, projectName, targetObjectIdToURI, zippedOut);
 
             this.addManifest(projectId, projectName, id2DocumentName, representationsManifests, zippedOut);
-        } catch (IOException e) {
-            this.logger.error(e.getMessage(), e);
-            outputStream.reset();
-        }
 
-        if (outputStream.size() > 0) {
-            zip = outputStream.toByteArray();
+            zippedOut.finish();
         }
-
-        return zip;
     }
 
     /**
@@ -145,28 +180,56 @@ public class ProjectExportService implements IProjectExportService {
      * </p>
      *
      * <p>
-     * Returns a map of documentId to document name. This map will be used to store the mapping between documentId and
-     * document name in the manifest file.
+     * The documents are retrieved page by page, like the representations, so that only the documents around the one
+     * currently written are kept in memory. They are serialized in parallel, at most {@link #DOCUMENTS_WINDOW_SIZE}
+     * documents ahead of the document currently written, and each of them is parsed once, only if the URIs of the
+     * target objects of the representations have to be computed. Returns a map of
+     * documentId to document name. This map will be used to store the mapping between documentId and document name in
+     * the manifest file.
      * </p>
      *
      * @param projectId
      *            The id of the project we want to export
      * @param projectName
      *            The name of the project we want to export
+     * @param targetObjectIds
+     *            The ids of the target objects of the representations of the project
+     * @param targetObjectIdToURI
+     *            The map filled with the URI of the target objects found in the documents
      * @param zippedOut
      *            The {@link ZipOutputStream} used to build the zip
      * @return the mapping between document id and document name
      * @throws IOException
      *             if an I/O error occurred
      */
-    private Map<String, String> addDocuments(UUID projectId, String projectName, ZipOutputStream zippedOut) throws IOException {
-        List<Document> documents = this.documentService.getDocuments(projectId);
+    private Map<String, String> addDocuments(UUID projectId, String projectName, Set<String> targetObjectIds, Map<String, String> targetObjectIdToURI, ZipOutputStream zippedOut)
+            throws IOException {
+        List<EPackage> ePackages = this.editingContextEPackageService.getEPackages(projectId);
         Map<String, String> id2DocumentName = new HashMap<>();
-        for (Document document : documents) {
-            Optional<byte[]> optionalBytes = this.documentService.getBytes(document, IDocumentService.RESOURCE_KIND_JSON);
+
+        int page = 0;
+        List<Document> documents = this.documentService.getDocuments(projectId, page, DOCUMENTS_PAGE_SIZE);
+        Iterator<Document> documentsIterator = documents.iterator();
+        Deque<CompletableFuture<SerializedDocument>> serializedDocuments = new ArrayDeque<>();
+        while (documentsIterator.hasNext() || !serializedDocuments.isEmpty()) {
+            while (documentsIterator.hasNext() && serializedDocuments.size() < DOCUMENTS_WINDOW_SIZE) {
+                Document document = documentsIterator.next();
+                serializedDocuments.add(CompletableFuture.supplyAsync(() -> this.serializeDocument(document, ePackages, targetObjectIds)));
+
+                if (!documentsIterator.hasNext() && documents.size() == DOCUMENTS_PAGE_SIZE) {
+                    page++;
+                    documents = this.documentService.getDocuments(projectId, page, DOCUMENTS_PAGE_SIZE);
+                    documentsIterator = documents.iterator();
+                }
+            }
+
+            SerializedDocument serializedDocument = serializedDocuments.poll().join();
+            Document document = serializedDocument.getDocument();
+            Optional<byte[]> optionalBytes = serializedDocument.getBytes();
             if (optionalBytes.isPresent()) {
                 byte[] bytes = optionalBytes.get();
                 id2DocumentName.put(document.getId().toString(), document.getName());
+                targetObjectIdToURI.putAll(serializedDocument.getTargetObjectIdToURI());
                 String name = projectName + "/documents/" + document.getId() + "." + JsonResourceFactoryImpl.EXTENSION; //$NON-NLS-1$ //$NON-NLS-2$
                 ZipEntry zipEntry = this.createZipEntry(name, bytes.length);
                 zippedOut.putNextEntry(zipEntry);
@@ -179,6 +242,50 @@ public class ProjectExportService implements IProjectExportService {
         return id2DocumentName;
     }
 
+    /**
+     * Serializes the given document and computes the URI of the target objects of the representations which are in
+     * this document.
+     *
+     * <p>
+     * This method is called concurrently, each document is thus loaded in its own {@link ResourceSet} and package
+     * registry.
+     * </p>
+     *
+     * @param document
+     *            The document to serialize
+     * @param ePackages
+     *            The EPackages of the project
+     * @param targetObjectIds
+     *            The ids of the target objects of the representations of the project
+     * @return The serialized document
+     */
+    private SerializedDocument serializeDocument(Document document, List<EPackage> ePackages, Set<String> targetObjectIds) {
+        Optional<byte[]> optionalBytes = this.documentService.getBytes(document, IDocumentService.RESOURCE_KIND_JSON);
+        Map<String, String> targetObjectIdToURI = new HashMap<>();
+        if (optionalBytes.isPresent() && !targetObjectIds.isEmpty()) {
+            EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
+            ePackages.forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
+            ResourceSet resourceSet = new ResourceSetImpl();
+            resourceSet.setPackageRegistry(ePackageRegistry);
+
+            URI uri = URI.createURI(document.getId().toString());
+            JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
+            resourceSet.getResources().add(resource);
+            try (var inputStream = new ByteArrayInputStream(optionalBytes.get())) {
+                resource.load(inputStream, null);
+                for (String targetObjectId : targetObjectIds) {
+                    EObject eObject = resource.getEObject(targetObjectId);
+                    if (eObject != null) {
+                        targetObjectIdToURI.put(targetObjectId, EcoreUtil.getURI(eObject).toString());
+                    }
+                }
+            } catch (IOException exception) {
+                this.logger.error(exception.getMessage(), exception);
+            }
+        }
+        return new SerializedDocument(document, optionalBytes, targetObjectIdToURI);
+    }
+
     /**
      * Adds a {@link ZipEntry} for every representations in the project, in the given {@link ZipOutputStream}.
      *
@@ -188,36 +295,42 @@ public class ProjectExportService implements IProjectExportService {
      * </p>
      *
      * <p>
-     * Returns a map of representation IDs to {@link RepresentationManifest}. This map will be stored in the manifest
-     * file.
+     * The representations are retrieved page by page and directly serialized in the zip. Returns a map of
+     * representation IDs to {@link RepresentationManifest}. This map will be stored in the manifest file.
      * </p>
      *
      * @param projectId
      *            The id of the project we want to export
      * @param projectName
      *            The name of the project we want to export
+     * @param targetObjectIdToURI
+     *            The URI of the target objects of the representations
      * @param zippedOut
      *            The {@link ZipOutputStream} used to build the zip
      * @return the mapping between representation IDs and their {@link RepresentationManifest}
      * @throws IOException
      *             if an I/O error occurred
      */
-    private Map<String, RepresentationManifest> addRepresentation(UUID projectId, String projectName, ZipOutputStream zippedout) throws IOException {
-        List<RepresentationDescriptor> representationsDescriptor = this.representationService.getRepresentationDescriptorsForProjectId(projectId);
+    private Map<String, RepresentationManifest> addRepresentations(UUID projectId, String projectName, Map<String, String> targetObjectIdToURI, ZipOutputStream zippedOut) throws IOException {
         Map<String, RepresentationManifest> representationManifests = new HashMap<>();
-        ResourceSet resourceSet = this.loadAllDocuments(projectId);
-
-        for (RepresentationDescriptor representationDescriptor : representationsDescriptor) {
-            RepresentationManifest representationManifest = this.createRepresentationManifest(representationDescriptor, resourceSet);
-            UUID representationId = representationDescriptor.getId();
-            representationManifests.put(representationId.toString(), representationManifest);
-
-            byte[] bytes = new ObjectMapper().writeValueAsBytes(representationDescriptor);
-            String name = projectName + "/representations/" + representationId + "." + JsonResourceFactoryImpl.EXTENSION; //$NON-NLS-1$ //$NON-NLS-2$
-            ZipEntry zipEntry = this.createZipEntry(name, bytes.length);
-            zippedout.putNextEntry(zipEntry);
-            zippedout.write(bytes);
-            zippedout.closeEntry();
+        ObjectWriter objectWriter = this.objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        int page = 0;
+        List<RepresentationDescriptor> representationDescriptors = this.representationService.getRepresentationDescriptorsForProjectId(projectId, page, REPRESENTATIONS_PAGE_SIZE);
+        while (!representationDescriptors.isEmpty()) {
+            for (RepresentationDescriptor representationDescriptor : representationDescriptors) {
+                RepresentationManifest representationManifest = this.createRepresentationManifest(representationDescriptor, targetObjectIdToURI);
+                UUID representationId = representationDescriptor.getId();
+                representationManifests.put(representationId.toString(), representationManifest);
+
+                String name = projectName + "/representations/" + representationId + "." + JsonResourceFactoryImpl.EXTENSION; //$NON-NLS-1$ //$NON-NLS-2$
+                zippedOut.putNextEntry(this.createZipEntry(name));
+                objectWriter.writeValue(zippedOut, representationDescriptor);
+                zippedOut.closeEntry();
+            }
+
+            page++;
+            representationDescriptors = this.representationService.getRepresentationDescriptorsForProjectId(projectId, page, REPRESENTATIONS_PAGE_SIZE);
         }
 
         return representationManifests;
@@ -228,11 +341,11 @@ public class ProjectExportService implements IProjectExportService {
      *
      * @param representationDescriptor
      *            The {@link RepresentationDescriptor}
-     * @param resourceSet
-     *            The {@link ResourceSet} containing all loaded documents
+     * @param targetObjectIdToURI
+     *            The URI of the target objects of the representations
      * @return the {@link RepresentationManifest} for the given {@link RepresentationDescriptor}
      */
-    private RepresentationManifest createRepresentationManifest(RepresentationDescriptor representationDescriptor, ResourceSet resourceSet) {
+    private RepresentationManifest createRepresentationManifest(RepresentationDescriptor representationDescriptor, Map<String, String> targetObjectIdToURI) {
         IRepresentation representation = representationDescriptor.getRepresentation();
         UUID descriptionId = representationDescriptor.getDescriptionId();
 
@@ -246,15 +359,7 @@ public class ProjectExportService implements IProjectExportService {
             .orElse(descriptionId.toString());
         // @formatter:on
 
-        String uriFragment = ""; //$NON-NLS-1$
-        String targetObjectId = representationDescriptor.getTargetObjectId();
-        for (Resource resource : resourceSet.getResources()) {
-            EObject eObject = resource.getEObject(targetObjectId);
-            if (eObject != null) {
-                uriFragment = EcoreUtil.getURI(eObject).toString();
-                break;
-            }
-        }
+        String uriFragment = targetObjectIdToURI.getOrDefault(representationDescriptor.getTargetObjectId(), ""); //$NON-NLS-1$
         if (uriFragment.isEmpty()) {
             this.logger.error("The serialization of the representationManifest won't be complete."); //$NON-NLS-1$
         }
@@ -267,37 +372,6 @@ public class ProjectExportService implements IProjectExportService {
         // @formatter:on
     }
 
-    /**
-     * Load all documents of the given project in a {@link ResourceSet}.
-     *
-     * @param projectId
-     *            the ID of the project to export.
-     * @return a {@link ResourceSet} containing all project documents.
-     */
-    private ResourceSet loadAllDocuments(UUID projectId) {
-        List<Document> documents = this.documentService.getDocuments(projectId);
-        EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
-        this.editingContextEPackageService.getEPackages(projectId).forEach(ePackage -> ePackageRegistry.put(ePackage.getNsURI(), ePackage));
-        ResourceSet resourceSet = new ResourceSetImpl();
-        for (Document document : documents) {
-            ResourceSet loadingResourceSet = new ResourceSetImpl();
-            loadingResourceSet.setPackageRegistry(ePackageRegistry);
-            URI uri = URI.createURI(document.getId().toString());
-            JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
-            loadingResourceSet.getResources().add(resource);
-            Optional<byte[]> optionalBytes = this.documentService.getBytes(document, IDocumentService.RESOURCE_KIND_JSON);
-            if (optionalBytes.isPresent()) {
-                try (var inputStream = new ByteArrayInputStream(optionalBytes.get())) {
-                    resource.load(inputStream, null);
-                    resourceSet.getResources().add(resource);
-                } catch (IOException exception) {
-                    this.logger.error(exception.getMessage(), exception);
-                }
-            }
-        }
-        return resourceSet;
-    }
-
     /**
      * Adds a {@link ZipEntry} for the manifest file in the given {@link ZipOutputStream}.
      *
@@ -341,11 +415,48 @@ public class ProjectExportService implements IProjectExportService {
     }
 
     private ZipEntry createZipEntry(String name, int length) {
-        ZipEntry zipEntry = new ZipEntry(name);
+        ZipEntry zipEntry = this.createZipEntry(name);
         zipEntry.setSize(length);
+        return zipEntry;
+    }
+
+    private ZipEntry createZipEntry(String name) {
+        ZipEntry zipEntry = new ZipEntry(name);
         zipEntry.setTime(System.currentTimeMillis());
         // Add here other zip entry options
         return zipEntry;
     }
 
+    /**
+     * A document serialized ahead of the writer of the zip.
+     *
+     * @author sbegaudeau
+     */
+    private static final class SerializedDocument {
+
+        private final Document document;
+
+        private final Optional<byte[]> bytes;
+
+        private final Map<String, String> targetObjectIdToURI;
+
+        SerializedDocument(Document document, Optional<byte[]> bytes, Map<String, String> targetObjectIdToURI) {
+            this.document = Objects.requireNonNull(document);
+            this.bytes = Objects.requireNonNull(bytes);
+            this.targetObjectIdToURI = Objects.requireNonNull(targetObjectIdToURI);
+        }
+
+        public Document getDocument() {
+            return this.document;
+        }
+
+        public Optional<byte[]> getBytes() {
+            return this.bytes;
+        }
+
+        public Map<String, String> getTargetObjectIdToURI() {
+            return this.targetObjectIdToURI;
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,21 +13,23 @@
 package org.eclipse.sirius.web.services.projects;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.collaborative.api.dto.CreateRepresentationInput;
 import org.eclipse.sirius.web.collaborative.api.dto.CreateRepresentationSuccessPayload;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessor;
+import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.persistence.entities.IdMappingEntity;
 import org.eclipse.sirius.web.persistence.repositories.IIdMappingRepository;
 import org.eclipse.sirius.web.services.api.document.Document;
-import org.eclipse.sirius.web.services.api.document.UploadDocumentInput;
-import org.eclipse.sirius.web.services.api.document.UploadDocumentSuccessPayload;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsInput;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsSuccessPayload;
 import org.eclipse.sirius.web.services.api.projects.ProjectManifest;
 import org.eclipse.sirius.web.services.api.projects.RepresentationManifest;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
@@ -80,7 +82,9 @@ public class ProjectImporter {
 
     /**
      * Creates all representations in the project thanks to the {@link IEditingContextEventProcessor} and the create
-     * representation input. If at least one representation has not been created it will return <code>false</code>.
+     * representation inputs. All the representations are created as a single unit of work, the other representations
+     * are thus only refreshed once. If at least one representation has not been created it will return
+     * <code>false</code>.
      *
      * @param inputId
      *            The identifier of the input which has triggered this import
@@ -88,7 +92,7 @@ public class ProjectImporter {
      * @return <code>true</code> whether all representations has been created, <code>false</code> otherwise
      */
     private boolean createRepresentations(UUID inputId) {
-        boolean allRepresentationCreated = true;
+        List<CreateRepresentationInput> inputs = new ArrayList<>();
         for (RepresentationDescriptor representationDescriptor : this.representations) {
             RepresentationManifest representationManifest = this.projectManifest.getRepresentations().get(representationDescriptor.getId().toString());
 
@@ -101,7 +105,6 @@ public class ProjectImporter {
             } else {
                 objectId = targetObjectURI;
             }
-            boolean representationCreated = false;
             String descriptionURI = representationManifest.getDescriptionURI();
 
             // @formatter:off
@@ -114,10 +117,14 @@ public class ProjectImporter {
                 .orElseGet(() -> UUID.fromString(descriptionURI));
             // @formatter:on
 
-            CreateRepresentationInput input = new CreateRepresentationInput(inputId, this.projectId, representationDescriptionId, objectId, representationDescriptor.getLabel());
+            inputs.add(new CreateRepresentationInput(inputId, this.projectId, representationDescriptionId, objectId, representationDescriptor.getLabel()));
+        }
 
+        boolean allRepresentationCreated = true;
+        List<Optional<IPayload>> optionalPayloads = this.editingContextEventProcessor.handleAll(inputs);
+        for (int i = 0; i < inputs.size(); i++) {
             // @formatter:off
-            representationCreated = this.editingContextEventProcessor.handle(input)
+            boolean representationCreated = optionalPayloads.get(i)
                     .filter(CreateRepresentationSuccessPayload.class::isInstance)
                     .map(CreateRepresentationSuccessPayload.class::cast)
                     .map(CreateRepresentationSuccessPayload::getRepresentation)
@@ -125,7 +132,7 @@ public class ProjectImporter {
             // @formatter:on
 
             if (!representationCreated) {
-                this.logger.error("The representation {} has not been created", representationDescriptor.getLabel()); //$NON-NLS-1$
+                this.logger.error("The representation {} has not been created", inputs.get(i).getRepresentationName()); //$NON-NLS-1$
             }
 
             allRepresentationCreated = allRepresentationCreated && representationCreated;
@@ -136,26 +143,27 @@ public class ProjectImporter {
 
     /**
      * Creates all documents in the project thanks to the {@link IEditingContextEventProcessor} and the
-     * {@link CreateDocumentFromUploadEvent}. If at least one document has not been created it will return
-     * <code>false</code>.
+     * {@link ImportDocumentsInput}. The documents are created in a single batch and the editing context is only
+     * persisted once. If at least one document has not been created it will return <code>false</code>.
      *
      * @param inputId
+     *            The identifier of the input which has triggered this import
      *
      * @return <code>true</code> whether all documents has been created, <code>false</code> otherwise
      */
     private boolean createDocuments(UUID inputId) {
-        for (Entry<String, UploadFile> entry : this.documents.entrySet()) {
-            String oldDocumentId = entry.getKey();
-            UploadFile uploadFile = entry.getValue();
-            UploadDocumentInput input = new UploadDocumentInput(inputId, this.projectId, uploadFile);
-
-            // @formatter:off
-            Document document = this.editingContextEventProcessor.handle(input)
-                    .filter(UploadDocumentSuccessPayload.class::isInstance)
-                    .map(UploadDocumentSuccessPayload.class::cast)
-                    .map(UploadDocumentSuccessPayload::getDocument)
-                    .orElse(null);
-            // @formatter:on
+        ImportDocumentsInput input = new ImportDocumentsInput(inputId, this.projectId, this.documents);
+
+        // @formatter:off
+        Map<String, Document> documentsCreated = this.editingContextEventProcessor.handle(input)
+                .filter(ImportDocumentsSuccessPayload.class::isInstance)
+                .map(ImportDocumentsSuccessPayload.class::cast)
+                .map(ImportDocumentsSuccessPayload::getDocuments)
+                .orElse(Map.of());
+        // @formatter:on
+
+        for (String oldDocumentId : this.documents.keySet()) {
+            Document document = documentsCreated.get(oldDocumentId);
             if (document == null) {
                 this.logger.error("The document {} has not been created", this.projectManifest.getDocumentIdsToName().get(oldDocumentId)); //$NON-NLS-1$
             }
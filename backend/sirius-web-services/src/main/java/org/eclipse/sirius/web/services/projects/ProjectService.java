@@ -27,6 +27,7 @@ import org.eclipse.sirius.web.persistence.entities.VisibilityEntity;
 import org.eclipse.sirius.web.persistence.repositories.IAccountRepository;
 import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
 import org.eclipse.sirius.web.services.api.events.ProjectCreatedEvent;
+import org.eclipse.sirius.web.services.api.events.ProjectDeletedEvent;
 import org.eclipse.sirius.web.services.api.projects.CreateProjectInput;
 import org.eclipse.sirius.web.services.api.projects.CreateProjectSuccessPayload;
 import org.eclipse.sirius.web.services.api.projects.IProjectService;
@@ -126,6 +127,7 @@ public class ProjectService implements IProjectService {
     public void delete(UUID projectId) {
         if (this.projectRepository.existsByIdAndIsVisibleBy(projectId, this.getCurrentUserName())) {
             this.projectRepository.deleteById(projectId);
+            this.applicationEventPublisher.publishEvent(new ProjectDeletedEvent(projectId));
         }
     }
 
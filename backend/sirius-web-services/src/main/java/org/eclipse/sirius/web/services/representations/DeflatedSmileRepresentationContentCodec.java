@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.springframework.stereotype.Service;
+
+/**
+ * Encodes the content of the representations with Smile and compresses it with deflate.
+ *
+ * <p>
+ * It trades some processing time for a smaller content, the compression is performed while the representation is
+ * written in order to avoid an intermediate copy of its uncompressed content.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DeflatedSmileRepresentationContentCodec implements IRepresentationContentCodec {
+
+    public static final String FORMAT = "smile+deflate"; //$NON-NLS-1$
+
+    private final SmileRepresentationContentCodec smileRepresentationContentCodec;
+
+    public DeflatedSmileRepresentationContentCodec(SmileRepresentationContentCodec smileRepresentationContentCodec) {
+        this.smileRepresentationContentCodec = Objects.requireNonNull(smileRepresentationContentCodec);
+    }
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public byte[] encode(IRepresentation representation) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+            this.smileRepresentationContentCodec.encode(representation, deflaterOutputStream);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public IRepresentation decode(byte[] content) throws IOException {
+        try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(content))) {
+            return this.smileRepresentationContentCodec.decode(inputStream);
+        }
+    }
+}
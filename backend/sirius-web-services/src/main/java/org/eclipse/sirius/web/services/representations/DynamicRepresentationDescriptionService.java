@@ -12,57 +12,51 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.representations;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
-import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.core.api.IEditService;
 import org.eclipse.sirius.web.core.api.IObjectService;
-import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
 import org.eclipse.sirius.web.emf.view.ICustomImagesService;
 import org.eclipse.sirius.web.emf.view.IJavaServiceProvider;
 import org.eclipse.sirius.web.emf.view.ViewConverter;
-import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
 import org.eclipse.sirius.web.persistence.repositories.IDocumentRepository;
 import org.eclipse.sirius.web.representations.IRepresentationDescription;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.eclipse.sirius.web.services.api.events.ProjectDeletedEvent;
 import org.eclipse.sirius.web.services.api.representations.IDynamicRepresentationDescriptionService;
+import org.eclipse.sirius.web.services.documents.DocumentConversionCache;
 import org.eclipse.sirius.web.view.View;
 import org.eclipse.sirius.web.view.ViewPackage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 /**
  * Service to discover diagram descriptions dynamically from the existing user-defined documents.
  *
+ * <p>
+ * The representation descriptions converted from each View document are cached by document id, see
+ * {@link DocumentConversionCache}.
+ * </p>
+ *
  * @author pcdavid
  */
 @Service
 public class DynamicRepresentationDescriptionService implements IDynamicRepresentationDescriptionService {
-    private final Logger logger = LoggerFactory.getLogger(DynamicRepresentationDescriptionService.class);
-
-    private final IDocumentRepository documentRepository;
-
-    private final EPackage.Registry ePackageRegistry;
 
     private final ViewConverter viewConverter;
 
+    private final DocumentConversionCache<IRepresentationDescription> cache;
+
     public DynamicRepresentationDescriptionService(IDocumentRepository documentRepository, EPackage.Registry ePackageRegistry, IObjectService objectService, IEditService editService,
             ICustomImagesService customImagesService, List<IJavaServiceProvider> javaServiceProviders,
             @Value("${org.eclipse.sirius.web.features.studioDefinition:false}") boolean isStudioDefinitionEnabled) {
-        this.documentRepository = Objects.requireNonNull(documentRepository);
-        this.ePackageRegistry = Objects.requireNonNull(ePackageRegistry);
         // @formatter:off
         this.viewConverter = new ViewConverter(Objects.requireNonNull(javaServiceProviders),
                                                Objects.requireNonNull(objectService),
@@ -70,16 +64,33 @@ public class DynamicRepresentationDescriptionService implements IDynamicRepresen
                                                Objects.requireNonNull(customImagesService),
                                                isStudioDefinitionEnabled);
         // @formatter:on
+        this.cache = new DocumentConversionCache<>(documentRepository, ePackageRegistry, ViewPackage.eINSTANCE, this::convert);
     }
 
     @Override
     public List<IRepresentationDescription> findDynamicRepresentationDescriptions(UUID editingContextId) {
-        List<IRepresentationDescription> dynamicRepresentationDescriptions = new ArrayList<>();
-        this.documentRepository.findAllByType(ViewPackage.eNAME, ViewPackage.eNS_URI).forEach(documentEntity -> {
-            Resource res = this.loadDocumentAsEMF(documentEntity);
-            this.getViewDefinition(res).ifPresent(view -> this.viewConverter.convert(view).stream().filter(Objects::nonNull).forEach(dynamicRepresentationDescriptions::add));
-        });
-        return dynamicRepresentationDescriptions;
+        return this.cache.getValues();
+    }
+
+    @EventListener
+    public void onDocumentsModified(DocumentsModifiedEvent event) {
+        this.cache.documentsModified(event);
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        this.cache.projectDeleted(event);
+    }
+
+    private List<IRepresentationDescription> convert(Resource resource) {
+        // @formatter:off
+        return this.getViewDefinition(resource)
+                .map(this.viewConverter::convert)
+                .orElse(List.of())
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
     }
 
     private Optional<View> getViewDefinition(Resource res) {
@@ -89,18 +100,4 @@ public class DynamicRepresentationDescriptionService implements IDynamicRepresen
             return Optional.empty();
         }
     }
-
-    private Resource loadDocumentAsEMF(DocumentEntity documentEntity) {
-        ResourceSet resourceSet = new ResourceSetImpl();
-        resourceSet.setPackageRegistry(this.ePackageRegistry);
-        URI uri = URI.createURI(documentEntity.getId().toString());
-        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(uri);
-        resourceSet.getResources().add(resource);
-        try (var inputStream = new ByteArrayInputStream(documentEntity.getContent().getBytes())) {
-            resource.load(inputStream, null);
-        } catch (IOException | IllegalArgumentException exception) {
-            this.logger.error(exception.getMessage(), exception);
-        }
-        return resource;
-    }
 }
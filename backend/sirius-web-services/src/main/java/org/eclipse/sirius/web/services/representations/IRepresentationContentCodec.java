@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import java.io.IOException;
+
+import org.eclipse.sirius.web.representations.IRepresentation;
+
+/**
+ * Used to encode and decode the content of the representations stored in a binary format.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationContentCodec {
+
+    /**
+     * Returns the format of the content, stored with the representations encoded by this codec to select the codec
+     * used to decode them.
+     *
+     * @return The format of the content
+     */
+    String getFormat();
+
+    byte[] encode(IRepresentation representation) throws IOException;
+
+    IRepresentation decode(byte[] content) throws IOException;
+}
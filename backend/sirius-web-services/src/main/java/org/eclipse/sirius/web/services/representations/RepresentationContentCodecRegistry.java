@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registry of the codecs of the content of the representations.
+ *
+ * <p>
+ * The representations are written with the format configured by the property
+ * <code>org.eclipse.sirius.web.representationPersistence.contentFormat</code>, JSON by default. The JSON format does
+ * not need any codec, it is the format of the textual content of the representations. Any other format must be
+ * supported by one of the codecs. The representations are always read with the format used to write them, which allows
+ * to switch from one format to another without migrating the existing representations first.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class RepresentationContentCodecRegistry {
+
+    public static final String JSON_FORMAT = "json"; //$NON-NLS-1$
+
+    private final List<IRepresentationContentCodec> representationContentCodecs;
+
+    private final String format;
+
+    public RepresentationContentCodecRegistry(List<IRepresentationContentCodec> representationContentCodecs,
+            @Value("${org.eclipse.sirius.web.representationPersistence.contentFormat:json}") String format) {
+        this.representationContentCodecs = Objects.requireNonNull(representationContentCodecs);
+        this.format = Objects.requireNonNull(format);
+
+        if (!JSON_FORMAT.equals(format) && this.getCodec(format).isEmpty()) {
+            String message = MessageFormat.format("Unsupported representation content format: {0}", format); //$NON-NLS-1$
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Returns the format used to write the representations.
+     *
+     * @return The format used to write the representations
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    public Optional<IRepresentationContentCodec> getCodec(String contentFormat) {
+        // @formatter:off
+        return this.representationContentCodecs.stream()
+                .filter(representationContentCodec -> Objects.equals(representationContentCodec.getFormat(), contentFormat))
+                .findFirst();
+        // @formatter:on
+    }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository;
+import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Used to migrate the content of the existing representations to the configured content format when the server starts.
+ *
+ * <p>
+ * The migration is only performed if the property
+ * <code>org.eclipse.sirius.web.representationPersistence.migrateContent</code> is true. The representations are
+ * processed by batches ordered by their ids, those which cannot be read are logged and left untouched.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Component
+public class RepresentationContentMigrator implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationContentMigrator.class);
+
+    private final IRepresentationRepository representationRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final RepresentationContentCodecRegistry representationContentCodecRegistry;
+
+    private final boolean isMigrationEnabled;
+
+    public RepresentationContentMigrator(IRepresentationRepository representationRepository, ObjectMapper objectMapper, RepresentationContentCodecRegistry representationContentCodecRegistry,
+            @Value("${org.eclipse.sirius.web.representationPersistence.migrateContent:false}") boolean isMigrationEnabled) {
+        this.representationRepository = Objects.requireNonNull(representationRepository);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.representationContentCodecRegistry = Objects.requireNonNull(representationContentCodecRegistry);
+        this.isMigrationEnabled = isMigrationEnabled;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (this.isMigrationEnabled) {
+            String contentFormat = this.representationContentCodecRegistry.getFormat();
+            this.logger.info("Migrating the content of the representations to the format {}", contentFormat); //$NON-NLS-1$
+
+            RepresentationMapper representationMapper = new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry);
+
+            int migratedCount = 0;
+            int failedCount = 0;
+            AtomicLong migratedContentSize = new AtomicLong();
+            UUID lastId = new UUID(0, 0);
+            List<RepresentationEntity> representationEntities = this.representationRepository.findAllWithOtherContentFormat(contentFormat, lastId, PageRequest.of(0, BATCH_SIZE));
+            while (!representationEntities.isEmpty()) {
+                for (RepresentationEntity representationEntity : representationEntities) {
+                    RepresentationDescriptor representationDescriptor = representationMapper.toDTO(representationEntity);
+                    if (representationDescriptor != null) {
+                        this.representationRepository.save(representationMapper.toEntity(representationDescriptor, representationEntity.getProject(), migratedContentSize::addAndGet));
+                        migratedCount++;
+                    } else {
+                        failedCount++;
+                    }
+                }
+
+                lastId = representationEntities.get(representationEntities.size() - 1).getId();
+                representationEntities = this.representationRepository.findAllWithOtherContentFormat(contentFormat, lastId, PageRequest.of(0, BATCH_SIZE));
+            }
+
+            String pattern = "{} representations migrated ({} bytes), {} representations could not be read"; //$NON-NLS-1$
+            this.logger.info(pattern, migratedCount, migratedContentSize.get(), failedCount);
+        }
+    }
+
+}
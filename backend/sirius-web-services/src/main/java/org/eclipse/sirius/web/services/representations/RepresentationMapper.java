@@ -12,10 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.services.representations;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntConsumer;
 
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
@@ -35,13 +39,16 @@ public class RepresentationMapper {
 
     private final ObjectMapper objectMapper;
 
-    public RepresentationMapper(ObjectMapper objectMapper) {
+    private final RepresentationContentCodecRegistry representationContentCodecRegistry;
+
+    public RepresentationMapper(ObjectMapper objectMapper, RepresentationContentCodecRegistry representationContentCodecRegistry) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.representationContentCodecRegistry = Objects.requireNonNull(representationContentCodecRegistry);
     }
 
     public RepresentationDescriptor toDTO(RepresentationEntity representationEntity) {
         try {
-            IRepresentation representation = this.objectMapper.readValue(representationEntity.getContent(), IRepresentation.class);
+            IRepresentation representation = this.getRepresentation(representationEntity);
             // @formatter:off
             return RepresentationDescriptor.newRepresentationDescriptor(representationEntity.getId())
                     .label(representationEntity.getLabel())
@@ -51,28 +58,70 @@ public class RepresentationMapper {
                     .representation(representation)
                     .build();
             // @formatter:on
-        } catch (JsonProcessingException exception) {
+        } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
         return null;
     }
 
-    public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity) {
+    /**
+     * Converts the given representation descriptor to an entity.
+     *
+     * @param representationDescriptor
+     *            The representation descriptor
+     * @param projectEntity
+     *            The project of the representation
+     * @param contentSizeConsumer
+     *            Called with the size in bytes of the encoded content of the representation
+     * @return The representation entity
+     */
+    public RepresentationEntity toEntity(RepresentationDescriptor representationDescriptor, ProjectEntity projectEntity, IntConsumer contentSizeConsumer) {
         RepresentationEntity representationEntity = new RepresentationEntity();
 
         representationEntity.setId(representationDescriptor.getId());
         representationEntity.setProject(projectEntity);
+        representationEntity.setDescriptionId(representationDescriptor.getDescriptionId());
         representationEntity.setLabel(representationDescriptor.getLabel());
+        representationEntity.setKind(representationDescriptor.getRepresentation().getKind());
         representationEntity.setTargetObjectId(representationDescriptor.getTargetObjectId());
         representationEntity.setContentType(representationDescriptor.getRepresentation().getClass().getSimpleName());
+
+        String contentFormat = this.representationContentCodecRegistry.getFormat();
+        Optional<IRepresentationContentCodec> optionalRepresentationContentCodec = this.representationContentCodecRegistry.getCodec(contentFormat);
         try {
-            String content = this.objectMapper.writeValueAsString(representationDescriptor.getRepresentation());
-            representationEntity.setContent(content);
-        } catch (JsonProcessingException exception) {
+            if (optionalRepresentationContentCodec.isPresent()) {
+                byte[] binaryContent = optionalRepresentationContentCodec.get().encode(representationDescriptor.getRepresentation());
+                representationEntity.setBinaryContent(binaryContent);
+                contentSizeConsumer.accept(binaryContent.length);
+            } else {
+                byte[] content = this.objectMapper.writeValueAsBytes(representationDescriptor.getRepresentation());
+                representationEntity.setContent(new String(content, StandardCharsets.UTF_8));
+                contentSizeConsumer.accept(content.length);
+            }
+            representationEntity.setContentFormat(contentFormat);
+        } catch (IOException exception) {
             this.logger.error(exception.getMessage(), exception);
         }
 
         return representationEntity;
     }
 
+    /**
+     * Reads the representation from the binary content of the entity with the codec of its format or, for the
+     * representations stored in JSON, from its textual content.
+     */
+    private IRepresentation getRepresentation(RepresentationEntity representationEntity) throws IOException {
+        IRepresentation representation = null;
+        if (representationEntity.getBinaryContent() != null) {
+            String contentFormat = representationEntity.getContentFormat();
+            // @formatter:off
+            IRepresentationContentCodec representationContentCodec = this.representationContentCodecRegistry.getCodec(contentFormat)
+                    .orElseThrow(() -> new IOException(MessageFormat.format("Unsupported representation content format: {0}", contentFormat))); //$NON-NLS-1$
+            // @formatter:on
+            representation = representationContentCodec.decode(representationEntity.getBinaryContent());
+        } else {
+            representation = this.objectMapper.readValue(representationEntity.getContent(), IRepresentation.class);
+        }
+        return representation;
+    }
 }
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.representations;
+
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadataProjection;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
+
+/**
+ * Class used to convert the projections of representation entities on their metadata to representation metadata data
+ * transfer objects.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationMetadataMapper {
+
+    public RepresentationMetadata toDTO(IRepresentationMetadataProjection representationMetadataProjection) {
+        // @formatter:off
+        return RepresentationMetadata.newRepresentationMetadata(representationMetadataProjection.getId())
+                .projectId(representationMetadataProjection.getProjectId())
+                .descriptionId(representationMetadataProjection.getDescriptionId())
+                .targetObjectId(representationMetadataProjection.getTargetObjectId())
+                .label(representationMetadataProjection.getLabel())
+                .kind(representationMetadataProjection.getKind())
+                .build();
+        // @formatter:on
+    }
+
+}
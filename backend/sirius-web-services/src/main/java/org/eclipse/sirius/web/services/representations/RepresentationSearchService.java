@@ -35,16 +35,19 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final ObjectMapper objectMapper;
 
-    public RepresentationSearchService(IRepresentationRepository representationRepository, ObjectMapper objectMapper) {
+    private final RepresentationContentCodecRegistry representationContentCodecRegistry;
+
+    public RepresentationSearchService(IRepresentationRepository representationRepository, ObjectMapper objectMapper, RepresentationContentCodecRegistry representationContentCodecRegistry) {
         this.representationRepository = Objects.requireNonNull(representationRepository);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.representationContentCodecRegistry = Objects.requireNonNull(representationContentCodecRegistry);
     }
 
     @Override
     public <T extends IRepresentation> Optional<T> findById(UUID representationId, Class<T> representationClass) {
         // @formatter:off
         return this.representationRepository.findById(representationId)
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+                .map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO)
                 .map(RepresentationDescriptor::getRepresentation)
                 .filter(representationClass::isInstance)
                 .map(representationClass::cast);
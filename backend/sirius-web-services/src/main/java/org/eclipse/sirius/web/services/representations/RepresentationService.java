@@ -14,15 +14,19 @@ package org.eclipse.sirius.web.services.representations;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationDeletionService;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationPersistenceService;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IObjectService;
 import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
 import org.eclipse.sirius.web.persistence.repositories.IProjectRepository;
@@ -30,10 +34,14 @@ import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository
 import org.eclipse.sirius.web.representations.ISemanticRepresentation;
 import org.eclipse.sirius.web.services.api.representations.IRepresentationService;
 import org.eclipse.sirius.web.services.api.representations.RepresentationDescriptor;
+import org.eclipse.sirius.web.services.api.representations.RepresentationMetadata;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 
 /**
  * The service to manipulate representations.
@@ -45,20 +53,40 @@ public class RepresentationService implements IRepresentationService, IRepresent
 
     private static final String TIMER_NAME = "siriusweb_representation_save"; //$NON-NLS-1$
 
+    private static final String CONTENT_SIZE_DISTRIBUTION_NAME = "siriusweb_representation_content_size"; //$NON-NLS-1$
+
+    private static final String FORMAT = "format"; //$NON-NLS-1$
+
     private final IProjectRepository projectRepository;
 
     private final IRepresentationRepository representationRepository;
 
     private final ObjectMapper objectMapper;
 
+    private final IObjectService objectService;
+
+    private final RepresentationContentCodecRegistry representationContentCodecRegistry;
+
     private final Timer timer;
 
-    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    private final DistributionSummary contentSizeDistribution;
+
+    public RepresentationService(IProjectRepository projectRepository, IRepresentationRepository representationRepository, ObjectMapper objectMapper, IObjectService objectService,
+            RepresentationContentCodecRegistry representationContentCodecRegistry, MeterRegistry meterRegistry) {
         this.projectRepository = Objects.requireNonNull(projectRepository);
         this.representationRepository = Objects.requireNonNull(representationRepository);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.objectService = Objects.requireNonNull(objectService);
+        this.representationContentCodecRegistry = Objects.requireNonNull(representationContentCodecRegistry);
 
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+
+        // @formatter:off
+        this.contentSizeDistribution = DistributionSummary.builder(CONTENT_SIZE_DISTRIBUTION_NAME)
+                .baseUnit(BaseUnits.BYTES)
+                .tag(FORMAT, representationContentCodecRegistry.getFormat())
+                .register(meterRegistry);
+        // @formatter:on
     }
 
     @Override
@@ -68,14 +96,24 @@ public class RepresentationService implements IRepresentationService, IRepresent
 
     @Override
     public Optional<RepresentationDescriptor> getRepresentationDescriptorForProjectId(UUID projectId, UUID representationId) {
-        return this.representationRepository.findByIdAndProjectId(representationId, projectId).map(new RepresentationMapper(this.objectMapper)::toDTO);
+        return this.representationRepository.findByIdAndProjectId(representationId, projectId).map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO);
     }
 
     @Override
     public List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId) {
         // @formatter:off
         return this.representationRepository.findAllByProjectId(projectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+                .map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO)
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
+
+    @Override
+    public List<RepresentationDescriptor> getRepresentationDescriptorsForProjectId(UUID projectId, int page, int size) {
+        // @formatter:off
+        return this.representationRepository.findAllByProjectIdOrderById(projectId, PageRequest.of(page, size)).stream()
+                .map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
@@ -84,11 +122,38 @@ public class RepresentationService implements IRepresentationService, IRepresent
     public List<RepresentationDescriptor> getRepresentationDescriptorsForObjectId(String objectId) {
         // @formatter:off
         return this.representationRepository.findAllByTargetObjectId(objectId).stream()
-                .map(new RepresentationMapper(this.objectMapper)::toDTO)
+                .map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO)
                 .collect(Collectors.toUnmodifiableList());
         // @formatter:on
     }
 
+    @Override
+    public Set<String> getTargetObjectIdsWithRepresentations(UUID projectId) {
+        return Set.copyOf(this.representationRepository.findAllTargetObjectIdsByProjectId(projectId));
+    }
+
+    @Override
+    public List<RepresentationMetadata> getRepresentationMetadataForProjectId(UUID projectId) {
+        // @formatter:off
+        return this.representationRepository.findAllMetadataByProjectId(projectId).stream()
+                .map(new RepresentationMetadataMapper()::toDTO)
+                .collect(Collectors.toUnmodifiableList());
+        // @formatter:on
+    }
+
+    @Override
+    public List<RepresentationMetadata> getRepresentationMetadataForObjectIds(UUID projectId, Collection<String> objectIds) {
+        List<RepresentationMetadata> representationMetadata = List.of();
+        if (!objectIds.isEmpty()) {
+            // @formatter:off
+            representationMetadata = this.representationRepository.findAllMetadataByProjectIdAndTargetObjectIds(projectId, objectIds).stream()
+                    .map(new RepresentationMetadataMapper()::toDTO)
+                    .collect(Collectors.toUnmodifiableList());
+            // @formatter:on
+        }
+        return representationMetadata;
+    }
+
     @Override
     public void save(UUID editingContextId, ISemanticRepresentation representation) {
         long start = System.currentTimeMillis();
@@ -97,7 +162,8 @@ public class RepresentationService implements IRepresentationService, IRepresent
         var optionalProjectEntity = this.projectRepository.findById(representationDescriptor.getProjectId());
         if (optionalProjectEntity.isPresent()) {
             ProjectEntity projectEntity = optionalProjectEntity.get();
-            RepresentationEntity representationEntity = new RepresentationMapper(this.objectMapper).toEntity(representationDescriptor, projectEntity);
+            RepresentationMapper representationMapper = new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry);
+            RepresentationEntity representationEntity = representationMapper.toEntity(representationDescriptor, projectEntity, this.contentSizeDistribution::record);
             this.representationRepository.save(representationEntity);
         }
 
@@ -121,7 +187,7 @@ public class RepresentationService implements IRepresentationService, IRepresent
     public Optional<RepresentationDescriptor> getRepresentation(UUID representationId) {
         // @formatter:off
         return this.representationRepository.findById(representationId)
-                .map(new RepresentationMapper(this.objectMapper)::toDTO);
+                .map(new RepresentationMapper(this.objectMapper, this.representationContentCodecRegistry)::toDTO);
         // @formatter:off
     }
 
@@ -130,8 +196,25 @@ public class RepresentationService implements IRepresentationService, IRepresent
         this.representationRepository.deleteById(representationId);
     }
 
+    /**
+     * Deletes the representations whose target object has been removed and cannot be found anymore.
+     *
+     * <p>
+     * The target objects are looked up in the editing context, which already knows all its objects, instead of in the
+     * content of the documents stored in the database. Only the objects whose removal has been recorded are
+     * considered, in order to keep the representations of a document which could not be loaded.
+     * </p>
+     */
     @Override
-    public void deleteDanglingRepresentations(UUID editingContextId) {
-        this.representationRepository.deleteDanglingRepresentations(editingContextId);
+    public void deleteDanglingRepresentations(IEditingContext editingContext, Collection<String> removedObjectIds) {
+        // @formatter:off
+        List<String> danglingTargetObjectIds = removedObjectIds.stream()
+                .filter(targetObjectId -> this.objectService.getObject(editingContext, targetObjectId).isEmpty())
+                .collect(Collectors.toList());
+        // @formatter:on
+
+        if (!danglingTargetObjectIds.isEmpty()) {
+            this.representationRepository.deleteAllByProjectIdAndTargetObjectIds(editingContext.getId(), danglingTargetObjectIds);
+        }
     }
 }
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.documents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.web.collaborative.api.services.ChangeKind;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.emf.services.EditingContext;
+import org.eclipse.sirius.web.services.api.accounts.Profile;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.services.api.document.IDocumentService;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsInput;
+import org.eclipse.sirius.web.services.api.document.ImportDocumentsSuccessPayload;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.eclipse.sirius.web.services.api.projects.Project;
+import org.eclipse.sirius.web.services.api.projects.Visibility;
+import org.eclipse.sirius.web.services.projects.NoOpServicesMessageService;
+import org.eclipse.sirius.web.spring.graphql.api.UploadFile;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the import documents event handler.
+ *
+ * @author sbegaudeau
+ */
+public class ImportDocumentsEventHandlerTests {
+
+    private static final String FILE_NAME = "name"; //$NON-NLS-1$
+
+    // @formatter:off
+    private static final String XMI_CONTENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + System.lineSeparator() //$NON-NLS-1$
+    + "<ecore:EPackage xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" + System.lineSeparator() //$NON-NLS-1$
+    + "    xmlns:ecore=\"http://www.eclipse.org/emf/2002/Ecore\" name=\"ecore\" nsURI=\"http://www.eclipse.org/emf/2002/Ecore\" nsPrefix=\"ecore\">" + System.lineSeparator() //$NON-NLS-1$
+    + "  <eClassifiers xsi:type=\"ecore:EClass\" name=\"AClass\"/>" + System.lineSeparator() //$NON-NLS-1$
+    + "</ecore:EPackage>"; //$NON-NLS-1$
+    // @formatter:on
+
+    @Test
+    public void testImportDocuments() {
+        IDocumentService documentService = new NoOpDocumentService() {
+            @Override
+            public List<Document> createDocuments(UUID projectId, List<Entry<String, String>> namesAndContents) {
+                Project project = new Project(projectId, "", new Profile(UUID.randomUUID(), "username"), Visibility.PUBLIC); //$NON-NLS-1$ //$NON-NLS-2$
+                // @formatter:off
+                return namesAndContents.stream()
+                        .map(nameAndContent -> new Document(UUID.randomUUID(), project, nameAndContent.getKey(), nameAndContent.getValue()))
+                        .collect(Collectors.toList());
+                // @formatter:on
+            }
+        };
+        List<Object> events = new ArrayList<>();
+        ImportDocumentsEventHandler handler = new ImportDocumentsEventHandler(documentService, new NoOpServicesMessageService(), events::add, new SimpleMeterRegistry());
+
+        Map<String, UploadFile> files = new LinkedHashMap<>();
+        files.put("first", new UploadFile(FILE_NAME, new ByteArrayInputStream(XMI_CONTENT.getBytes()))); //$NON-NLS-1$
+        files.put("second", new UploadFile(FILE_NAME, new ByteArrayInputStream(XMI_CONTENT.getBytes()))); //$NON-NLS-1$
+        var input = new ImportDocumentsInput(UUID.randomUUID(), UUID.randomUUID(), files);
+
+        assertThat(handler.canHandle(input)).isTrue();
+
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        EventHandlerResponse response = handler.handle(editingContext, input);
+        assertThat(response.getChangeDescription().getKind()).isEqualTo(ChangeKind.SEMANTIC_CHANGE);
+        assertThat(response.getPayload()).isInstanceOf(ImportDocumentsSuccessPayload.class);
+
+        Map<String, Document> documents = ((ImportDocumentsSuccessPayload) response.getPayload()).getDocuments();
+        assertThat(documents).containsOnlyKeys("first", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertThat(editingDomain.getResourceSet().getResources()).hasSize(2);
+        for (Resource resource : editingDomain.getResourceSet().getResources()) {
+            assertThat(resource.getContents()).hasSize(1);
+            assertThat(resource.isTrackingModification()).isTrue();
+            assertThat(resource.isModified()).isFalse();
+        }
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0)).isInstanceOf(DocumentsModifiedEvent.class);
+        DocumentsModifiedEvent documentsModifiedEvent = (DocumentsModifiedEvent) events.get(0);
+        assertThat(documentsModifiedEvent.getDocuments()).containsExactlyInAnyOrderElementsOf(documents.values());
+        assertThat(documentsModifiedEvent.getDocumentIds()).containsExactlyInAnyOrderElementsOf(documents.values().stream().map(Document::getId).collect(Collectors.toList()));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.services.documents;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +33,11 @@ public class NoOpDocumentService implements IDocumentService {
         return Optional.empty();
     }
 
+    @Override
+    public List<Document> createDocuments(UUID projectId, List<Entry<String, String>> namesAndContents) {
+        return new ArrayList<>();
+    }
+
     @Override
     public Optional<Document> getDocument(UUID documentId) {
         return Optional.empty();
@@ -47,6 +53,11 @@ public class NoOpDocumentService implements IDocumentService {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<Document> getDocuments(UUID projectId, int page, int size) {
+        return new ArrayList<>();
+    }
+
     @Override
     public void delete(UUID documentId) {
     }
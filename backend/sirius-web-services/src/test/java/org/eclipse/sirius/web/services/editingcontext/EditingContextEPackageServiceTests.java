@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.services.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.domain.Domain;
+import org.eclipse.sirius.web.domain.DomainFactory;
+import org.eclipse.sirius.web.domain.DomainPackage;
+import org.eclipse.sirius.web.emf.services.EObjectIDManager;
+import org.eclipse.sirius.web.emf.services.SiriusWebJSONResourceFactoryImpl;
+import org.eclipse.sirius.web.persistence.entities.DocumentEntity;
+import org.eclipse.sirius.web.persistence.entities.ProjectEntity;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.services.api.events.DocumentsModifiedEvent;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the editing context EPackage service.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEPackageServiceTests {
+
+    private static final String METRIC_NAME = "siriusweb_domain_epackages"; //$NON-NLS-1$
+
+    private static final String CONVERSIONS_METRIC_NAME = "siriusweb_domain_epackages_conversions"; //$NON-NLS-1$
+
+    private static final String RESULT = "result"; //$NON-NLS-1$
+
+    @Test
+    public void testDynamicEPackagesAreCached() throws IOException {
+        UUID projectId = UUID.randomUUID();
+        UUID documentId = UUID.randomUUID();
+        String content = this.getContent(documentId, "sample", "domain://sample"); //$NON-NLS-1$ //$NON-NLS-2$
+
+        ProjectEntity projectEntity = new ProjectEntity();
+        projectEntity.setId(projectId);
+        DocumentEntity documentEntity = new DocumentEntity();
+        documentEntity.setId(documentId);
+        documentEntity.setProject(projectEntity);
+        documentEntity.setContent(content);
+
+        AtomicInteger queryCount = new AtomicInteger();
+        var documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public Iterable<DocumentEntity> findAllByType(String name, String uri) {
+                queryCount.incrementAndGet();
+                return List.of(documentEntity);
+            }
+        };
+
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EditingContextEPackageService editingContextEPackageService = new EditingContextEPackageService(globalEPackageRegistry, documentRepository, meterRegistry, true);
+
+        List<EPackage> ePackages = editingContextEPackageService.getEPackages(projectId);
+        assertThat(ePackages).extracting(EPackage::getNsURI).containsExactly(DomainPackage.eNS_URI, "domain://sample"); //$NON-NLS-1$
+        assertThat(editingContextEPackageService.getEPackages(projectId)).isEqualTo(ePackages);
+        assertThat(queryCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "hit").count()).isEqualTo(1); //$NON-NLS-1$
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "miss").count()).isEqualTo(1); //$NON-NLS-1$
+        assertThat(meterRegistry.counter(CONVERSIONS_METRIC_NAME).count()).isEqualTo(1);
+
+        String newContent = this.getContent(documentId, "renamed", "domain://renamed"); //$NON-NLS-1$ //$NON-NLS-2$
+        Document document = new Document(documentId, null, "", newContent); //$NON-NLS-1$
+        editingContextEPackageService.onDocumentsModified(new DocumentsModifiedEvent(projectId, List.of(document), Set.of(documentId)));
+        assertThat(editingContextEPackageService.getEPackages(projectId)).extracting(EPackage::getNsURI).containsExactly(DomainPackage.eNS_URI, "domain://renamed"); //$NON-NLS-1$
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "hit").count()).isEqualTo(2); //$NON-NLS-1$
+        assertThat(meterRegistry.counter(METRIC_NAME, RESULT, "miss").count()).isEqualTo(1); //$NON-NLS-1$
+        assertThat(meterRegistry.counter(CONVERSIONS_METRIC_NAME).count()).isEqualTo(2);
+
+        editingContextEPackageService.onDocumentsModified(new DocumentsModifiedEvent(projectId, List.of(), Set.of()));
+        assertThat(editingContextEPackageService.getEPackages(projectId)).extracting(EPackage::getNsURI).containsExactly(DomainPackage.eNS_URI);
+        assertThat(queryCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDocumentReferencingTheDomainPackageIgnored() throws IOException {
+        UUID projectId = UUID.randomUUID();
+        UUID documentId = UUID.randomUUID();
+
+        var documentRepository = new NoOpDocumentRepository() {
+            @Override
+            public Iterable<DocumentEntity> findAllByType(String name, String uri) {
+                return List.of();
+            }
+        };
+
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+
+        EditingContextEPackageService editingContextEPackageService = new EditingContextEPackageService(globalEPackageRegistry, documentRepository, new SimpleMeterRegistry(), true);
+        assertThat(editingContextEPackageService.getEPackages(projectId)).extracting(EPackage::getNsURI).containsExactlyInAnyOrder(DomainPackage.eNS_URI, EcorePackage.eNS_URI);
+
+        EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        eAnnotation.setSource(DomainPackage.eNS_URI);
+        String content = this.getContent(documentId, eAnnotation);
+        assertThat(content).contains(DomainPackage.eNS_URI);
+
+        Document document = new Document(documentId, null, "", content); //$NON-NLS-1$
+        editingContextEPackageService.onDocumentsModified(new DocumentsModifiedEvent(projectId, List.of(document), Set.of(documentId)));
+        assertThat(editingContextEPackageService.getEPackages(projectId)).extracting(EPackage::getNsURI).containsExactlyInAnyOrder(DomainPackage.eNS_URI, EcorePackage.eNS_URI);
+    }
+
+    private String getContent(UUID documentId, String name, String uri) throws IOException {
+        Domain domain = DomainFactory.eINSTANCE.createDomain();
+        domain.setName(name);
+        domain.setUri(uri);
+        return this.getContent(documentId, domain);
+    }
+
+    private String getContent(UUID documentId, EObject root) throws IOException {
+        JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(documentId.toString()));
+        resource.getContents().add(root);
+
+        HashMap<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
+
+        var outputStream = new ByteArrayOutputStream();
+        resource.save(outputStream, options);
+        return new String(outputStream.toByteArray());
+    }
+}
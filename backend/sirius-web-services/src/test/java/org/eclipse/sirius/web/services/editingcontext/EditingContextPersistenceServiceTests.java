@@ -13,11 +13,16 @@
 package org.eclipse.sirius.web.services.editingcontext;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
@@ -44,14 +49,164 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
  * @author sbegaudeau
  */
 public class EditingContextPersistenceServiceTests {
+
+    private static final String NAME = "New Document"; //$NON-NLS-1$
+
     @Test
     public void testDocumentPersistence() {
         UUID projectId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        AdapterFactoryEditingDomain editingDomain = this.createEditingDomain(id);
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        IDocumentRepository documentRepository = this.createDocumentRepository(projectId, id, entities);
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                Duration.ZERO);
+        assertThat(entities).hasSize(0);
+
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(1);
+
+        DocumentEntity documentEntity = entities.get(0);
+        assertThat(documentEntity.getId()).isEqualTo(id);
+        assertThat(documentEntity.getName()).isEqualTo(NAME);
+        assertThat(documentEntity.getProject().getId()).isEqualTo(projectId);
+    }
 
-        String name = "New Document"; //$NON-NLS-1$
+    @Test
+    public void testOnlyModifiedDocumentsArePersisted() {
         UUID id = UUID.randomUUID();
+        AdapterFactoryEditingDomain editingDomain = this.createEditingDomain(id);
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        IDocumentRepository documentRepository = this.createDocumentRepository(UUID.randomUUID(), id, entities);
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                Duration.ZERO);
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(1);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(1);
+
+        EClass eClass = (EClass) editingDomain.getResourceSet().getResources().get(0).getContents().get(0);
+        eClass.setName("Renamed Concept"); //$NON-NLS-1$
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(2);
+        assertThat(entities.get(1).getContent()).contains("Renamed Concept"); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testFailedWriteIsPerformedAgain() {
+        UUID id = UUID.randomUUID();
+        AdapterFactoryEditingDomain editingDomain = this.createEditingDomain(id);
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        IDocumentRepository failingDocumentRepository = this.createFailingOnceDocumentRepository(this.createDocumentRepository(UUID.randomUUID(), id, entities));
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(failingDocumentRepository, new NoOpApplicationEventPublisher(),
+                new SimpleMeterRegistry(), Duration.ZERO);
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        assertThatThrownBy(() -> editingContextPersistenceService.persist(editingContext)).isInstanceOf(IllegalStateException.class);
+        assertThat(entities).hasSize(0);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(1);
+    }
+
+    @Test
+    public void testFailedWriteBehindIsPerformedAgain() {
+        UUID id = UUID.randomUUID();
+        AdapterFactoryEditingDomain editingDomain = this.createEditingDomain(id);
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        IDocumentRepository failingDocumentRepository = this.createFailingOnceDocumentRepository(this.createDocumentRepository(UUID.randomUUID(), id, entities));
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(failingDocumentRepository, new NoOpApplicationEventPublisher(),
+                new SimpleMeterRegistry(), Duration.ofHours(1));
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThatThrownBy(() -> editingContextPersistenceService.flush(editingContext.getId())).isInstanceOf(IllegalStateException.class);
+        assertThat(entities).hasSize(0);
+
+        editingContextPersistenceService.flush(editingContext.getId());
+        assertThat(entities).hasSize(1);
+    }
+
+    @Test
+    public void testWriteBehindPersistence() {
+        UUID id = UUID.randomUUID();
+        AdapterFactoryEditingDomain editingDomain = this.createEditingDomain(id);
+
+        List<DocumentEntity> entities = new ArrayList<>();
+        IDocumentRepository documentRepository = this.createDocumentRepository(UUID.randomUUID(), id, entities);
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry(),
+                Duration.ofHours(1));
+        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+
+        editingContextPersistenceService.persist(editingContext);
+        assertThat(entities).hasSize(0);
+
+        editingContextPersistenceService.flush(editingContext.getId());
+        assertThat(entities).hasSize(1);
+
+        editingContextPersistenceService.flush(editingContext.getId());
+        assertThat(entities).hasSize(1);
+    }
+
+    @Test
+    public void testWritesOfDifferentEditingContextsPerformedConcurrently() throws InterruptedException {
+        UUID id = UUID.randomUUID();
+        List<DocumentEntity> entities = Collections.synchronizedList(new ArrayList<>());
+        IDocumentRepository documentRepository = this.createDocumentRepository(UUID.randomUUID(), id, entities);
+
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        AtomicBoolean isFirstWrite = new AtomicBoolean(true);
+        var blockingDocumentRepository = new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> Iterable<S> saveAll(Iterable<S> documentEntities) {
+                if (isFirstWrite.getAndSet(false)) {
+                    firstWriteStarted.countDown();
+                    try {
+                        firstWriteReleased.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return documentRepository.saveAll(documentEntities);
+            }
+
+            @Override
+            public Iterable<DocumentEntity> findAllById(Iterable<UUID> ids) {
+                return documentRepository.findAllById(ids);
+            }
+        };
+        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(blockingDocumentRepository, new NoOpApplicationEventPublisher(),
+                new SimpleMeterRegistry(), Duration.ZERO);
+
+        IEditingContext firstEditingContext = new EditingContext(UUID.randomUUID(), this.createEditingDomain(id));
+        IEditingContext secondEditingContext = new EditingContext(UUID.randomUUID(), this.createEditingDomain(id));
+
+        Thread firstWriter = new Thread(() -> editingContextPersistenceService.persist(firstEditingContext));
+        firstWriter.start();
+        assertThat(firstWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        editingContextPersistenceService.persist(secondEditingContext);
+        assertThat(entities).hasSize(1);
+
+        firstWriteReleased.countDown();
+        firstWriter.join(5000);
+        assertThat(entities).hasSize(2);
+    }
+
+    private AdapterFactoryEditingDomain createEditingDomain(UUID id) {
         JsonResource resource = new SiriusWebJSONResourceFactoryImpl().createResource(URI.createURI(id.toString()));
-        resource.eAdapters().add(new DocumentMetadataAdapter(name));
+        resource.eAdapters().add(new DocumentMetadataAdapter(NAME));
 
         EClass eClass = EcoreFactory.eINSTANCE.createEClass();
         eClass.setName("Concept"); //$NON-NLS-1$
@@ -59,7 +214,10 @@ public class EditingContextPersistenceServiceTests {
 
         AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create();
         editingDomain.getResourceSet().getResources().add(resource);
+        return editingDomain;
+    }
 
+    private IDocumentRepository createDocumentRepository(UUID projectId, UUID id, List<DocumentEntity> entities) {
         ProjectEntity projectEntity = new ProjectEntity();
         projectEntity.setId(projectId);
         projectEntity.setName(""); //$NON-NLS-1$
@@ -71,33 +229,48 @@ public class EditingContextPersistenceServiceTests {
         DocumentEntity existingEntity = new DocumentEntity();
         existingEntity.setId(id);
         existingEntity.setProject(projectEntity);
-        existingEntity.setName(name);
+        existingEntity.setName(NAME);
         existingEntity.setContent(""); //$NON-NLS-1$
 
-        List<DocumentEntity> entities = new ArrayList<>();
-        IDocumentRepository documentRepository = new NoOpDocumentRepository() {
+        return new NoOpDocumentRepository() {
             @Override
-            public <S extends DocumentEntity> S save(S entity) {
-                entities.add(entity);
-                return entity;
+            public <S extends DocumentEntity> Iterable<S> saveAll(Iterable<S> documentEntities) {
+                for (S documentEntity : documentEntities) {
+                    DocumentEntity savedEntity = new DocumentEntity();
+                    savedEntity.setId(documentEntity.getId());
+                    savedEntity.setProject(documentEntity.getProject());
+                    savedEntity.setName(documentEntity.getName());
+                    savedEntity.setContent(documentEntity.getContent());
+                    entities.add(savedEntity);
+                }
+                return documentEntities;
             }
 
             @Override
-            public Optional<DocumentEntity> findById(UUID id) {
-                return Optional.of(existingEntity);
+            public Iterable<DocumentEntity> findAllById(Iterable<UUID> ids) {
+                return List.of(existingEntity);
             }
         };
-        IEditingContextPersistenceService editingContextPersistenceService = new EditingContextPersistenceService(documentRepository, new NoOpApplicationEventPublisher(), new SimpleMeterRegistry());
-        assertThat(entities).hasSize(0);
-
-        IEditingContext editingContext = new EditingContext(UUID.randomUUID(), editingDomain);
+    }
 
-        editingContextPersistenceService.persist(editingContext);
-        assertThat(entities).hasSize(1);
+    /**
+     * Returns a repository which fails to save the documents the first time.
+     */
+    private IDocumentRepository createFailingOnceDocumentRepository(IDocumentRepository documentRepository) {
+        AtomicBoolean shouldFail = new AtomicBoolean(true);
+        return new NoOpDocumentRepository() {
+            @Override
+            public <S extends DocumentEntity> Iterable<S> saveAll(Iterable<S> documentEntities) {
+                if (shouldFail.getAndSet(false)) {
+                    throw new IllegalStateException();
+                }
+                return documentRepository.saveAll(documentEntities);
+            }
 
-        DocumentEntity documentEntity = entities.get(0);
-        assertThat(documentEntity.getId()).isEqualTo(id);
-        assertThat(documentEntity.getName()).isEqualTo(name);
-        assertThat(documentEntity.getProject().getId()).isEqualTo(projectId);
+            @Override
+            public Iterable<DocumentEntity> findAllById(Iterable<UUID> ids) {
+                return documentRepository.findAllById(ids);
+            }
+        };
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -101,6 +101,11 @@ public class NoOpDocumentRepository implements IDocumentRepository {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<DocumentEntity> findAllByProjectIdOrderById(UUID projectId, Pageable pageable) {
+        return new ArrayList<>();
+    }
+
     @Override
     public Optional<DocumentEntity> findByProjectIdAndId(UUID projectId, UUID documentId) {
         return Optional.empty();
@@ -97,6 +97,11 @@ public class NoOpDocumentRepository implements IDocumentRepository {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<DocumentEntity> findAllByProjectIdOrderById(UUID projectId, Pageable pageable) {
+        return new ArrayList<>();
+    }
+
     @Override
     public Optional<DocumentEntity> findByProjectIdAndId(UUID projectId, UUID documentId) {
         return Optional.empty();
@@ -13,11 +13,13 @@
 package org.eclipse.sirius.web.services.representations;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.persistence.entities.RepresentationEntity;
+import org.eclipse.sirius.web.persistence.projections.IRepresentationMetadataProjection;
 import org.eclipse.sirius.web.persistence.repositories.IRepresentationRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -102,6 +104,26 @@ public class NoOpRepresentationRepository implements IRepresentationRepository {
         return new ArrayList<>();
     }
 
+    @Override
+    public List<RepresentationEntity> findAllByProjectIdOrderById(UUID projectId, Pageable pageable) {
+        return List.of();
+    }
+
+    @Override
+    public List<IRepresentationMetadataProjection> findAllMetadataByProjectId(UUID projectId) {
+        return List.of();
+    }
+
+    @Override
+    public List<IRepresentationMetadataProjection> findAllMetadataByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds) {
+        return List.of();
+    }
+
+    @Override
+    public List<RepresentationEntity> findAllWithOtherContentFormat(String contentFormat, UUID lastId, Pageable pageable) {
+        return List.of();
+    }
+
     @Override
     public boolean hasRepresentations(String objectId) {
         return false;
@@ -117,7 +139,17 @@ public class NoOpRepresentationRepository implements IRepresentationRepository {
     }
 
     @Override
-    public int deleteDanglingRepresentations(UUID projectId) {
+    public List<String> findAllTargetObjectIdsByProjectId(UUID projectId) {
+        return List.of();
+    }
+
+    @Override
+    public List<RepresentationEntity> findAllByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds) {
+        return List.of();
+    }
+
+    @Override
+    public int deleteAllByProjectIdAndTargetObjectIds(UUID projectId, Collection<String> targetObjectIds) {
         return 0;
     }
 
@@ -15,8 +15,11 @@ package org.eclipse.sirius.web.spring.collaborative.diagrams;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
+
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationPersistenceService;
 import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
 import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramContext;
@@ -38,6 +41,7 @@ import org.eclipse.sirius.web.diagrams.renderer.DiagramRenderer;
 import org.eclipse.sirius.web.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -45,6 +49,19 @@ import io.micrometer.core.instrument.Timer;
 
 /**
  * Service used to create diagrams.
+ * <p>
+ * The sibling nodes can be rendered in parallel by activating the feature
+ * <code>org.eclipse.sirius.web.features.parallelDiagramRendering</code>. The nodes are then rendered on a fork join pool
+ * dedicated to the rendering of the diagrams, with one thread per processor, in order not to compete with the other
+ * users of the common pool.
+ * </p>
+ * <p>
+ * This feature applies to all the diagrams of the server, it must thus only be enabled if every diagram description
+ * available is coded in Java with providers which can be evaluated concurrently. It must not be enabled with
+ * interpreted diagram descriptions, such as the ones converted from an odesign or from a view, since their expressions
+ * and the item providers used to compute their labels and images are not meant to be used outside of the thread of
+ * the editing context.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -61,14 +78,28 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final Timer timer;
 
+    private final Optional<ForkJoinPool> optionalRenderingPool;
+
+    private final DiagramRenderer diagramRenderer;
+
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IRepresentationPersistenceService representationPersistenceService,
-            IObjectService objectService, ILayoutService layoutService, MeterRegistry meterRegistry) {
+            IObjectService objectService, ILayoutService layoutService, MeterRegistry meterRegistry,
+            @Value("${org.eclipse.sirius.web.features.parallelDiagramRendering:false}") boolean isParallelRenderingEnabled) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.representationPersistenceService = Objects.requireNonNull(representationPersistenceService);
         this.objectService = Objects.requireNonNull(objectService);
         this.layoutService = Objects.requireNonNull(layoutService);
+        if (isParallelRenderingEnabled) {
+            this.logger.warn("The parallel rendering of the diagrams is enabled, it must not be used with interpreted diagram descriptions"); //$NON-NLS-1$
+            ForkJoinPool renderingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            this.optionalRenderingPool = Optional.of(renderingPool);
+            this.diagramRenderer = new DiagramRenderer(this.logger, renderingPool);
+        } else {
+            this.optionalRenderingPool = Optional.empty();
+            this.diagramRenderer = new DiagramRenderer(this.logger);
+        }
         // @formatter:off
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram") //$NON-NLS-1$
@@ -124,7 +155,7 @@ public class DiagramCreationService implements IDiagramCreationService {
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
 
-        Diagram newDiagram = new DiagramRenderer(this.logger).render(element);
+        Diagram newDiagram = this.diagramRenderer.render(element);
 
         // The auto layout is used for the first rendering and after that if it is activated
         if (this.shouldPerformFullLayout(optionalDiagramContext, diagramDescription)) {
@@ -167,4 +198,9 @@ public class DiagramCreationService implements IDiagramCreationService {
         // @formatter:on
     }
 
+    @PreDestroy
+    public void dispose() {
+        this.optionalRenderingPool.ifPresent(ForkJoinPool::shutdown);
+    }
+
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.EdgeStyle;
+import org.eclipse.sirius.web.diagrams.INodeStyle;
+import org.eclipse.sirius.web.diagrams.ImageNodeStyle;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.LabelStyle;
+import org.eclipse.sirius.web.diagrams.ListItemNodeStyle;
+import org.eclipse.sirius.web.diagrams.ListNodeStyle;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.RectangularNodeStyle;
+
+/**
+ * Used to compare the properties of the elements of two revisions of a diagram.
+ *
+ * <p>
+ * The diagram elements do not implement equals, their fields are thus compared here. The elements which have not been
+ * rendered again are shared between the revisions, so they are detected as the same instance right away. A node style
+ * of an unknown kind is always considered as modified.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramElementComparator {
+
+    /**
+     * Indicates if the properties of the given diagrams are the same, without considering their nodes and edges.
+     */
+    public boolean isSameDiagram(Diagram previousDiagram, Diagram newDiagram) {
+        // @formatter:off
+        return Objects.equals(previousDiagram.getId(), newDiagram.getId())
+                && Objects.equals(previousDiagram.getKind(), newDiagram.getKind())
+                && Objects.equals(previousDiagram.getTargetObjectId(), newDiagram.getTargetObjectId())
+                && Objects.equals(previousDiagram.getDescriptionId(), newDiagram.getDescriptionId())
+                && Objects.equals(previousDiagram.getLabel(), newDiagram.getLabel())
+                && Objects.equals(previousDiagram.getPosition(), newDiagram.getPosition())
+                && Objects.equals(previousDiagram.getSize(), newDiagram.getSize());
+        // @formatter:on
+    }
+
+    /**
+     * Indicates if the properties of the given nodes are the same, without considering their border nodes and child
+     * nodes.
+     */
+    public boolean isSameNode(Node previousNode, Node newNode) {
+        boolean isSame = previousNode == newNode;
+        if (!isSame) {
+            // @formatter:off
+            isSame = Objects.equals(previousNode.getId(), newNode.getId())
+                    && Objects.equals(previousNode.getType(), newNode.getType())
+                    && Objects.equals(previousNode.getTargetObjectId(), newNode.getTargetObjectId())
+                    && Objects.equals(previousNode.getTargetObjectKind(), newNode.getTargetObjectKind())
+                    && Objects.equals(previousNode.getTargetObjectLabel(), newNode.getTargetObjectLabel())
+                    && Objects.equals(previousNode.getDescriptionId(), newNode.getDescriptionId())
+                    && previousNode.isBorderNode() == newNode.isBorderNode()
+                    && this.isSameLabel(previousNode.getLabel(), newNode.getLabel())
+                    && this.isSameNodeStyle(previousNode.getStyle(), newNode.getStyle())
+                    && Objects.equals(previousNode.getPosition(), newNode.getPosition())
+                    && Objects.equals(previousNode.getSize(), newNode.getSize())
+                    && Objects.equals(previousNode.getCustomizedProperties(), newNode.getCustomizedProperties());
+            // @formatter:on
+        }
+        return isSame;
+    }
+
+    /**
+     * Indicates if the properties of the given edges are the same.
+     */
+    public boolean isSameEdge(Edge previousEdge, Edge newEdge) {
+        boolean isSame = previousEdge == newEdge;
+        if (!isSame) {
+            // @formatter:off
+            isSame = Objects.equals(previousEdge.getId(), newEdge.getId())
+                    && Objects.equals(previousEdge.getType(), newEdge.getType())
+                    && Objects.equals(previousEdge.getTargetObjectId(), newEdge.getTargetObjectId())
+                    && Objects.equals(previousEdge.getTargetObjectKind(), newEdge.getTargetObjectKind())
+                    && Objects.equals(previousEdge.getTargetObjectLabel(), newEdge.getTargetObjectLabel())
+                    && Objects.equals(previousEdge.getDescriptionId(), newEdge.getDescriptionId())
+                    && this.isSameLabel(previousEdge.getBeginLabel(), newEdge.getBeginLabel())
+                    && this.isSameLabel(previousEdge.getCenterLabel(), newEdge.getCenterLabel())
+                    && this.isSameLabel(previousEdge.getEndLabel(), newEdge.getEndLabel())
+                    && Objects.equals(previousEdge.getSourceId(), newEdge.getSourceId())
+                    && Objects.equals(previousEdge.getTargetId(), newEdge.getTargetId())
+                    && this.isSameEdgeStyle(previousEdge.getStyle(), newEdge.getStyle())
+                    && Objects.equals(previousEdge.getRoutingPoints(), newEdge.getRoutingPoints());
+            // @formatter:on
+        }
+        return isSame;
+    }
+
+    private boolean isSameLabel(Label previousLabel, Label newLabel) {
+        boolean isSame = previousLabel == newLabel;
+        if (!isSame && previousLabel != null && newLabel != null) {
+            // @formatter:off
+            isSame = Objects.equals(previousLabel.getId(), newLabel.getId())
+                    && Objects.equals(previousLabel.getType(), newLabel.getType())
+                    && Objects.equals(previousLabel.getText(), newLabel.getText())
+                    && Objects.equals(previousLabel.getPosition(), newLabel.getPosition())
+                    && Objects.equals(previousLabel.getSize(), newLabel.getSize())
+                    && Objects.equals(previousLabel.getAlignment(), newLabel.getAlignment())
+                    && this.isSameLabelStyle(previousLabel.getStyle(), newLabel.getStyle());
+            // @formatter:on
+        }
+        return isSame;
+    }
+
+    private boolean isSameLabelStyle(LabelStyle previousStyle, LabelStyle newStyle) {
+        boolean isSame = previousStyle == newStyle;
+        if (!isSame && previousStyle != null && newStyle != null) {
+            // @formatter:off
+            isSame = Objects.equals(previousStyle.getColor(), newStyle.getColor())
+                    && previousStyle.getFontSize() == newStyle.getFontSize()
+                    && previousStyle.isBold() == newStyle.isBold()
+                    && previousStyle.isItalic() == newStyle.isItalic()
+                    && previousStyle.isUnderline() == newStyle.isUnderline()
+                    && previousStyle.isStrikeThrough() == newStyle.isStrikeThrough()
+                    && Objects.equals(previousStyle.getIconURL(), newStyle.getIconURL());
+            // @formatter:on
+        }
+        return isSame;
+    }
+
+    private boolean isSameNodeStyle(INodeStyle previousStyle, INodeStyle newStyle) {
+        boolean isSame = previousStyle == newStyle;
+        if (!isSame && previousStyle instanceof RectangularNodeStyle && newStyle instanceof RectangularNodeStyle) {
+            RectangularNodeStyle previousRectangularStyle = (RectangularNodeStyle) previousStyle;
+            RectangularNodeStyle newRectangularStyle = (RectangularNodeStyle) newStyle;
+            // @formatter:off
+            isSame = Objects.equals(previousRectangularStyle.getColor(), newRectangularStyle.getColor())
+                    && Objects.equals(previousRectangularStyle.getBorderColor(), newRectangularStyle.getBorderColor())
+                    && previousRectangularStyle.getBorderSize() == newRectangularStyle.getBorderSize()
+                    && previousRectangularStyle.getBorderRadius() == newRectangularStyle.getBorderRadius()
+                    && previousRectangularStyle.getBorderStyle() == newRectangularStyle.getBorderStyle();
+            // @formatter:on
+        } else if (!isSame && previousStyle instanceof ListNodeStyle && newStyle instanceof ListNodeStyle) {
+            ListNodeStyle previousListStyle = (ListNodeStyle) previousStyle;
+            ListNodeStyle newListStyle = (ListNodeStyle) newStyle;
+            // @formatter:off
+            isSame = Objects.equals(previousListStyle.getColor(), newListStyle.getColor())
+                    && Objects.equals(previousListStyle.getBorderColor(), newListStyle.getBorderColor())
+                    && previousListStyle.getBorderSize() == newListStyle.getBorderSize()
+                    && previousListStyle.getBorderRadius() == newListStyle.getBorderRadius()
+                    && previousListStyle.getBorderStyle() == newListStyle.getBorderStyle();
+            // @formatter:on
+        } else if (!isSame && previousStyle instanceof ListItemNodeStyle && newStyle instanceof ListItemNodeStyle) {
+            isSame = Objects.equals(((ListItemNodeStyle) previousStyle).getBackgroundColor(), ((ListItemNodeStyle) newStyle).getBackgroundColor());
+        } else if (!isSame && previousStyle instanceof ImageNodeStyle && newStyle instanceof ImageNodeStyle) {
+            ImageNodeStyle previousImageStyle = (ImageNodeStyle) previousStyle;
+            ImageNodeStyle newImageStyle = (ImageNodeStyle) newStyle;
+            isSame = Objects.equals(previousImageStyle.getImageURL(), newImageStyle.getImageURL()) && previousImageStyle.getScalingFactor() == newImageStyle.getScalingFactor();
+        }
+        return isSame;
+    }
+
+    private boolean isSameEdgeStyle(EdgeStyle previousStyle, EdgeStyle newStyle) {
+        boolean isSame = previousStyle == newStyle;
+        if (!isSame && previousStyle != null && newStyle != null) {
+            // @formatter:off
+            isSame = previousStyle.getSize() == newStyle.getSize()
+                    && previousStyle.getLineStyle() == newStyle.getLineStyle()
+                    && previousStyle.getSourceArrow() == newStyle.getSourceArrow()
+                    && previousStyle.getTargetArrow() == newStyle.getTargetArrow()
+                    && Objects.equals(previousStyle.getColor(), newStyle.getColor());
+            // @formatter:on
+        }
+        return isSame;
+    }
+}
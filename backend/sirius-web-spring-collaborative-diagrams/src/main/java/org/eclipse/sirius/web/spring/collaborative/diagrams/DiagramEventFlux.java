@@ -13,14 +13,19 @@
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramEventInput;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
 import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationEventConflater;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -30,40 +35,161 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Subscribers which have asked for incremental updates receive a patch after each refresh instead of the whole
+ * diagram. A complete snapshot is still sent to them periodically and whenever a patch would not be smaller than the
+ * diagram itself.
+ * </p>
+ *
+ * <p>
+ * Each subscriber receives the refreshes on its own thread and only keeps the most recent one while it is busy. A slow
+ * subscriber thus skips the intermediate refreshes instead of missing the latest one. Since a patch can only be applied
+ * on top of the previous revision, an incremental subscriber which has skipped a refresh receives a complete snapshot
+ * instead of the patch of the latest one.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
 
+    /**
+     * The number of revisions after which a complete snapshot is sent to the incremental subscribers.
+     */
+    private static final int SNAPSHOT_INTERVAL = 50;
+
     private final Logger logger = LoggerFactory.getLogger(DiagramEventFlux.class);
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
-    private Diagram currentDiagram;
+    private final Many<DiagramRefresh> incrementalSink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramPatchProvider diagramPatchProvider = new DiagramPatchProvider();
+
+    private final RepresentationEventConflater representationEventConflater;
 
-    public DiagramEventFlux(Diagram currentDiagram) {
-        this.currentDiagram = Objects.requireNonNull(currentDiagram);
+    /**
+     * The current revision of the diagram, written by the thread of the editing context and read by the subscribers. The
+     * diagram and its revision are published together so that they are always read consistently.
+     */
+    private volatile DiagramRevision currentRevision;
+
+    public DiagramEventFlux(Diagram currentDiagram, MeterRegistry meterRegistry) {
+        this.currentRevision = new DiagramRevision(Objects.requireNonNull(currentDiagram), 0);
+        this.representationEventConflater = new RepresentationEventConflater("diagram", meterRegistry); //$NON-NLS-1$
     }
 
     public void diagramRefreshed(IInput input, Diagram newDiagram) {
-        this.currentDiagram = newDiagram;
-        EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(input.getId(), this.currentDiagram));
+        DiagramRevision previousRevision = this.currentRevision;
+        int revision = previousRevision.getRevision() + 1;
+        this.currentRevision = new DiagramRevision(newDiagram, revision);
+
+        DiagramPatchEventPayload patch = null;
+        if (this.incrementalSink.currentSubscriberCount() > 0 && revision % SNAPSHOT_INTERVAL != 0) {
+            patch = this.diagramPatchProvider.getPatch(input.getId(), previousRevision.getDiagram(), newDiagram, revision).orElse(null);
+        }
+
+        var diagramRefresh = new DiagramRefresh(input.getId(), newDiagram, revision, patch);
+        this.emit(this.sink, diagramRefresh.getSnapshot());
+        if (this.incrementalSink.currentSubscriberCount() > 0) {
+            this.emit(this.incrementalSink, diagramRefresh);
+        }
+    }
+
+    private <T> void emit(Many<T> target, T event) {
+        EmitResult emitResult = target.tryEmitNext(event);
         if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}"; //$NON-NLS-1$
-            this.logger.warn(pattern, emitResult);
+            String pattern = "An error has occurred while emitting a {}: {}"; //$NON-NLS-1$
+            this.logger.warn(pattern, event.getClass().getSimpleName(), emitResult);
         }
     }
 
     public Flux<IPayload> getFlux(IInput input) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(input.getId(), this.currentDiagram));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        if (input instanceof DiagramEventInput && ((DiagramEventInput) input).isIncremental()) {
+            return this.getIncrementalFlux(input);
+        }
+
+        var initialRefresh = Mono.fromCallable(() -> {
+            DiagramRevision diagramRevision = this.currentRevision;
+            return new DiagramRefreshedEventPayload(input.getId(), diagramRevision.getDiagram(), diagramRevision.getRevision());
+        });
+        return this.representationEventConflater.conflate(Flux.concat(initialRefresh, this.sink.asFlux()), input);
+    }
+
+    /**
+     * Returns the flux of an incremental subscriber.
+     *
+     * <p>
+     * The refreshes are conflated before being converted into payloads. The patch of a refresh is thus only sent if the
+     * subscriber has received the previous revision, otherwise a complete snapshot is sent. The refreshes of the
+     * revisions already received with the initial snapshot are ignored.
+     * </p>
+     *
+     * @param input
+     *            The input of the subscription
+     * @return The flux of the payloads of the subscriber
+     */
+    private Flux<IPayload> getIncrementalFlux(IInput input) {
+        return Flux.defer(() -> {
+            AtomicInteger lastRevision = new AtomicInteger(-1);
+            var initialRefresh = Mono.fromCallable(() -> {
+                DiagramRevision diagramRevision = this.currentRevision;
+                return new DiagramRefresh(input.getId(), diagramRevision.getDiagram(), diagramRevision.getRevision(), null);
+            });
+
+            var refreshes = this.representationEventConflater.conflate(Flux.concat(initialRefresh, this.incrementalSink.asFlux()), input);
+            // @formatter:off
+            return refreshes.filter(diagramRefresh -> diagramRefresh.getRevision() > lastRevision.get())
+                    .map(diagramRefresh -> this.toPayload(diagramRefresh, lastRevision));
+            // @formatter:on
+        });
+    }
+
+    private IPayload toPayload(DiagramRefresh diagramRefresh, AtomicInteger lastRevision) {
+        int previousRevision = lastRevision.getAndSet(diagramRefresh.getRevision());
+
+        IPayload payload = diagramRefresh.getSnapshot();
+        var optionalPatch = diagramRefresh.getPatch();
+        if (previousRevision == diagramRefresh.getRevision() - 1 && optionalPatch.isPresent()) {
+            payload = optionalPatch.get();
+        }
+        return payload;
     }
 
     public void dispose() {
-        EmitResult emitResult = this.sink.tryEmitComplete();
+        this.complete(this.sink);
+        this.complete(this.incrementalSink);
+    }
+
+    private <T> void complete(Many<T> target) {
+        EmitResult emitResult = target.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
             this.logger.warn(pattern, emitResult);
         }
     }
 
+    /**
+     * A diagram along with its revision.
+     *
+     * @author sbegaudeau
+     */
+    private static final class DiagramRevision {
+
+        private final Diagram diagram;
+
+        private final int revision;
+
+        DiagramRevision(Diagram diagram, int revision) {
+            this.diagram = diagram;
+            this.revision = revision;
+        }
+
+        Diagram getDiagram() {
+            return this.diagram;
+        }
+
+        int getRevision() {
+            return this.revision;
+        }
+    }
 }
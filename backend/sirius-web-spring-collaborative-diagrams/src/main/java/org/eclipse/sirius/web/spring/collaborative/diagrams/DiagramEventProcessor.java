@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.diagrams;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.collaborative.api.dto.RenameRepresentationInput;
@@ -33,11 +35,14 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.core.api.IRepresentationInput;
 import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 import reactor.core.publisher.Sinks.EmitResult;
@@ -47,6 +52,12 @@ import reactor.core.publisher.Sinks.Many;
  * Reacts to input that target a specific diagram, and {@link #getDiagramUpdates() publishes} updated versions of the
  * diagram to interested subscribers.
  *
+ * <p>
+ * While nobody is subscribed to the diagram, the changes which should refresh it only mark it as stale. A stale diagram
+ * is refreshed on demand once someone sends an input which targets it or subscribes to it. In the latter case, the
+ * refresh is requested to the editing context so that it runs on its thread, while the semantic model is not modified.
+ * </p>
+ *
  * @author sbegaudeau
  * @author pcdavid
  */
@@ -66,10 +77,20 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
 
+    private final Many<IInput> refreshRequestsSink = Sinks.many().unicast().onBackpressureBuffer();
+
     private final DiagramEventFlux diagramEventFlux;
 
+    /**
+     * Used to ensure that no change can be ignored between the moment the diagram is marked as stale and the moment a
+     * new subscriber requests its refresh.
+     */
+    private final Object refreshLock = new Object();
+
+    private boolean isStale;
+
     public DiagramEventProcessor(IEditingContext editingContext, IDiagramContext diagramContext, List<IDiagramEventHandler> diagramEventHandlers, ISubscriptionManager subscriptionManager,
-            IDiagramCreationService diagramCreationService) {
+            IDiagramCreationService diagramCreationService, MeterRegistry meterRegistry) {
         this.logger.trace("Creating the diagram event processor {}", diagramContext.getDiagram().getId()); //$NON-NLS-1$
 
         this.editingContext = Objects.requireNonNull(editingContext);
@@ -82,7 +103,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
         Diagram diagram = this.diagramCreationService.refresh(editingContext, diagramContext).orElse(null);
         diagramContext.update(diagram);
-        this.diagramEventFlux = new DiagramEventFlux(diagram);
+        this.diagramEventFlux = new DiagramEventFlux(diagram, meterRegistry);
 
         if (diagram != null) {
             this.logger.trace("Diagram refreshed: {})", diagram.getId()); //$NON-NLS-1$
@@ -113,6 +134,8 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             Optional<IDiagramEventHandler> optionalDiagramEventHandler = this.diagramEventHandlers.stream().filter(handler -> handler.canHandle(diagramInput)).findFirst();
 
             if (optionalDiagramEventHandler.isPresent()) {
+                this.refreshIfStale(representationInput);
+
                 IDiagramEventHandler diagramEventHandler = optionalDiagramEventHandler.get();
                 EventHandlerResponse eventHandlerResponse = diagramEventHandler.handle(this.editingContext, this.diagramContext, diagramInput);
 
@@ -128,31 +151,105 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     @Override
     public void refresh(IInput input, ChangeDescription changeDescription) {
-        if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
-            if (refreshedDiagram != null) {
-                this.logger.trace("Diagram refreshed: {}", refreshedDiagram.getId()); //$NON-NLS-1$
+        synchronized (this.refreshLock) {
+            if (!this.isStale && this.shouldRefresh(changeDescription)) {
+                if (this.subscriptionManager.isEmpty()) {
+                    this.isStale = true;
+                    this.logger.trace("Diagram marked as stale: {}", this.diagramContext.getDiagram().getId()); //$NON-NLS-1$
+                } else {
+                    this.doRefresh(input);
+                }
             }
+        }
+    }
 
-            this.diagramContext.reset();
-            this.diagramContext.update(refreshedDiagram);
-            this.diagramEventFlux.diagramRefreshed(input, refreshedDiagram);
+    /**
+     * Refreshes the diagram if some changes have been ignored while nobody was subscribed to it.
+     *
+     * @param input
+     *            The input which requires an up to date diagram
+     * @return <code>true</code> if the diagram has been refreshed, <code>false</code> otherwise
+     */
+    @Override
+    public boolean refreshIfStale(IInput input) {
+        synchronized (this.refreshLock) {
+            boolean isRefreshed = this.isStale;
+            if (this.isStale) {
+                this.isStale = false;
+                this.doRefresh(input);
+            }
+            return isRefreshed;
         }
     }
 
     /**
-     * A diagram is refresh if there is a semantic change or if there is a diagram layout change coming from this very
-     * diagram (not other diagrams)
+     * Requests the editing context to refresh the diagram if some changes have been ignored, the diagram has to be
+     * refreshed on its thread since the semantic model may be modified concurrently on any other thread.
+     *
+     * @param input
+     *            The input which requires an up to date diagram
+     */
+    private void requestRefreshIfStale(IInput input) {
+        synchronized (this.refreshLock) {
+            if (this.isStale) {
+                EmitResult emitResult = this.refreshRequestsSink.tryEmitNext(input);
+                if (emitResult.isFailure()) {
+                    String pattern = "An error has occurred while requesting the refresh of the diagram: {}"; //$NON-NLS-1$
+                    this.logger.warn(pattern, emitResult);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Flux<IInput> getRefreshRequests() {
+        return this.refreshRequestsSink.asFlux();
+    }
+
+    private void doRefresh(IInput input) {
+        Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+        if (refreshedDiagram != null) {
+            this.logger.trace("Diagram refreshed: {}", refreshedDiagram.getId()); //$NON-NLS-1$
+        }
+
+        this.diagramContext.reset();
+        this.diagramContext.update(refreshedDiagram);
+        this.diagramEventFlux.diagramRefreshed(input, refreshedDiagram);
+    }
+
+    /**
+     * A diagram is refresh if there is a semantic change which may impact the semantic elements displayed or if there
+     * is a diagram layout change coming from this very diagram (not other diagrams)
      *
      * @param changeDescription
      *            The change description
      * @return <code>true</code> if the diagram should be refreshed, <code>false</code> otherwise
      */
     private boolean shouldRefresh(ChangeDescription changeDescription) {
-        return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())
+        boolean isImpactingSemanticChange = ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())
+                && changeDescription.getSemanticChanges().map(semanticChanges -> semanticChanges.mayAffect(this.getTargetObjectIds())).orElse(Boolean.TRUE).booleanValue();
+        return isImpactingSemanticChange
                 || (DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE.equals(changeDescription.getKind()) && changeDescription.getSourceId().equals(this.diagramContext.getDiagram().getId()));
     }
 
+    private Set<String> getTargetObjectIds() {
+        Diagram diagram = this.diagramContext.getDiagram();
+
+        Set<String> targetObjectIds = new HashSet<>();
+        targetObjectIds.add(diagram.getTargetObjectId());
+        this.collectTargetObjectIds(diagram.getNodes(), targetObjectIds);
+        diagram.getEdges().stream().map(Edge::getTargetObjectId).forEach(targetObjectIds::add);
+        return targetObjectIds;
+    }
+
+    private void collectTargetObjectIds(List<Node> nodes, Set<String> targetObjectIds) {
+        for (Node node : nodes) {
+            targetObjectIds.add(node.getTargetObjectId());
+            this.collectTargetObjectIds(node.getBorderNodes(), targetObjectIds);
+            this.collectTargetObjectIds(node.getChildNodes(), targetObjectIds);
+        }
+    }
+
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         // @formatter:off
@@ -164,6 +261,9 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
             this.subscriptionManager.add(input, username);
             this.logger.trace("{} has subscribed to the diagram {} {}", username, this.diagramContext.getDiagram().getId(), this.subscriptionManager); //$NON-NLS-1$
+
+            // The new subscriber has to receive a diagram which takes into account the changes ignored until now
+            this.requestRefreshIfStale(input);
         })
         .doOnCancel(() -> {
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -192,6 +292,12 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
         this.subscriptionManager.dispose();
         this.diagramEventFlux.dispose();
+
+        EmitResult emitResult = this.refreshRequestsSink.tryEmitComplete();
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
+            this.logger.warn(pattern, emitResult);
+        }
     }
 
 }
@@ -29,6 +29,8 @@ import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.diagrams.Diagram;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to create the diagram event processors.
  *
@@ -45,12 +47,15 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
+    private final MeterRegistry meterRegistry;
+
     public DiagramEventProcessorFactory(IRepresentationSearchService representationSearchService, IDiagramCreationService diagramCreationService, List<IDiagramEventHandler> diagramEventHandlers,
-            ISubscriptionManagerFactory subscriptionManagerFactory) {
+            ISubscriptionManagerFactory subscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -70,7 +75,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                 // @formatter:off
                 DiagramContext diagramContext = new DiagramContext(diagram);
                 IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(editingContext, diagramContext,
-                        this.diagramEventHandlers, this.subscriptionManagerFactory.create(), this.diagramCreationService);
+                        this.diagramEventHandlers, this.subscriptionManagerFactory.create(), this.diagramCreationService, this.meterRegistry);
 
                 return Optional.of(diagramEventProcessor)
                         .filter(representationEventProcessorClass::isInstance)
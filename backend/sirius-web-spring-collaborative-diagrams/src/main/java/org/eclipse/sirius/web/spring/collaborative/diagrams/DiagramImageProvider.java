@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,6 @@ import java.util.Optional;
 
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationImageProvider;
 import org.eclipse.sirius.web.diagrams.Diagram;
-import org.eclipse.sirius.web.representations.IRepresentation;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,12 +27,11 @@ import org.springframework.stereotype.Service;
 public class DiagramImageProvider implements IRepresentationImageProvider {
 
     @Override
-    public Optional<String> getImageURL(IRepresentation representation) {
+    public Optional<String> getImageURL(String kind) {
         // @formatter:off
-        return Optional.of(representation)
-                .filter(Diagram.class::isInstance)
-                .map(Diagram.class::cast)
-                .map(diagram -> "/diagram-images/diagram.svg"); //$NON-NLS-1$
+        return Optional.of(kind)
+                .filter(Diagram.KIND::equals)
+                .map(diagramKind -> "/diagram-images/diagram.svg"); //$NON-NLS-1$
         // @formatter:on
     }
 
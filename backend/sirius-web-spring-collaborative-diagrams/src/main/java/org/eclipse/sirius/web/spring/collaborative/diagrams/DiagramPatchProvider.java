@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.PatchedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.ReorderedNodes;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Edge;
+import org.eclipse.sirius.web.diagrams.Node;
+
+/**
+ * Used to compute the patch between two revisions of a diagram.
+ *
+ * <p>
+ * Nodes and edges are matched using their identifier. A node which has been moved to another parent is considered as
+ * removed and added again. The properties of the elements are compared by the {@link DiagramElementComparator},
+ * without their children in the case of nodes. Siblings which would not end up in the same order as in the new diagram
+ * once the patch has been applied are reordered explicitly.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramPatchProvider {
+
+    private final DiagramElementComparator comparator = new DiagramElementComparator();
+
+    /**
+     * Computes the patch to apply on the previous diagram to obtain the new one.
+     *
+     * @return The patch or an empty optional if a patch would not be smaller than the new diagram itself, for example
+     *         if the properties of the diagram have changed or if most of its elements have been modified
+     */
+    public Optional<DiagramPatchEventPayload> getPatch(UUID id, Diagram previousDiagram, Diagram newDiagram, int revision) {
+        Optional<DiagramPatchEventPayload> optionalPatch = Optional.empty();
+
+        if (this.comparator.isSameDiagram(previousDiagram, newDiagram)) {
+            Map<UUID, PatchedNode> previousNodes = new LinkedHashMap<>();
+            this.collectNodes(null, previousDiagram.getNodes(), previousNodes);
+            Map<UUID, PatchedNode> newNodes = new LinkedHashMap<>();
+            this.collectNodes(null, newDiagram.getNodes(), newNodes);
+
+            Set<UUID> addedNodeIds = this.getMissingNodeIds(newNodes, previousNodes);
+            Set<UUID> removedNodeIds = this.getMissingNodeIds(previousNodes, newNodes);
+
+            List<PatchedNode> addedNodes = this.getTopMostNodes(newNodes, addedNodeIds);
+            List<PatchedNode> updatedNodes = this.getUpdatedNodes(previousNodes, newNodes, addedNodeIds);
+            // @formatter:off
+            List<UUID> topMostRemovedNodeIds = this.getTopMostNodes(previousNodes, removedNodeIds).stream()
+                    .map(PatchedNode::getNode)
+                    .map(Node::getId)
+                    .collect(Collectors.toList());
+            // @formatter:on
+
+            Map<UUID, Edge> previousEdges = new LinkedHashMap<>();
+            previousDiagram.getEdges().forEach(edge -> previousEdges.put(edge.getId(), edge));
+            Map<UUID, Edge> newEdges = new LinkedHashMap<>();
+            newDiagram.getEdges().forEach(edge -> newEdges.put(edge.getId(), edge));
+
+            // @formatter:off
+            List<Edge> addedEdges = newEdges.values().stream()
+                    .filter(edge -> !previousEdges.containsKey(edge.getId()))
+                    .collect(Collectors.toList());
+            List<Edge> updatedEdges = newEdges.values().stream()
+                    .filter(edge -> previousEdges.containsKey(edge.getId()))
+                    .filter(edge -> !this.comparator.isSameEdge(previousEdges.get(edge.getId()), edge))
+                    .collect(Collectors.toList());
+            List<UUID> removedEdgeIds = previousEdges.keySet().stream()
+                    .filter(edgeId -> !newEdges.containsKey(edgeId))
+                    .collect(Collectors.toList());
+            // @formatter:on
+
+            List<ReorderedNodes> reorderedNodes = new ArrayList<>();
+            this.collectReorderedNodes(null, previousDiagram.getNodes(), newDiagram.getNodes(), false, previousNodes, removedNodeIds, addedNodeIds, reorderedNodes);
+            List<UUID> reorderedEdgeIds = List.of();
+            List<UUID> newEdgeIds = new ArrayList<>(newEdges.keySet());
+            if (!newEdgeIds.equals(this.getPatchedOrder(new ArrayList<>(previousEdges.keySet()), newEdgeIds, new HashSet<>(removedEdgeIds), newEdgeId -> !previousEdges.containsKey(newEdgeId)))) {
+                reorderedEdgeIds = newEdgeIds;
+            }
+
+            int patchSize = addedNodes.size() + updatedNodes.size() + topMostRemovedNodeIds.size() + addedEdges.size() + updatedEdges.size() + removedEdgeIds.size();
+            patchSize = patchSize + reorderedNodes.size();
+            if (!reorderedEdgeIds.isEmpty()) {
+                patchSize = patchSize + 1;
+            }
+            int diagramSize = newNodes.size() + newEdges.size();
+            if (patchSize * 2 <= diagramSize) {
+                // @formatter:off
+                DiagramPatchEventPayload patch = DiagramPatchEventPayload.newDiagramPatchEventPayload(id)
+                        .diagramId(newDiagram.getId())
+                        .revision(revision)
+                        .addedNodes(addedNodes)
+                        .updatedNodes(updatedNodes)
+                        .removedNodeIds(topMostRemovedNodeIds)
+                        .addedEdges(addedEdges)
+                        .updatedEdges(updatedEdges)
+                        .removedEdgeIds(removedEdgeIds)
+                        .reorderedNodes(reorderedNodes)
+                        .reorderedEdgeIds(reorderedEdgeIds)
+                        .build();
+                // @formatter:on
+                optionalPatch = Optional.of(patch);
+            }
+        }
+
+        return optionalPatch;
+    }
+
+    private void collectNodes(UUID parentId, List<Node> nodes, Map<UUID, PatchedNode> patchedNodes) {
+        for (Node node : nodes) {
+            patchedNodes.put(node.getId(), new PatchedNode(parentId, node));
+            this.collectNodes(node.getId(), node.getBorderNodes(), patchedNodes);
+            this.collectNodes(node.getId(), node.getChildNodes(), patchedNodes);
+        }
+    }
+
+    /**
+     * Returns the identifiers of the nodes which cannot be found with the same parent in the other nodes. Since the
+     * nodes are collected before their children, the descendants of those nodes are returned too.
+     */
+    private Set<UUID> getMissingNodeIds(Map<UUID, PatchedNode> nodes, Map<UUID, PatchedNode> otherNodes) {
+        Set<UUID> missingNodeIds = new HashSet<>();
+        for (PatchedNode patchedNode : nodes.values()) {
+            UUID nodeId = patchedNode.getNode().getId();
+            UUID parentId = patchedNode.getParentId();
+            PatchedNode otherPatchedNode = otherNodes.get(nodeId);
+
+            boolean isMissing = otherPatchedNode == null || !Objects.equals(parentId, otherPatchedNode.getParentId());
+            if (isMissing || missingNodeIds.contains(parentId)) {
+                missingNodeIds.add(nodeId);
+            }
+        }
+        return missingNodeIds;
+    }
+
+    /**
+     * Returns the nodes with the given identifiers whose parent is not part of those identifiers.
+     */
+    private List<PatchedNode> getTopMostNodes(Map<UUID, PatchedNode> nodes, Set<UUID> nodeIds) {
+        // @formatter:off
+        return nodes.values().stream()
+                .filter(patchedNode -> nodeIds.contains(patchedNode.getNode().getId()))
+                .filter(patchedNode -> !nodeIds.contains(patchedNode.getParentId()))
+                .collect(Collectors.toList());
+        // @formatter:on
+    }
+
+    /**
+     * Returns the nodes which have been kept with the same parent but whose properties have changed, without their
+     * children.
+     */
+    private List<PatchedNode> getUpdatedNodes(Map<UUID, PatchedNode> previousNodes, Map<UUID, PatchedNode> newNodes, Set<UUID> addedNodeIds) {
+        List<PatchedNode> updatedNodes = new ArrayList<>();
+        for (PatchedNode patchedNode : newNodes.values()) {
+            UUID nodeId = patchedNode.getNode().getId();
+            if (!addedNodeIds.contains(nodeId)) {
+                Node newNode = patchedNode.getNode();
+                if (!this.comparator.isSameNode(previousNodes.get(nodeId).getNode(), newNode)) {
+                    updatedNodes.add(new PatchedNode(patchedNode.getParentId(), this.getShell(newNode)));
+                }
+            }
+        }
+        return updatedNodes;
+    }
+
+    private Node getShell(Node node) {
+        return Node.newNode(node).borderNodes(List.of()).childNodes(List.of()).build();
+    }
+
+    /**
+     * Collects the lists of nodes of the given parent, and of its descendants, which would not be in the order of the
+     * new diagram once the patch has been applied. The descendants of the added nodes are sent in the right order with
+     * them and are thus not considered.
+     */
+    private void collectReorderedNodes(UUID parentId, List<Node> previousSiblings, List<Node> newSiblings, boolean borderNodes, Map<UUID, PatchedNode> previousNodes, Set<UUID> removedNodeIds,
+            Set<UUID> addedNodeIds, List<ReorderedNodes> reorderedNodes) {
+        List<UUID> previousSiblingIds = previousSiblings.stream().map(Node::getId).collect(Collectors.toList());
+        List<UUID> newSiblingIds = newSiblings.stream().map(Node::getId).collect(Collectors.toList());
+        if (!newSiblingIds.equals(this.getPatchedOrder(previousSiblingIds, newSiblingIds, removedNodeIds, addedNodeIds::contains))) {
+            reorderedNodes.add(new ReorderedNodes(parentId, borderNodes, newSiblingIds));
+        }
+
+        for (Node newNode : newSiblings) {
+            if (!addedNodeIds.contains(newNode.getId())) {
+                Node previousNode = previousNodes.get(newNode.getId()).getNode();
+                if (previousNode != newNode) {
+                    this.collectReorderedNodes(newNode.getId(), previousNode.getBorderNodes(), newNode.getBorderNodes(), true, previousNodes, removedNodeIds, addedNodeIds, reorderedNodes);
+                    this.collectReorderedNodes(newNode.getId(), previousNode.getChildNodes(), newNode.getChildNodes(), false, previousNodes, removedNodeIds, addedNodeIds, reorderedNodes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the order in which the elements would be once the removed elements have been removed from the previous
+     * ones and the added elements have been appended to them.
+     */
+    private List<UUID> getPatchedOrder(List<UUID> previousIds, List<UUID> newIds, Set<UUID> removedIds, Predicate<UUID> isAdded) {
+        List<UUID> patchedIds = new ArrayList<>();
+        previousIds.stream().filter(previousId -> !removedIds.contains(previousId)).forEach(patchedIds::add);
+        newIds.stream().filter(isAdded).forEach(patchedIds::add);
+        return patchedIds;
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.web.diagrams.Diagram;
+
+/**
+ * A revision of a diagram sent to the incremental subscribers, with the patch from the previous revision if it is
+ * smaller than the diagram itself.
+ *
+ * <p>
+ * The same payloads are sent to all the subscribers which receive this revision, their serialization can thus be shared
+ * between them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRefresh {
+    private final int revision;
+
+    private final DiagramPatchEventPayload patch;
+
+    private final DiagramRefreshedEventPayload snapshot;
+
+    public DiagramRefresh(UUID inputId, Diagram diagram, int revision, DiagramPatchEventPayload patch) {
+        this.revision = revision;
+        this.patch = patch;
+        this.snapshot = new DiagramRefreshedEventPayload(Objects.requireNonNull(inputId), Objects.requireNonNull(diagram), revision);
+    }
+
+    public int getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * Returns the complete snapshot of this revision of the diagram.
+     *
+     * @return The snapshot of the diagram
+     */
+    public DiagramRefreshedEventPayload getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Returns the patch to apply on the previous revision to obtain this one.
+     *
+     * @return The patch or an empty optional if only a complete snapshot can be sent
+     */
+    public Optional<DiagramPatchEventPayload> getPatch() {
+        return Optional.ofNullable(this.patch);
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramEventInput;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+
+/**
+ * Unit tests of the diagram event flux.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramEventFluxTests {
+
+    private static final long TIMEOUT = 5;
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    private final Diagram diagram = this.testDiagramBuilder.getDiagram(UUID.randomUUID());
+
+    private final Node movedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+
+    // @formatter:off
+    private final List<Node> unchangedNodes = List.of(
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID())
+    );
+    // @formatter:on
+
+    private final DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID(), this.diagram.getId(), true);
+
+    @Test
+    public void testPatchSentToIncrementalSubscriber() throws InterruptedException {
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(this.getDiagram(0), new SimpleMeterRegistry());
+
+        BlockingQueue<IPayload> payloads = new LinkedBlockingQueue<>();
+        Disposable subscription = diagramEventFlux.getFlux(this.input).subscribe(payloads::add);
+
+        IPayload initialPayload = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(initialPayload).isInstanceOf(DiagramRefreshedEventPayload.class);
+        assertThat(((DiagramRefreshedEventPayload) initialPayload).getRevision()).isEqualTo(0);
+
+        diagramEventFlux.diagramRefreshed(this.input, this.getDiagram(1));
+
+        IPayload payload = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(payload).isInstanceOf(DiagramPatchEventPayload.class);
+        assertThat(((DiagramPatchEventPayload) payload).getRevision()).isEqualTo(1);
+
+        subscription.dispose();
+        diagramEventFlux.dispose();
+    }
+
+    @Test
+    public void testSnapshotSentToIncrementalSubscriberWhichHasSkippedPatches() throws InterruptedException {
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(this.getDiagram(0), new SimpleMeterRegistry());
+
+        CountDownLatch firstPayloadReceived = new CountDownLatch(1);
+        CountDownLatch subscriberReleased = new CountDownLatch(1);
+        BlockingQueue<IPayload> payloads = new LinkedBlockingQueue<>();
+        Disposable subscription = diagramEventFlux.getFlux(this.input).subscribe(payload -> {
+            if (firstPayloadReceived.getCount() > 0) {
+                firstPayloadReceived.countDown();
+                this.await(subscriberReleased);
+            }
+            payloads.add(payload);
+        });
+
+        assertThat(firstPayloadReceived.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        for (int revision = 1; revision <= 3; revision++) {
+            diagramEventFlux.diagramRefreshed(this.input, this.getDiagram(revision));
+        }
+        subscriberReleased.countDown();
+
+        assertThat(payloads.poll(TIMEOUT, TimeUnit.SECONDS)).isInstanceOf(DiagramRefreshedEventPayload.class);
+
+        IPayload snapshot = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(snapshot).isInstanceOf(DiagramRefreshedEventPayload.class);
+        assertThat(((DiagramRefreshedEventPayload) snapshot).getRevision()).isEqualTo(3);
+        assertThat(((DiagramRefreshedEventPayload) snapshot).getDiagram().getNodes()).extracting(Node::getPosition).contains(Position.at(30, 30));
+
+        diagramEventFlux.diagramRefreshed(this.input, this.getDiagram(4));
+
+        IPayload patch = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(patch).isInstanceOf(DiagramPatchEventPayload.class);
+        assertThat(((DiagramPatchEventPayload) patch).getRevision()).isEqualTo(4);
+
+        subscription.dispose();
+        diagramEventFlux.dispose();
+    }
+
+    @Test
+    public void testInitialSnapshotOfTheCurrentRevision() throws InterruptedException {
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(this.getDiagram(0), new SimpleMeterRegistry());
+        for (int revision = 1; revision <= 2; revision++) {
+            diagramEventFlux.diagramRefreshed(this.input, this.getDiagram(revision));
+        }
+
+        BlockingQueue<IPayload> payloads = new LinkedBlockingQueue<>();
+        Disposable subscription = diagramEventFlux.getFlux(this.input).subscribe(payloads::add);
+
+        IPayload initialPayload = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(initialPayload).isInstanceOf(DiagramRefreshedEventPayload.class);
+        assertThat(((DiagramRefreshedEventPayload) initialPayload).getRevision()).isEqualTo(2);
+        assertThat(((DiagramRefreshedEventPayload) initialPayload).getDiagram().getNodes()).extracting(Node::getPosition).contains(Position.at(20, 20));
+
+        diagramEventFlux.diagramRefreshed(this.input, this.getDiagram(3));
+
+        IPayload patch = payloads.poll(TIMEOUT, TimeUnit.SECONDS);
+        assertThat(patch).isInstanceOf(DiagramPatchEventPayload.class);
+        assertThat(((DiagramPatchEventPayload) patch).getRevision()).isEqualTo(3);
+
+        subscription.dispose();
+        diagramEventFlux.dispose();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns a revision of the diagram in which only the position of one of its nodes has changed.
+     */
+    private Diagram getDiagram(int revision) {
+        List<Node> nodes = new ArrayList<>(this.unchangedNodes);
+        nodes.add(Node.newNode(this.movedNode).position(Position.at(revision * 10, revision * 10)).build());
+        return Diagram.newDiagram(this.diagram).nodes(nodes).build();
+    }
+}
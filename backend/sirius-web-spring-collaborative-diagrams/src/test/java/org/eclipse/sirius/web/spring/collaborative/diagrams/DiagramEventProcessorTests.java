@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.collaborative.api.services.ChangeDescription;
+import org.eclipse.sirius.web.collaborative.api.services.ChangeKind;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.web.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.eclipse.sirius.web.spring.collaborative.diagrams.handlers.NoOpEditingContext;
+import org.eclipse.sirius.web.spring.collaborative.representations.SubscriptionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+
+/**
+ * Test the lazy refresh of the diagram event processor.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramEventProcessorTests {
+
+    private final AtomicInteger refreshCount = new AtomicInteger();
+
+    private final IInput input = new IInput() {
+        private final UUID id = UUID.randomUUID();
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+    };
+
+    private final ChangeDescription semanticChange = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, UUID.randomUUID());
+
+    @Test
+    public void testDiagramWithoutSubscribersMarkedAsStale() {
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor();
+        int initialRefreshCount = this.refreshCount.get();
+
+        diagramEventProcessor.refresh(this.input, this.semanticChange);
+        diagramEventProcessor.refresh(this.input, this.semanticChange);
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount);
+
+        assertThat(diagramEventProcessor.refreshIfStale(this.input)).isTrue();
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount + 1);
+
+        assertThat(diagramEventProcessor.refreshIfStale(this.input)).isFalse();
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount + 1);
+
+        diagramEventProcessor.dispose();
+    }
+
+    @Test
+    public void testRefreshRequestedOnFirstSubscription() {
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor();
+        int initialRefreshCount = this.refreshCount.get();
+
+        List<IInput> refreshRequests = new CopyOnWriteArrayList<>();
+        diagramEventProcessor.getRefreshRequests().subscribe(refreshRequests::add);
+
+        diagramEventProcessor.refresh(this.input, this.semanticChange);
+        assertThat(refreshRequests).isEmpty();
+
+        Disposable subscription = this.subscribe(diagramEventProcessor);
+
+        // The refresh is only requested, the subscriber does not refresh the diagram on its own thread
+        assertThat(refreshRequests).containsExactly(this.input);
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount);
+
+        assertThat(diagramEventProcessor.refreshIfStale(this.input)).isTrue();
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount + 1);
+
+        // With a subscriber, the diagram is refreshed after each change
+        diagramEventProcessor.refresh(this.input, this.semanticChange);
+        assertThat(this.refreshCount.get()).isEqualTo(initialRefreshCount + 2);
+
+        subscription.dispose();
+        diagramEventProcessor.dispose();
+    }
+
+    @Test
+    public void testNoRefreshRequestedForAnUpToDateDiagram() {
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor();
+
+        List<IInput> refreshRequests = new CopyOnWriteArrayList<>();
+        diagramEventProcessor.getRefreshRequests().subscribe(refreshRequests::add);
+
+        Disposable subscription = this.subscribe(diagramEventProcessor);
+        assertThat(refreshRequests).isEmpty();
+
+        subscription.dispose();
+        diagramEventProcessor.dispose();
+    }
+
+    private Disposable subscribe(DiagramEventProcessor diagramEventProcessor) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "password")); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            return diagramEventProcessor.getOutputEvents(this.input).subscribe();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor() {
+        IDiagramCreationService diagramCreationService = new IDiagramCreationService() {
+            @Override
+            public Diagram create(String label, Object targetObject, DiagramDescription diagramDescription, IEditingContext editingContext) {
+                return null;
+            }
+
+            @Override
+            public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+                DiagramEventProcessorTests.this.refreshCount.incrementAndGet();
+                return Optional.of(diagramContext.getDiagram());
+            }
+        };
+
+        Diagram diagram = new TestDiagramBuilder().getDiagram(UUID.randomUUID());
+        return new DiagramEventProcessor(new NoOpEditingContext(), new DiagramContext(diagram), List.of(), new SubscriptionManager(), diagramCreationService, new SimpleMeterRegistry());
+    }
+}
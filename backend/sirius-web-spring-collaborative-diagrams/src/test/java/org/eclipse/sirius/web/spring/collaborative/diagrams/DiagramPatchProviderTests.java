@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.DiagramPatchEventPayload;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.PatchedNode;
+import org.eclipse.sirius.web.collaborative.diagrams.api.dto.ReorderedNodes;
+import org.eclipse.sirius.web.diagrams.Diagram;
+import org.eclipse.sirius.web.diagrams.Label;
+import org.eclipse.sirius.web.diagrams.Node;
+import org.eclipse.sirius.web.diagrams.Position;
+import org.eclipse.sirius.web.diagrams.tests.TestDiagramBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the diagram patch provider.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramPatchProviderTests {
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    // @formatter:off
+    private final List<Node> unchangedNodes = List.of(
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID()),
+            this.testDiagramBuilder.getNode(UUID.randomUUID())
+    );
+    // @formatter:on
+
+    @Test
+    public void testPatchWithAddedUpdatedAndRemovedNodes() {
+        Node updatedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node removedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node addedChildNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node addedNode = Node.newNode(this.testDiagramBuilder.getNode(UUID.randomUUID())).childNodes(List.of(addedChildNode)).build();
+
+        Diagram previousDiagram = this.getDiagram(updatedNode, removedNode);
+        Diagram newDiagram = this.getDiagram(previousDiagram, Node.newNode(updatedNode).position(Position.at(10, 10)).build(), addedNode);
+
+        Optional<DiagramPatchEventPayload> optionalPatch = new DiagramPatchProvider().getPatch(UUID.randomUUID(), previousDiagram, newDiagram, 2);
+        assertThat(optionalPatch).isPresent();
+
+        DiagramPatchEventPayload patch = optionalPatch.get();
+        assertThat(patch.getRevision()).isEqualTo(2);
+        assertThat(patch.getAddedNodes()).extracting(PatchedNode::getNode).extracting(Node::getId).containsExactly(addedNode.getId());
+        assertThat(patch.getAddedNodes().get(0).getNode().getChildNodes()).hasSize(1);
+        assertThat(patch.getUpdatedNodes()).extracting(PatchedNode::getNode).extracting(Node::getPosition).containsExactly(Position.at(10, 10));
+        assertThat(patch.getRemovedNodeIds()).containsExactly(removedNode.getId());
+        assertThat(patch.getAddedEdges()).isEmpty();
+        assertThat(patch.getUpdatedEdges()).isEmpty();
+        assertThat(patch.getRemovedEdgeIds()).isEmpty();
+        assertThat(patch.getReorderedNodes()).isEmpty();
+        assertThat(patch.getReorderedEdgeIds()).isEmpty();
+    }
+
+    @Test
+    public void testEquivalentNodeIsNotUpdated() {
+        Node node = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node removedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node equivalentNode = Node.newNode(node).label(Label.newLabel(node.getLabel()).build()).style(this.testDiagramBuilder.getRectangularNodeStyle()).build();
+
+        Diagram previousDiagram = this.getDiagram(node, removedNode);
+        Diagram newDiagram = this.getDiagram(previousDiagram, equivalentNode);
+
+        Optional<DiagramPatchEventPayload> optionalPatch = new DiagramPatchProvider().getPatch(UUID.randomUUID(), previousDiagram, newDiagram, 1);
+        assertThat(optionalPatch).isPresent();
+        assertThat(optionalPatch.get().getUpdatedNodes()).isEmpty();
+        assertThat(optionalPatch.get().getRemovedNodeIds()).containsExactly(removedNode.getId());
+    }
+
+    @Test
+    public void testReorderedSiblings() {
+        Node firstNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node secondNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+
+        Diagram previousDiagram = this.getDiagram(firstNode, secondNode);
+        Diagram newDiagram = this.getDiagram(previousDiagram, secondNode, firstNode);
+
+        Optional<DiagramPatchEventPayload> optionalPatch = new DiagramPatchProvider().getPatch(UUID.randomUUID(), previousDiagram, newDiagram, 1);
+        assertThat(optionalPatch).isPresent();
+
+        DiagramPatchEventPayload patch = optionalPatch.get();
+        assertThat(patch.getAddedNodes()).isEmpty();
+        assertThat(patch.getUpdatedNodes()).isEmpty();
+        assertThat(patch.getRemovedNodeIds()).isEmpty();
+        assertThat(patch.getReorderedNodes()).hasSize(1);
+
+        ReorderedNodes reorderedNodes = patch.getReorderedNodes().get(0);
+        assertThat(reorderedNodes.getParentId()).isNull();
+        assertThat(reorderedNodes.isBorderNodes()).isFalse();
+        assertThat(reorderedNodes.getNodeIds()).isEqualTo(newDiagram.getNodes().stream().map(Node::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMovedNodeIsRemovedAndAdded() {
+        Node movedNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+        Node parentNode = this.testDiagramBuilder.getNode(UUID.randomUUID());
+
+        Diagram previousDiagram = this.getDiagram(movedNode, parentNode);
+        Diagram newDiagram = this.getDiagram(previousDiagram, Node.newNode(parentNode).childNodes(List.of(movedNode)).build());
+
+        Optional<DiagramPatchEventPayload> optionalPatch = new DiagramPatchProvider().getPatch(UUID.randomUUID(), previousDiagram, newDiagram, 1);
+        assertThat(optionalPatch).isPresent();
+
+        DiagramPatchEventPayload patch = optionalPatch.get();
+        assertThat(patch.getRemovedNodeIds()).containsExactly(movedNode.getId());
+        assertThat(patch.getAddedNodes()).hasSize(1);
+        assertThat(patch.getAddedNodes().get(0).getParentId()).isEqualTo(parentNode.getId());
+        assertThat(patch.getUpdatedNodes()).isEmpty();
+    }
+
+    @Test
+    public void testNoPatchWhenTheDiagramPropertiesHaveChanged() {
+        Diagram previousDiagram = this.getDiagram();
+        Diagram newDiagram = Diagram.newDiagram(previousDiagram).label("newLabel").build(); //$NON-NLS-1$
+
+        Optional<DiagramPatchEventPayload> optionalPatch = new DiagramPatchProvider().getPatch(UUID.randomUUID(), previousDiagram, newDiagram, 1);
+        assertThat(optionalPatch).isEmpty();
+    }
+
+    private Diagram getDiagram(Node... nodes) {
+        return this.getDiagram(this.testDiagramBuilder.getDiagram(UUID.randomUUID()), nodes);
+    }
+
+    /**
+     * Returns a copy of the given diagram containing some nodes which are never modified and the given nodes.
+     */
+    private Diagram getDiagram(Diagram diagram, Node... nodes) {
+        List<Node> diagramNodes = new ArrayList<>(this.unchangedNodes);
+        diagramNodes.addAll(List.of(nodes));
+        return Diagram.newDiagram(diagram).nodes(diagramNodes).build();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -53,7 +53,7 @@ public class FormDescriptionAggregator {
 
 
         Function<VariableManager, String> labelProvider = variableManager -> {
-            return Optional.ofNullable(variableManager.getVariables().get(VariableManager.SELF))
+            return Optional.ofNullable(variableManager.getReadOnlyVariables().get(VariableManager.SELF))
                     .map(objectService::getFullLabel)
                     .orElse("Properties"); //$NON-NLS-1$
         };
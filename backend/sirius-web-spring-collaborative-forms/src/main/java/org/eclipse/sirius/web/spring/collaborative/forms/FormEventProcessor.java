@@ -42,10 +42,12 @@ import org.eclipse.sirius.web.forms.renderer.FormRenderer;
 import org.eclipse.sirius.web.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.VariableManager;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationEventConflater;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -82,8 +84,10 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final AtomicReference<Form> currentForm = new AtomicReference<>();
 
+    private final RepresentationEventConflater representationEventConflater;
+
     public FormEventProcessor(IEditingContext editingContext, FormDescription formDescription, UUID formId, Object object, List<IFormEventHandler> formEventHandlers,
-            ISubscriptionManager subscriptionManager, IWidgetSubscriptionManager widgetSubscriptionManager) {
+            ISubscriptionManager subscriptionManager, IWidgetSubscriptionManager widgetSubscriptionManager, MeterRegistry meterRegistry) {
         this.logger.trace("Creating the form event processor {}", formId); //$NON-NLS-1$
 
         this.formDescription = Objects.requireNonNull(formDescription);
@@ -94,6 +98,8 @@ public class FormEventProcessor implements IFormEventProcessor {
         this.subscriptionManager = Objects.requireNonNull(subscriptionManager);
         this.widgetSubscriptionManager = Objects.requireNonNull(widgetSubscriptionManager);
 
+        this.representationEventConflater = new RepresentationEventConflater("form", meterRegistry); //$NON-NLS-1$
+
         Form form = this.refreshForm();
         this.currentForm.set(form);
 
@@ -141,7 +147,7 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     @Override
     public void refresh(IInput input, ChangeDescription changeDescription) {
-        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+        if (this.shouldRefresh(changeDescription)) {
             Form form = this.refreshForm();
 
             this.currentForm.set(form);
@@ -153,6 +159,23 @@ public class FormEventProcessor implements IFormEventProcessor {
         }
     }
 
+    /**
+     * A form is refreshed if there is a semantic change which may impact the semantic element that it displays.
+     *
+     * @param changeDescription
+     *            The change description
+     * @return <code>true</code> if the form should be refreshed, <code>false</code> otherwise
+     */
+    private boolean shouldRefresh(ChangeDescription changeDescription) {
+        // @formatter:off
+        return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())
+                && changeDescription.getSemanticChanges()
+                    .map(semanticChanges -> semanticChanges.mayAffect(List.of(this.currentForm.get().getTargetObjectId())))
+                    .orElse(Boolean.TRUE)
+                    .booleanValue();
+        // @formatter:on
+    }
+
     private Form refreshForm() {
         VariableManager variableManager = new VariableManager();
         variableManager.put(VariableManager.SELF, this.object);
@@ -171,7 +194,8 @@ public class FormEventProcessor implements IFormEventProcessor {
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         var initialRefresh = Mono.fromCallable(() -> new FormRefreshedEventPayload(input.getId(), this.currentForm.get()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+
+        var refreshEventFlux = this.representationEventConflater.conflate(Flux.concat(initialRefresh, this.sink.asFlux()), input);
 
         // @formatter:off
         return Flux.merge(
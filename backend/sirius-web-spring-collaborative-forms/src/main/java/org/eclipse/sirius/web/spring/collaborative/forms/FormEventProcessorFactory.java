@@ -32,6 +32,8 @@ import org.eclipse.sirius.web.forms.Form;
 import org.eclipse.sirius.web.forms.description.FormDescription;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to create the form event processors.
  *
@@ -53,15 +55,18 @@ public class FormEventProcessorFactory implements IRepresentationEventProcessorF
 
     private final IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory;
 
+    private final MeterRegistry meterRegistry;
+
     public FormEventProcessorFactory(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectService objectService,
             IRepresentationSearchService representationSearchService, List<IFormEventHandler> formEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory,
-            IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory) {
+            IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
         this.representationSearchService = Objects.requireNonNull(representationSearchService);
         this.formEventHandlers = Objects.requireNonNull(formEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.widgetSubscriptionManagerFactory = Objects.requireNonNull(widgetSubscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -89,7 +94,7 @@ public class FormEventProcessorFactory implements IRepresentationEventProcessorF
                     Object object = optionalObject.get();
 
                     IRepresentationEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, formConfiguration.getId(), object, this.formEventHandlers,
-                            this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create());
+                            this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create(), this.meterRegistry);
 
                     // @formatter:off
                     return Optional.of(formEventProcessor)
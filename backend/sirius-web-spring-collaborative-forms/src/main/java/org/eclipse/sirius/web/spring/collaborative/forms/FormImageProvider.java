@@ -16,7 +16,6 @@ import java.util.Optional;
 
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationImageProvider;
 import org.eclipse.sirius.web.forms.Form;
-import org.eclipse.sirius.web.representations.IRepresentation;
 import org.springframework.stereotype.Service;
 
 /**
@@ -28,12 +27,11 @@ import org.springframework.stereotype.Service;
 public class FormImageProvider implements IRepresentationImageProvider {
 
     @Override
-    public Optional<String> getImageURL(IRepresentation representation) {
+    public Optional<String> getImageURL(String kind) {
         // @formatter:off
-        return Optional.of(representation)
-                .filter(Form.class::isInstance)
-                .map(Form.class::cast)
-                .map(form -> "/form-images/form.svg"); //$NON-NLS-1$
+        return Optional.of(kind)
+                .filter(Form.KIND::equals)
+                .map(formKind -> "/form-images/form.svg"); //$NON-NLS-1$
         // @formatter:on
     }
 
@@ -31,6 +31,8 @@ import org.eclipse.sirius.web.core.api.IObjectService;
 import org.eclipse.sirius.web.forms.description.FormDescription;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to create the properties event processors.
  *
@@ -51,15 +53,18 @@ public class PropertiesEventProcessorFactory implements IRepresentationEventProc
 
     private final IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory;
 
+    private final MeterRegistry meterRegistry;
+
     public PropertiesEventProcessorFactory(IPropertiesDescriptionService propertiesDescriptionService, IPropertiesDefaultDescriptionProvider propertiesDefaultDescriptionProvider,
             IObjectService objectService, List<IFormEventHandler> formEventHandlers, ISubscriptionManagerFactory subscriptionManagerFactory,
-            IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory) {
+            IWidgetSubscriptionManagerFactory widgetSubscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.propertiesDescriptionService = Objects.requireNonNull(propertiesDescriptionService);
         this.propertiesDefaultDescriptionProvider = Objects.requireNonNull(propertiesDefaultDescriptionProvider);
         this.objectService = Objects.requireNonNull(objectService);
         this.formEventHandlers = Objects.requireNonNull(formEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
         this.widgetSubscriptionManagerFactory = Objects.requireNonNull(widgetSubscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -83,7 +88,7 @@ public class PropertiesEventProcessorFactory implements IRepresentationEventProc
                 }
                 FormDescription formDescription = optionalFormDescription.orElse(this.propertiesDefaultDescriptionProvider.getFormDescription());
                 IRepresentationEventProcessor formEventProcessor = new FormEventProcessor(editingContext, formDescription, propertiesConfiguration.getId(), object, this.formEventHandlers,
-                        this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create());
+                        this.subscriptionManagerFactory.create(), this.widgetSubscriptionManagerFactory.create(), this.meterRegistry);
 
                 // @formatter:off
                 return Optional.of(formEventProcessor)
@@ -34,6 +34,7 @@ import org.eclipse.sirius.web.core.api.IInput;
 import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.core.api.IRepresentationInput;
 import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationEventConflater;
 import org.eclipse.sirius.web.trees.Tree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,6 +74,8 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final Timer timer;
 
+    private final RepresentationEventConflater representationEventConflater;
+
     public TreeEventProcessor(ITreeService treeService, TreeCreationParameters treeCreationParameters, List<ITreeEventHandler> treeEventHandlers, ISubscriptionManager subscriptionManager,
             MeterRegistry meterRegistry) {
         this.logger.trace("Creating the tree event processor {}", treeCreationParameters.getEditingContext().getId()); //$NON-NLS-1$
@@ -88,6 +91,8 @@ public class TreeEventProcessor implements ITreeEventProcessor {
                 .register(meterRegistry);
         // @formatter:on
 
+        this.representationEventConflater = new RepresentationEventConflater("tree", meterRegistry); //$NON-NLS-1$
+
         Tree tree = this.refreshTree();
         this.currentTree.set(tree);
     }
@@ -174,7 +179,8 @@ public class TreeEventProcessor implements ITreeEventProcessor {
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         var initialRefresh = Mono.fromCallable(() -> new TreeRefreshedEventPayload(input.getId(), this.currentTree.get()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+
+        var refreshEventFlux = this.representationEventConflater.conflate(Flux.concat(initialRefresh, this.sink.asFlux()), input);
 
         // @formatter:off
         return Flux.merge(
@@ -30,7 +30,7 @@ import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.trees.description.TreeDescription;
 import org.springframework.stereotype.Service;
 
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Used to create the tree event processors.
@@ -48,12 +48,15 @@ public class TreeEventProcessorFactory implements IRepresentationEventProcessorF
 
     private final ISubscriptionManagerFactory subscriptionManagerFactory;
 
+    private final MeterRegistry meterRegistry;
+
     public TreeEventProcessorFactory(IExplorerDescriptionProvider explorerDescriptionProvider, ITreeService treeService, List<ITreeEventHandler> treeEventHandlers,
-            ISubscriptionManagerFactory subscriptionManagerFactory) {
+            ISubscriptionManagerFactory subscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.explorerDescriptionProvider = Objects.requireNonNull(explorerDescriptionProvider);
         this.treeService = Objects.requireNonNull(treeService);
         this.treeEventHandlers = Objects.requireNonNull(treeEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -78,7 +81,7 @@ public class TreeEventProcessorFactory implements IRepresentationEventProcessorF
                 // @formatter:on
 
             IRepresentationEventProcessor treeEventProcessor = new TreeEventProcessor(this.treeService, treeCreationParameters, this.treeEventHandlers, this.subscriptionManagerFactory.create(),
-                    new SimpleMeterRegistry());
+                    this.meterRegistry);
             // @formatter:off
                 return Optional.of(treeEventProcessor)
                         .filter(representationEventProcessorClass::isInstance)
@@ -34,6 +34,7 @@ import org.eclipse.sirius.web.core.api.IPayload;
 import org.eclipse.sirius.web.core.api.IRepresentationInput;
 import org.eclipse.sirius.web.representations.IRepresentation;
 import org.eclipse.sirius.web.representations.VariableManager;
+import org.eclipse.sirius.web.spring.collaborative.representations.RepresentationEventConflater;
 import org.eclipse.sirius.web.validation.Validation;
 import org.eclipse.sirius.web.validation.components.ValidationComponent;
 import org.eclipse.sirius.web.validation.components.ValidationComponentProps;
@@ -77,6 +78,8 @@ public class ValidationEventProcessor implements IValidationEventProcessor {
 
     private final Timer timer;
 
+    private final RepresentationEventConflater representationEventConflater;
+
     public ValidationEventProcessor(IEditingContext editingContext, ValidationDescription validationDescription, ValidationContext validationContext,
             List<IValidationEventHandler> validationEventHandlers, ISubscriptionManager subscriptionManager, MeterRegistry meterRegistry) {
         this.editingContext = Objects.requireNonNull(editingContext);
@@ -91,6 +94,8 @@ public class ValidationEventProcessor implements IValidationEventProcessor {
                 .register(meterRegistry);
         // @formatter:on
 
+        this.representationEventConflater = new RepresentationEventConflater("validation", meterRegistry); //$NON-NLS-1$
+
         Validation validation = this.refreshValidation();
         this.validationContext.update(validation);
     }
@@ -163,7 +168,8 @@ public class ValidationEventProcessor implements IValidationEventProcessor {
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         var initialRefresh = Mono.fromCallable(() -> new ValidationRefreshedEventPayload(input.getId(), this.validationContext.getValidation()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+
+        var refreshEventFlux = this.representationEventConflater.conflate(Flux.concat(initialRefresh, this.sink.asFlux()), input);
 
         // @formatter:off
         return Flux.merge(
@@ -28,7 +28,7 @@ import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.validation.description.ValidationDescription;
 import org.springframework.stereotype.Service;
 
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Used to create the validation event processor.
@@ -44,11 +44,14 @@ public class ValidationEventProcessorFactory implements IRepresentationEventProc
 
     private ISubscriptionManagerFactory subscriptionManagerFactory;
 
+    private final MeterRegistry meterRegistry;
+
     public ValidationEventProcessorFactory(IValidationDescriptionProvider validationDescriptionProvider, List<IValidationEventHandler> validationEventHandlers,
-            ISubscriptionManagerFactory subscriptionManagerFactory) {
+            ISubscriptionManagerFactory subscriptionManagerFactory, MeterRegistry meterRegistry) {
         this.validationDescriptionProvider = Objects.requireNonNull(validationDescriptionProvider);
         this.validationEventHandlers = Objects.requireNonNull(validationEventHandlers);
         this.subscriptionManagerFactory = Objects.requireNonNull(subscriptionManagerFactory);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -64,7 +67,7 @@ public class ValidationEventProcessorFactory implements IRepresentationEventProc
 
             ValidationContext validationContext = new ValidationContext(null);
             IRepresentationEventProcessor validationEventProcessor = new ValidationEventProcessor(editingContext, validationDescription, validationContext, this.validationEventHandlers,
-                    this.subscriptionManagerFactory.create(), new SimpleMeterRegistry());
+                    this.subscriptionManagerFactory.create(), this.meterRegistry);
 
             // @formatter:off
             return Optional.of(validationEventProcessor)
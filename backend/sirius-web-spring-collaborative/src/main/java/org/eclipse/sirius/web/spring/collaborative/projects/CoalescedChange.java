@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.collaborative.api.services.ChangeDescription;
+import org.eclipse.sirius.web.collaborative.api.services.SemanticChanges;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.springframework.security.core.Authentication;
+
+/**
+ * The changes of the same kind, coming from the same source, performed by consecutive inputs of a batch which target
+ * the same representation.
+ *
+ * <p>
+ * Their consequences, such as the refresh of the representations, are applied only once for all these inputs.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class CoalescedChange {
+    private ChangeDescription changeDescription;
+
+    private PendingInput lastPendingInput;
+
+    private final Set<UUID> representationIds = new HashSet<>();
+
+    private boolean hasEditingContextInput;
+
+    public CoalescedChange(ChangeDescription changeDescription) {
+        this.changeDescription = Objects.requireNonNull(changeDescription);
+    }
+
+    /**
+     * Adds the change performed by the given input.
+     *
+     * @param pendingInput
+     *            The input which has performed the change
+     * @param representationId
+     *            The identifier of the representation targeted by the input, which has already been refreshed, or
+     *            <code>null</code> if the input concerns the editing context
+     * @param otherChangeDescription
+     *            The description of the change performed
+     */
+    public void add(PendingInput pendingInput, UUID representationId, ChangeDescription otherChangeDescription) {
+        if (this.lastPendingInput != null) {
+            this.changeDescription = this.merge(this.changeDescription, otherChangeDescription);
+        }
+        this.lastPendingInput = pendingInput;
+
+        if (representationId != null) {
+            this.representationIds.add(representationId);
+        } else {
+            this.hasEditingContextInput = true;
+        }
+    }
+
+    public ChangeDescription getChangeDescription() {
+        return this.changeDescription;
+    }
+
+    public IInput getLastInput() {
+        return this.lastPendingInput.getInput();
+    }
+
+    /**
+     * Returns the authentication of the user who has sent the last input, its consequences are applied on its behalf.
+     *
+     * @return The authentication or <code>null</code> if the last input has been sent without any authentication
+     */
+    public Authentication getAuthentication() {
+        return this.lastPendingInput.getAuthentication();
+    }
+
+    /**
+     * Returns the identifier of the representation which does not need to be refreshed anymore. It is only the case
+     * if all the inputs have targeted this very representation since it has refreshed itself after each of them.
+     *
+     * @return The identifier of the representation already refreshed or <code>null</code>
+     */
+    public UUID getRefreshedRepresentationId() {
+        UUID refreshedRepresentationId = null;
+        if (!this.hasEditingContextInput && this.representationIds.size() == 1) {
+            refreshedRepresentationId = this.representationIds.iterator().next();
+        }
+        return refreshedRepresentationId;
+    }
+
+    /**
+     * Merges two descriptions of changes of the same kind. The semantic changes are only kept if both of them are
+     * known.
+     */
+    private ChangeDescription merge(ChangeDescription first, ChangeDescription second) {
+        Optional<SemanticChanges> optionalFirstSemanticChanges = first.getSemanticChanges();
+        Optional<SemanticChanges> optionalSecondSemanticChanges = second.getSemanticChanges();
+
+        ChangeDescription mergedChangeDescription = new ChangeDescription(first.getKind(), first.getSourceId());
+        if (optionalFirstSemanticChanges.isPresent() && optionalSecondSemanticChanges.isPresent()) {
+            SemanticChanges semanticChanges = optionalFirstSemanticChanges.get().merge(optionalSecondSemanticChanges.get());
+            mergedChangeDescription = new ChangeDescription(first.getKind(), first.getSourceId(), semanticChanges);
+        }
+        return mergedChangeDescription;
+    }
+}
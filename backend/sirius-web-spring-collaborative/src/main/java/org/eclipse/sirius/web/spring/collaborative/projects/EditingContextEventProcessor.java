@@ -12,18 +12,25 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.web.collaborative.api.dto.DeleteRepresentationInput;
@@ -34,12 +41,16 @@ import org.eclipse.sirius.web.collaborative.api.dto.RepresentationRenamedEventPa
 import org.eclipse.sirius.web.collaborative.api.services.ChangeDescription;
 import org.eclipse.sirius.web.collaborative.api.services.ChangeKind;
 import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.ICoalescableInput;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventHandler;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationDeletionService;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISemanticChangesRecorder;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.collaborative.api.services.SemanticChanges;
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.web.core.api.IInput;
@@ -52,17 +63,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.core.publisher.Sinks.EmitResult;
 import reactor.core.publisher.Sinks.Many;
+import reactor.core.scheduler.Schedulers;
 
 /**
- * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and in a
- * dedicated thread and emit the output events.
+ * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and emit the
+ * output events. The inputs are handled on a pool of threads shared by all the editing context event processors but
+ * never concurrently for a given editing context.
+ *
+ * <p>
+ * The inputs received while the previous ones are being handled, or during the configurable coalescing delay, are
+ * handled together as a batch. The representations are refreshed and the editing context is persisted once per
+ * sequence of consecutive inputs targeting the same representation instead of once per input, and the inputs
+ * superseded by a later input of the batch are not handled at all.
+ * </p>
+ *
+ * <p>
+ * If the concurrent refresh is enabled, the responses are sent before the other representations are refreshed and
+ * those representations are refreshed concurrently. The representations which cannot be refreshed concurrently, such
+ * as those relying on an interpreter or on the item providers, are refreshed one after the other on the thread of the
+ * editing context while the others are refreshed. The semantic model is not modified during the refresh since the next batch only starts once all the
+ * representations have been refreshed.
+ * </p>
  *
  * @author sbegaudeau
  * @author pcdavid
@@ -89,26 +121,45 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final Many<Boolean> canBeDisposedSink = Sinks.many().unicast().onBackpressureBuffer();
 
-    private final ExecutorService executor;
+    private final SerialExecutor executor;
 
     private final IRepresentationDeletionService representationDeletionService;
 
-    public EditingContextEventProcessor(IEditingContext editingContext, IEditingContextPersistenceService editingContextPersistenceService, ApplicationEventPublisher applicationEventPublisher,
-            IObjectService objectService, List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
-            IRepresentationDeletionService representationDeletionService) {
+    private final ISemanticChangesRecorder semanticChangesRecorder;
+
+    private final Duration coalescingDelay;
+
+    private final boolean concurrentRefresh;
+
+    private final Executor refreshExecutor;
+
+    /**
+     * The inputs waiting to be handled by the next batch.
+     */
+    private final List<PendingInput> pendingInputs = new ArrayList<>();
+
+    private boolean isBatchScheduled;
+
+    private final AtomicInteger pendingInputsCount;
+
+    private final Timer waitTimer;
+
+    public EditingContextEventProcessor(IEditingContext editingContext, EditingContextEventProcessorParameters parameters) {
         this.editingContext = Objects.requireNonNull(editingContext);
-        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-        this.representationDeletionService = Objects.requireNonNull(representationDeletionService);
-
-        this.executor = Executors.newSingleThreadExecutor((Runnable runnable) -> {
-            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-            thread.setName("FIFO Event Handler for editing context " + this.editingContext.getId()); //$NON-NLS-1$
-            return thread;
-        });
+        this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
+        this.applicationEventPublisher = parameters.getApplicationEventPublisher();
+        this.objectService = parameters.getObjectService();
+        this.editingContextEventHandlers = parameters.getEditingContextEventHandlers();
+        this.representationEventProcessorComposedFactory = parameters.getRepresentationEventProcessorComposedFactory();
+        this.representationDeletionService = parameters.getRepresentationDeletionService();
+        this.semanticChangesRecorder = parameters.getSemanticChangesRecorder();
+        this.coalescingDelay = parameters.getCoalescingDelay();
+        this.concurrentRefresh = parameters.isConcurrentRefresh();
+        this.refreshExecutor = parameters.getRefreshExecutor();
+        this.pendingInputsCount = parameters.getPendingInputsCount();
+        this.waitTimer = Timer.builder(Monitoring.EDITING_CONTEXT_EVENT_PROCESSOR_WAIT).register(parameters.getMeterRegistry());
+
+        this.executor = new SerialExecutor(parameters.getExecutor(), "FIFO Event Handler for editing context " + this.editingContext.getId()); //$NON-NLS-1$
     }
 
     @Override
@@ -118,35 +169,168 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Optional<IPayload> handle(IInput input) {
+        // Block until the batch containing the input has been processed
+        return this.handleAsync(input).blockOptional();
+    }
+
+    @Override
+    public Mono<IPayload> handleAsync(IInput input) {
         if (this.executor.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId()); //$NON-NLS-1$
-            return Optional.empty();
+            return Mono.empty();
+        }
+
+        PendingInput pendingInput = new PendingInput(input, SecurityContextHolder.getContext().getAuthentication());
+        this.enqueue(List.of(pendingInput));
+
+        // @formatter:off
+        return this.continueWithAuthentication(pendingInput)
+                .flatMap(optionalResponse -> Mono.justOrEmpty(optionalResponse.map(EventHandlerResponse::getPayload)))
+                .doOnNext(payload -> this.publishEvent(input, Optional.of(payload)));
+        // @formatter:on
+    }
+
+    /**
+     * Emits the response to the given input on another thread in order to keep the thread of the editing context
+     * available.
+     *
+     * <p>
+     * The response is emitted with the authentication of the caller since the caller continues on this thread. For
+     * example, the next fields of a GraphQL mutation are fetched on the thread which has completed the previous one,
+     * they would otherwise be dispatched without any authentication.
+     * </p>
+     *
+     * @param pendingInput
+     *            The input
+     * @return The response to the input
+     */
+    private Mono<Optional<EventHandlerResponse>> continueWithAuthentication(PendingInput pendingInput) {
+        return Mono.create(sink -> pendingInput.getResponse().whenComplete((optionalResponse, throwable) -> {
+            Schedulers.boundedElastic().schedule(() -> this.runWithAuthentication(pendingInput.getAuthentication(), () -> {
+                if (throwable != null) {
+                    sink.error(throwable);
+                } else {
+                    sink.success(optionalResponse);
+                }
+            }));
+        }));
+    }
+
+    @Override
+    public List<Optional<IPayload>> handleAll(List<? extends IInput> inputs) {
+        List<Optional<IPayload>> payloads = new ArrayList<>();
+        if (this.executor.isShutdown()) {
+            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId()); //$NON-NLS-1$
+            inputs.forEach(input -> payloads.add(Optional.empty()));
+            return payloads;
         }
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        Optional<IPayload> optionalPayload = Optional.empty();
-        Future<Optional<EventHandlerResponse>> future = this.executor.submit(() -> {
-            Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+        List<PendingInput> newPendingInputs = new ArrayList<>();
+        inputs.forEach(input -> newPendingInputs.add(new PendingInput(input, authentication)));
+        this.enqueue(newPendingInputs);
+
+        for (PendingInput pendingInput : newPendingInputs) {
+            Optional<IPayload> optionalPayload = Optional.empty();
             try {
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                optionalResponse = this.doHandle(input);
-            } finally {
-                SecurityContextHolder.getContext().setAuthentication(null);
+                // Block until the batch containing the input has been processed
+                optionalPayload = pendingInput.getResponse().get().map(EventHandlerResponse::getPayload);
+            } catch (InterruptedException exception) {
+                // The input will still be handled but the caller does not wait for its response anymore
+                this.logger.warn("Interrupted while waiting for the response to the input {}", pendingInput.getInput()); //$NON-NLS-1$
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException exception) {
+                this.logger.error(exception.getMessage(), exception);
             }
-            return optionalResponse;
-        });
+
+            this.publishEvent(pendingInput.getInput(), optionalPayload);
+            payloads.add(optionalPayload);
+        }
+        return payloads;
+    }
+
+    /**
+     * Adds the given inputs to the next batch and schedules this batch if needed. The batch is handled at the latest
+     * after the coalescing delay, all the inputs received in the meantime or while the previous batch was handled are
+     * part of it.
+     *
+     * @param newPendingInputs
+     *            The inputs to handle
+     */
+    private void enqueue(List<PendingInput> newPendingInputs) {
+        boolean shouldScheduleBatch = false;
+        synchronized (this.pendingInputs) {
+            this.pendingInputs.addAll(newPendingInputs);
+            this.pendingInputsCount.addAndGet(newPendingInputs.size());
+            if (!this.isBatchScheduled) {
+                this.isBatchScheduled = true;
+                shouldScheduleBatch = true;
+            }
+        }
+
+        if (shouldScheduleBatch) {
+            if (!this.coalescingDelay.isZero() && !this.coalescingDelay.isNegative()) {
+                // The batch is submitted by the delayer itself in order to answer the pending inputs if it is rejected
+                CompletableFuture.delayedExecutor(this.coalescingDelay.toMillis(), TimeUnit.MILLISECONDS).execute(this::submitBatch);
+            } else {
+                this.submitBatch();
+            }
+        }
+    }
+
+    /**
+     * Submits the next batch to the executor of the editing context. If the executor has been shutdown, the pending
+     * inputs are answered with an empty response.
+     */
+    private void submitBatch() {
         try {
-            // Block until the event has been processed
-            Optional<EventHandlerResponse> optionalResponse = future.get();
+            CompletableFuture.runAsync(this::handleBatch, this.executor).exceptionally(throwable -> {
+                this.logger.error(throwable.getMessage(), throwable);
+                return null;
+            });
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId()); //$NON-NLS-1$
+            this.abandonPendingInputs();
+        }
+    }
 
-            optionalPayload = optionalResponse.map(EventHandlerResponse::getPayload);
-        } catch (InterruptedException | ExecutionException exception) {
-            this.logger.error(exception.getMessage(), exception);
+    /**
+     * Handles all the inputs received since the previous batch.
+     */
+    private void handleBatch() {
+        List<PendingInput> batch;
+        synchronized (this.pendingInputs) {
+            batch = new ArrayList<>(this.pendingInputs);
+            this.pendingInputs.clear();
+            this.pendingInputsCount.addAndGet(-batch.size());
+            this.isBatchScheduled = false;
         }
 
-        this.publishEvent(input, optionalPayload);
-        return optionalPayload;
+        long now = System.nanoTime();
+        batch.forEach(pendingInput -> this.waitTimer.record(now - pendingInput.getEnqueueTime(), TimeUnit.NANOSECONDS));
+
+        try {
+            this.doHandleBatch(batch);
+        } finally {
+            // Ensures that nobody waits forever for an input which could not be handled
+            batch.forEach(pendingInput -> pendingInput.getResponse().complete(Optional.empty()));
+        }
+    }
+
+    /**
+     * Answers the inputs waiting to be handled with an empty response since they will never be handled. The inputs
+     * received afterwards will schedule a new batch, which will be rejected and abandon them too.
+     */
+    private void abandonPendingInputs() {
+        List<PendingInput> abandonedInputs;
+        synchronized (this.pendingInputs) {
+            abandonedInputs = new ArrayList<>(this.pendingInputs);
+            this.pendingInputs.clear();
+            this.pendingInputsCount.addAndGet(-abandonedInputs.size());
+            this.isBatchScheduled = false;
+        }
+        abandonedInputs.forEach(pendingInput -> pendingInput.getResponse().complete(Optional.empty()));
     }
 
     private void publishEvent(IInput input, Optional<IPayload> optionalPayload) {
@@ -165,21 +349,176 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     }
 
     /**
-     * Finds the proper event handler to perform the task matching the given input event.
+     * Handles the inputs of a batch one after the other and then applies the consequences of their changes once per
+     * kind and source of change.
+     *
+     * <p>
+     * The changes are only coalesced while the inputs target the same representation. Before handling an input which
+     * targets another representation, or the editing context itself, the consequences of the previous changes are
+     * applied so that the input is handled against up to date representations.
+     * </p>
+     *
+     * <p>
+     * The inputs superseded by a later input of the batch are not handled, they receive a payload with their own
+     * identifier computed from the payload of the input which has superseded them. The responses are only completed
+     * once the consequences of the changes have been applied, unless the concurrent refresh is enabled.
+     * </p>
+     *
+     * @param batch
+     *            The inputs to handle
+     */
+    private void doHandleBatch(List<PendingInput> batch) {
+        Map<PendingInput, PendingInput> supersededToSuperseding = new HashMap<>();
+        Map<PendingInput, Optional<EventHandlerResponse>> responses = new HashMap<>();
+        Map<List<Object>, CoalescedChange> coalescedChanges = new LinkedHashMap<>();
+        UUID coalescedRepresentationId = null;
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingInput pendingInput = batch.get(i);
+            Optional<PendingInput> optionalSupersedingInput = this.findSupersedingInput(batch, i);
+            if (optionalSupersedingInput.isPresent()) {
+                supersededToSuperseding.put(pendingInput, optionalSupersedingInput.get());
+            } else {
+                IInput input = pendingInput.getInput();
+                UUID representationId = this.getRepresentationId(input);
+                if (!coalescedChanges.isEmpty() && !Objects.equals(coalescedRepresentationId, representationId)) {
+                    this.applyCoalescedChanges(batch, supersededToSuperseding, responses, coalescedChanges);
+                    coalescedChanges.clear();
+                }
+                coalescedRepresentationId = representationId;
+
+                SecurityContext securityContext = SecurityContextHolder.getContext();
+                Authentication previousAuthentication = securityContext.getAuthentication();
+                Optional<EventHandlerResponse> optionalResponse = Optional.empty();
+                try {
+                    securityContext.setAuthentication(pendingInput.getAuthentication());
+                    optionalResponse = this.handleAndRecordChanges(input);
+                } finally {
+                    securityContext.setAuthentication(previousAuthentication);
+                }
+                responses.put(pendingInput, optionalResponse);
+
+                if (optionalResponse.isPresent()) {
+                    ChangeDescription changeDescription = optionalResponse.get().getChangeDescription();
+                    List<Object> key = List.of(changeDescription.getKind(), changeDescription.getSourceId());
+                    coalescedChanges.computeIfAbsent(key, changeKey -> new CoalescedChange(changeDescription)).add(pendingInput, representationId, changeDescription);
+                }
+            }
+        }
+
+        this.applyCoalescedChanges(batch, supersededToSuperseding, responses, coalescedChanges);
+        this.completeResponses(batch, supersededToSuperseding, responses);
+    }
+
+    /**
+     * Returns the identifier of the representation targeted by the given input.
+     *
+     * @param input
+     *            The input
+     * @return The identifier of the representation or <code>null</code> if the input concerns the editing context
+     */
+    private UUID getRepresentationId(IInput input) {
+        UUID representationId = null;
+        if (input instanceof IRepresentationInput) {
+            representationId = ((IRepresentationInput) input).getRepresentationId();
+        }
+        return representationId;
+    }
+
+    /**
+     * Applies the consequences of the coalesced changes with the authentication of the user who has sent the last input
+     * of each of them. If the concurrent refresh is enabled, the responses of the inputs already handled are completed
+     * first.
+     */
+    private void applyCoalescedChanges(List<PendingInput> batch, Map<PendingInput, PendingInput> supersededToSuperseding, Map<PendingInput, Optional<EventHandlerResponse>> responses,
+            Map<List<Object>, CoalescedChange> coalescedChanges) {
+        if (this.concurrentRefresh) {
+            this.completeResponses(batch, supersededToSuperseding, responses);
+        }
+
+        for (CoalescedChange coalescedChange : coalescedChanges.values()) {
+            this.runWithAuthentication(coalescedChange.getAuthentication(), () -> {
+                this.applyChanges(coalescedChange.getLastInput(), coalescedChange.getRefreshedRepresentationId(), coalescedChange.getChangeDescription());
+            });
+        }
+    }
+
+    /**
+     * Runs the given task on the current thread with the given authentication and then restores the previous one.
+     *
+     * @param authentication
+     *            The authentication to use or <code>null</code>
+     * @param task
+     *            The task to run
+     */
+    private void runWithAuthentication(Authentication authentication, Runnable task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Authentication previousAuthentication = securityContext.getAuthentication();
+        try {
+            securityContext.setAuthentication(authentication);
+            task.run();
+        } finally {
+            securityContext.setAuthentication(previousAuthentication);
+        }
+    }
+
+    /**
+     * Completes the responses of the inputs of the batch which have already been handled, the superseded inputs
+     * receive the response of the input which has superseded them with a payload computed for their own identifier.
+     * The responses already completed are left untouched.
+     */
+    private void completeResponses(List<PendingInput> batch, Map<PendingInput, PendingInput> supersededToSuperseding, Map<PendingInput, Optional<EventHandlerResponse>> responses) {
+        for (PendingInput pendingInput : batch) {
+            PendingInput respondingInput = pendingInput;
+            while (supersededToSuperseding.containsKey(respondingInput)) {
+                respondingInput = supersededToSuperseding.get(respondingInput);
+            }
+            if (responses.containsKey(respondingInput)) {
+                Optional<EventHandlerResponse> optionalResponse = responses.get(respondingInput);
+                if (respondingInput != pendingInput) {
+                    ICoalescableInput supersededInput = (ICoalescableInput) pendingInput.getInput();
+                    optionalResponse = optionalResponse.map(response -> {
+                        return new EventHandlerResponse(response.getChangeDescription(), supersededInput.createSupersededPayload(response.getPayload()));
+                    });
+                }
+                pendingInput.getResponse().complete(optionalResponse);
+            }
+        }
+    }
+
+    /**
+     * Finds the last input of the batch which supersedes the input at the given index.
+     */
+    private Optional<PendingInput> findSupersedingInput(List<PendingInput> batch, int index) {
+        Optional<PendingInput> optionalSupersedingInput = Optional.empty();
+        IInput input = batch.get(index).getInput();
+        if (input instanceof ICoalescableInput) {
+            ICoalescableInput coalescableInput = (ICoalescableInput) input;
+            for (int i = batch.size() - 1; i > index && optionalSupersedingInput.isEmpty(); i--) {
+                if (coalescableInput.isSupersededBy(batch.get(i).getInput())) {
+                    optionalSupersedingInput = Optional.of(batch.get(i));
+                }
+            }
+        }
+        return optionalSupersedingInput;
+    }
+
+    /**
+     * Dispatches the given input to the proper event handler while recording the semantic changes performed.
      *
-     * @param inputEvent
-     *            The input event
-     * @return The response computed by the event handler
+     * @param input
+     *            The input
+     * @return The response computed by the event handler, with the semantic changes recorded
      */
-    private Optional<EventHandlerResponse> doHandle(IInput input) {
+    private Optional<EventHandlerResponse> handleAndRecordChanges(IInput input) {
         this.logger.trace("Input received: {}", input); //$NON-NLS-1$
 
         Optional<EventHandlerResponse> optionalResponse = Optional.empty();
 
-        UUID representationId = null;
+        this.semanticChangesRecorder.startRecording(this.editingContext);
+
         if (input instanceof IRepresentationInput) {
             IRepresentationInput representationInput = (IRepresentationInput) input;
-            representationId = representationInput.getRepresentationId();
 
             optionalResponse = this.handleRepresentationInput(representationInput);
             if (input instanceof RenameRepresentationInput) {
@@ -189,19 +528,56 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             optionalResponse = this.handleInput(input);
         }
 
-        if (optionalResponse.isPresent()) {
-            EventHandlerResponse response = optionalResponse.get();
+        Optional<SemanticChanges> optionalSemanticChanges = this.semanticChangesRecorder.stopRecording(this.editingContext);
+
+        // @formatter:off
+        return optionalResponse.map(response -> {
+            ChangeDescription changeDescription = this.withSemanticChanges(response.getChangeDescription(), optionalSemanticChanges);
+            return new EventHandlerResponse(changeDescription, response.getPayload());
+        });
+        // @formatter:on
+    }
 
-            this.disposeRepresentationIfNeeded();
-            this.refreshOtherRepresentations(input, representationId, response.getChangeDescription());
+    /**
+     * Applies the consequences of a change: the representations are refreshed, the editing context is persisted and
+     * the representations which have lost their target object are deleted if needed.
+     *
+     * @param input
+     *            The input which has triggered the change
+     * @param representationId
+     *            The identifier of the representation which should not be refreshed, if any
+     * @param changeDescription
+     *            The description of the change
+     */
+    private void applyChanges(IInput input, UUID representationId, ChangeDescription changeDescription) {
+        this.disposeRepresentationIfNeeded();
+        this.refreshOtherRepresentations(input, representationId, changeDescription);
 
-            if (this.shouldPersistTheEditingContext(response.getChangeDescription())) {
-                this.editingContextPersistenceService.persist(this.editingContext);
-            }
-            this.representationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+        if (this.shouldPersistTheEditingContext(changeDescription)) {
+            this.editingContextPersistenceService.persist(this.editingContext);
         }
+        Set<String> removedObjectIds = this.getRemovedObjectIds(changeDescription);
+        if (!removedObjectIds.isEmpty()) {
+            this.representationDeletionService.deleteDanglingRepresentations(this.editingContext, removedObjectIds);
+        }
+    }
 
-        return optionalResponse;
+    /**
+     * Completes the description of a semantic change with the semantic changes which have been recorded, in order to
+     * let the representation event processors determine if they are impacted by the change.
+     *
+     * @param changeDescription
+     *            The change description computed by the event handler
+     * @param optionalSemanticChanges
+     *            The semantic changes recorded while the input was handled
+     * @return The change description to use to refresh the representations
+     */
+    private ChangeDescription withSemanticChanges(ChangeDescription changeDescription, Optional<SemanticChanges> optionalSemanticChanges) {
+        ChangeDescription result = changeDescription;
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && changeDescription.getSemanticChanges().isEmpty() && optionalSemanticChanges.isPresent()) {
+            result = new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), optionalSemanticChanges.get());
+        }
+        return result;
     }
 
     /**
@@ -217,22 +593,80 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
      */
     private void refreshOtherRepresentations(IInput input, UUID representationId, ChangeDescription changeDescription) {
         // @formatter:off
-        this.representationEventProcessors.entrySet().stream()
+        List<IRepresentationEventProcessor> representationEventProcessorsToRefresh = this.representationEventProcessors.entrySet().stream()
             .filter(entry -> !Objects.equals(entry.getKey(), representationId))
             .map(Entry::getValue)
             .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(input, changeDescription);
-                IRepresentation representation = representationEventProcessor.getRepresentation();
-                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-             });
+            .collect(Collectors.toList());
         // @formatter:on
+
+        if (this.concurrentRefresh && representationEventProcessorsToRefresh.size() > 1) {
+            // The refreshes run with the authentication of the user who has performed the change, like on this thread
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            // @formatter:off
+            Map<Boolean, List<IRepresentationEventProcessor>> canBeRefreshedConcurrently = representationEventProcessorsToRefresh.stream()
+                    .collect(Collectors.partitioningBy(IRepresentationEventProcessor::canBeRefreshedConcurrently));
+            // @formatter:on
+
+            // @formatter:off
+            CompletableFuture<?>[] refreshes = canBeRefreshedConcurrently.get(Boolean.TRUE).stream()
+                    .map(representationEventProcessor -> CompletableFuture.runAsync(() -> {
+                        this.runWithAuthentication(authentication, () -> this.refresh(representationEventProcessor, input, changeDescription));
+                    }, this.refreshExecutor))
+                    .toArray(CompletableFuture<?>[]::new);
+            // @formatter:on
+
+            try {
+                // The other representations may use the item providers or an interpreter, they stay on this thread
+                canBeRefreshedConcurrently.get(Boolean.FALSE).forEach(representationEventProcessor -> this.refresh(representationEventProcessor, input, changeDescription));
+            } finally {
+                this.awaitRefreshes(refreshes);
+            }
+        } else {
+            representationEventProcessorsToRefresh.forEach(representationEventProcessor -> this.refresh(representationEventProcessor, input, changeDescription));
+        }
+    }
+
+    /**
+     * Waits for the end of the given refreshes since the semantic model must not be modified until all the
+     * representations have been refreshed.
+     */
+    private void awaitRefreshes(CompletableFuture<?>[] refreshes) {
+        try {
+            CompletableFuture.allOf(refreshes).join();
+        } catch (CompletionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    private void refresh(IRepresentationEventProcessor representationEventProcessor, IInput input, ChangeDescription changeDescription) {
+        representationEventProcessor.refresh(input, changeDescription);
+        IRepresentation representation = representationEventProcessor.getRepresentation();
+        this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
     }
 
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
         return ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
     }
 
+    /**
+     * Representations can only lose their target object if some semantic elements have been removed. Only the removals
+     * which have been recorded are considered since a semantic element may also be missing because its document could
+     * not be loaded, in which case its representations must be kept.
+     *
+     * @param changeDescription
+     *            The description of the change performed
+     * @return The identifiers of the semantic elements removed by the change
+     */
+    private Set<String> getRemovedObjectIds(ChangeDescription changeDescription) {
+        Set<String> removedObjectIds = Set.of();
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+            removedObjectIds = changeDescription.getSemanticChanges().map(SemanticChanges::getRemovedObjectIds).orElse(Set.of());
+        }
+        return removedObjectIds;
+    }
+
     /**
      * Return <code>true</code> whether the given representation is not attached to a semantic element,
      * <code>false</code> otherwise.
@@ -322,11 +756,14 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                     this.editingContext);
             if (optionalRepresentationEventProcessor.isPresent()) {
                 var representationEventProcessor = optionalRepresentationEventProcessor.get();
-                Disposable subscription = representationEventProcessor.canBeDisposed().subscribe(canBeDisposed -> {
+                Disposable canBeDisposedSubscription = representationEventProcessor.canBeDisposed().subscribe(canBeDisposed -> {
                     if (canBeDisposed.booleanValue()) {
                         this.disposeRepresentation(configuration.getId());
                     }
                 });
+                Disposable refreshRequestsSubscription = representationEventProcessor.getRefreshRequests()
+                        .subscribe(refreshInput -> this.refreshOnRequest(representationEventProcessor, refreshInput));
+                Disposable subscription = Disposables.composite(canBeDisposedSubscription, refreshRequestsSubscription);
 
                 var representationEventProcessorEntry = new RepresentationEventProcessorEntry(representationEventProcessor, subscription);
                 this.representationEventProcessors.put(configuration.getId(), representationEventProcessorEntry);
@@ -340,6 +777,29 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         return optionalRepresentationEventProcessor;
     }
 
+    /**
+     * Refreshes the given representation on the thread of the editing context, between two batches, since the semantic
+     * model must not be modified while the representation is refreshed.
+     *
+     * @param representationEventProcessor
+     *            The representation event processor which has requested to be refreshed
+     * @param input
+     *            The input which has requested the refresh
+     */
+    private void refreshOnRequest(IRepresentationEventProcessor representationEventProcessor, IInput input) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            this.executor.execute(() -> this.runWithAuthentication(authentication, () -> {
+                if (representationEventProcessor.refreshIfStale(input)) {
+                    IRepresentation representation = representationEventProcessor.getRepresentation();
+                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+                }
+            }));
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId()); //$NON-NLS-1$
+        }
+    }
+
     @Override
     public List<IRepresentationEventProcessor> getRepresentationEventProcessors() {
         // @formatter:off
@@ -376,10 +836,13 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId()); //$NON-NLS-1$
 
         this.executor.shutdown();
+        this.abandonPendingInputs();
 
         this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
         this.representationEventProcessors.clear();
 
+        this.editingContextPersistenceService.flush(this.editingContext.getId());
+
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}"; //$NON-NLS-1$
@@ -12,55 +12,115 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.collaborative.projects;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventHandler;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationDeletionService;
 import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISemanticChangesRecorder;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.web.core.api.IObjectService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Used to create an {@link IEditingContextEventProcessor}.
  *
+ * <p>
+ * All the editing context event processors handle their inputs on a bounded pool of threads shared by all of them. Its
+ * size can be configured with the property org.eclipse.sirius.web.editingContextEventProcessor.threadPoolSize, it
+ * defaults to twice the number of available processors.
+ * </p>
+ *
+ * <p>
+ * The representations impacted by a change can be refreshed concurrently on a second pool of the same size by setting
+ * the property org.eclipse.sirius.web.editingContextEventProcessor.concurrentRefresh to true. This second pool is
+ * separated from the first one since the inputs of an editing context wait for the end of the refresh of its
+ * representations. Only the representations declaring that they can be refreshed concurrently are refreshed in
+ * parallel, the others rely on interpreters or item providers which are not thread safe and are refreshed one after the
+ * other on the thread of the editing context.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
 public class EditingContextEventProcessorFactory implements IEditingContextEventProcessorFactory {
 
-    private final IEditingContextPersistenceService editingContextPersistenceService;
+    private final EditingContextEventProcessorParameters parameters;
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExecutorService executorService;
 
-    private final IObjectService objectService;
+    private final ExecutorService refreshExecutorService;
 
-    private final List<IEditingContextEventHandler> editingContextEventHandlers;
+    public EditingContextEventProcessorFactory(IEditingContextPersistenceService editingContextPersistenceService, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
+            List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
+            IRepresentationDeletionService representationDeletionService, ISemanticChangesRecorder semanticChangesRecorder,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.coalescingDelay:0ms}") Duration coalescingDelay,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.threadPoolSize:0}") int threadPoolSize,
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessor.concurrentRefresh:false}") boolean concurrentRefresh, MeterRegistry meterRegistry) {
+        int poolSize = threadPoolSize;
+        if (poolSize <= 0) {
+            poolSize = 2 * Runtime.getRuntime().availableProcessors();
+        }
+        this.executorService = Executors.newFixedThreadPool(poolSize, (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Editing context event processor " + thread.getName()); //$NON-NLS-1$
+            return thread;
+        });
+        this.refreshExecutorService = Executors.newFixedThreadPool(poolSize, (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Representation refresh " + thread.getName()); //$NON-NLS-1$
+            return thread;
+        });
 
-    private final IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+        AtomicInteger pendingInputsCount = new AtomicInteger();
 
-    private final IRepresentationDeletionService representationDeletionService;
+        // @formatter:off
+        Gauge.builder(Monitoring.EDITING_CONTEXT_EVENT_PROCESSOR_QUEUE, pendingInputsCount, AtomicInteger::get)
+                .strongReference(true)
+                .register(meterRegistry);
 
-    public EditingContextEventProcessorFactory(IEditingContextPersistenceService editingContextPersistenceService, ApplicationEventPublisher applicationEventPublisher, IObjectService objectService,
-            List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
-            IRepresentationDeletionService representationDeletionService) {
-        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
-        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
-        this.objectService = Objects.requireNonNull(objectService);
-        this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
-        this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
-        this.representationDeletionService = Objects.requireNonNull(representationDeletionService);
+        this.parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .applicationEventPublisher(applicationEventPublisher)
+                .objectService(objectService)
+                .editingContextEventHandlers(editingContextEventHandlers)
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .representationDeletionService(representationDeletionService)
+                .semanticChangesRecorder(semanticChangesRecorder)
+                .coalescingDelay(coalescingDelay)
+                .concurrentRefresh(concurrentRefresh)
+                .refreshExecutor(this.refreshExecutorService)
+                .meterRegistry(meterRegistry)
+                .executor(this.executorService)
+                .pendingInputsCount(pendingInputsCount)
+                .build();
+        // @formatter:on
     }
 
     @Override
     public IEditingContextEventProcessor createEditingContextEventProcessor(IEditingContext editingContext) {
-        return new EditingContextEventProcessor(editingContext, this.editingContextPersistenceService, this.applicationEventPublisher, this.objectService, this.editingContextEventHandlers,
-                this.representationEventProcessorComposedFactory, this.representationDeletionService);
+        return new EditingContextEventProcessor(editingContext, this.parameters);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.executorService.shutdown();
+        this.refreshExecutorService.shutdown();
     }
 
 }
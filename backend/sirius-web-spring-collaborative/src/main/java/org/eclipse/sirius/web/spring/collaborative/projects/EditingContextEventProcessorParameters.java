@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.web.annotations.Immutable;
+import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationDeletionService;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISemanticChangesRecorder;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.core.api.IObjectService;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * This class is used because creating an editing context event processor requires sending at once multiple services
+ * shared by all the editing context event processors.
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+public final class EditingContextEventProcessorParameters {
+
+    private IEditingContextPersistenceService editingContextPersistenceService;
+
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private IObjectService objectService;
+
+    private List<IEditingContextEventHandler> editingContextEventHandlers;
+
+    private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+    private IRepresentationDeletionService representationDeletionService;
+
+    private ISemanticChangesRecorder semanticChangesRecorder;
+
+    private Duration coalescingDelay;
+
+    private boolean concurrentRefresh;
+
+    private Executor refreshExecutor;
+
+    private MeterRegistry meterRegistry;
+
+    private Executor executor;
+
+    private AtomicInteger pendingInputsCount;
+
+    private EditingContextEventProcessorParameters() {
+        // Prevent instantiation
+    }
+
+    public IEditingContextPersistenceService getEditingContextPersistenceService() {
+        return this.editingContextPersistenceService;
+    }
+
+    public ApplicationEventPublisher getApplicationEventPublisher() {
+        return this.applicationEventPublisher;
+    }
+
+    public IObjectService getObjectService() {
+        return this.objectService;
+    }
+
+    public List<IEditingContextEventHandler> getEditingContextEventHandlers() {
+        return this.editingContextEventHandlers;
+    }
+
+    public IRepresentationEventProcessorComposedFactory getRepresentationEventProcessorComposedFactory() {
+        return this.representationEventProcessorComposedFactory;
+    }
+
+    public IRepresentationDeletionService getRepresentationDeletionService() {
+        return this.representationDeletionService;
+    }
+
+    public ISemanticChangesRecorder getSemanticChangesRecorder() {
+        return this.semanticChangesRecorder;
+    }
+
+    public Duration getCoalescingDelay() {
+        return this.coalescingDelay;
+    }
+
+    /**
+     * Indicates if the representations impacted by a change should be refreshed concurrently.
+     *
+     * @return <code>true</code> if the representations should be refreshed concurrently, <code>false</code> otherwise
+     */
+    public boolean isConcurrentRefresh() {
+        return this.concurrentRefresh;
+    }
+
+    /**
+     * Returns the executor used to refresh the representations concurrently.
+     *
+     * @return The refresh executor
+     */
+    public Executor getRefreshExecutor() {
+        return this.refreshExecutor;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return this.meterRegistry;
+    }
+
+    /**
+     * Returns the executor shared by all the editing context event processors to handle their inputs.
+     *
+     * @return The shared executor
+     */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Returns the number of inputs waiting to be handled by all the editing context event processors.
+     *
+     * @return The number of inputs waiting to be handled
+     */
+    public AtomicInteger getPendingInputsCount() {
+        return this.pendingInputsCount;
+    }
+
+    public static Builder newEditingContextEventProcessorParameters() {
+        return new Builder();
+    }
+
+    /**
+     * The builder of the editing context event processor parameters.
+     *
+     * @author sbegaudeau
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+        private IEditingContextPersistenceService editingContextPersistenceService;
+
+        private ApplicationEventPublisher applicationEventPublisher;
+
+        private IObjectService objectService;
+
+        private List<IEditingContextEventHandler> editingContextEventHandlers;
+
+        private IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory;
+
+        private IRepresentationDeletionService representationDeletionService;
+
+        private ISemanticChangesRecorder semanticChangesRecorder;
+
+        private Duration coalescingDelay = Duration.ZERO;
+
+        private boolean concurrentRefresh;
+
+        private Executor refreshExecutor;
+
+        private MeterRegistry meterRegistry;
+
+        private Executor executor;
+
+        private AtomicInteger pendingInputsCount;
+
+        private Builder() {
+            // Prevent instantiation
+        }
+
+        public Builder editingContextPersistenceService(IEditingContextPersistenceService editingContextPersistenceService) {
+            this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+            return this;
+        }
+
+        public Builder applicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+            this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
+            return this;
+        }
+
+        public Builder objectService(IObjectService objectService) {
+            this.objectService = Objects.requireNonNull(objectService);
+            return this;
+        }
+
+        public Builder editingContextEventHandlers(List<IEditingContextEventHandler> editingContextEventHandlers) {
+            this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
+            return this;
+        }
+
+        public Builder representationEventProcessorComposedFactory(IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory) {
+            this.representationEventProcessorComposedFactory = Objects.requireNonNull(representationEventProcessorComposedFactory);
+            return this;
+        }
+
+        public Builder representationDeletionService(IRepresentationDeletionService representationDeletionService) {
+            this.representationDeletionService = Objects.requireNonNull(representationDeletionService);
+            return this;
+        }
+
+        public Builder semanticChangesRecorder(ISemanticChangesRecorder semanticChangesRecorder) {
+            this.semanticChangesRecorder = Objects.requireNonNull(semanticChangesRecorder);
+            return this;
+        }
+
+        public Builder coalescingDelay(Duration coalescingDelay) {
+            this.coalescingDelay = Objects.requireNonNull(coalescingDelay);
+            return this;
+        }
+
+        public Builder concurrentRefresh(boolean concurrentRefresh) {
+            this.concurrentRefresh = concurrentRefresh;
+            return this;
+        }
+
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            this.refreshExecutor = Objects.requireNonNull(refreshExecutor);
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = Objects.requireNonNull(meterRegistry);
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        public Builder pendingInputsCount(AtomicInteger pendingInputsCount) {
+            this.pendingInputsCount = Objects.requireNonNull(pendingInputsCount);
+            return this;
+        }
+
+        public EditingContextEventProcessorParameters build() {
+            EditingContextEventProcessorParameters parameters = new EditingContextEventProcessorParameters();
+            parameters.editingContextPersistenceService = Objects.requireNonNull(this.editingContextPersistenceService);
+            parameters.applicationEventPublisher = Objects.requireNonNull(this.applicationEventPublisher);
+            parameters.objectService = Objects.requireNonNull(this.objectService);
+            parameters.editingContextEventHandlers = Objects.requireNonNull(this.editingContextEventHandlers);
+            parameters.representationEventProcessorComposedFactory = Objects.requireNonNull(this.representationEventProcessorComposedFactory);
+            parameters.representationDeletionService = Objects.requireNonNull(this.representationDeletionService);
+            parameters.semanticChangesRecorder = Objects.requireNonNull(this.semanticChangesRecorder);
+            parameters.coalescingDelay = Objects.requireNonNull(this.coalescingDelay);
+            parameters.concurrentRefresh = this.concurrentRefresh;
+            parameters.refreshExecutor = Objects.requireNonNull(this.refreshExecutor);
+            parameters.meterRegistry = Objects.requireNonNull(this.meterRegistry);
+            parameters.executor = Objects.requireNonNull(this.executor);
+            parameters.pendingInputsCount = Objects.requireNonNull(this.pendingInputsCount);
+            return parameters;
+        }
+    }
+}
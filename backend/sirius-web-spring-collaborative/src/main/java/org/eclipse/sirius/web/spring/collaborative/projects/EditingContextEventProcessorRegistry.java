@@ -26,6 +26,7 @@ import javax.annotation.PreDestroy;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessor;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
 import org.eclipse.sirius.web.core.api.IEditingContext;
 import org.eclipse.sirius.web.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.web.core.api.IInput;
@@ -35,7 +36,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
 /**
  * Registry of the editing context event processors.
@@ -57,10 +61,15 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
 
-            @Value("${org.eclipse.sirius.web.editingContextEventProcessorRegistry.disposeDelay:30s}") Duration disposeDelay) {
+            @Value("${org.eclipse.sirius.web.editingContextEventProcessorRegistry.disposeDelay:30s}") Duration disposeDelay, MeterRegistry meterRegistry) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.disposeDelay = disposeDelay;
+
+        // @formatter:off
+        Gauge.builder(Monitoring.EDITING_CONTEXT_EVENT_PROCESSORS, this.editingContextEventProcessors, Map::size)
+                .register(meterRegistry);
+        // @formatter:on
     }
 
     @Override
@@ -77,6 +86,15 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         return this.getOrCreateEditingContextEventProcessor(editingContextId).flatMap(processor -> processor.handle(input));
     }
 
+    @Override
+    public Mono<IPayload> dispatchEventAsync(UUID editingContextId, IInput input) {
+        // @formatter:off
+        return this.getOrCreateEditingContextEventProcessor(editingContextId)
+                .map(processor -> processor.handleAsync(input))
+                .orElse(Mono.empty());
+        // @formatter:on
+    }
+
     @Override
     public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(UUID editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.springframework.security.core.Authentication;
+
+/**
+ * An input waiting to be handled by the next batch of an editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class PendingInput {
+    private final IInput input;
+
+    private final Authentication authentication;
+
+    private final CompletableFuture<Optional<EventHandlerResponse>> response = new CompletableFuture<>();
+
+    private final long enqueueTime = System.nanoTime();
+
+    public PendingInput(IInput input, Authentication authentication) {
+        this.input = Objects.requireNonNull(input);
+        this.authentication = authentication;
+    }
+
+    public IInput getInput() {
+        return this.input;
+    }
+
+    /**
+     * Returns the authentication of the user who has sent the input.
+     *
+     * @return The authentication or <code>null</code> if the input has been sent without any authentication
+     */
+    public Authentication getAuthentication() {
+        return this.authentication;
+    }
+
+    /**
+     * Returns the time at which the input has been received, as given by {@link System#nanoTime()}.
+     *
+     * @return The time at which the input has been received
+     */
+    public long getEnqueueTime() {
+        return this.enqueueTime;
+    }
+
+    /**
+     * Returns the response to the input which will be completed once the batch containing the input has been handled.
+     *
+     * @return The response to the input
+     */
+    public CompletableFuture<Optional<EventHandlerResponse>> getResponse() {
+        return this.response;
+    }
+}
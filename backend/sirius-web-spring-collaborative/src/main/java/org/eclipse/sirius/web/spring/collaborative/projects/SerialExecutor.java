@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the tasks submitted one at a time, in order of submission, on a shared executor.
+ *
+ * <p>
+ * Many serial executors can share a bounded pool of threads while keeping the guarantee that the tasks of each of them
+ * are never executed concurrently. A serial executor does not hold any thread while it has no task to run.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutor implements Executor {
+
+    private final Executor executor;
+
+    private final String name;
+
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+    private boolean isRunning;
+
+    private boolean isShutdown;
+
+    public SerialExecutor(Executor executor, String name) {
+        this.executor = Objects.requireNonNull(executor);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task);
+        synchronized (this.tasks) {
+            if (this.isShutdown) {
+                throw new RejectedExecutionException();
+            }
+            this.tasks.add(task);
+            if (!this.isRunning) {
+                this.scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Submits the next task to the shared executor, the task submitted will submit the following one once it is done.
+     * Must be called while holding the lock on the tasks.
+     */
+    private void scheduleNext() {
+        Runnable task = this.tasks.poll();
+        this.isRunning = task != null;
+        if (task != null) {
+            try {
+                this.executor.execute(() -> this.run(task));
+            } catch (RejectedExecutionException exception) {
+                this.isRunning = false;
+                this.tasks.clear();
+                throw exception;
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        Thread thread = Thread.currentThread();
+        String threadName = thread.getName();
+        thread.setName(this.name);
+        try {
+            task.run();
+        } finally {
+            thread.setName(threadName);
+            synchronized (this.tasks) {
+                this.scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Prevents new tasks from being submitted, the tasks already submitted will still be executed.
+     */
+    public void shutdown() {
+        synchronized (this.tasks) {
+            this.isShutdown = true;
+        }
+    }
+
+    public boolean isShutdown() {
+        synchronized (this.tasks) {
+            return this.isShutdown;
+        }
+    }
+}
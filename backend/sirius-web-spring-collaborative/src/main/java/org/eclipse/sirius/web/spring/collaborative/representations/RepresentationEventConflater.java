@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Delivers the events of a representation to each subscriber on its own thread.
+ *
+ * <p>
+ * A busy subscriber only keeps the most recent event. It thus skips the intermediate refreshes instead of missing the
+ * latest one. Each event replaced by a more recent one is counted with a counter tagged with the kind of the
+ * representation, and the number of events skipped by a subscriber is logged once its subscription is over. The events
+ * which are not delivered because the subscription has been cancelled are not counted.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationEventConflater {
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationEventConflater.class);
+
+    private final Counter conflationCounter;
+
+    public RepresentationEventConflater(String representationKind, MeterRegistry meterRegistry) {
+        // @formatter:off
+        this.conflationCounter = Counter.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_CONFLATION)
+                .tag(Monitoring.NAME, representationKind)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Conflates the events sent to a subscriber.
+     *
+     * @param events
+     *            The events to send to the subscriber
+     * @param input
+     *            The input of the subscription
+     * @return The events received by the subscriber on its own thread, the intermediate ones being skipped while it is
+     *         busy
+     */
+    public <T> Flux<T> conflate(Flux<T> events, IInput input) {
+        return Flux.defer(() -> {
+            AtomicLong skippedEventsCount = new AtomicLong();
+
+            // Only keeps the latest event, the overflow callback is not called for the events discarded on cancellation
+            // @formatter:off
+            return events.onBackpressureBuffer(1, event -> {
+                        skippedEventsCount.incrementAndGet();
+                        this.conflationCounter.increment();
+                        this.logger.trace("A {} has been skipped for the subscription {}", event.getClass().getSimpleName(), input.getId()); //$NON-NLS-1$
+                    }, BufferOverflowStrategy.DROP_OLDEST)
+                    .publishOn(Schedulers.boundedElastic(), 1)
+                    .doFinally(signalType -> {
+                        this.logger.debug("{} events have been skipped for the subscription {}", skippedEventsCount.get(), input.getId()); //$NON-NLS-1$
+                    });
+            // @formatter:on
+        });
+    }
+}
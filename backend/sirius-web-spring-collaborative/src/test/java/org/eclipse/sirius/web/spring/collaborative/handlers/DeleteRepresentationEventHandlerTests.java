@@ -14,6 +14,7 @@ package org.eclipse.sirius.web.spring.collaborative.handlers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -57,7 +58,7 @@ public class DeleteRepresentationEventHandlerTests {
         IRepresentationDeletionService representationDeletionService = new IRepresentationDeletionService() {
 
             @Override
-            public void deleteDanglingRepresentations(UUID editingContextId) {
+            public void deleteDanglingRepresentations(IEditingContext editingContext, Collection<String> removedObjectIds) {
             }
 
             @Override
@@ -92,7 +93,7 @@ public class DeleteRepresentationEventHandlerTests {
         IRepresentationDeletionService representationDeletionService = new IRepresentationDeletionService() {
 
             @Override
-            public void deleteDanglingRepresentations(UUID editingContextId) {
+            public void deleteDanglingRepresentations(IEditingContext editingContext, Collection<String> removedObjectIds) {
             }
 
             @Override
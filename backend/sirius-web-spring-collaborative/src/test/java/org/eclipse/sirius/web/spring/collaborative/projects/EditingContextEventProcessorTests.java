@@ -0,0 +1,640 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.web.collaborative.api.services.ChangeDescription;
+import org.eclipse.sirius.web.collaborative.api.services.ChangeKind;
+import org.eclipse.sirius.web.collaborative.api.services.EventHandlerResponse;
+import org.eclipse.sirius.web.collaborative.api.services.ICoalescableInput;
+import org.eclipse.sirius.web.collaborative.api.services.IEditingContextEventHandler;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationConfiguration;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationDeletionService;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessor;
+import org.eclipse.sirius.web.collaborative.api.services.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.web.collaborative.api.services.ISemanticChangesRecorder;
+import org.eclipse.sirius.web.collaborative.api.services.ISubscriptionManager;
+import org.eclipse.sirius.web.collaborative.api.services.SemanticChanges;
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.eclipse.sirius.web.core.api.IPayload;
+import org.eclipse.sirius.web.core.api.IRepresentationInput;
+import org.eclipse.sirius.web.representations.IRepresentation;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpEditingContext;
+import org.eclipse.sirius.web.spring.collaborative.handlers.NoOpObjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Unit tests of the batches of inputs handled by the editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final String KEY = "key"; //$NON-NLS-1$
+
+    private static final String OTHER_KEY = "otherKey"; //$NON-NLS-1$
+
+    private static final String REMOVED_OBJECT_ID = "removedObjectId"; //$NON-NLS-1$
+
+    private static final long TIMEOUT = 10;
+
+    private final UUID sourceId = UUID.randomUUID();
+
+    private final List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger persistCount = new AtomicInteger();
+
+    private final List<Optional<Authentication>> persistAuthentications = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger danglingRepresentationsDeletionCount = new AtomicInteger();
+
+    private final List<Collection<String>> danglingRepresentationsDeletionObjectIds = new CopyOnWriteArrayList<>();
+
+    private CountDownLatch handlerLatch = new CountDownLatch(0);
+
+    private ExecutorService executorService;
+
+    private ExecutorService refreshExecutorService;
+
+    @BeforeEach
+    public void setUp() {
+        this.executorService = Executors.newFixedThreadPool(2);
+        this.refreshExecutorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.handlerLatch.countDown();
+        this.executorService.shutdown();
+        this.refreshExecutorService.shutdown();
+    }
+
+    @Test
+    public void testChangesOfABatchAppliedOnce() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        List<Optional<IPayload>> payloads = editingContextEventProcessor.handleAll(List.of(new TestInput(null), new TestInput(null), new TestInput(null)));
+
+        assertThat(payloads).hasSize(3).allMatch(Optional::isPresent);
+        assertThat(this.handledInputs).hasSize(3);
+        assertThat(this.persistCount.get()).isEqualTo(1);
+        assertThat(this.danglingRepresentationsDeletionCount.get()).isEqualTo(1);
+        assertThat(this.danglingRepresentationsDeletionObjectIds).containsExactly(Set.of(REMOVED_OBJECT_ID));
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testSupersededInputNotHandled() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        TestInput supersededInput = new TestInput(KEY);
+        TestInput otherInput = new TestInput(OTHER_KEY);
+        TestInput supersedingInput = new TestInput(KEY);
+        List<Optional<IPayload>> payloads = editingContextEventProcessor.handleAll(List.of(supersededInput, otherInput, supersedingInput));
+
+        assertThat(this.handledInputs).containsExactly(otherInput, supersedingInput);
+        assertThat(payloads).hasSize(3).allMatch(Optional::isPresent);
+        assertThat(payloads.get(0).get().getId()).isEqualTo(supersededInput.getId());
+        assertThat(payloads.get(1).get().getId()).isEqualTo(otherInput.getId());
+        assertThat(payloads.get(2).get().getId()).isEqualTo(supersedingInput.getId());
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testInputsReceivedDuringTheCoalescingDelayHandledTogether() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ofMillis(200), false);
+
+        TestInput supersededInput = new TestInput(KEY);
+        TestInput supersedingInput = new TestInput(KEY);
+        Mono<IPayload> supersededPayload = editingContextEventProcessor.handleAsync(supersededInput);
+        Mono<IPayload> supersedingPayload = editingContextEventProcessor.handleAsync(supersedingInput);
+
+        assertThat(supersededPayload.blockOptional(Duration.ofSeconds(TIMEOUT)).map(IPayload::getId)).contains(supersededInput.getId());
+        assertThat(supersedingPayload.blockOptional(Duration.ofSeconds(TIMEOUT)).map(IPayload::getId)).contains(supersedingInput.getId());
+        assertThat(this.handledInputs).containsExactly(supersedingInput);
+        assertThat(this.persistCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testChangesAppliedWithTheAuthenticationOfTheUser() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        Authentication authentication = new TestingAuthenticationToken("user", "password"); //$NON-NLS-1$ //$NON-NLS-2$
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            editingContextEventProcessor.handleAll(List.of(new TestInput(null)));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        assertThat(this.persistAuthentications).containsExactly(Optional.of(authentication));
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testCallerContinuesWithItsAuthentication() throws InterruptedException, ExecutionException, TimeoutException {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        Authentication authentication = new TestingAuthenticationToken("user", "password"); //$NON-NLS-1$ //$NON-NLS-2$
+        CompletableFuture<Optional<Authentication>> continuationAuthentication;
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            // @formatter:off
+            continuationAuthentication = editingContextEventProcessor.handleAsync(new TestInput(null))
+                    .map(payload -> Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication()))
+                    .toFuture();
+            // @formatter:on
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        assertThat(continuationAuthentication.get(TIMEOUT, TimeUnit.SECONDS)).contains(authentication);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testOnlyRepresentationsWhichCanBeRefreshedConcurrentlyRefreshedInParallel() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, true);
+
+        // Both concurrent representations wait for each other, they can only be refreshed if they run in parallel
+        CountDownLatch concurrentRefreshLatch = new CountDownLatch(2);
+        AtomicInteger runningSequentialRefreshesCount = new AtomicInteger();
+        AtomicInteger maxRunningSequentialRefreshesCount = new AtomicInteger();
+        List<UUID> refreshedRepresentationIds = new CopyOnWriteArrayList<>();
+
+        List<TestRepresentationConfiguration> configurations = List.of(new TestRepresentationConfiguration(true), new TestRepresentationConfiguration(true),
+                new TestRepresentationConfiguration(false), new TestRepresentationConfiguration(false));
+        for (TestRepresentationConfiguration configuration : configurations) {
+            Runnable refresh = () -> {
+                maxRunningSequentialRefreshesCount.accumulateAndGet(runningSequentialRefreshesCount.incrementAndGet(), Math::max);
+                runningSequentialRefreshesCount.decrementAndGet();
+                refreshedRepresentationIds.add(configuration.getId());
+            };
+            if (configuration.canBeRefreshedConcurrently()) {
+                refresh = () -> {
+                    concurrentRefreshLatch.countDown();
+                    try {
+                        if (concurrentRefreshLatch.await(TIMEOUT, TimeUnit.SECONDS)) {
+                            refreshedRepresentationIds.add(configuration.getId());
+                        }
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+            }
+            TestRepresentationEventProcessor representationEventProcessor = editingContextEventProcessor.acquireRepresentationEventProcessor(TestRepresentationEventProcessor.class, configuration,
+                    new TestInput(null)).get();
+            representationEventProcessor.setRefresh(refresh);
+        }
+
+        editingContextEventProcessor.handleAll(List.of(new TestInput(null)));
+
+        assertThat(refreshedRepresentationIds).containsExactlyInAnyOrderElementsOf(configurations.stream().map(TestRepresentationConfiguration::getId).collect(Collectors.toList()));
+        assertThat(maxRunningSequentialRefreshesCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testTreeAndDiagramOfTheSameModelRefreshedOnTheThreadOfTheEditingContext() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, true);
+
+        // Both representations adapt the same semantic elements, like the item providers used by trees and diagrams
+        List<String> semanticElementAdapters = new ArrayList<>();
+        AtomicInteger runningRefreshesCount = new AtomicInteger();
+        AtomicInteger maxRunningRefreshesCount = new AtomicInteger();
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+
+        TestRepresentationConfiguration treeConfiguration = new TestRepresentationConfiguration(false);
+        TestRepresentationConfiguration diagramConfiguration = new TestRepresentationConfiguration(false);
+        TestRepresentationConfiguration concurrentConfiguration = new TestRepresentationConfiguration(true);
+        for (TestRepresentationConfiguration configuration : List.of(treeConfiguration, diagramConfiguration)) {
+            TestRepresentationEventProcessor representationEventProcessor = editingContextEventProcessor.acquireRepresentationEventProcessor(TestRepresentationEventProcessor.class, configuration,
+                    new TestInput(null)).get();
+            representationEventProcessor.setRefresh(() -> {
+                maxRunningRefreshesCount.accumulateAndGet(runningRefreshesCount.incrementAndGet(), Math::max);
+                threadNames.add(Thread.currentThread().getName());
+                for (int i = 0; i < 100; i++) {
+                    semanticElementAdapters.add(configuration.getId().toString());
+                }
+                runningRefreshesCount.decrementAndGet();
+            });
+        }
+        List<String> concurrentThreadNames = new CopyOnWriteArrayList<>();
+        editingContextEventProcessor.acquireRepresentationEventProcessor(TestRepresentationEventProcessor.class, concurrentConfiguration, new TestInput(null)).get()
+                .setRefresh(() -> concurrentThreadNames.add(Thread.currentThread().getName()));
+
+        editingContextEventProcessor.handleAll(List.of(new TestInput(null)));
+
+        assertThat(semanticElementAdapters).hasSize(200);
+        assertThat(maxRunningRefreshesCount.get()).isEqualTo(1);
+        assertThat(threadNames).hasSize(2).allMatch(threadName -> threadName.startsWith("FIFO Event Handler")); //$NON-NLS-1$
+        assertThat(concurrentThreadNames).hasSize(1).noneMatch(threadName -> threadName.startsWith("FIFO Event Handler")); //$NON-NLS-1$
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testRequestedRefreshPerformedOnTheThreadOfTheEditingContext() throws InterruptedException {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        TestRepresentationConfiguration configuration = new TestRepresentationConfiguration(false);
+        TestRepresentationEventProcessor representationEventProcessor = editingContextEventProcessor.acquireRepresentationEventProcessor(TestRepresentationEventProcessor.class, configuration,
+                new TestInput(null)).get();
+
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        CountDownLatch refreshLatch = new CountDownLatch(1);
+        representationEventProcessor.setRefresh(() -> {
+            threadNames.add(Thread.currentThread().getName());
+            refreshLatch.countDown();
+        });
+
+        representationEventProcessor.requestRefresh(new TestInput(null));
+
+        assertThat(refreshLatch.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadNames).hasSize(1).allMatch(threadName -> threadName.startsWith("FIFO Event Handler")); //$NON-NLS-1$
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testPendingInputsAnsweredWhenDisposed() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ofMillis(200), false);
+
+        Mono<IPayload> payload = editingContextEventProcessor.handleAsync(new TestInput(null));
+        editingContextEventProcessor.dispose();
+
+        assertThat(payload.blockOptional(Duration.ofSeconds(TIMEOUT))).isEmpty();
+        assertThat(editingContextEventProcessor.handle(new TestInput(null))).isEmpty();
+        assertThat(this.handledInputs).isEmpty();
+    }
+
+    @Test
+    public void testSupersededInputsAnsweredWithTheirOwnIdentifier() {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+
+        List<TestInput> inputs = List.of(new TestInput(KEY), new TestInput(KEY), new TestInput(KEY), new TestInput(KEY));
+        List<Optional<IPayload>> payloads = editingContextEventProcessor.handleAll(inputs);
+
+        assertThat(this.handledInputs).containsExactly(inputs.get(3));
+        assertThat(payloads).hasSize(4).allMatch(Optional::isPresent);
+        assertThat(payloads.stream().map(Optional::get).map(IPayload::getId)).containsExactlyElementsOf(inputs.stream().map(TestInput::getId).collect(Collectors.toList()));
+        assertThat(this.persistCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testCallerWaitsForTheResponseToASlowInput() throws InterruptedException, ExecutionException, TimeoutException {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+        this.handlerLatch = new CountDownLatch(1);
+
+        TestInput input = new TestInput(null);
+        CompletableFuture<Optional<IPayload>> payload = CompletableFuture.supplyAsync(() -> editingContextEventProcessor.handle(input));
+
+        assertThatThrownBy(() -> payload.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        this.handlerLatch.countDown();
+
+        assertThat(payload.get(TIMEOUT, TimeUnit.SECONDS).map(IPayload::getId)).contains(input.getId());
+        assertThat(this.handledInputs).containsExactly(input);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void testInterruptedCallerKeepsItsInterruptedStatus() throws InterruptedException {
+        EditingContextEventProcessor editingContextEventProcessor = this.createEditingContextEventProcessor(Duration.ZERO, false);
+        this.handlerLatch = new CountDownLatch(1);
+
+        List<Optional<IPayload>> payloads = new CopyOnWriteArrayList<>();
+        AtomicBoolean isInterrupted = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            payloads.addAll(editingContextEventProcessor.handleAll(List.of(new TestInput(null))));
+            isInterrupted.set(Thread.currentThread().isInterrupted());
+        });
+        caller.start();
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+
+        assertThat(payloads).containsExactly(Optional.empty());
+        assertThat(isInterrupted.get()).isTrue();
+
+        this.handlerLatch.countDown();
+        editingContextEventProcessor.dispose();
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(Duration coalescingDelay, boolean concurrentRefresh) {
+        IEditingContextPersistenceService editingContextPersistenceService = new IEditingContextPersistenceService() {
+            @Override
+            public void persist(IEditingContext editingContext) {
+                EditingContextEventProcessorTests.this.persistCount.incrementAndGet();
+                EditingContextEventProcessorTests.this.persistAuthentications.add(Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication()));
+            }
+
+            @Override
+            public void flush(UUID editingContextId) {
+                // Do nothing
+            }
+        };
+
+        IRepresentationDeletionService representationDeletionService = new IRepresentationDeletionService() {
+            @Override
+            public void delete(UUID representationId) {
+                // Do nothing
+            }
+
+            @Override
+            public void deleteDanglingRepresentations(IEditingContext editingContext, Collection<String> removedObjectIds) {
+                EditingContextEventProcessorTests.this.danglingRepresentationsDeletionCount.incrementAndGet();
+                EditingContextEventProcessorTests.this.danglingRepresentationsDeletionObjectIds.add(Set.copyOf(removedObjectIds));
+            }
+        };
+
+        ISemanticChangesRecorder semanticChangesRecorder = new ISemanticChangesRecorder() {
+            @Override
+            public void startRecording(IEditingContext editingContext) {
+                // Do nothing
+            }
+
+            @Override
+            public Optional<SemanticChanges> stopRecording(IEditingContext editingContext) {
+                return Optional.of(new SemanticChanges(Map.of(), true, Set.of(REMOVED_OBJECT_ID)));
+            }
+        };
+
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                // @formatter:off
+                return Optional.of(configuration)
+                        .filter(TestRepresentationConfiguration.class::isInstance)
+                        .map(TestRepresentationConfiguration.class::cast)
+                        .map(TestRepresentationEventProcessor::new)
+                        .filter(representationEventProcessorClass::isInstance)
+                        .map(representationEventProcessorClass::cast);
+                // @formatter:on
+            }
+        };
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IInput input) {
+                return input instanceof TestInput;
+            }
+
+            @Override
+            public EventHandlerResponse handle(IEditingContext editingContext, IInput input) {
+                try {
+                    EditingContextEventProcessorTests.this.handlerLatch.await(TIMEOUT, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                EditingContextEventProcessorTests.this.handledInputs.add(input);
+                return new EventHandlerResponse(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EditingContextEventProcessorTests.this.sourceId), new TestPayload(input.getId()));
+            }
+        };
+
+        // @formatter:off
+        EditingContextEventProcessorParameters parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .applicationEventPublisher(event -> {})
+                .objectService(new NoOpObjectService())
+                .editingContextEventHandlers(List.of(editingContextEventHandler))
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .representationDeletionService(representationDeletionService)
+                .semanticChangesRecorder(semanticChangesRecorder)
+                .coalescingDelay(coalescingDelay)
+                .concurrentRefresh(concurrentRefresh)
+                .refreshExecutor(this.refreshExecutorService)
+                .meterRegistry(new SimpleMeterRegistry())
+                .executor(this.executorService)
+                .pendingInputsCount(new AtomicInteger())
+                .build();
+        // @formatter:on
+
+        return new EditingContextEventProcessor(new NoOpEditingContext(), parameters);
+    }
+
+    /**
+     * An input superseded by any later input with the same key.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestInput implements ICoalescableInput {
+        private final UUID id = UUID.randomUUID();
+
+        private final String key;
+
+        TestInput(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public boolean isSupersededBy(IInput input) {
+            return this.key != null && input instanceof TestInput && Objects.equals(this.key, ((TestInput) input).key);
+        }
+
+        @Override
+        public IPayload createSupersededPayload(IPayload supersedingPayload) {
+            return new TestPayload(this.id);
+        }
+    }
+
+    /**
+     * The configuration of a test representation.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestRepresentationConfiguration implements IRepresentationConfiguration {
+        private final UUID id = UUID.randomUUID();
+
+        private final boolean canBeRefreshedConcurrently;
+
+        TestRepresentationConfiguration(boolean canBeRefreshedConcurrently) {
+            this.canBeRefreshedConcurrently = canBeRefreshedConcurrently;
+        }
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        public boolean canBeRefreshedConcurrently() {
+            return this.canBeRefreshedConcurrently;
+        }
+    }
+
+    /**
+     * A representation event processor which runs a given task when it is refreshed.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestRepresentationEventProcessor implements IRepresentationEventProcessor {
+        private final TestRepresentationConfiguration configuration;
+
+        private final Many<IInput> refreshRequestsSink = Sinks.many().unicast().onBackpressureBuffer();
+
+        private Runnable refresh = () -> {
+            // Do nothing by default
+        };
+
+        TestRepresentationEventProcessor(TestRepresentationConfiguration configuration) {
+            this.configuration = Objects.requireNonNull(configuration);
+        }
+
+        public void setRefresh(Runnable refresh) {
+            this.refresh = Objects.requireNonNull(refresh);
+        }
+
+        public void requestRefresh(IInput input) {
+            this.refreshRequestsSink.tryEmitNext(input);
+        }
+
+        @Override
+        public Flux<IInput> getRefreshRequests() {
+            return this.refreshRequestsSink.asFlux();
+        }
+
+        @Override
+        public boolean refreshIfStale(IInput input) {
+            this.refresh.run();
+            return true;
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            return new IRepresentation() {
+                @Override
+                public UUID getId() {
+                    return TestRepresentationEventProcessor.this.configuration.getId();
+                }
+
+                @Override
+                public UUID getDescriptionId() {
+                    return TestRepresentationEventProcessor.this.configuration.getId();
+                }
+
+                @Override
+                public String getLabel() {
+                    return TestRepresentationEventProcessor.class.getSimpleName();
+                }
+
+                @Override
+                public String getKind() {
+                    return TestRepresentationEventProcessor.class.getSimpleName();
+                }
+            };
+        }
+
+        @Override
+        public Optional<EventHandlerResponse> handle(IRepresentationInput representationInput) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void refresh(IInput input, ChangeDescription changeDescription) {
+            this.refresh.run();
+        }
+
+        @Override
+        public ISubscriptionManager getSubscriptionManager() {
+            return null;
+        }
+
+        @Override
+        public Flux<IPayload> getOutputEvents(IInput input) {
+            return Flux.empty();
+        }
+
+        @Override
+        public boolean canBeRefreshedConcurrently() {
+            return this.configuration.canBeRefreshedConcurrently();
+        }
+
+        @Override
+        public Flux<Boolean> canBeDisposed() {
+            return Flux.empty();
+        }
+
+        @Override
+        public void dispose() {
+            // Do nothing
+        }
+    }
+
+    /**
+     * The payload returned for a test input, it has the identifier of the input.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestPayload implements IPayload {
+        private final UUID id;
+
+        TestPayload(UUID id) {
+            this.id = Objects.requireNonNull(id);
+        }
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.projects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the serial executor.
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutorTests {
+
+    private static final int TASKS_COUNT = 1000;
+
+    private static final String NAME = "Serial executor"; //$NON-NLS-1$
+
+    @Test
+    public void testTasksExecutedInOrderOneAtATime() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor serialExecutor = new SerialExecutor(executorService, NAME);
+
+            List<Integer> executedTasks = new ArrayList<>();
+            AtomicInteger runningTasksCount = new AtomicInteger();
+            AtomicInteger maxRunningTasksCount = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(TASKS_COUNT);
+            for (int i = 0; i < TASKS_COUNT; i++) {
+                int taskIndex = i;
+                serialExecutor.execute(() -> {
+                    maxRunningTasksCount.accumulateAndGet(runningTasksCount.incrementAndGet(), Math::max);
+                    executedTasks.add(taskIndex);
+                    runningTasksCount.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunningTasksCount.get()).isEqualTo(1);
+            assertThat(executedTasks).hasSize(TASKS_COUNT).isSorted();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testTasksExecutedWithTheNameOfTheSerialExecutor() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SerialExecutor serialExecutor = new SerialExecutor(executorService, NAME);
+
+            List<String> threadNames = new ArrayList<>();
+            CountDownLatch latch = new CountDownLatch(1);
+            serialExecutor.execute(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                latch.countDown();
+            });
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(threadNames).containsExactly(NAME);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testTasksRejectedAfterShutdown() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SerialExecutor serialExecutor = new SerialExecutor(executorService, NAME);
+            serialExecutor.shutdown();
+
+            assertThat(serialExecutor.isShutdown()).isTrue();
+            assertThatThrownBy(() -> serialExecutor.execute(() -> {
+                // do nothing
+            })).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
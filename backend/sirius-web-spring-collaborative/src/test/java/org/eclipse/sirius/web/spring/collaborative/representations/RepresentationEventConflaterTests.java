@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.collaborative.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.web.collaborative.api.services.Monitoring;
+import org.eclipse.sirius.web.core.api.IInput;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Unit tests of the representation event conflater.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationEventConflaterTests {
+
+    private static final String KIND = "test"; //$NON-NLS-1$
+
+    private static final long TIMEOUT = 10;
+
+    private final IInput input = UUID::randomUUID;
+
+    @Test
+    public void testSlowSubscriberReceivesTheLatestRefresh() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RepresentationEventConflater representationEventConflater = new RepresentationEventConflater(KIND, meterRegistry);
+        Many<Integer> sink = Sinks.many().multicast().directBestEffort();
+
+        List<Integer> receivedRefreshes = new CopyOnWriteArrayList<>();
+        CountDownLatch firstRefreshLatch = new CountDownLatch(1);
+        CountDownLatch slowSubscriberLatch = new CountDownLatch(1);
+        CountDownLatch completionLatch = new CountDownLatch(1);
+        representationEventConflater.conflate(sink.asFlux(), this.input).subscribe(refresh -> {
+            receivedRefreshes.add(refresh);
+            firstRefreshLatch.countDown();
+            try {
+                slowSubscriberLatch.await(TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }, throwable -> completionLatch.countDown(), completionLatch::countDown);
+
+        sink.tryEmitNext(1);
+        assertThat(firstRefreshLatch.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        for (int i = 2; i <= 5; i++) {
+            sink.tryEmitNext(i);
+        }
+        sink.tryEmitComplete();
+        slowSubscriberLatch.countDown();
+
+        assertThat(completionLatch.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivedRefreshes).containsExactly(1, 5);
+        assertThat(meterRegistry.get(Monitoring.REPRESENTATION_EVENT_PROCESSOR_CONFLATION).counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    public void testEventsDiscardedOnCancellationNotCounted() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RepresentationEventConflater representationEventConflater = new RepresentationEventConflater(KIND, meterRegistry);
+        Many<Integer> sink = Sinks.many().multicast().directBestEffort();
+
+        CountDownLatch firstRefreshLatch = new CountDownLatch(1);
+        CountDownLatch slowSubscriberLatch = new CountDownLatch(1);
+        Disposable subscription = representationEventConflater.conflate(sink.asFlux(), this.input).subscribe(refresh -> {
+            firstRefreshLatch.countDown();
+            try {
+                slowSubscriberLatch.await(TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        sink.tryEmitNext(1);
+        assertThat(firstRefreshLatch.await(TIMEOUT, TimeUnit.SECONDS)).isTrue();
+        sink.tryEmitNext(2);
+        subscription.dispose();
+        slowSubscriberLatch.countDown();
+
+        assertThat(meterRegistry.get(Monitoring.REPRESENTATION_EVENT_PROCESSOR_CONFLATION).counter().count()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.api;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+
+/**
+ * The result of a subscription along with the event which is its source.
+ *
+ * <p>
+ * The event is not part of the specification of the result, it is only used to recognize the results computed from
+ * the same event for several subscribers.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionEventExecutionResult extends ExecutionResultImpl {
+
+    private final Object subscriptionEvent;
+
+    public SubscriptionEventExecutionResult(ExecutionResult executionResult, Object subscriptionEvent) {
+        super(executionResult.getData(), executionResult.getErrors(), executionResult.getExtensions());
+        this.subscriptionEvent = subscriptionEvent;
+    }
+
+    public Object getSubscriptionEvent() {
+        return this.subscriptionEvent;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
@@ -81,7 +82,9 @@ import io.micrometer.core.instrument.Timer;
  * </pre>
  *
  * <p>
- * The result of the execution of the request will be returned using the following JSON data structure:
+ * The requests are executed asynchronously, the request thread is released while the mutations are waiting to be
+ * handled by the editing context event processors. The result of the execution of the request will be returned using
+ * the following JSON data structure:
  * </p>
  *
  * <pre>
@@ -140,9 +143,9 @@ public class GraphQLController {
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request, Principal principal) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request, Principal principal) {
         if (principal == null) {
-            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
         }
 
         String query = graphQLPayload.getQuery();
@@ -163,14 +166,15 @@ public class GraphQLController {
         // @formatter:on
 
         long start = System.currentTimeMillis();
-        ExecutionResult executionResult = this.graphQL.execute(executionInput);
-        long end = System.currentTimeMillis();
+        return this.graphQL.executeAsync(executionInput).thenApply(executionResult -> {
+            long end = System.currentTimeMillis();
 
-        this.graphQLRequestTimer.record(end - start, TimeUnit.MILLISECONDS);
+            this.graphQLRequestTimer.record(end - start, TimeUnit.MILLISECONDS);
 
-        this.logErrors(executionResult);
+            this.logErrors(executionResult);
 
-        return new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.OK);
+            return new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.OK);
+        });
     }
 
     private void logErrors(ExecutionResult executionResult) {
@@ -197,14 +201,14 @@ public class GraphQLController {
      * @see https://github.com/jaydenseric/graphql-multipart-request-spec
      */
     @PostMapping(path = "/upload")
-    public ResponseEntity<Map<String, Object>> uploadDocument(@RequestParam(OPERATIONS) String operations, @RequestParam(MAP) String map, @RequestParam(FIRST_UPLOADED_FILE) MultipartFile file,
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadDocument(@RequestParam(OPERATIONS) String operations, @RequestParam(MAP) String map, @RequestParam(FIRST_UPLOADED_FILE) MultipartFile file,
             Principal principal) {
         Optional<GraphQLPayload> optionalGraphQLPayload = this.getGraphQLPayload(operations);
         Optional<JsonNode> optionalJsonNode = this.getJsonNode(map);
 
-        ResponseEntity<Map<String, Object>> responseEntity = new ResponseEntity<>(null, HttpStatus.BAD_REQUEST);
+        CompletableFuture<ResponseEntity<Map<String, Object>>> responseEntity = CompletableFuture.completedFuture(new ResponseEntity<>(null, HttpStatus.BAD_REQUEST));
         if (principal == null) {
-            responseEntity = new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+            responseEntity = CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
         } else if (optionalGraphQLPayload.isPresent() && optionalJsonNode.isPresent()) {
             GraphQLPayload graphQLPayload = optionalGraphQLPayload.get();
             JsonNode jsonNode = optionalJsonNode.get();
@@ -227,14 +231,15 @@ public class GraphQLController {
                 // @formatter:on
 
                 long start = System.currentTimeMillis();
-                ExecutionResult executionResult = this.graphQL.execute(executionInput);
-                long end = System.currentTimeMillis();
+                responseEntity = this.graphQL.executeAsync(executionInput).thenApply(executionResult -> {
+                    long end = System.currentTimeMillis();
 
-                this.graphQLUploadTimer.record(end - start, TimeUnit.MILLISECONDS);
+                    this.graphQLUploadTimer.record(end - start, TimeUnit.MILLISECONDS);
 
-                this.logErrors(executionResult);
+                    this.logErrors(executionResult);
 
-                responseEntity = new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.CREATED);
+                    return new ResponseEntity<>(executionResult.toSpecification(), HttpStatus.CREATED);
+                });
             }
         }
         return responseEntity;
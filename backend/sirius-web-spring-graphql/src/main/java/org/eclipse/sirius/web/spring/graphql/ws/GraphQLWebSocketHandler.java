@@ -206,10 +206,13 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final MeterRegistry meterRegistry;
 
+    private final SubscriptionResultSerializer subscriptionResultSerializer;
+
     public GraphQLWebSocketHandler(ObjectMapper objectMapper, GraphQL graphQL, MeterRegistry meterRegistry) {
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.subscriptionResultSerializer = new SubscriptionResultSerializer(objectMapper, meterRegistry);
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -257,7 +260,7 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             } else if (operationMessage instanceof StartMessage) {
                 StartMessage startMessage = (StartMessage) operationMessage;
 
-                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.meterRegistry).handle(startMessage);
+                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.subscriptionResultSerializer, this.meterRegistry).handle(startMessage);
                 this.startMessageCounter.increment();
             } else if (operationMessage instanceof StopMessage) {
                 StopMessage stopMessage = (StopMessage) operationMessage;
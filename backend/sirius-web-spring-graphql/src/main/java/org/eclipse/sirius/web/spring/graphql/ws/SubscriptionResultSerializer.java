@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Used to serialize only once the results of the subscriptions which are sent to several subscribers.
+ *
+ * <p>
+ * After a refresh, the same event is sent to all the subscribers of a representation. The subscribers which are using
+ * the same query with the same variables, except for the identifier of their input, thus receive an identical result for
+ * this event. The most recent serialized
+ * results are kept along with the event which is their source in order to be reused for the other subscribers. The
+ * events are compared by identity, the results themselves are never compared and only the serialized results are kept.
+ * The events are only weakly referenced, a serialized result is thus forgotten as soon as its event is not used
+ * anymore.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionResultSerializer {
+
+    /**
+     * The number of serialized results kept, it should be large enough for the representations refreshed at the same
+     * time after a change.
+     */
+    private static final int CAPACITY = 16;
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_graphql_ws_serializations"; //$NON-NLS-1$
+
+    private static final String RESULT = "result"; //$NON-NLS-1$
+
+    private static final String INPUT = "input"; //$NON-NLS-1$
+
+    private static final String ID = "id"; //$NON-NLS-1$
+
+    private final ObjectMapper objectMapper;
+
+    private final Deque<SerializedResult> serializedResults = new ArrayDeque<>(CAPACITY);
+
+    private final Counter sharedSerializationCounter;
+
+    private final Counter serializationCounter;
+
+    public SubscriptionResultSerializer(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+
+        // @formatter:off
+        this.sharedSerializationCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "shared") //$NON-NLS-1$
+                .register(meterRegistry);
+        this.serializationCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "serialized") //$NON-NLS-1$
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Returns the serialized version of the given result of a subscription.
+     *
+     * @param query
+     *            The query of the subscription
+     * @param variables
+     *            The variables of the subscription
+     * @param subscriptionEvent
+     *            The event which is the source of the result or <code>null</code> if it is unknown, in which case the
+     *            result is not shared
+     * @param result
+     *            The result of the subscription, as returned by {@link graphql.ExecutionResult#toSpecification()}
+     * @return The serialized result, shared with the other subscribers which have received the result of the same event
+     * @throws JsonProcessingException
+     *             if the result cannot be serialized
+     */
+    public RawValue serialize(String query, Map<String, Object> variables, Object subscriptionEvent, Map<String, Object> result) throws JsonProcessingException {
+        Map<String, Object> sharedVariables = this.getSharedVariables(variables);
+
+        Optional<RawValue> optionalSerializedResult = Optional.empty();
+        if (subscriptionEvent != null) {
+            optionalSerializedResult = this.find(query, sharedVariables, subscriptionEvent);
+        }
+
+        if (optionalSerializedResult.isPresent()) {
+            this.sharedSerializationCounter.increment();
+        } else {
+            RawValue value = new RawValue(this.objectMapper.writeValueAsString(result));
+            if (subscriptionEvent != null) {
+                synchronized (this.serializedResults) {
+                    if (this.serializedResults.size() == CAPACITY) {
+                        this.serializedResults.removeFirst();
+                    }
+                    this.serializedResults.addLast(new SerializedResult(query, sharedVariables, subscriptionEvent, value));
+                }
+            }
+            this.serializationCounter.increment();
+            optionalSerializedResult = Optional.of(value);
+        }
+        return optionalSerializedResult.get();
+    }
+
+    /**
+     * Returns the variables without the identifier of the input, which is different for each subscription.
+     *
+     * <p>
+     * This identifier is never used to compute the result of an event shared between several subscribers. The payloads
+     * of such events are the same objects for all the subscribers and the identifier of these payloads comes from the
+     * input which has triggered the event. The events computed from the input of a subscription, such as its initial
+     * refresh, are only published to this subscription and their results are thus never shared.
+     * </p>
+     */
+    private Map<String, Object> getSharedVariables(Map<String, Object> variables) {
+        Map<String, Object> sharedVariables = variables;
+
+        Object input = variables.get(INPUT);
+        if (input instanceof Map<?, ?> && ((Map<?, ?>) input).containsKey(ID)) {
+            Map<Object, Object> sharedInput = new HashMap<>((Map<?, ?>) input);
+            sharedInput.remove(ID);
+
+            sharedVariables = new HashMap<>(variables);
+            sharedVariables.put(INPUT, sharedInput);
+        }
+        return sharedVariables;
+    }
+
+    /**
+     * Finds the serialized result of the given event, the results whose event is not used anymore are removed along the
+     * way.
+     */
+    private Optional<RawValue> find(String query, Map<String, Object> variables, Object subscriptionEvent) {
+        Optional<RawValue> optionalSerializedResult = Optional.empty();
+        synchronized (this.serializedResults) {
+            Iterator<SerializedResult> iterator = this.serializedResults.descendingIterator();
+            while (iterator.hasNext() && optionalSerializedResult.isEmpty()) {
+                SerializedResult serializedResult = iterator.next();
+                if (serializedResult.isStale()) {
+                    iterator.remove();
+                } else if (serializedResult.matches(query, variables, subscriptionEvent)) {
+                    optionalSerializedResult = Optional.of(serializedResult.getValue());
+                }
+            }
+        }
+        return optionalSerializedResult;
+    }
+
+    /**
+     * A result which has already been serialized.
+     *
+     * @author sbegaudeau
+     */
+    private static final class SerializedResult {
+
+        private final String query;
+
+        private final Map<String, Object> variables;
+
+        private final WeakReference<Object> subscriptionEvent;
+
+        private final RawValue value;
+
+        SerializedResult(String query, Map<String, Object> variables, Object subscriptionEvent, RawValue value) {
+            this.query = query;
+            this.variables = variables;
+            this.subscriptionEvent = new WeakReference<>(subscriptionEvent);
+            this.value = value;
+        }
+
+        boolean isStale() {
+            return this.subscriptionEvent.get() == null;
+        }
+
+        boolean matches(String otherQuery, Map<String, Object> otherVariables, Object otherSubscriptionEvent) {
+            return this.subscriptionEvent.get() == otherSubscriptionEvent && Objects.equals(this.query, otherQuery) && Objects.equals(this.variables, otherVariables);
+        }
+
+        RawValue getValue() {
+            return this.value;
+        }
+    }
+}
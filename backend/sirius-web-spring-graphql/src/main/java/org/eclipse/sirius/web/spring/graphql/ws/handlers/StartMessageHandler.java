@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.graphql.ws.handlers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,12 +25,15 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.sirius.web.spring.graphql.api.GraphQLConstants;
+import org.eclipse.sirius.web.spring.graphql.api.SubscriptionEventExecutionResult;
 import org.eclipse.sirius.web.spring.graphql.controllers.GraphQLPayload;
 import org.eclipse.sirius.web.spring.graphql.ws.SubscriptionEntry;
+import org.eclipse.sirius.web.spring.graphql.ws.SubscriptionResultSerializer;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.output.CompleteMessage;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.output.DataMessage;
 import org.eclipse.sirius.web.spring.graphql.ws.dto.output.ErrorMessage;
+import org.eclipse.sirius.web.spring.graphql.ws.dto.output.SerializedDataMessage;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,13 +70,17 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries;
 
+    private final SubscriptionResultSerializer subscriptionResultSerializer;
+
     private final Timer graphQLRequestTimer;
 
-    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries,
+            SubscriptionResultSerializer subscriptionResultSerializer, MeterRegistry meterRegistry) {
         this.session = Objects.requireNonNull(session);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
+        this.subscriptionResultSerializer = Objects.requireNonNull(subscriptionResultSerializer);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
     }
@@ -97,23 +106,28 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
                 .build();
         // @formatter:on
 
+        // The WebSocket thread is not blocked while the mutations are waiting to be handled
         long start = System.currentTimeMillis();
-        ExecutionResult executionResult = this.graphQL.execute(executionInput);
-        long end = System.currentTimeMillis();
-
-        this.graphQLRequestTimer.record(end - start, TimeUnit.MILLISECONDS);
-
-        if (executionResult.getData() instanceof Publisher<?>) {
-            Publisher<ExecutionResult> publisher = executionResult.getData();
-
-            this.subscribe(id, publisher);
-        } else {
-            this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
-        }
+        this.graphQL.executeAsync(executionInput).thenAccept(executionResult -> {
+            long end = System.currentTimeMillis();
+
+            this.graphQLRequestTimer.record(end - start, TimeUnit.MILLISECONDS);
+
+            if (executionResult.getData() instanceof Publisher<?>) {
+                Publisher<ExecutionResult> publisher = executionResult.getData();
+
+                this.subscribe(id, query, variables, publisher);
+            } else {
+                this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
+            }
+        }).exceptionally(throwable -> {
+            this.logger.error(throwable.getMessage(), throwable);
+            return null;
+        });
     }
 
-    private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+    private void subscribe(String id, String query, Map<String, Object> variables, Publisher<ExecutionResult> publisher) {
+        Consumer<ExecutionResult> consumer = result -> this.sendResult(id, query, variables, result);
         Consumer<Throwable> onErrorConsumer = error -> {
             this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
         };
@@ -132,4 +146,22 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     }
 
+    /**
+     * Sends the result of a subscription, its serialization is shared with the other subscribers which are receiving the
+     * result of the same event.
+     */
+    private void sendResult(String id, String query, Map<String, Object> variables, ExecutionResult result) {
+        Object subscriptionEvent = null;
+        if (result instanceof SubscriptionEventExecutionResult) {
+            subscriptionEvent = ((SubscriptionEventExecutionResult) result).getSubscriptionEvent();
+        }
+
+        try {
+            RawValue payload = this.subscriptionResultSerializer.serialize(query, variables, subscriptionEvent, result.toSpecification());
+            this.send(this.objectMapper, this.session, new SerializedDataMessage(id, payload), this.logger);
+        } catch (JsonProcessingException exception) {
+            this.logger.error(exception.getMessage(), exception);
+        }
+    }
+
 }
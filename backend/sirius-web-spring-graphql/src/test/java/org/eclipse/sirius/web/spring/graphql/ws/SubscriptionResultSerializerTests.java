@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.graphql.ws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the subscription result serializer.
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionResultSerializerTests {
+
+    private static final String QUERY = "subscription { eventReceived }"; //$NON-NLS-1$
+
+    private static final String EVENT_RECEIVED = "eventReceived"; //$NON-NLS-1$
+
+    private static final String DATA = "data"; //$NON-NLS-1$
+
+    private static final String ONE_EVENT = "OneEvent"; //$NON-NLS-1$
+
+    private static final String INPUT = "input"; //$NON-NLS-1$
+
+    private static final String ID = "id"; //$NON-NLS-1$
+
+    private static final String REPRESENTATION_ID = "representationId"; //$NON-NLS-1$
+
+    private static final String REPRESENTATION = "representation"; //$NON-NLS-1$
+
+    @Test
+    public void testResultsOfTheSameEventSerializedOnce() throws JsonProcessingException {
+        SubscriptionResultSerializer serializer = new SubscriptionResultSerializer(new ObjectMapper(), new SimpleMeterRegistry());
+        Object event = new Object();
+
+        RawValue firstValue = serializer.serialize(QUERY, Map.of(), event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue secondValue = serializer.serialize(QUERY, Map.of(), event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+
+        assertThat(firstValue.rawValue()).isEqualTo("{\"data\":{\"eventReceived\":\"OneEvent\"}}"); //$NON-NLS-1$
+        assertThat(secondValue).isSameAs(firstValue);
+    }
+
+    @Test
+    public void testResultsOfSubscriptionsWithDifferentInputIdentifiersSerializedOnce() throws JsonProcessingException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SubscriptionResultSerializer serializer = new SubscriptionResultSerializer(new ObjectMapper(), meterRegistry);
+        Object event = new Object();
+
+        Map<String, Object> firstVariables = Map.of(INPUT, Map.of(ID, UUID.randomUUID().toString(), REPRESENTATION_ID, REPRESENTATION));
+        Map<String, Object> secondVariables = Map.of(INPUT, Map.of(ID, UUID.randomUUID().toString(), REPRESENTATION_ID, REPRESENTATION));
+
+        RawValue firstValue = serializer.serialize(QUERY, firstVariables, event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue secondValue = serializer.serialize(QUERY, secondVariables, event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue thirdValue = serializer.serialize(QUERY, Map.of(INPUT, Map.of(ID, UUID.randomUUID().toString(), REPRESENTATION_ID, "otherRepresentation")), event, //$NON-NLS-1$
+                Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+
+        assertThat(secondValue).isSameAs(firstValue);
+        assertThat(thirdValue).isNotSameAs(firstValue);
+        assertThat(meterRegistry.get("siriusweb_graphql_ws_serializations").tag("result", "shared").counter().count()).isEqualTo(1); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Test
+    public void testResultsOfDifferentEventsSerializedSeparately() throws JsonProcessingException {
+        SubscriptionResultSerializer serializer = new SubscriptionResultSerializer(new ObjectMapper(), new SimpleMeterRegistry());
+        Object event = new Object();
+
+        RawValue firstValue = serializer.serialize(QUERY, Map.of(), event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue secondValue = serializer.serialize(QUERY, Map.of(), new Object(), Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue thirdValue = serializer.serialize("subscription { otherEventReceived }", Map.of(), event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT))); //$NON-NLS-1$
+        RawValue fourthValue = serializer.serialize(QUERY, Map.of("variable", "value"), event, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT))); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertThat(secondValue.rawValue()).isEqualTo(firstValue.rawValue());
+        assertThat(secondValue).isNotSameAs(firstValue);
+        assertThat(thirdValue).isNotSameAs(firstValue);
+        assertThat(fourthValue).isNotSameAs(firstValue);
+    }
+
+    @Test
+    public void testResultsWithoutEventNotShared() throws JsonProcessingException {
+        SubscriptionResultSerializer serializer = new SubscriptionResultSerializer(new ObjectMapper(), new SimpleMeterRegistry());
+
+        RawValue firstValue = serializer.serialize(QUERY, Map.of(), null, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+        RawValue secondValue = serializer.serialize(QUERY, Map.of(), null, Map.of(DATA, Map.of(EVENT_RECEIVED, ONE_EVENT)));
+
+        assertThat(secondValue).isNotSameAs(firstValue);
+    }
+}
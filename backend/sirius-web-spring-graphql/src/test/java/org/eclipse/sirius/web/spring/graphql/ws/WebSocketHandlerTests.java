@@ -91,7 +91,8 @@ public class WebSocketHandlerTests {
         // @formatter:on
 
         StartMessage startMessage = new StartMessage("operationId", payload); //$NON-NLS-1$
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        SubscriptionResultSerializer subscriptionResultSerializer = new SubscriptionResultSerializer(objectMapper, new SimpleMeterRegistry());
+        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, subscriptionResultSerializer, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(1);
         WebSocketMessage<?> webSocketMessage = session.getMessages().get(0);
@@ -143,7 +144,8 @@ public class WebSocketHandlerTests {
         assertThat(session.getMessages()).hasSize(0);
 
         StartMessage startMessage = new StartMessage("subscriptionOperationId", payload); //$NON-NLS-1$
-        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, new SimpleMeterRegistry()).handle(startMessage);
+        SubscriptionResultSerializer subscriptionResultSerializer = new SubscriptionResultSerializer(objectMapper, new SimpleMeterRegistry());
+        new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, subscriptionResultSerializer, new SimpleMeterRegistry()).handle(startMessage);
 
         assertThat(session.getMessages()).hasSize(2);
 
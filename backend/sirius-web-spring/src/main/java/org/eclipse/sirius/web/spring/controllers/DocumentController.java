@@ -17,6 +17,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.web.services.api.document.Document;
 import org.eclipse.sirius.web.services.api.document.IDocumentService;
 import org.slf4j.Logger;
@@ -54,7 +55,8 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * </pre>
  *
  * <p>
- * Only documents of type xmi are supported.
+ * Only documents of type xmi are supported. The changes of the editing context which may not have been written yet are
+ * written before the document is read.
  * </p>
  *
  * @author smonnier
@@ -65,10 +67,13 @@ public class DocumentController {
 
     private final IDocumentService documentService;
 
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
     private final Logger logger = LoggerFactory.getLogger(DocumentController.class);
 
-    public DocumentController(IDocumentService documentService) {
+    public DocumentController(IDocumentService documentService, IEditingContextPersistenceService editingContextPersistenceService) {
         this.documentService = Objects.requireNonNull(documentService);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
     }
 
     @GetMapping(path = "/{documentId}")
@@ -77,6 +82,7 @@ public class DocumentController {
         var optionalEditingContextId = this.convertToUUID(editingContextId);
         var optionalDocumentId = this.convertToUUID(documentId);
         Optional<Document> optionalDocument = optionalEditingContextId.flatMap(pId -> {
+            this.editingContextPersistenceService.flush(pId);
             return optionalDocumentId.flatMap(dId -> this.documentService.getDocument(pId, dId));
         });
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.controllers;
 
-import java.io.ByteArrayInputStream;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,8 +19,6 @@ import java.util.UUID;
 import org.eclipse.sirius.web.services.api.projects.IProjectExportService;
 import org.eclipse.sirius.web.services.api.projects.IProjectService;
 import org.eclipse.sirius.web.services.api.projects.Project;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -32,6 +29,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The entry point of the HTTP API to download a project in zip.
@@ -52,6 +50,11 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * http://localhost:8080/api/projects/PROJECT_ID
  * </pre>
  *
+ * <p>
+ * The zip of the project is streamed in the body of the response while it is built, it is thus never fully kept in
+ * memory and the length of the response is not known in advance.
+ * </p>
+ *
  * @author gcoutable
  */
 @Controller
@@ -69,11 +72,10 @@ public class ProjectController {
 
     @GetMapping(path = "/{projectId}")
     @ResponseBody
-    public ResponseEntity<Resource> getProject(@PathVariable UUID projectId) {
+    public ResponseEntity<StreamingResponseBody> getProject(@PathVariable UUID projectId) {
         Optional<Project> optionalProject = this.projectService.getProject(projectId);
         if (optionalProject.isPresent()) {
             Project project = optionalProject.get();
-            byte[] zip = this.projectExportService.exportProjectAsZip(projectId);
 
             // @formatter:off
             ContentDisposition contentDisposition = ContentDisposition.builder("attachment") //$NON-NLS-1$
@@ -84,9 +86,8 @@ public class ProjectController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentDisposition(contentDisposition);
             headers.setContentType(MediaType.parseMediaType("application/zip")); //$NON-NLS-1$
-            headers.setContentLength(zip.length);
-            InputStreamResource resource = new InputStreamResource(new ByteArrayInputStream(zip));
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
+            StreamingResponseBody body = outputStream -> this.projectExportService.exportProjectAsZip(projectId, outputStream);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
         }
         return new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_FOUND);
     }
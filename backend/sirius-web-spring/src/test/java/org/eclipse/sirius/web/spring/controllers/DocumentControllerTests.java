@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,8 @@ package org.eclipse.sirius.web.spring.controllers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -39,7 +41,7 @@ public class DocumentControllerTests {
     @Test
     public void testDocumentDoesNotExist() {
         IDocumentService noOpDocumentService = new NoOpDocumentService();
-        DocumentController documentController = new DocumentController(noOpDocumentService);
+        DocumentController documentController = new DocumentController(noOpDocumentService, new NoOpEditingContextPersistenceService());
 
         UUID projectId = UUID.randomUUID();
         UUID documentId = UUID.randomUUID();
@@ -62,12 +64,20 @@ public class DocumentControllerTests {
                 return Optional.of(new byte[] {});
             }
         };
-        DocumentController documentController = new DocumentController(documentService);
+        List<UUID> flushedEditingContextIds = new ArrayList<>();
+        var editingContextPersistenceService = new NoOpEditingContextPersistenceService() {
+            @Override
+            public void flush(UUID editingContextId) {
+                flushedEditingContextIds.add(editingContextId);
+            }
+        };
+        DocumentController documentController = new DocumentController(documentService, editingContextPersistenceService);
 
         UUID projectId = UUID.randomUUID();
         UUID documentId = UUID.randomUUID();
         ResponseEntity<Resource> responseEntity = documentController.getDocument(projectId.toString(), documentId.toString());
         assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(flushedEditingContextIds).containsExactly(projectId);
 
         HttpHeaders headers = responseEntity.getHeaders();
         assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_XML);
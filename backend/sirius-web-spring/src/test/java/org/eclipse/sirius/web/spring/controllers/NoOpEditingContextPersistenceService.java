@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.spring.controllers;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.web.core.api.IEditingContext;
+import org.eclipse.sirius.web.core.api.IEditingContextPersistenceService;
+
+/**
+ * Implementation of the editing context persistence service which does nothing.
+ *
+ * @author sbegaudeau
+ */
+public class NoOpEditingContextPersistenceService implements IEditingContextPersistenceService {
+
+    @Override
+    public void persist(IEditingContext editingContext) {
+        // Do nothing
+    }
+
+    @Override
+    public void flush(UUID editingContextId) {
+        // Do nothing
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2021 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.spring.controllers;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.services.api.projects.IProjectExportService;
@@ -28,4 +30,9 @@ public class NoOpProjectExportService implements IProjectExportService {
         return new byte[0];
     }
 
+    @Override
+    public void exportProjectAsZip(UUID projectId, OutputStream outputStream) throws IOException {
+        // Do nothing
+    }
+
 }